@@ -0,0 +1,66 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.si.SI;
+import com.iofairy.time.DTFCache;
+import com.iofairy.time.DateTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold versus warm formatting throughput: compiling the pattern on every call ({@code DateTimeFormatter.ofPattern})
+ * versus reusing the formatter from {@link DTFCache}. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar DTFCacheBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DTFCacheBenchmark {
+
+    @Param({"yyyy-MM-dd HH:mm:ss.SSS", "yyyyMMdd"})
+    public String pattern;
+
+    private LocalDateTime localDateTime;
+    private DateTime dateTime;
+    private String template;
+
+    @Setup
+    public void setup() {
+        localDateTime = LocalDateTime.of(2025, 8, 2, 10, 5, 1, 123000000);
+        dateTime = DateTime.of(localDateTime);
+        template = "date: ${date:~ " + pattern + "}";
+        DTFCache.ofPattern(pattern);
+    }
+
+    /**
+     * Previous behavior of {@code DateTime.format(String)}: compile the pattern on every call.
+     */
+    @Benchmark
+    public String cold() {
+        return localDateTime.format(DateTimeFormatter.ofPattern(pattern));
+    }
+
+    @Benchmark
+    public String warm() {
+        return localDateTime.format(DTFCache.ofPattern(pattern));
+    }
+
+    @Benchmark
+    public String dateTimeFormat() {
+        return dateTime.format(pattern);
+    }
+
+    @Benchmark
+    public String siPlaceholder() {
+        return SI.$(template, localDateTime);
+    }
+
+}
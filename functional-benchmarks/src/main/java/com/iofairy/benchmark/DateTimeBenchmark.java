@@ -0,0 +1,78 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.time.DateTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating and formatting {@link DateTime}: {@link DateTime#of(Object)} from the supported date time types and strings,
+ * and {@link DateTime#format(String)}. The detection of unknown string formats is in {@link DateTimeParseBenchmark}. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar DateTimeBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateTimeBenchmark {
+
+    private LocalDateTime localDateTime;
+    private ZonedDateTime zonedDateTime;
+    private Instant instant;
+    private Date date;
+    private DateTime dateTime;
+
+    @Setup
+    public void setup() {
+        localDateTime = LocalDateTime.of(2025, 8, 2, 10, 5, 1, 123000000);
+        zonedDateTime = ZonedDateTime.of(localDateTime, java.time.ZoneId.of("Asia/Shanghai"));
+        instant = zonedDateTime.toInstant();
+        date = Date.from(instant);
+        dateTime = DateTime.of(zonedDateTime);
+    }
+
+    @Benchmark
+    public DateTime ofLocalDateTime() {
+        return DateTime.of(localDateTime);
+    }
+
+    @Benchmark
+    public DateTime ofZonedDateTime() {
+        return DateTime.of(zonedDateTime);
+    }
+
+    @Benchmark
+    public DateTime ofInstant() {
+        return DateTime.of(instant);
+    }
+
+    @Benchmark
+    public DateTime ofDate() {
+        return DateTime.of(date);
+    }
+
+    @Benchmark
+    public DateTime ofString() {
+        return DateTime.of("2025-08-02 10:05:01.123");
+    }
+
+    @Benchmark
+    public String format() {
+        return dateTime.format("yyyy-MM-dd HH:mm:ss.SSS");
+    }
+
+    @Benchmark
+    public DateTime plusDays() {
+        return dateTime.plusDays(1);
+    }
+
+}
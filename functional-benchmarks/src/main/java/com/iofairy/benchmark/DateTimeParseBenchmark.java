@@ -0,0 +1,66 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.time.DateTime;
+import com.iofairy.time.DateTimeColumnParser;
+import com.iofairy.time.DateTimePattern;
+import com.iofairy.time.DateTimes;
+import com.iofairy.time.FastDateTimeParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing date time strings with unknown format: regex detection ({@link DateTimePattern#forDTF(String)}) plus
+ * {@code DateTimeFormatter} versus {@link FastDateTimeParser} and {@link DateTimeColumnParser}. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar DateTimeParseBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateTimeParseBenchmark {
+
+    @Param({"2025-08-02 10:05:01", "2025/8/2 10:5:1.123", "20250802100501", "2025年8月2日10时5分1秒123毫秒"})
+    public String text;
+
+    private DateTimeColumnParser columnParser;
+
+    @Setup
+    public void setup() {
+        columnParser = DateTimeColumnParser.of();
+    }
+
+    /**
+     * Previous implementation of {@code DateTime.parse(CharSequence)}.
+     */
+    @Benchmark
+    public DateTime regexDetect() {
+        String dateText = DateTimes.formatZhMillis(text);
+        return DateTime.parse(dateText, DateTimePattern.forDTF(dateText));
+    }
+
+    @Benchmark
+    public LocalDateTime fastParser() {
+        return FastDateTimeParser.parse(text);
+    }
+
+    @Benchmark
+    public DateTime dateTimeParse() {
+        return DateTime.parse(text);
+    }
+
+    /**
+     * The format is locked in after the first values.
+     */
+    @Benchmark
+    public long columnParser() {
+        return columnParser.parseEpochMilli(text);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.time.DateTime;
+import com.iofairy.time.DateTimePattern;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start cost of {@link DateTimePattern}: each fork runs one invocation in a fresh JVM, so the score is the time of
+ * the first call, including the class initialization of {@link DateTimePattern} and of the pattern / formatter groups it touches.
+ * Use a large {@code -f} to reduce the noise, e.g.: <br>
+ * {@code java -jar target/benchmarks.jar DateTimePatternStartupBenchmark -f 30}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class DateTimePatternStartupBenchmark {
+
+    /**
+     * Class initialization only.
+     */
+    @Benchmark
+    public Class<?> classInit() throws ClassNotFoundException {
+        return Class.forName("com.iofairy.time.DateTimePattern");
+    }
+
+    /**
+     * First format detection, only the regex group of the dash separated date time is compiled.
+     */
+    @Benchmark
+    public String firstForDTF() {
+        return DateTimePattern.forDTF("2024-01-02 10:20:30");
+    }
+
+    /**
+     * First lookup of a built-in formatter, only the formatter group it belongs to is created.
+     */
+    @Benchmark
+    public DateTimeFormatter firstGetDTF() {
+        return DateTimePattern.getDTF("yyyy-MM-dd HH:mm:ss");
+    }
+
+    /**
+     * Time to first parse.
+     */
+    @Benchmark
+    public DateTime firstParse() {
+        return DateTime.parse("2024-01-02 10:20:30");
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.lambda.Lazy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Reading an initialized {@link Lazy} versus a hand-written double-checked locking field and a synchronized getter. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar LazyBenchmark -t 4}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyBenchmark {
+
+    private final Lazy<Pattern> lazy = Lazy.of(() -> Pattern.compile("\\d+"));
+    private volatile Pattern doubleChecked;
+    private Pattern synchronizedPattern;
+
+    @Setup
+    public void setup() {
+        lazy.get();
+        doubleChecked();
+        synchronizedGet();
+    }
+
+    @Benchmark
+    public Pattern lazy() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    public Pattern doubleChecked() {
+        Pattern pattern = doubleChecked;
+        if (pattern == null) {
+            synchronized (this) {
+                pattern = doubleChecked;
+                if (pattern == null) {
+                    doubleChecked = pattern = Pattern.compile("\\d+");
+                }
+            }
+        }
+        return pattern;
+    }
+
+    @Benchmark
+    public synchronized Pattern synchronizedGet() {
+        if (synchronizedPattern == null) synchronizedPattern = Pattern.compile("\\d+");
+        return synchronizedPattern;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.lambda.MemoizedR2;
+import com.iofairy.lambda.R2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache hits of memoized functions ({@link R2#memoize()}, {@link R2#memoizeConcurrent()} and {@link R2#memoize(int)}),
+ * the arguments are the {@code Tuple2} key. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar MemoizedBenchmark -t 4 -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemoizedBenchmark {
+
+    @Param({"memoize", "memoizeConcurrent", "memoizeBounded"})
+    public String mode;
+
+    private MemoizedR2<String, Integer, String> memoized;
+
+    @Setup
+    public void setup() {
+        R2<String, Integer, String> function = (s, i) -> s + i;
+        memoized = "memoize".equals(mode) ? function.memoize()
+                : "memoizeConcurrent".equals(mode) ? function.memoizeConcurrent()
+                : function.memoize(1024);
+        memoized.$("key", 1);
+    }
+
+    @Benchmark
+    public String hit() {
+        return memoized.$("key", 1);
+    }
+
+}
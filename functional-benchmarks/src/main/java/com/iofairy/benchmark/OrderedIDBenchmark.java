@@ -0,0 +1,48 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.id.IDBlock;
+import com.iofairy.id.OrderedID;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Getting a batch of IDs from {@link OrderedID}: calling {@link OrderedID#nextId(String)} in a loop versus
+ * {@link OrderedID#reserve(String, int)} and {@link OrderedID#nextIds(String, int)}. The score is batches/us. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar OrderedIDBenchmark -t 8}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderedIDBenchmark {
+
+    private static final String CLASSIFY = "benchmark";
+
+    @Param({"1000"})
+    public int batchSize;
+
+    @Benchmark
+    public void nextIdLoop(Blackhole blackhole) {
+        for (int i = 0; i < batchSize; i++) {
+            blackhole.consume(OrderedID.nextId(CLASSIFY));
+        }
+    }
+
+    @Benchmark
+    public IDBlock reserve() {
+        return OrderedID.reserve(CLASSIFY, batchSize);
+    }
+
+    @Benchmark
+    public long[] nextIds() {
+        return OrderedID.nextIds(CLASSIFY, batchSize);
+    }
+
+}
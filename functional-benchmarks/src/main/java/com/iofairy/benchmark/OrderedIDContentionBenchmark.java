@@ -0,0 +1,83 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.id.OrderedID;
+import com.iofairy.id.OrderedIDStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads generating IDs of the same category: {@link OrderedID#nextId(String)} (CAS on one shared counter,
+ * strict global order) versus {@link OrderedID#nextLeasedId(String)} (thread-leased ID blocks), and the cost of
+ * {@link OrderedIDStore} persistence ({@code persisted}: strict mode with a store, forced to disk every {@code blockSize} IDs).
+ * The score is the total IDs/us of all threads. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar OrderedIDContentionBenchmark}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderedIDContentionBenchmark {
+
+    private static final String CLASSIFY = "contention";
+
+    @Param({"strict", "leased", "persisted"})
+    public String mode;
+
+    /**
+     * Lease size of {@code leased} mode, and block size of {@code persisted} mode
+     */
+    @Param({"1024"})
+    public int blockSize;
+
+    private boolean leased;
+    private OrderedIDStore store;
+
+    @Setup
+    public void setup() throws IOException {
+        leased = "leased".equals(mode);
+        OrderedID.setLeaseSize(blockSize);
+        if ("persisted".equals(mode)) {
+            store = OrderedIDStore.open(Files.createTempDirectory("ordered-id").resolve("ids.hwm"), blockSize);
+            OrderedID.setStore(store);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (store != null) {
+            OrderedID.setStore(null);
+            store.close();
+        }
+    }
+
+    private long nextId() {
+        return leased ? OrderedID.nextLeasedId(CLASSIFY) : OrderedID.nextId(CLASSIFY);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long threads01() {
+        return nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long threads08() {
+        return nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long threads64() {
+        return nextId();
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.pattern.Pattern;
+import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.compiled.CompiledStringMatcher;
+import com.iofairy.pattern.compiled.CompiledTypeMatcher;
+import com.iofairy.pattern.compiled.CompiledValueMatcher;
+import com.iofairy.pattern.matcher.StringRMatcher;
+import com.iofairy.pattern.matcher.TypeRMatcher;
+import com.iofairy.pattern.matcher.ValueRMatcher;
+import com.iofairy.tuple.EasyTuple;
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * {@link Pattern#match(Object)} chains: match by value, by type and by string prefix, versus the same cases
+ * precompiled by {@link Pattern#compileMatch()} ({@code compiled*}). The matched branch is the last {@code when} of
+ * each chain, so every branch is evaluated. {@code *30} match among 30 cases. {@code *InstanceOf} route messages of
+ * several runtime classes by superclass / interface ({@code INSTANCEOF}). {@code reusable*} re-bind one matcher from
+{@link Pattern#reusableMatch()} to each value, {@code -prof gc} shows whether a dispatch allocates. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar PatternMatchBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatternMatchBenchmark {
+
+    private static final int CASES = 30;
+    private static final PatternIn<String> THREE_OR_FOUR = in("3", "4");
+    private static final PatternIn<String> FIVE_OR_SIX = in("5", "6");
+
+    private String value;
+    private Object object;
+    private String path;
+    private Integer value30;
+    private String[] prefixes30;
+    private String path30;
+    private Object[] messages;
+    private int next;
+
+    private CompiledValueMatcher<String, String> compiledValueMatcher;
+    private CompiledTypeMatcher<Object, Integer> compiledTypeMatcher;
+    private CompiledStringMatcher<String> compiledPrefixMatcher;
+    private CompiledValueMatcher<Integer, Integer> compiledValueMatcher30;
+    private CompiledStringMatcher<String> compiledPrefixMatcher30;
+    private CompiledTypeMatcher<Object, Integer> compiledInstanceOfMatcher;
+
+    private final ValueRMatcher<String, String> reusableValueMatcher = Pattern.reusableMatch();
+    private final ValueRMatcher<Integer, Integer> reusableValueMatcher30 = Pattern.reusableMatch();
+    private final TypeRMatcher<Object, Integer> reusableInstanceOfMatcher = Pattern.reusableMatch(INSTANCEOF);
+
+    @Setup
+    public void setup() {
+        value = "5";
+        object = Tuple.of("zs", 20);
+        path = "/api/v1/users/1001";
+        value30 = CASES - 1;
+        prefixes30 = new String[CASES];
+        for (int i = 0; i < CASES; i++) {
+            prefixes30[i] = "/api/v" + (i % 3) + "/resource" + i + "/";
+        }
+        path30 = prefixes30[CASES - 1] + "1001";
+
+        compiledValueMatcher = Pattern.<String, String>compileMatch()
+                .when("1",                      v -> "one")
+                .when("2",                      v -> "two")
+                .when(in("3", "4"),             v -> "three or four")
+                .when(in("5", "6"),             v -> "five or six")
+                .orElse(                        v -> "no match");
+        compiledTypeMatcher = Pattern.<Object, Integer>compileMatch(TYPE)
+                .when(Integer.class,    v -> v + 10)
+                .when(String.class,     v -> v.length())
+                .when(Long.class,       v -> v.intValue())
+                .when(Tuple2.class,     v -> v.arity())
+                .orElse(                v -> -1);
+        compiledPrefixMatcher = Pattern.<String>compileMatch(PREFIX)
+                .when("/static/",       v -> "static")
+                .when("/admin/",        v -> "admin")
+                .when("/api/v0/",       v -> "v0")
+                .when("/api/v1/",       v -> "v1")
+                .orElse(                v -> "no match");
+        CompiledValueMatcher.Builder<Integer, Integer> builder = Pattern.compileMatch();
+        for (int i = 0; i < CASES; i++) {
+            builder.when(i, v -> v + 1);
+        }
+        compiledValueMatcher30 = builder.orElse(v -> -1);
+        CompiledStringMatcher.Builder<String> prefixBuilder = Pattern.compileMatch(PREFIX);
+        for (String prefix : prefixes30) {
+            prefixBuilder.when(prefix, v -> prefix);
+        }
+        compiledPrefixMatcher30 = prefixBuilder.orElse(v -> "no match");
+
+        messages = new Object[]{Tuple.of("zs", 20), "abc", 10L, new StringBuilder("x"), EasyTuple.of(1, 2), new ArrayList<>(Arrays.asList(1, 2)), 1.5};
+        compiledInstanceOfMatcher = Pattern.<Object, Integer>compileMatch(INSTANCEOF)
+                .when(Integer.class,        v -> v)
+                .when(Map.class,            v -> v.size())
+                .when(Collection.class,     v -> v.size())
+                .when(Number.class,         v -> v.intValue())
+                .when(CharSequence.class,   v -> v.length())
+                .when(Tuple.class,          v -> v.arity())
+                .orElse(                    v -> -1);
+    }
+
+    @Benchmark
+    public String matchValue() {
+        return match(value)
+                .when("1",                      v -> "one")
+                .when("2",                      v -> "two")
+                .when(in("3", "4"),             v -> "three or four")
+                .when(in("5", "6"),             v -> "five or six")
+                .orElse(                        v -> "no match");
+    }
+
+    @Benchmark
+    public String reusableMatchValue() {
+        return reusableValueMatcher.reset(value)
+                .when("1",                      v -> "one")
+                .when("2",                      v -> "two")
+                .when(THREE_OR_FOUR,            v -> "three or four")
+                .when(FIVE_OR_SIX,              v -> "five or six")
+                .orElse(                        v -> "no match");
+    }
+
+    @Benchmark
+    public Integer matchType() {
+        return match(object, TYPE)
+                .when(Integer.class,    v -> v + 10)
+                .when(String.class,     v -> v.length())
+                .when(Long.class,       v -> v.intValue())
+                .when(Tuple2.class,     v -> v.arity())
+                .orElse(                v -> -1);
+    }
+
+    @Benchmark
+    public String matchPrefix() {
+        return match(path, PREFIX)
+                .when("/static/",       v -> "static")
+                .when("/admin/",        v -> "admin")
+                .when("/api/v0/",       v -> "v0")
+                .when("/api/v1/",       v -> "v1")
+                .orElse(                v -> "no match");
+    }
+
+    @Benchmark
+    public String compiledMatchValue() {
+        return compiledValueMatcher.match(value);
+    }
+
+    @Benchmark
+    public Integer compiledMatchType() {
+        return compiledTypeMatcher.match(object);
+    }
+
+    @Benchmark
+    public String compiledMatchPrefix() {
+        return compiledPrefixMatcher.match(path);
+    }
+
+    @Benchmark
+    public Integer matchValue30() {
+        ValueRMatcher<Integer, Integer> matcher = match(value30).when(0, v -> v + 1);
+        for (int i = 1; i < CASES; i++) {
+            matcher = matcher.when(i, v -> v + 1);
+        }
+        return matcher.orElse(v -> -1);
+    }
+
+    @Benchmark
+    public Integer reusableMatchValue30() {
+        ValueRMatcher<Integer, Integer> matcher = reusableValueMatcher30.reset(value30);
+        for (int i = 0; i < CASES; i++) {
+            matcher.when(i, v -> v + 1);
+        }
+        return matcher.orElse(v -> -1);
+    }
+
+    @Benchmark
+    public Integer compiledMatchValue30() {
+        return compiledValueMatcher30.match(value30);
+    }
+
+    @Benchmark
+    public String matchPrefix30() {
+        StringRMatcher<String> matcher = match(path30, PREFIX).when(prefixes30[0], v -> "0");
+        for (int i = 1; i < CASES; i++) {
+            String prefix = prefixes30[i];
+            matcher = matcher.when(prefix, v -> prefix);
+        }
+        return matcher.orElse(v -> "no match");
+    }
+
+    @Benchmark
+    public String compiledMatchPrefix30() {
+        return compiledPrefixMatcher30.match(path30);
+    }
+
+    @Benchmark
+    public Integer matchInstanceOf() {
+        return match(nextMessage(), INSTANCEOF)
+                .when(Integer.class,        v -> v)
+                .when(Map.class,            v -> v.size())
+                .when(Collection.class,     v -> v.size())
+                .when(Number.class,         v -> v.intValue())
+                .when(CharSequence.class,   v -> v.length())
+                .when(Tuple.class,          v -> v.arity())
+                .orElse(                    v -> -1);
+    }
+
+    @Benchmark
+    public Integer reusableMatchInstanceOf() {
+        return reusableInstanceOfMatcher.reset(nextMessage())
+                .when(Integer.class,        v -> v)
+                .when(Map.class,            v -> v.size())
+                .when(Collection.class,     v -> v.size())
+                .when(Number.class,         v -> v.intValue())
+                .when(CharSequence.class,   v -> v.length())
+                .when(Tuple.class,          v -> v.arity())
+                .orElse(                    v -> -1);
+    }
+
+    @Benchmark
+    public Integer compiledMatchInstanceOf() {
+        return compiledInstanceOfMatcher.match(nextMessage());
+    }
+
+    private Object nextMessage() {
+        if (++next == messages.length) next = 0;
+        return messages[next];
+    }
+
+}
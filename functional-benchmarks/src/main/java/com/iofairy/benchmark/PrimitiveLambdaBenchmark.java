@@ -0,0 +1,60 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.lambda.LongToLongR2;
+import com.iofairy.lambda.R2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregating a {@code long[]} with the generic {@link R2} (boxes every value) versus the primitive {@link LongToLongR2}.
+ * The score is arrays/us, use the gc profiler to see the bytes/op, e.g.: <br>
+ * {@code java -jar target/benchmarks.jar PrimitiveLambdaBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveLambdaBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private long[] values;
+    private R2<Long, Long, Long> boxedSum;
+    private LongToLongR2 primitiveSum;
+
+    @Setup
+    public void setup() {
+        values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 1000L;      // out of the Long cache
+        }
+        boxedSum = (l1, l2) -> l1 + l2;
+        primitiveSum = (l1, l2) -> l1 + l2;
+    }
+
+    @Benchmark
+    public long boxed() {
+        Long total = 0L;
+        for (long value : values) {
+            total = boxedSum.$(total, value);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long primitive() {
+        long total = 0;
+        for (long value : values) {
+            total = primitiveSum.$(total, value);
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.si.SI;
+import com.iofairy.si.SITemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String interpolation: {@link SI#$(CharSequence, Object...)} with indexed placeholders, {@link SI#$(CharSequence)}
+ * with named placeholders, and the precompiled {@link SITemplate}. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar SIBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SIBenchmark {
+
+    private static final String INDEXED = "Parameter `${…}` must be in ${…}, but got ${…}! ";
+    private static final String NAMED = "Parameter `${name}` must be in ${range}, but got ${value}! ";
+
+    private SI si;
+    private SITemplate indexedTemplate;
+    private SITemplate namedTemplate;
+    private Map<String, Object> valueMap;
+
+    @Setup
+    public void setup() {
+        si = SI.of("name", "age", "range", "[0, 150]", "value", 200);
+        indexedTemplate = SI.compile(INDEXED);
+        namedTemplate = SI.compile(NAMED);
+        valueMap = new HashMap<>();
+        valueMap.put("name", "age");
+        valueMap.put("range", "[0, 150]");
+        valueMap.put("value", 200);
+    }
+
+    @Benchmark
+    public String indexed() {
+        return SI.$(INDEXED, "age", "[0, 150]", 200);
+    }
+
+    @Benchmark
+    public String named() {
+        return si.$(NAMED);
+    }
+
+    @Benchmark
+    public String compiledIndexed() {
+        return indexedTemplate.render("age", "[0, 150]", 200);
+    }
+
+    @Benchmark
+    public String compiledNamed() {
+        return namedTemplate.render(valueMap);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.cache.BoundedCache;
+import com.iofairy.si.SI;
+import com.iofairy.si.StringExtractor;
+import com.iofairy.si.StringToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark of the SI template cache: the previous {@code Collections.synchronizedMap(LRUCache)}
+ * versus {@link BoundedCache}. Run with different thread counts to see the scaling, e.g.: <br>
+ * {@code java -jar target/benchmarks.jar SICacheBenchmark -t 8}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class SICacheBenchmark {
+
+    @Param({"synchronizedLRU", "boundedCache"})
+    public String cacheType;
+
+    /**
+     * Number of distinct templates (power of 2), all of them fit in the cache (hit path).
+     */
+    @Param({"256"})
+    public int templateCount;
+
+    private String[] templates;
+    private TemplateCache cache;
+
+    @Setup
+    public void setup() {
+        templates = new String[templateCount];
+        for (int i = 0; i < templateCount; i++) {
+            templates[i] = "Parameter `${name}` of template " + i + " must be in ${range}, but got ${value}! ";
+        }
+        cache = "boundedCache".equals(cacheType) ? new BoundedTemplateCache(1000) : new SynchronizedLRUTemplateCache(1000);
+        for (String template : templates) {
+            cache.tokens(template);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        int next(int bound) {
+            index = (index + 1) & (bound - 1);
+            return index;
+        }
+    }
+
+    @Benchmark
+    public List<StringToken> cacheHit(Cursor cursor) {
+        return cache.tokens(templates[cursor.next(templateCount)]);
+    }
+
+    /**
+     * Full {@code SI.$(...)} call, uses the cache of the current implementation.
+     */
+    @Benchmark
+    public String interpolate(Cursor cursor) {
+        return SI.$(templates[cursor.next(templateCount)], "age", "[0, 150]", 200);
+    }
+
+    interface TemplateCache {
+        List<StringToken> tokens(String template);
+    }
+
+    /**
+     * Copy of the previous implementation of the SI template cache.
+     */
+    static final class SynchronizedLRUTemplateCache implements TemplateCache {
+        final Map<String, List<StringToken>> map;
+
+        SynchronizedLRUTemplateCache(int maxEntries) {
+            map = Collections.synchronizedMap(new LinkedHashMap<String, List<StringToken>>(maxEntries + 1, 1.0f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<StringToken>> eldest) {
+                    return size() > maxEntries;
+                }
+            });
+        }
+
+        @Override
+        public List<StringToken> tokens(String template) {
+            List<StringToken> tokens;
+            if (map.containsKey(template)) {
+                tokens = map.get(template);
+            } else {
+                tokens = StringExtractor.split(template);
+                map.put(template, tokens);
+            }
+            return tokens;
+        }
+    }
+
+    static final class BoundedTemplateCache implements TemplateCache {
+        final BoundedCache<String, List<StringToken>> cache;
+
+        BoundedTemplateCache(int maxSize) {
+            cache = BoundedCache.of(maxSize);
+        }
+
+        @Override
+        public List<StringToken> tokens(String template) {
+            return cache.computeIfAbsent(template, StringExtractor::split);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.string.CaseConverter;
+import com.iofairy.top.S;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String utilities: {@link S#padLeftChars(CharSequence, char, int)}, {@link S#padLeftChars(Number, char, int)}
+ * and {@link CaseConverter#convert(String)}. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar StringBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringBenchmark {
+
+    private String text;
+    private long number;
+    private String lowerSpace;
+    private String lowerHyphen;
+
+    @Setup
+    public void setup() {
+        text = "12345";
+        number = 12345L;
+        lowerSpace = "user account create time";
+        lowerHyphen = "user-account-create-time";
+    }
+
+    @Benchmark
+    public String padLeftChars() {
+        return S.padLeftChars(text, '0', 12);
+    }
+
+    @Benchmark
+    public String padLeftCharsNumber() {
+        return S.padLeftChars(number, '0', 12);
+    }
+
+    @Benchmark
+    public String lowerSpaceToLowerCamel() {
+        return CaseConverter.LS_LC.convert(lowerSpace);
+    }
+
+    @Benchmark
+    public String lowerHyphenToUpperCamel() {
+        return CaseConverter.LH_UC.convert(lowerHyphen);
+    }
+
+    @Benchmark
+    public String lowerHyphenToUpperUnderscore() {
+        return CaseConverter.LH_UU.convert(lowerHyphen);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.pattern.Pattern;
+import com.iofairy.pattern.compiled.CompiledStringMatcher;
+import com.iofairy.pattern.matcher.StringRMatcher;
+import com.iofairy.pattern.type.PatternString;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Classify log lines against many keywords: a {@code match(line, patternString)} chain with one {@code when} per keyword
+ * versus {@link Pattern#compileMatch(PatternString)} (Aho–Corasick automaton for {@code CONTAIN}, trie for {@code SUFFIX}).
+ * Each line matches only the last keyword, so every keyword is tested. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar StringMatchBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringMatchBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int keywordCount;
+
+    @Param({"CONTAIN", "ICCONTAIN", "SUFFIX"})
+    public PatternString patternString;
+
+    private String[] keywords;
+    private String[] lines;
+    private int next;
+    private CompiledStringMatcher<String> compiledMatcher;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(20240101);
+        keywords = new String[keywordCount];
+        for (int i = 0; i < keywordCount; i++) {
+            keywords[i] = randomWord(random, 6 + random.nextInt(7));
+        }
+        lines = new String[16];
+        for (int i = 0; i < lines.length; i++) {
+            StringBuilder line = new StringBuilder("2024-01-02 10:20:30.123 [worker-").append(i).append("] ");
+            while (line.length() < 100) {
+                line.append(randomWord(random, 2 + random.nextInt(8))).append(' ');
+            }
+            lines[i] = line.append(keywords[keywordCount - 1]).toString();
+        }
+
+        CompiledStringMatcher.Builder<String> builder = Pattern.compileMatch(patternString);
+        for (String keyword : keywords) {
+            builder.when(keyword, v -> keyword);
+        }
+        compiledMatcher = builder.orElse(v -> "no match");
+    }
+
+    @Benchmark
+    public String matchChain() {
+        String line = nextLine();
+        StringRMatcher<String> matcher = match(line, patternString).when(keywords[0], v -> keywords[0]);
+        for (int i = 1; i < keywords.length; i++) {
+            String keyword = keywords[i];
+            matcher = matcher.when(keyword, v -> keyword);
+        }
+        return matcher.orElse(v -> "no match");
+    }
+
+    @Benchmark
+    public String compiledMatch() {
+        return compiledMatcher.match(nextLine());
+    }
+
+    private String nextLine() {
+        if (++next == lines.length) next = 0;
+        return lines[next];
+    }
+
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+}
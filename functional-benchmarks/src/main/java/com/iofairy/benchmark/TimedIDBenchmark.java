@@ -0,0 +1,124 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.id.MonotonicID;
+import com.iofairy.id.TimedID;
+import com.iofairy.top.S;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * ID generation of {@link TimedID}: the previous {@code UUID -> regex -> BigInteger -> String} implementation versus
+ * the current {@code char[]} based one. IDs/us is the score, use the gc profiler to see the bytes/op, e.g.: <br>
+ * {@code java -jar target/benchmarks.jar TimedIDBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimedIDBenchmark {
+
+    /**
+     * {@code dateTime}: same as {@link TimedID#TIMED_ID30}, {@code timestamp}: same as {@link TimedID#TS_ID_UNDERLINE}
+     */
+    @Param({"dateTime", "timestamp"})
+    public String prefix;
+
+    private TimedID timedID;
+    private LegacyTimedID legacyTimedID;
+
+    @Setup
+    public void setup() {
+        boolean withTimestamp = "timestamp".equals(prefix);
+        timedID = withTimestamp ? TimedID.TS_ID_UNDERLINE : TimedID.TIMED_ID30;
+        legacyTimedID = new LegacyTimedID(timedID);
+    }
+
+    @Benchmark
+    public String legacyRandomId() {
+        return legacyTimedID.randomId();
+    }
+
+    @Benchmark
+    public String randomId() {
+        return timedID.randomId();
+    }
+
+    /**
+     * 128-bit binary form, 16 bytes per ID in the index.
+     */
+    @Benchmark
+    public MonotonicID monotonicId() {
+        return timedID.monotonicId();
+    }
+
+    /**
+     * 26 chars Crockford base-32 form.
+     */
+    @Benchmark
+    public String monotonicIdString() {
+        return timedID.monotonicId().toString();
+    }
+
+    /**
+     * Copy of the previous implementation of {@link TimedID#randomId()}.
+     */
+    static final class LegacyTimedID {
+        private static final Pattern PATTERN = Pattern.compile("-");
+
+        final int idLength;
+        final boolean upperCase;
+        final boolean withTimestamp;
+        final Instant startInstant;
+        final DateTimeFormatter formatter;
+        final String underlineWithWorkerId;
+
+        LegacyTimedID(TimedID timedID) {
+            this.idLength = timedID.idLength;
+            this.upperCase = timedID.upperCase;
+            this.withTimestamp = timedID.withTimestamp;
+            this.startInstant = timedID.startInstant;
+            this.underlineWithWorkerId = (timedID.withUnderline ? "_" : "") + timedID.workerId;
+            this.formatter = new DateTimeFormatterBuilder()
+                    .appendValueReduced(ChronoField.YEAR, timedID.yearLength, timedID.yearLength, 0)
+                    .appendPattern("MMddHHmmssSSS")
+                    .toFormatter();
+        }
+
+        String randomId() {
+            String timestamp = S.padLeftChars(Instant.now().toEpochMilli() - startInstant.toEpochMilli(), '0', 12);
+            String dateTime = withTimestamp ? timestamp : formatter.format(LocalDateTime.now());
+            String base36 = uuidToBase36();
+
+            String id = dateTime + underlineWithWorkerId + base36;
+            id = id.substring(0, Math.min(idLength, id.length()));
+            return upperCase ? id.toUpperCase() : id.toLowerCase();
+        }
+
+        private static String uuidToBase36() {
+            String hexUuid = UUID.randomUUID().toString();
+            hexUuid = PATTERN.matcher(hexUuid).replaceAll("");
+
+            BigInteger bigInteger = new BigInteger(hexUuid, 16);
+            String base36 = bigInteger.toString(36);
+            if (base36.length() < 25) {
+                base36 = S.padRightChars(base36, '0', 25);
+            }
+            return base36;
+        }
+    }
+
+}
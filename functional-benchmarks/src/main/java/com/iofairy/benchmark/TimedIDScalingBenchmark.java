@@ -0,0 +1,60 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.id.RandomSource;
+import com.iofairy.id.TimedID;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link TimedID#randomId()} with each {@link RandomSource} from 1 to 64 threads. The score is the total
+ * IDs/us of all threads: {@link RandomSource#SECURE_RANDOM} stays flat because every thread is serialized on the shared
+ * {@code SecureRandom}, the other sources grow with the number of cores. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar TimedIDScalingBenchmark}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimedIDScalingBenchmark {
+
+    @Param({"SECURE_RANDOM", "THREAD_LOCAL_RANDOM", "SPLITTABLE_RANDOM"})
+    public RandomSource randomSource;
+
+    private TimedID timedID;
+
+    @Setup
+    public void setup() {
+        timedID = TimedID.newBuilder().withIdLength(30).withRandomSource(randomSource).build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String threads01() {
+        return timedID.randomId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String threads04() {
+        return timedID.randomId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String threads16() {
+        return timedID.randomId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String threads64() {
+        return timedID.randomId();
+    }
+
+}
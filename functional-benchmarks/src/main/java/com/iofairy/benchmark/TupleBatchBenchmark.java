@@ -0,0 +1,90 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple3;
+import com.iofairy.tuple.TupleBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.tuple.TupleBatch.ColumnType.*;
+
+/**
+ * {@code (id, score, name)} query results held as {@code List<Tuple3<Long, Double, String>>} versus a columnar
+ * {@link TupleBatch}: building {@code rows} rows ({@code -prof gc} shows the bytes per batch, i.e. the heap they occupy)
+ * and summing the score column. The score is batches/ms. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar TupleBatchBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TupleBatchBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private String[] names;
+    private List<Tuple3<Long, Double, String>> list;
+    private TupleBatch batch;
+
+    @Setup
+    public void setup() {
+        names = new String[100];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "name" + i;
+        }
+        list = buildList();
+        batch = buildBatch();
+    }
+
+    @Benchmark
+    public List<Tuple3<Long, Double, String>> buildList() {
+        List<Tuple3<Long, Double, String>> tuples = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            tuples.add(Tuple.of(1000000L + i, i * 0.5, names[i % names.length]).alias("id", "score", "name"));
+        }
+        return tuples;
+    }
+
+    @Benchmark
+    public TupleBatch buildBatch() {
+        TupleBatch tuples = TupleBatch.of(rows, LONG, DOUBLE, OBJECT).alias("id", "score", "name");
+        for (int i = 0; i < rows; i++) {
+            int row = tuples.addRow();
+            tuples.setLong(row, 0, 1000000L + i).setDouble(row, 1, i * 0.5).set(row, 2, names[i % names.length]);
+        }
+        return tuples;
+    }
+
+    @Benchmark
+    public double sumList() {
+        double sum = 0;
+        for (Tuple3<Long, Double, String> tuple : list) {
+            sum += tuple._2;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumBatch() {
+        double sum = 0;
+        for (int row = 0, size = batch.size(); row < size; row++) {
+            sum += batch.getDouble(row, 1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumBatchColumn() {
+        return batch.doubleColumn(1).sum();
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.tuple.EasyTuple;
+import com.iofairy.tuple.EasyTuple3;
+import com.iofairy.tuple.LongDoubleTuple2;
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple2;
+import com.iofairy.tuple.Tuple3;
+import com.iofairy.tuple.Tuple9;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating tuples: {@link Tuple#of(Object, Object, Object)}, {@link EasyTuple#of(Object, Object, Object)},
+ * and setting, copying and reading aliases. Tuples without aliases own no alias collections, and tuples with the same
+ * aliases share one alias schema, {@code -prof gc} shows the bytes allocated per tuple. {@code boxedTuple2} versus
+ * {@code longDoubleTuple2} compare an {@code (id, score)} pair stored boxed and unboxed. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar TupleBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TupleBenchmark {
+
+    private String name;
+    private Integer age;
+    private String city;
+    private Tuple3<String, Integer, String> aliased;
+    private long id;
+    private double score;
+
+    @Setup
+    public void setup() {
+        name = "zs";
+        age = 20;
+        city = "Shanghai";
+        aliased = Tuple.of(name, age, city).alias("name", "age", "city");
+        id = 10000000000L;
+        score = 98.5;
+    }
+
+    @Benchmark
+    public Tuple3<String, Integer, String> tuple3() {
+        return Tuple.of(name, age, city);
+    }
+
+    @Benchmark
+    public Tuple9<String, Integer, String, String, Integer, String, String, Integer, String> tuple9() {
+        return Tuple.of(name, age, city, name, age, city, name, age, city);
+    }
+
+    @Benchmark
+    public EasyTuple3<String> easyTuple3() {
+        return EasyTuple.of(name, city, name);
+    }
+
+    @Benchmark
+    public Tuple3<String, Integer, String> tuple3WithAlias() {
+        return Tuple.of(name, age, city).alias("name", "age", "city");
+    }
+
+    @Benchmark
+    public Tuple3<String, Integer, String> tuple3CopyAliases() {
+        return Tuple.of(name, age, city).copyAliases(aliased);
+    }
+
+    @Benchmark
+    public Object tuple3AliasLookup() {
+        return Tuple.of(name, age, city).alias("name", "age", "city").__("city");
+    }
+
+    @Benchmark
+    public Tuple2<Long, Double> boxedTuple2() {
+        return Tuple.of(++id, score);
+    }
+
+    @Benchmark
+    public LongDoubleTuple2 longDoubleTuple2() {
+        return LongDoubleTuple2.of(++id, score);
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple3;
+import com.iofairy.tuple.TupleCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialize and deserialize {@code rows} aliased {@code (id, name, score)} tuples: {@link TupleCodec}, Java serialization
+ * of {@code Tuple3} (written in the format of {@code TupleCodec}), and the default Java serialization of a {@code Tuple3}
+ * subclass outside the tuple package (class descriptors and fields). The setup prints the bytes per tuple of each.
+ * The score is batches/ms. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar TupleCodecBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TupleCodecBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private ArrayList<Tuple> tuples;
+    private ArrayList<Tuple> defaultTuples;
+    private byte[] codecBytes;
+    private byte[] javaBytes;
+    private byte[] defaultBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        tuples = new ArrayList<>(rows);
+        defaultTuples = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            tuples.add(Tuple.of(i, "user" + i, i * 0.5).alias("id", "name", "score"));
+            defaultTuples.add(new DefaultTuple3(i, "user" + i, i * 0.5).alias("id", "name", "score"));
+        }
+        codecBytes = codecEncode();
+        javaBytes = serialize(tuples);
+        defaultBytes = serialize(defaultTuples);
+        System.out.printf("%nbytes per tuple: TupleCodec %.1f, Java serialization %.1f, default Java serialization %.1f%n",
+                (double) codecBytes.length / rows, (double) javaBytes.length / rows, (double) defaultBytes.length / rows);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return TupleCodec.encode(tuples);
+    }
+
+    @Benchmark
+    public List<Tuple> codecDecode() {
+        return TupleCodec.decode(codecBytes);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        return serialize(tuples);
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        return deserialize(javaBytes);
+    }
+
+    @Benchmark
+    public byte[] defaultSerialize() throws IOException {
+        return serialize(defaultTuples);
+    }
+
+    @Benchmark
+    public Object defaultDeserialize() throws IOException, ClassNotFoundException {
+        return deserialize(defaultBytes);
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * Subclasses outside the tuple package keep the default Java serialization.
+     */
+    static class DefaultTuple3 extends Tuple3<Integer, String, Double> {
+        private static final long serialVersionUID = 1L;
+
+        DefaultTuple3(Integer _1, String _2, Double _3) {
+            super(_1, _2, _3);
+        }
+    }
+
+}
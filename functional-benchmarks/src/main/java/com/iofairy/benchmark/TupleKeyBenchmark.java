@@ -0,0 +1,142 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple2;
+import com.iofairy.tuple.TupleKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code HashMap} lookups by a composite key of 2 elements: {@link Tuple2}, {@link TupleKey}, {@link Arrays#asList(Object[])}
+ * and a hand-written key class with the {@code equals} / {@code hashCode} a Java record would generate.
+ * {@code intPair} keys are a 100 x 100 grid of small ints, {@code stringInt} keys are {@code ("user" + n, n % 10)}.
+ * {@code fresh} creates the key for each lookup, otherwise an equal key created in advance is used. e.g.: <br>
+ * {@code java -jar target/benchmarks.jar TupleKeyBenchmark -prof gc}
+ *
+ * @author GG
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TupleKeyBenchmark {
+
+    private static final int SIZE = 10000;
+
+    @Param({"intPair", "stringInt"})
+    public String shape;
+
+    @Param({"false", "true"})
+    public boolean fresh;
+
+    private Object[] firsts;
+    private Object[] seconds;
+    private int next;
+
+    private Map<Tuple2<Object, Object>, Integer> tupleMap;
+    private Map<TupleKey, Integer> tupleKeyMap;
+    private Map<List<Object>, Integer> listMap;
+    private Map<PairKey, Integer> pairKeyMap;
+
+    private Tuple2<Object, Object>[] tupleKeys;
+    private TupleKey[] tupleKeyKeys;
+    private List<Object>[] listKeys;
+    private PairKey[] pairKeys;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        firsts = new Object[SIZE];
+        seconds = new Object[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            boolean intPair = "intPair".equals(shape);
+            firsts[i] = intPair ? (Object) (i / 100) : "user" + i;
+            seconds[i] = intPair ? i % 100 : i % 10;
+        }
+
+        tupleMap = new HashMap<>();
+        tupleKeyMap = new HashMap<>();
+        listMap = new HashMap<>();
+        pairKeyMap = new HashMap<>();
+        tupleKeys = new Tuple2[SIZE];
+        tupleKeyKeys = new TupleKey[SIZE];
+        listKeys = new List[SIZE];
+        pairKeys = new PairKey[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            tupleMap.put(Tuple.of(firsts[i], seconds[i]), i);
+            tupleKeyMap.put(TupleKey.of(firsts[i], seconds[i]), i);
+            listMap.put(Arrays.asList(firsts[i], seconds[i]), i);
+            pairKeyMap.put(new PairKey(firsts[i], seconds[i]), i);
+            // equal to the keys in the maps, but not the same objects
+            tupleKeys[i] = Tuple.of(firsts[i], seconds[i]);
+            tupleKeyKeys[i] = TupleKey.of(firsts[i], seconds[i]);
+            listKeys[i] = Arrays.asList(firsts[i], seconds[i]);
+            pairKeys[i] = new PairKey(firsts[i], seconds[i]);
+        }
+    }
+
+    private int nextIndex() {
+        if (++next == SIZE) next = 0;
+        return next;
+    }
+
+    @Benchmark
+    public Integer tuple2() {
+        int i = nextIndex();
+        return tupleMap.get(fresh ? Tuple.of(firsts[i], seconds[i]) : tupleKeys[i]);
+    }
+
+    @Benchmark
+    public Integer tupleKey() {
+        int i = nextIndex();
+        return tupleKeyMap.get(fresh ? TupleKey.of(firsts[i], seconds[i]) : tupleKeyKeys[i]);
+    }
+
+    @Benchmark
+    public Integer arraysAsList() {
+        int i = nextIndex();
+        return listMap.get(fresh ? Arrays.asList(firsts[i], seconds[i]) : listKeys[i]);
+    }
+
+    @Benchmark
+    public Integer recordKey() {
+        int i = nextIndex();
+        return pairKeyMap.get(fresh ? new PairKey(firsts[i], seconds[i]) : pairKeys[i]);
+    }
+
+    /**
+     * What {@code record PairKey(Object first, Object second)} generates, the benchmarks are compiled for Java 9.
+     */
+    private static final class PairKey {
+        private final Object first;
+        private final Object second;
+
+        PairKey(Object first, Object second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PairKey)) return false;
+            PairKey pairKey = (PairKey) o;
+            return Objects.equals(first, pairKey.first) && Objects.equals(second, pairKey.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(first) + Objects.hashCode(second);
+        }
+    }
+
+}
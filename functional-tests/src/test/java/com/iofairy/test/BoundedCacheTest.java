@@ -0,0 +1,118 @@
+package com.iofairy.test;
+
+import com.iofairy.cache.BoundedCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void testBoundedCache() {
+        BoundedCache<String, Integer> cache = BoundedCache.of(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("x"));
+
+        cache.put("d", 4);
+        assertEquals(3, cache.size());
+        assertTrue(cache.containsKey("d"));
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("k" + i, i);
+            assertTrue(cache.size() <= 3);
+        }
+        assertEquals(99, cache.get("k99"));
+
+        assertThrows(IllegalArgumentException.class, () -> BoundedCache.of(0));
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+        assertThrows(NullPointerException.class, () -> cache.put("a", null));
+    }
+
+    @Test
+    public void testSecondChance() {
+        BoundedCache<String, Integer> cache = BoundedCache.of(4);
+        cache.put("hot", 0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, cache.get("hot"));      // keep `hot` referenced
+            cache.put("cold" + i, i);
+        }
+        assertEquals(4, cache.size());
+        assertEquals(0, cache.get("hot"));
+    }
+
+    @Test
+    public void testComputeIfAbsent() throws Exception {
+        BoundedCache<String, Integer> cache = BoundedCache.of(10);
+        assertEquals(1, cache.computeIfAbsent("a", k -> 1));
+        assertEquals(1, cache.computeIfAbsent("a", k -> 2));
+        assertNull(cache.computeIfAbsent("b", k -> null));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(1, cache.remove("a"));
+        assertEquals(0, cache.size());
+
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            ConcurrentLinkedQueue<Future<Integer>> futures = new ConcurrentLinkedQueue<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(pool.submit(() -> {
+                    latch.await();
+                    return cache.computeIfAbsent("key", k -> {
+                        calls.incrementAndGet();
+                        return 42;
+                    });
+                }));
+            }
+            latch.countDown();
+            for (Future<Integer> future : futures) {
+                assertEquals(42, future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testStats() {
+        BoundedCache<String, Integer> cache = BoundedCache.withStats(2);
+        assertTrue(cache.isRecordingStats());
+        assertEquals(1.0, cache.hitRate());
+        cache.computeIfAbsent("a", k -> 1);
+        cache.computeIfAbsent("a", k -> 1);
+        cache.get("a");
+        cache.get("b");
+        assertEquals(2, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(0.5, cache.hitRate());
+
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.put("d", 4);
+        assertEquals(2, cache.evictionCount());
+        System.out.println(cache);
+
+        cache.resetStats();
+        assertEquals(0, cache.hitCount());
+        assertEquals(0, cache.missCount());
+        assertEquals(0, cache.evictionCount());
+
+        BoundedCache<String, Integer> noStats = BoundedCache.of(2);
+        noStats.get("a");
+        assertFalse(noStats.isRecordingStats());
+        assertEquals(0, noStats.missCount());
+    }
+
+}
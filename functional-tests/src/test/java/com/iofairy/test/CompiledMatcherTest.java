@@ -0,0 +1,287 @@
+package com.iofairy.test;
+
+import com.iofairy.pattern.Pattern;
+import com.iofairy.pattern.compiled.CompiledStringMatcher;
+import com.iofairy.pattern.compiled.CompiledTypeMatcher;
+import com.iofairy.pattern.compiled.CompiledValueMatcher;
+import com.iofairy.pattern.type.PatternString;
+import com.iofairy.tuple.EasyTuple;
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple2;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.iofairy.pattern.Pattern.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class CompiledMatcherTest {
+
+    @Test
+    public void testValue() {
+        CompiledValueMatcher<String, String> matcher = Pattern.<String, String>compileMatch()
+                .when("1",                      v -> v + v)
+                .when("2",                      v -> v + "a")
+                .when(in("3", "4", "5", "6"),   v -> v + " - abcd")
+                .when("5",                      v -> "never")       // the first case wins
+                .when((String) null,            v -> "null")
+                .orElse(                        v -> "no match");
+
+        for (String s : Arrays.asList("1", "2", "3", "5", "6", "7", "", null)) {
+            String expected = match(s)
+                    .when("1",                      v -> v + v)
+                    .when("2",                      v -> v + "a")
+                    .when(in("3", "4", "5", "6"),   v -> v + " - abcd")
+                    .when("5",                      v -> "never")
+                    .when((String) null,            v -> "null")
+                    .orElse(                        v -> "no match");
+            assertEquals(expected, matcher.match(s));
+            assertEquals(expected, matcher.$(s));
+        }
+        assertEquals("5 - abcd", matcher.match("5"));
+        assertEquals("null", matcher.match(null));
+
+        CompiledValueMatcher<Integer, String> noElse = Pattern.<Integer, String>compileMatch()
+                .when(in((Integer[]) null), v -> "null")
+                .when(1, v -> "one")
+                .build();
+        assertEquals("one", noElse.match(1));
+        assertEquals("null", noElse.match(null));
+        assertNull(noElse.match(2));
+        assertThrows(NullPointerException.class, () -> Pattern.<Integer, String>compileMatch().when(1, null));
+    }
+
+    @Test
+    public void testType() {
+        CompiledTypeMatcher<Object, Integer> matcher = Pattern.<Object, Integer>compileMatch(TYPE)
+                .when(Integer.class,    v -> v + 10)
+                .when(Tuple2.class,     v -> v.arity())
+                .when(String.class,     v -> v.contains("abc") ? 20 : 30)
+                .when(String.class,     v -> -100)
+                .when(null,             v -> -1)
+                .orElse(                v -> 40);
+
+        List<Object> values = Arrays.asList(5, Tuple.of("zs", 20), "abcd", "x", 1L, Tuple.of(1), null);
+        for (Object o : values) {
+            Integer expected = match(o, TYPE)
+                    .when(Integer.class,    v -> v + 10)
+                    .when(Tuple2.class,     v -> v.arity())
+                    .when(String.class,     v -> v.contains("abc") ? 20 : 30)
+                    .when(String.class,     v -> -100)
+                    .when(null,             v -> -1)
+                    .orElse(                v -> 40);
+            assertEquals(expected, matcher.match(o));
+        }
+        // exact class, same as match(value, TYPE)
+        assertEquals(40, matcher.match(new StringBuilder()));
+    }
+
+    @Test
+    public void testInstanceOf() {
+        CompiledTypeMatcher<Object, String> matcher = Pattern.<Object, String>compileMatch(INSTANCEOF)
+                .when(Integer.class,        v -> "integer")
+                .when(EasyTuple.class,      v -> "easy tuple")
+                .when(Tuple2.class,         v -> "tuple2")
+                .when(Tuple.class,          v -> "tuple")
+                .when(CharSequence.class,   v -> "chars")
+                .when(String.class,         v -> "string")      // shadowed by CharSequence
+                .when(Number.class,         v -> "number")
+                .when(null,                 v -> "null")
+                .orElse(                    v -> "other");
+        assertEquals(INSTANCEOF, matcher.getPatternType());
+
+        List<Object> values = Arrays.asList(1, 1L, 1.5, "abc", new StringBuilder("x"), Tuple.of("zs", 20),
+                EasyTuple.of(1, 2), Tuple.of(1, 2, 3), EasyTuple.of(1, 2, 3), new Object(), new int[0], null);
+        for (int i = 0; i < 3; i++) {       // resolved and then cached
+            for (Object o : values) {
+                String expected = match(o, INSTANCEOF)
+                        .when(Integer.class,        v -> "integer")
+                        .when(EasyTuple.class,      v -> "easy tuple")
+                        .when(Tuple2.class,         v -> "tuple2")
+                        .when(Tuple.class,          v -> "tuple")
+                        .when(CharSequence.class,   v -> "chars")
+                        .when(String.class,         v -> "string")
+                        .when(Number.class,         v -> "number")
+                        .when(null,                 v -> "null")
+                        .orElse(                    v -> "other");
+                assertEquals(expected, matcher.match(o), String.valueOf(o));
+            }
+        }
+        assertEquals("easy tuple", matcher.match(EasyTuple.of(1, 2)));
+        assertEquals("tuple2", matcher.match(Tuple.of(1, 2)));
+        assertEquals("chars", matcher.match("abc"));
+        assertEquals("number", matcher.match(1L));
+        assertEquals("other", matcher.match(new Object()));
+
+        CompiledTypeMatcher<Object, String> noElse = Pattern.<Object, String>compileMatch(INSTANCEOF)
+                .when(Comparable.class, v -> "comparable")
+                .build();
+        assertEquals("comparable", noElse.match("abc"));
+        assertEquals("comparable", noElse.match(1));
+        assertNull(noElse.match(new Object()));
+        assertNull(noElse.match(null));
+    }
+
+    @Test
+    public void testString() {
+        List<String> literals = Arrays.asList("abcd", "aBcd", "E123", "ab", "", "fghij", ".$fGHI", "123", "abcde123.$fGHIj");
+        List<String> values = Arrays.asList("aBcdE123.$fGHIj", "abc", "ABCD", "ab", "", "xyz", "E1", "Ab", "fGHIj", null);
+        for (PatternString patternString : PatternString.values()) {
+            CompiledStringMatcher.Builder<String> builder = Pattern.compileMatch(patternString);
+            for (String literal : literals) {
+                builder.when(literal, v -> literal);
+            }
+            CompiledStringMatcher<String> matcher = builder.when((String) null, v -> "null").orElse(v -> "no match");
+            assertEquals(patternString, matcher.getPatternString());
+
+            for (String value : values) {
+                String expected = "no match";
+                for (String literal : literals) {
+                    String result = match(value, patternString).when(literal, v -> literal).orElse(v -> null);
+                    if (result != null) {
+                        expected = result;
+                        break;
+                    }
+                }
+                if (value == null) expected = "null";
+                assertEquals(expected, matcher.match(value), patternString + ": " + value);
+            }
+        }
+    }
+
+    @Test
+    public void testPrefix() {
+        CompiledStringMatcher<String> matcher = Pattern.<String>compileMatch(PREFIX)
+                .when("/api/v1/users/", v -> "users")
+                .when("/static/",       v -> "static")
+                .when("/api/",          v -> "api")
+                .when("/api/v1/",       v -> "v1")          // shadowed by "/api/"
+                .when(in("/a", "/b"),   v -> "a or b")
+                .orElse(                v -> "no match");
+
+        assertEquals("users", matcher.match("/api/v1/users/1001"));
+        assertEquals("api", matcher.match("/api/v1/orders/1001"));
+        assertEquals("static", matcher.match("/static/a.js"));
+        assertEquals("a or b", matcher.match("/admin"));
+        assertEquals("a or b", matcher.match("/b"));
+        assertEquals("no match", matcher.match("/c"));
+        assertEquals("no match", matcher.match(""));
+        assertNull(Pattern.<String>compileMatch(ICPREFIX).when("ABC", v -> "abc").build().match("aB"));
+        assertEquals("abc", Pattern.<String>compileMatch(ICPREFIX).when("ABC", v -> "abc").build().match("aBcD"));
+    }
+
+    @Test
+    public void testTrieAndAutomaton() {
+        Random random = new Random(20240101);
+        String chars = "abAB/";
+        List<String> literals = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            literals.add(randomString(random, chars, random.nextInt(6)));
+        }
+        for (PatternString patternString : Arrays.asList(PREFIX, ICPREFIX, SUFFIX, ICSUFFIX, CONTAIN, ICCONTAIN)) {
+            CompiledStringMatcher.Builder<Integer> builder = Pattern.compileMatch(patternString);
+            for (int i = 0; i < literals.size(); i++) {
+                int index = i;
+                builder.when(literals.get(i), v -> index);
+            }
+            CompiledStringMatcher<Integer> matcher = builder.build();
+            for (int i = 0; i < 2000; i++) {
+                String value = randomString(random, chars, random.nextInt(8));
+                Integer expected = null;
+                for (int j = 0; j < literals.size() && expected == null; j++) {
+                    int index = j;
+                    expected = match(value, patternString).when(literals.get(j), v -> index).orElse(v -> null);
+                }
+                assertEquals(expected, matcher.match(value), patternString + ": " + value);
+            }
+        }
+    }
+
+    @Test
+    public void testContainKeywords() {
+        CompiledStringMatcher.Builder<String> builder = Pattern.compileMatch(ICCONTAIN);
+        for (String keyword : Arrays.asList("he", "she", "his", "hers", "timeout", "refused", "OutOfMemory", "error", "warn")) {
+            builder.when(keyword, v -> keyword);
+        }
+        CompiledStringMatcher<String> matcher = builder.when(in("fatal", "panic"), v -> "fatal").orElse(v -> "info");
+
+        assertEquals("he", matcher.match("ushers"));                    // "she", "he" and "hers" all occur, "he" is the first case
+        assertEquals("his", matcher.match("this"));
+        assertEquals("he", matcher.match("HERS"));                      // ignore case
+        assertEquals("timeout", matcher.match("Read TIMEOUT after 30s, connection refused"));
+        assertEquals("refused", matcher.match("connection refused, error"));
+        assertEquals("fatal", matcher.match("kernel PANIC"));
+        assertEquals("info", matcher.match("all good"));
+        assertEquals("info", matcher.match(""));
+
+        CompiledStringMatcher.Builder<String> suffixBuilder = Pattern.compileMatch(SUFFIX);
+        for (String suffix : Arrays.asList(".tar.gz", ".gz", ".zip", ".jar", ".java", ".class", ".txt", ".log", ".md", ".json")) {
+            suffixBuilder.when(suffix, v -> suffix);
+        }
+        CompiledStringMatcher<String> suffixMatcher = suffixBuilder.build();
+        assertEquals(".tar.gz", suffixMatcher.match("a.tar.gz"));
+        assertEquals(".gz", suffixMatcher.match("a.gz"));
+        assertEquals(".java", suffixMatcher.match("A.java"));
+        assertNull(suffixMatcher.match("A.JAVA"));
+        assertNull(suffixMatcher.match("gz"));
+    }
+
+    @Test
+    public void testLargeAlphabetAutomaton() {
+        Random random = new Random(20240102);
+        StringBuilder cjk = new StringBuilder();
+        for (char c = 0x4E00; c < 0x9FA6; c++) {
+            cjk.append(c);
+        }
+        String narrowChars = cjk.substring(0, 200) + "aAbB";
+        // the dense table would be far above the cap: a wide alphabet, a narrow alphabet mixed with ASCII,
+        // and enough ASCII literals to exceed the cap with the ASCII classes only
+        String[][] cases = {{cjk.toString(), "500"}, {cjk.toString(), "2000"}, {narrowChars, "2000"}, {"abcdefghijklmnopqrstuvwxyz0123456789", "40000"}};
+        for (String[] c : cases) {
+            String chars = c[0];
+            List<String> literals = new ArrayList<>();
+            for (int i = 0, n = Integer.parseInt(c[1]); i < n; i++) {
+                literals.add(randomString(random, chars, 4 + random.nextInt(4)));
+            }
+            for (PatternString patternString : Arrays.asList(CONTAIN, ICCONTAIN)) {
+                CompiledStringMatcher.Builder<Integer> builder = Pattern.compileMatch(patternString);
+                for (int i = 0; i < literals.size(); i++) {
+                    int index = i;
+                    builder.when(literals.get(i), v -> index);
+                }
+                CompiledStringMatcher<Integer> matcher = builder.build();
+                for (int i = 0; i < 200; i++) {
+                    String value = randomString(random, chars, random.nextInt(20));
+                    if (i % 2 == 0) {
+                        String literal = literals.get(random.nextInt(literals.size()));
+                        int at = random.nextInt(value.length() + 1);
+                        value = value.substring(0, at) + literal + value.substring(at);
+                    }
+                    Integer expected = null;
+                    for (int j = 0; j < literals.size() && expected == null; j++) {
+                        if (patternString == CONTAIN ? value.contains(literals.get(j)) : value.toUpperCase().contains(literals.get(j).toUpperCase())) {
+                            expected = j;
+                        }
+                    }
+                    assertEquals(expected, matcher.match(value), patternString + ": " + value);
+                }
+            }
+        }
+    }
+
+    private static String randomString(Random random, String chars, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
+
+}
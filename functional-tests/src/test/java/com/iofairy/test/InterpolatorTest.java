@@ -4,6 +4,7 @@ import com.iofairy.except.UndefinedVariableException;
 import com.iofairy.except.UnexpectedParameterException;
 import com.iofairy.except.UnexpectedTypeException;
 import com.iofairy.si.SI;
+import com.iofairy.si.SITemplate;
 import com.iofairy.si.StringExtractor;
 import com.iofairy.si.StringToken;
 import com.iofairy.tcf.Try;
@@ -822,6 +823,38 @@ public class InterpolatorTest {
         assertEquals(result, "ip: 127.0.0.1---create_time1: null---create_time2: 2025/08/15T20:30:01.000 [+00:00] ---port: ${port}---create_time3: 2025/08/02T10:05:01.000");
     }
 
+    @Test
+    public void testCompile() {
+        String tpl = "ip: ${ip}---create_time1: ${create_time:~ yyyy/MM/dd'T'HH:mm:ss.SSS}---create_time2: ${create_time: 20250802100501:~ yyyy/MM/dd'T'HH:mm:ss.SSS '['xxx']'} ---port: ${port}---create_time3: ${create_time: 2025/08/2 10:05:01:~ yyyy/MM/dd'T'HH:mm:ss.SSS}";
+        SITemplate template = SI.compile(tpl);
+        assertSame(template, SI.compile(tpl));
+        assertEquals(5, template.getVariableCount());
+        assertEquals(SI.$(tpl, "127.0.0.1", null, "2025-08-15 20:30:01 [+00:00]"), template.render("127.0.0.1", null, "2025-08-15 20:30:01 [+00:00]"));
+        assertEquals("ip: 127.0.0.1---create_time1: null---create_time2: 2025/08/15T20:30:01.000 [+00:00] ---port: ${port}---create_time3: 2025/08/02T10:05:01.000",
+                template.render("127.0.0.1", null, "2025-08-15 20:30:01 [+00:00]"));
+
+        Map<String, Object> valueMap = new HashMap<>();
+        valueMap.put("ip", "127.0.0.1");
+        valueMap.put("create_time", "2025/08/2 10:05:01");
+        assertEquals(SI.of(valueMap).$(tpl), template.render(valueMap));
+
+        StringBuilder sb = new StringBuilder("> ");
+        assertSame(sb, SI.compile("${a}-${b: 2}-${}{c}").renderTo(sb, "1"));
+        assertEquals("> 1-2-${c}", sb.toString());
+        sb.setLength(0);
+        SI.compile("${a}-${b: 2}").renderTo(sb, Tuple.of(3, 4).alias("a", "b").toMap());
+        assertEquals("3-4", sb.toString());
+
+        // invalid pattern throws exception only when it is used
+        SITemplate invalidPattern = SI.compile("${a}---${b:~ yyyy-MM-dd invalid}");
+        assertEquals("1---${b:~ yyyy-MM-dd invalid}", invalidPattern.render(1));
+        assertThrows(IllegalArgumentException.class, () -> invalidPattern.render(1, "2025-01-01"));
+
+        assertThrows(UndefinedVariableException.class, () -> SI.of("a", 1).setEnableUndefinedVariableException(true).$("${a}---${b}"));
+        assertThrows(NullPointerException.class, () -> SI.compile(null));
+        assertEquals("", SI.compile("").render());
+    }
+
     private void throwException() {
         throw new RuntimeException();
     }
@@ -8,6 +8,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -117,6 +121,51 @@ public class LambdaFunctionalTest {
     }
 
 
+    @Test
+    public void testPrimitiveLambdas() {
+        LongToLongR2 sum = (l1, l2) -> l1 + l2;
+        long total = 0;
+        for (long i = 1; i <= 100; i++) total = sum.$(total, i);
+        assertEquals(5050, total);
+        assertEquals(15, LongStream.rangeClosed(1, 5).reduce(0, sum.toJava()));
+
+        IntR1<String> intR1 = IntR1.from(Integer::toBinaryString);
+        assertEquals("101", intR1.$(5));
+        assertEquals("11", intR1.toJava().apply(3));
+        DoubleP1 positive = d -> d > 0;
+        assertTrue(positive.$(0.1));
+        assertEquals(2, DoubleStream.of(-1, 1, 2).filter(positive.toJava()).count());
+        ToIntR1<String> length = String::length;
+        assertEquals(4, length.$("abcd"));
+        ObjIntR2<String, Character> charAt = String::charAt;
+        assertEquals('c', charAt.$("abcd", 2));
+
+        StringBuilder sb = new StringBuilder();
+        IntV1 append = sb::append;
+        IntStream.range(0, 3).forEach(append.toJava());
+        ObjLongV2<StringBuilder> appendLong = StringBuilder::append;
+        appendLong.toJava().accept(sb, 9L);
+        assertEquals("0129", sb.toString());
+
+        assertEquals(1, append.arity());
+        assertTrue(append.isVoid());
+        assertFalse(append.hasThrows());
+        assertEquals(2, charAt.arity());
+        assertEquals(0, ToIntR0.from(() -> 1).arity());
+
+        // 抛出异常的版本，转成 java.util.function 后异常被静静地抛出
+        IntRT1<String, IOException> intRT1 = i -> {
+            if (i < 0) throw new IOException("negative: " + i);
+            return String.valueOf(i);
+        };
+        assertTrue(intRT1.hasThrows());
+        IntFunction<String> intFunction = intRT1.toJava();
+        assertEquals("1", intFunction.apply(1));
+        assertThrows(IOException.class, () -> intFunction.apply(-1));
+        LongPT1<Exception> longPT1 = l -> l > 0;
+        assertTrue(longPT1.toJava().test(1));
+    }
+
     // 当一个函数需要接收一个 `两个参数无返回值的函数接口` 时，可以使用现有的 V2<T1, T2>，而不用重新构造一个接口
     private int v2AsParams(V2<String, String> v2) {
         v2.$("abcd", "1234");
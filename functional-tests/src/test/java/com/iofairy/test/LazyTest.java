@@ -0,0 +1,133 @@
+package com.iofairy.test;
+
+import com.iofairy.lambda.Lazy;
+import com.iofairy.lambda.LazyT;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class LazyTest {
+
+    @Test
+    public void testLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Pattern> pattern = Lazy.of(() -> {
+            calls.incrementAndGet();
+            return Pattern.compile("\\d+");
+        });
+        assertFalse(pattern.isInitialized());
+        assertEquals("Lazy[not initialized]", pattern.toString());
+
+        Lazy<Boolean> matches = pattern.map(p -> p.matcher("123").matches());
+        Lazy<String> flatMapped = pattern.flatMap(p -> Lazy.of(p::pattern));
+        assertEquals(0, calls.get());       // map/flatMap stay lazy
+
+        assertTrue(matches.get());
+        assertEquals("\\d+", flatMapped.$());
+        assertSame(pattern.get(), pattern.get());
+        assertEquals(1, calls.get());
+        assertTrue(pattern.isInitialized());
+        assertEquals("Lazy[\\d+]", pattern.toString());
+
+        Lazy<String> nullValue = Lazy.of(() -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assertNull(nullValue.get());
+        assertNull(nullValue.get());
+        assertEquals(2, calls.get());
+        assertEquals("abc", Lazy.value("abc").get());
+
+        // unchecked exception is not cached
+        AtomicInteger failures = new AtomicInteger();
+        Lazy<Integer> failOnce = Lazy.of(() -> {
+            if (failures.getAndIncrement() == 0) throw new IllegalStateException("first call");
+            return 1;
+        });
+        assertThrows(IllegalStateException.class, failOnce::get);
+        assertEquals(1, failOnce.get());
+        assertThrows(NullPointerException.class, () -> Lazy.of(null));
+    }
+
+    @Test
+    public void testLazyT() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyT<String, IOException> retry = LazyT.of(() -> {
+            if (calls.incrementAndGet() == 1) throw new IOException("first call");
+            return "config";
+        });
+        assertFalse(retry.isCacheFailure());
+        assertThrows(IOException.class, retry::get);
+        assertFalse(retry.isInitialized());
+        assertEquals("config", retry.get());
+        assertEquals("config", retry.get());
+        assertEquals(2, calls.get());
+
+        calls.set(0);
+        LazyT<String, IOException> cached = LazyT.of(() -> {
+            calls.incrementAndGet();
+            throw new IOException("broken config");
+        }, true);
+        LazyT<Integer, IOException> length = cached.map(String::length);
+        IOException e1 = assertThrows(IOException.class, cached::get);
+        IOException e2 = assertThrows(IOException.class, cached::get);
+        assertSame(e1, e2);
+        assertThrows(IOException.class, length::get);
+        assertEquals(1, calls.get());
+        assertTrue(cached.isInitialized());
+        assertTrue(cached.toString().startsWith("LazyT[failure="));
+
+        LazyT<Integer, IOException> flatMapped = LazyT.<String, IOException>of(() -> "abc").flatMap(s -> LazyT.of(s::length));
+        assertEquals(3, flatMapped.get());
+    }
+
+    @Test
+    public void testMultiThreads() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.of(() -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Object();
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        List<Object> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                Object value = lazy.get();
+                synchronized (results) {
+                    results.add(value);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(1, calls.get());
+        assertEquals(8, results.size());
+        assertEquals(1, results.stream().distinct().count());
+    }
+
+}
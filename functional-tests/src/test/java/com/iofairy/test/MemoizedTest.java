@@ -0,0 +1,198 @@
+package com.iofairy.test;
+
+import com.iofairy.lambda.*;
+import com.iofairy.tuple.Tuple;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class MemoizedTest {
+
+    @Test
+    public void testMemoize() {
+        AtomicInteger calls = new AtomicInteger();
+        R2<String, Integer, String> repeat = (s, n) -> {
+            calls.incrementAndGet();
+            return s == null ? null : new String(new char[n]).replace("\0", s);
+        };
+        MemoizedR2<String, Integer, String> memoized = repeat.memoize();
+        assertEquals("abab", memoized.$("ab", 2));
+        assertEquals("abab", memoized.$("ab", 2));
+        assertEquals("ababab", memoized.$("ab", 3));
+        assertNull(memoized.$(null, 3));
+        assertNull(memoized.$(null, 3));       // null arguments and null results are cached
+        assertEquals(3, calls.get());
+        assertEquals(2, memoized.hitCount());
+        assertEquals(3, memoized.missCount());
+        assertEquals(0.4, memoized.hitRate(), 0.0001);
+        assertEquals(3, memoized.size());
+        System.out.println(memoized);
+
+        memoized.clear();
+        assertEquals("abab", memoized.$("ab", 2));
+        assertEquals(4, calls.get());
+
+        R1<String, Integer> length = String::length;
+        MemoizedR1<String, Integer> memoizedLength = length.memoizeConcurrent();
+        assertEquals(4, memoizedLength.$("abcd"));
+        assertEquals(4, memoizedLength.$("abcd"));
+        assertEquals(1, memoizedLength.hitCount());
+
+        R0<Integer> r0 = calls::incrementAndGet;
+        MemoizedR0<Integer> memoizedR0 = r0.memoize();
+        assertEquals(memoizedR0.$(), memoizedR0.$());
+
+        assertEquals(Tuple.of("a", 1, null).hashCode(), Tuple.of("a", 1, null).hashCode());
+        assertThrows(IllegalArgumentException.class, () -> repeat.memoize(0));
+        assertThrows(NullPointerException.class, () -> repeat.memoize(null));
+    }
+
+    @Test
+    public void testBoundedAndTtl() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        R1<Integer, Integer> square = i -> {
+            calls.incrementAndGet();
+            return i * i;
+        };
+        MemoizedR1<Integer, Integer> bounded = square.memoize(10);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * i, bounded.$(i));
+        }
+        assertTrue(bounded.size() <= 10);
+        assertEquals(90, bounded.evictionCount());
+        assertEquals(100, bounded.missCount());
+
+        calls.set(0);
+        MemoizedR1<Integer, Integer> expiring = square.memoize(Duration.ofMillis(50));
+        assertEquals(4, expiring.$(2));
+        assertEquals(4, expiring.$(2));
+        assertEquals(1, calls.get());
+        Thread.sleep(80);
+        assertEquals(4, expiring.$(2));
+        assertEquals(2, calls.get());
+        assertEquals(1, expiring.evictionCount());
+
+        MemoizedR1<Integer, Integer> boundedExpiring = square.memoize(1, Duration.ofMinutes(1));
+        boundedExpiring.$(1);
+        boundedExpiring.$(2);
+        assertEquals(1, boundedExpiring.size());
+    }
+
+    @Test
+    public void testException() {
+        AtomicInteger calls = new AtomicInteger();
+        RT1<String, Integer, IOException> parse = s -> {
+            calls.incrementAndGet();
+            if (s.isEmpty()) throw new IOException("empty");
+            return Integer.parseInt(s);
+        };
+        MemoizedRT1<String, Integer, IOException> memoized = parse.memoize();
+        assertThrows(IOException.class, () -> memoized.$(""));
+        assertThrows(IOException.class, () -> memoized.$(""));      // exceptions are not cached
+        assertEquals(2, calls.get());
+        assertThrows(NumberFormatException.class, () -> memoized.$("a"));
+        assertEquals(0, memoized.size());
+        assertDoesNotThrow(() -> assertEquals(10, memoized.$("10")));
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        R2<String, Integer, String> slow = (s, i) -> {
+            calls.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return s + i;
+        };
+        for (MemoizedR2<String, Integer, String> memoized : new MemoizedR2[]{slow.memoize(), slow.memoizeConcurrent(), slow.memoize(16)}) {
+            calls.set(0);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            Future<?>[] futures = new Future[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    return memoized.$("a", 1);
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                assertEquals("a1", future.get());
+            }
+            executor.shutdown();
+            assertEquals(1, calls.get());
+            assertEquals(1, memoized.missCount());
+            assertEquals(7, memoized.hitCount());
+        }
+    }
+
+    @Test
+    public void testSingleFlightBounded() throws Exception {
+        // two hot keys in a cache of one: the in-flight entry of one key must not be evicted by the other
+        AtomicInteger[] running = {new AtomicInteger(), new AtomicInteger()};
+        AtomicInteger overlaps = new AtomicInteger();
+        R1<Integer, Integer> slow = i -> {
+            if (running[i].incrementAndGet() > 1) overlaps.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running[i].decrementAndGet();
+            }
+            return i * 10;
+        };
+        MemoizedR1<Integer, Integer> memoized = slow.memoize(1);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Future<?>[] futures = new Future[8];
+        for (int t = 0; t < futures.length; t++) {
+            int key = t % 2;
+            futures[t] = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    assertEquals(key * 10, memoized.$(key));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertEquals(0, overlaps.get());
+        assertTrue(memoized.size() <= 1);
+        assertEquals(1600, memoized.hitCount() + memoized.missCount());
+    }
+
+    @Test
+    public void testRecursive() {
+        R1<Integer, Long>[] fib = new R1[1];
+        R1<Integer, Long> function = n -> n < 2 ? n : fib[0].$(n - 1) + fib[0].$(n - 2);
+        fib[0] = function.memoizeConcurrent();
+        assertEquals(12586269025L, fib[0].$(50));
+
+        R1<Integer, Integer>[] self = new R1[1];
+        R1<Integer, Integer> sameKey = n -> self[0].$(n);
+        self[0] = sameKey.memoize();
+        assertThrows(IllegalStateException.class, () -> self[0].$(1));
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.iofairy.test;
+
+import com.iofairy.id.MonotonicID;
+import com.iofairy.id.TimedID;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class MonotonicIDTest {
+
+    @Test
+    public void testMonotonicId() {
+        TimedID timedID = TimedID.newBuilder().withWorkerNum(308915775).withWorkerIdLength(6).withStartInstant("2024-01-01 00:00:00.000").build();
+        long before = System.currentTimeMillis() - timedID.startInstant.toEpochMilli();
+        MonotonicID previous = timedID.monotonicId();
+        long after = System.currentTimeMillis() - timedID.startInstant.toEpochMilli();
+        assertTrue(previous.getTimestamp() >= before && previous.getTimestamp() <= after, previous.toString());
+        assertEquals(308915775, previous.getWorkerNum());
+        assertTrue(previous.getSequence() < (1L << 47));
+
+        for (int i = 0; i < 100000; i++) {
+            MonotonicID id = timedID.monotonicId();
+            assertTrue(id.compareTo(previous) > 0);
+            assertTrue(id.toString().compareTo(previous.toString()) > 0);
+            if (id.getTimestamp() == previous.getTimestamp()) {
+                assertEquals(previous.getSequence() + 1, id.getSequence());
+            }
+            previous = id;
+        }
+
+        byte[] bytes = new byte[20];
+        timedID.monotonicId(bytes, 4);
+        MonotonicID fromBytes = MonotonicID.of(Arrays.copyOfRange(bytes, 4, 20));
+        assertTrue(fromBytes.compareTo(previous) > 0);
+        assertThrows(IllegalArgumentException.class, () -> timedID.monotonicId(bytes, 5));
+    }
+
+    @Test
+    public void testMultiThreads() throws InterruptedException {
+        TimedID timedID = TimedID.newBuilder().withWorkerNum(1).build();
+        List<List<MonotonicID>> results = new ArrayList<>();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            List<MonotonicID> ids = new ArrayList<>();
+            results.add(ids);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 25000; j++) {
+                    ids.add(timedID.monotonicId());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<MonotonicID> all = new ArrayList<>();
+        for (List<MonotonicID> ids : results) {
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);     // monotonic per thread
+            }
+            all.addAll(ids);
+        }
+        assertEquals(100000, all.stream().distinct().count());
+    }
+
+    @Test
+    public void testMonotonicIds() {
+        TimedID timedID = TimedID.newBuilder().withWorkerNum(2).build();
+        MonotonicID first = timedID.monotonicId();
+        MonotonicID[] ids = timedID.monotonicIds(10000);
+        MonotonicID previous = first;
+        for (MonotonicID id : ids) {
+            assertTrue(id.compareTo(previous) > 0);
+            assertEquals(2, id.getWorkerNum());
+            previous = id;
+        }
+        assertTrue(timedID.monotonicId().compareTo(previous) > 0);
+        assertEquals(0, timedID.monotonicIds(0).length);
+    }
+
+    @Test
+    public void testEncoding() {
+        MonotonicID id = MonotonicID.of(0x0123456789ABCDEFL, 0xFEDCBA9876543210L);
+        assertEquals("014D2PF2DBSQQZXQ5TK1V58CGG", id.toString());
+        assertEquals(MonotonicID.STRING_LENGTH, id.toString().length());
+        assertEquals(id, MonotonicID.parse("014D2PF2DBSQQZXQ5TK1V58CGG"));
+        assertEquals(id, MonotonicID.parse("014d2pf2dbsqqzxq5tk1v58cgg"));
+        assertEquals(id, MonotonicID.of(id.toBytes()));
+        assertArrayEquals(new byte[]{0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF,
+                (byte) 0xFE, (byte) 0xDC, (byte) 0xBA, (byte) 0x98, 0x76, 0x54, 0x32, 0x10}, id.toBytes());
+
+        MonotonicID max = MonotonicID.of(-1L, -1L);
+        assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", max.toString());
+        assertEquals(max, MonotonicID.parse(max.toString()));
+        assertEquals("00000000000000000000000000", MonotonicID.of(0, 0).toString());
+        assertEquals(MonotonicID.parse("00000000000000000000000001"), MonotonicID.parse("OOOOOOOOOOOOOOOOOOOOOOOOOI"));
+
+        // unsigned order, same as the string order
+        List<MonotonicID> ids = new ArrayList<>(Arrays.asList(max, MonotonicID.of(0, 1), MonotonicID.of(Long.MAX_VALUE, 0), MonotonicID.of(Long.MIN_VALUE, 0), MonotonicID.of(0, -1L)));
+        Collections.sort(ids);
+        List<String> strings = new ArrayList<>();
+        ids.forEach(e -> strings.add(e.toString()));
+        List<String> sortedStrings = new ArrayList<>(strings);
+        Collections.sort(sortedStrings);
+        assertEquals(sortedStrings, strings);
+        assertEquals(max, ids.get(4));
+
+        assertThrows(IllegalArgumentException.class, () -> MonotonicID.parse("8ZZZZZZZZZZZZZZZZZZZZZZZZZ"));
+        assertThrows(IllegalArgumentException.class, () -> MonotonicID.parse("0ZZZZZZZZZZZZZZZZZZZZZZZZU"));
+        assertThrows(IllegalArgumentException.class, () -> MonotonicID.parse("0ZZZ"));
+        assertThrows(IllegalArgumentException.class, () -> MonotonicID.of(new byte[15]));
+        assertThrows(NullPointerException.class, () -> MonotonicID.parse(null));
+
+        TimedID timedID = TimedID.newBuilder().withStartInstant(Instant.EPOCH).build();
+        MonotonicID monotonicId = timedID.monotonicId();
+        assertEquals(monotonicId, MonotonicID.parse(monotonicId.toString()));
+        assertEquals(0, monotonicId.getWorkerNum());
+    }
+
+}
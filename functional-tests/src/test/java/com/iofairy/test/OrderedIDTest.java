@@ -1,7 +1,10 @@
 package com.iofairy.test;
 
 import com.iofairy.except.IDGenerateException;
+import com.iofairy.except.OutOfBoundsException;
+import com.iofairy.id.IDBlock;
 import com.iofairy.id.OrderedID;
+import com.iofairy.id.OrderedIDStore;
 import com.iofairy.lambda.RT1;
 import com.iofairy.time.Stopwatch;
 import com.iofairy.tcf.Try;
@@ -11,11 +14,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author GG
@@ -95,6 +101,155 @@ public class OrderedIDTest {
         assertEquals(51L, id);
     }
 
+    @Order(5)
+    @Test
+    public void testReserve() throws InterruptedException {
+        IDBlock block = OrderedID.reserve("RESERVE-202501", 100);
+        assertEquals("[0, 99]", block.toString());
+        assertEquals(100, block.size());
+        assertEquals(10, block.get(10));
+        assertTrue(block.contains(99));
+        assertFalse(block.contains(100));
+        assertThrows(OutOfBoundsException.class, () -> block.get(100));
+        assertEquals(100, OrderedID.nextId("RESERVE-202501"));
+        assertArrayEquals(new long[]{101, 102, 103}, OrderedID.nextIds("RESERVE-202501", 3));
+        assertEquals(IDBlock.of(51, 10), OrderedID.reserve("RESERVE-202502", 10, key -> 50L));
+        assertThrows(IllegalArgumentException.class, () -> OrderedID.reserve("RESERVE-202501", 0));
+
+        Set<Long> ids = new ConcurrentSkipListSet<>();
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    if (j % 2 == 0) {
+                        OrderedID.reserve("RESERVE-202503", 10).forEach(ids::add);
+                    } else {
+                        ids.add(OrderedID.nextId("RESERVE-202503"));
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8 * 50 * 11, ids.size());
+        assertEquals(8 * 50 * 11 - 1, OrderedID.allMaxIds().get("RESERVE-202503"));
+    }
+
+    @Order(6)
+    @Test
+    public void testLeasedId() throws InterruptedException {
+        assertEquals(1024, OrderedID.getLeaseSize());
+        assertEquals(0, OrderedID.nextLeasedId("LEASED-202501"));
+        assertEquals(1, OrderedID.nextLeasedId("LEASED-202501"));
+        assertEquals(1023, OrderedID.allMaxIds().get("LEASED-202501"));
+        assertEquals(1024, OrderedID.nextId("LEASED-202501"));        // strict IDs continue after the lease
+        assertEquals(2, OrderedID.nextLeasedId("LEASED-202501"));
+        assertEquals(11, OrderedID.nextLeasedId("LEASED-202502", key -> 10L));
+        assertThrows(IllegalArgumentException.class, () -> OrderedID.setLeaseSize(0));
+
+        OrderedID.setLeaseSize(100);
+        try {
+            Set<Long> ids = new ConcurrentSkipListSet<>();
+            Thread[] threads = new Thread[8];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    long previous = -1;
+                    for (int j = 0; j < 1050; j++) {
+                        long id = OrderedID.nextLeasedId("LEASED-202503");
+                        assertTrue(id > previous);      // increasing within a thread
+                        previous = id;
+                        ids.add(id);
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(8 * 1050, ids.size());
+            assertEquals(8 * 1100 - 1, OrderedID.allMaxIds().get("LEASED-202503"));     // 11 leases per thread
+        } finally {
+            OrderedID.setLeaseSize(1024);
+        }
+    }
+
+    @Order(7)
+    @Test
+    public void testStore() throws IOException {
+        Path file = Files.createTempDirectory("ordered-id").resolve("ids.hwm");
+        OrderedIDStore store = OrderedIDStore.open(file, 100);
+        assertThrows(IllegalStateException.class, () -> OrderedIDStore.open(file, 100));
+        OrderedID.setStore(store);
+        try {
+            for (int i = 0; i < 250; i++) {
+                assertEquals(i, OrderedID.nextId("STORE-202501"));
+            }
+            assertEquals(IDBlock.of(250, 500), OrderedID.reserve("STORE-202501", 500));
+            assertEquals(1000, OrderedID.nextId("STORE-202502", key -> 999L));
+            // reserved: 0 + 100, 100 + 100, 200 + 100, 749 + 100
+            assertEquals(849L, store.reservedIds().get("STORE-202501"));
+            assertEquals(1100L, store.reservedIds().get("STORE-202502"));
+        } finally {
+            OrderedID.setStore(null);
+            store.close();
+        }
+        assertThrows(IDGenerateException.class, () -> {
+            OrderedID.setStore(store);
+            try {
+                OrderedID.nextIds("STORE-202501", 200);
+            } finally {
+                OrderedID.setStore(null);
+            }
+        });
+
+        // restart: resume above the last reserved block, and the file is compacted to one record per category
+        Map<String, Long> reservedIds;
+        try (OrderedIDStore reopened = OrderedIDStore.open(file)) {
+            assertEquals(1024, reopened.getBlockSize());
+            reservedIds = reopened.reservedIds();
+            assertEquals(849L, reservedIds.get("STORE-202501"));
+            assertEquals(1100L, reservedIds.get("STORE-202502"));
+        }
+        int size = reservedIds.keySet().stream().mapToInt(k -> 17 + k.getBytes(StandardCharsets.UTF_8).length).sum();
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(0, bytes[size]);   // end of records
+
+        // torn record at the tail
+        bytes[size - 1]++;
+        Files.write(file, bytes);
+        try (OrderedIDStore reopened = OrderedIDStore.open(file)) {
+            assertEquals(reservedIds.size() - 1, reopened.reservedIds().size());
+        }
+    }
+
+
+    @Order(8)
+    @Test
+    public void testStoreAfterCompaction() throws IOException {
+        Path file = Files.createTempDirectory("ordered-id").resolve("ids.hwm");
+        long expected = -1;
+        // every open compacts the file, the reservations after that must survive the next open
+        for (int round = 0; round < 3; round++) {
+            try (OrderedIDStore store = OrderedIDStore.open(file, 10)) {
+                if (round > 0) assertEquals(expected, store.reservedIds().get("COMPACT"));
+                OrderedID.setStore(store);
+                try {
+                    long last = -1;
+                    for (int i = 0; i < 25; i++) {
+                        last = OrderedID.nextId("COMPACT");
+                    }
+                    assertTrue(last < store.reservedIds().get("COMPACT"));
+                    expected = store.reservedIds().get("COMPACT");
+                } finally {
+                    OrderedID.setStore(null);
+                }
+            }
+            assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+        }
+    }
+
 
     private void throwException() {
         throw new RuntimeException();
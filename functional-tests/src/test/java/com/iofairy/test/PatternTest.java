@@ -2,10 +2,15 @@ package com.iofairy.test;
 
 import com.iofairy.lambda.R1;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.matcher.StringRMatcher;
+import com.iofairy.pattern.matcher.TypeRMatcher;
+import com.iofairy.pattern.matcher.ValueRMatcher;
+import com.iofairy.pattern.matcher.ValueVMatcher;
 import com.iofairy.tuple.*;
 import com.iofairy.top.G;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import static com.iofairy.pattern.Pattern.*;
@@ -257,6 +262,39 @@ public class PatternTest {
         assertEquals(2, ifResult);
     }
 
+    @Test
+    public void testPatternInstanceOf() {
+        Object o = Tuple.of("zs", 20);
+
+        // `INSTANCEOF` also matches subclasses and implementations
+        Integer result = match(o, INSTANCEOF)
+                .when(Integer.class,        v -> v + 10)
+                .when(CharSequence.class,   v -> v.length())
+                .when(Tuple.class,          v -> v.arity())
+                .when(Tuple2.class,         v -> -1)
+                .orElse(v -> 40);
+        assertEquals(2, result);
+
+        Integer typeResult = match(o, TYPE)
+                .when(Integer.class,    v -> v + 10)
+                .when(Tuple.class,      v -> v.arity())
+                .orElse(v -> 40);
+        assertEquals(40, typeResult);
+
+        StringBuilder sb = new StringBuilder();
+        match((Object) "abc", INSTANCEOF)
+                .when(Number.class,         v -> { sb.append("number"); })
+                .when(CharSequence.class,   v -> { sb.append("chars: ").append(v); })
+                .orElse(v -> { sb.append("other"); });
+        assertEquals("chars: abc", sb.toString());
+
+        Integer nullResult = match(null, INSTANCEOF)
+                .when(Object.class, v -> 1)
+                .when(null,         v -> 0)
+                .orElse(v -> 40);
+        assertEquals(0, nullResult);
+    }
+
     @Test
     public void testStringValue1() {
         String str = "aBcdE123.$fGHIj";
@@ -530,6 +568,51 @@ public class PatternTest {
                 .orElse(v -> System.out.println("not match"));
     }
 
+    @Test
+    public void testReusableMatch() {
+        PatternIn<String> threeToSix = in("3", "4", "5", "6");
+        ValueRMatcher<String, String> valueMatcher = reusableMatch();
+        for (String s : Arrays.asList("1", "5", "7", null, "2", "1")) {
+            String expected = match(s)
+                    .when("1",          v -> v + v)
+                    .when("2",          v -> v + "a")
+                    .when(threeToSix,   v -> v + " - abcd")
+                    .orElse(            v -> "no match");
+            String result = valueMatcher.reset(s)
+                    .when("1",          v -> v + v)
+                    .when("2",          v -> v + "a")
+                    .when(threeToSix,   v -> v + " - abcd")
+                    .orElse(            v -> "no match");
+            assertEquals(expected, result);
+        }
+        // the previous match must not leak into the next value
+        assertEquals("11", valueMatcher.reset("1").when("1", v -> v + v).orElse(v -> null));
+        assertNull(valueMatcher.reset("2").when("1", v -> v + v).orElse(v -> null));
+
+        TypeRMatcher<Object, String> typeMatcher = reusableMatch(INSTANCEOF);
+        assertEquals("chars", typeMatcher.reset("abc").when(Integer.class, v -> "integer").when(CharSequence.class, v -> "chars").orElse(v -> "other"));
+        assertEquals("integer", typeMatcher.reset(1).when(Integer.class, v -> "integer").when(CharSequence.class, v -> "chars").orElse(v -> "other"));
+        assertEquals("other", typeMatcher.reset(1L).when(Integer.class, v -> "integer").when(CharSequence.class, v -> "chars").orElse(v -> "other"));
+        assertEquals("null", typeMatcher.reset(null).when(null, v -> "null").orElse(v -> "other"));
+
+        // created with a null value, ignore case must still apply to the values bound later
+        StringRMatcher<String> stringMatcher = reusableMatch(ICPREFIX);
+        assertEquals("null", stringMatcher.reset(null).when((String) null, v -> "null").when("abc", v -> "abc").orElse(v -> "no match"));
+        assertEquals("abc", stringMatcher.reset("aBcD").when((String) null, v -> "null").when("abc", v -> "abc").orElse(v -> "no match"));
+        assertEquals("no match", stringMatcher.reset("xAbc").when((String) null, v -> "null").when("abc", v -> "abc").orElse(v -> "no match"));
+        assertEquals("ab", stringMatcher.reset("ABC").whenNext(in("x", "AB"), v -> "x or ab").when(in("ab"), v -> "ab").orElse(v -> "no match"));
+
+        StringBuilder sb = new StringBuilder();
+        ValueVMatcher<Integer> voidMatcher = new ValueVMatcher<>(null);
+        for (int i = 0; i < 4; i++) {
+            voidMatcher.reset(i)
+                    .when(1, v -> { sb.append("one,"); })
+                    .when(in(2, 3), v -> { sb.append("two or three,"); })
+                    .orElse(v -> { sb.append("other,"); });
+        }
+        assertEquals("other,one,two or three,two or three,", sb.toString());
+    }
+
     @Test
     public void testCovariance() {
         R1<String, Number> snR1 = s -> s.length();
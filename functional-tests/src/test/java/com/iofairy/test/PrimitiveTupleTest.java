@@ -0,0 +1,113 @@
+package com.iofairy.test;
+
+import com.iofairy.except.AliasNotSetException;
+import com.iofairy.tuple.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.iofairy.test.MyTupleAlias.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class PrimitiveTupleTest {
+
+    @Test
+    public void testElements() {
+        IntTuple2 point = IntTuple2.of(3, 4);
+        assertEquals(3, point._1);
+        assertEquals(4, point._2);
+        assertEquals(2, point.arity());
+        assertEquals(Integer.valueOf(3), point.element(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> point.element(2));
+        assertEquals("(3, 4)", point.toString());
+
+        LongDoubleTuple2 score = LongDoubleTuple2.of(10000000001L, 98.5);
+        assertEquals(10000000001L, (long) score.element(0));
+        assertEquals(98.5, (double) score.element(1));
+        assertEquals(Long.valueOf(-1L), LongTuple2.of(-1L, 2L).element(0));
+
+        IntObjTuple2<String> indexed = IntObjTuple2.of(7, "abc");
+        String value = indexed.element(1);
+        assertEquals("abc", value);
+        assertEquals("(7, \"abc\")", indexed.toString());
+        assertEquals("(0, null)", IntObjTuple2.of(0, null).toString());
+    }
+
+    @Test
+    public void testAlias() {
+        LongDoubleTuple2 score = LongDoubleTuple2.of(1L, 0.5).alias("id", "score");
+        assertEquals(0.5, (double) score.__("score"));
+        assertEquals("(id: 1, score: 0.5)", score.toString());
+        Map<String, Object> map = score.toMap();
+        assertEquals(1L, map.get("id"));
+        assertEquals(0.5, map.get("score"));
+        assertSame(score.getAliases(), LongDoubleTuple2.of(2L, 1.5).alias("id", "score").getAliases());
+
+        IntObjTuple2<String> user = IntObjTuple2.of(1, "Tom").alias(ID, NAME);
+        String name = user.__(NAME);
+        assertEquals("Tom", name);
+        assertEquals("tuple", user.aliasType());
+        assertThrows(AliasNotSetException.class, () -> IntTuple2.of(1, 2).__("x"));
+
+        IntTuple2 copy = IntTuple2.of(1, 2).alias("x", "y").copy();
+        assertEquals("(x: 1, y: 2)", copy.toString());
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        assertEquals(IntTuple2.of(1, 2), IntTuple2.of(1, 2));
+        assertNotEquals(IntTuple2.of(1, 2), IntTuple2.of(2, 1));
+        assertNotEquals(IntTuple2.of(1, 2), IntTuple2.of(1, 2).alias("x", "y"));
+        assertEquals(IntTuple2.of(1, 2).alias("x", "y"), IntTuple2.of(1, 2).alias("x", "y"));
+        assertEquals(IntObjTuple2.of(1, null), IntObjTuple2.of(1, null));
+        assertNotEquals(IntObjTuple2.of(1, "a"), IntObjTuple2.of(1, null));
+
+        // same as the boxed tuple, in both directions
+        assertEquals(Tuple.of(1, 2), IntTuple2.of(1, 2));
+        assertEquals(IntTuple2.of(1, 2), Tuple.of(1, 2));
+        assertEquals(Tuple.of(1, 2).hashCode(), IntTuple2.of(1, 2).hashCode());
+        assertEquals(Tuple.of(5L, -3L).hashCode(), LongTuple2.of(5L, -3L).hashCode());
+        assertEquals(Tuple.of(5L, 0.25).hashCode(), LongDoubleTuple2.of(5L, 0.25).hashCode());
+        assertEquals(Tuple.of(5, "x").hashCode(), IntObjTuple2.of(5, "x").hashCode());
+        assertNotEquals(Tuple.of(1L, 2L), IntTuple2.of(1, 2));          // Long is not Integer
+
+        // Double.equals semantics
+        assertEquals(LongDoubleTuple2.of(1L, Double.NaN), LongDoubleTuple2.of(1L, Double.NaN));
+        assertNotEquals(LongDoubleTuple2.of(1L, 0.0), LongDoubleTuple2.of(1L, -0.0));
+        assertEquals(Tuple.of(1L, -0.0).equals(Tuple.of(1L, 0.0)), LongDoubleTuple2.of(1L, -0.0).equals(LongDoubleTuple2.of(1L, 0.0)));
+
+        Set<Tuple> set = new HashSet<>();
+        set.add(IntTuple2.of(1, 2));
+        assertTrue(set.contains(Tuple.of(1, 2)));
+        Map<LongTuple2, String> edges = new HashMap<>();
+        edges.put(LongTuple2.of(1L, 2L), "a -> b");
+        assertEquals("a -> b", edges.get(LongTuple2.of(1L, 2L)));
+    }
+
+    @Test
+    public void testConversion() {
+        Tuple2<Long, Double> boxed = Tuple.of(1L, 99.5).alias("id", "score");
+        LongDoubleTuple2 primitive = LongDoubleTuple2.from(boxed);
+        assertEquals(1L, primitive._1);
+        assertEquals(99.5, primitive._2);
+        assertEquals("string", primitive.aliasType());
+        assertEquals(boxed, primitive.toTuple2());
+        assertEquals(boxed, primitive);
+
+        IntObjTuple2<String> indexed = IntObjTuple2.from(Tuple.of(3, "c"));
+        Tuple2<Integer, String> back = indexed.toTuple2();
+        assertEquals(Tuple.of(3, "c"), back);
+        assertEquals(IntTuple2.of(1, 2), IntTuple2.from(IntTuple2.of(1, 2).toTuple2()));
+        assertEquals(LongTuple2.of(1L, 2L), LongTuple2.from(Tuple.of(1L, 2L)));
+
+        assertThrows(NullPointerException.class, () -> IntTuple2.from(Tuple.of(1, null)));
+    }
+
+}
@@ -1,11 +1,17 @@
 package com.iofairy.test;
 
 import com.iofairy.except.OutOfBoundsException;
+import com.iofairy.id.RandomSource;
 import com.iofairy.id.TimedID;
 import com.iofairy.tcf.Try;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -272,6 +278,95 @@ public class TimedIDTest {
 
     }
 
+    @Test
+    public void testIdLayout() throws InterruptedException {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyMMddHHmmssSSS");
+        String before = formatter.format(LocalDateTime.now());
+        String id = TimedID.newId();
+        String after = formatter.format(LocalDateTime.now());
+        String dateTime = id.substring(0, 15);
+        assertTrue(dateTime.compareTo(before) >= 0 && dateTime.compareTo(after) <= 0, id);
+        assertEquals("AA", id.substring(15, 17));
+        assertTrue(id.substring(17).matches("[0-9A-Z]{8}"), id);
+
+        TimedID lowerCase = TimedID.newBuilder().withUpperCase(false).withUnderline(true).withWorkerNum(1).withIdLength(50).build();
+        String lowerId = lowerCase.randomId();
+        assertTrue(lowerId.matches("\\d{16}_ab[0-9a-z]{25}"), lowerId);
+
+        TimedID tsId = TimedID.newBuilder().withTimestamp(true).withStartInstant("2024-04-08 22:53:00.000").withIdLength(50).build();
+        long startMillis = tsId.startInstant.toEpochMilli();
+        long beforeMillis = System.currentTimeMillis() - startMillis;
+        String ts = tsId.randomId();
+        long afterMillis = System.currentTimeMillis() - startMillis;
+        long timestamp = Long.parseLong(ts.substring(0, 12));
+        assertTrue(timestamp >= beforeMillis && timestamp <= afterMillis, ts);
+        assertEquals(39, ts.length());      // 12 + 2 + 25, shorter than `idLength`
+        assertTrue(ts.startsWith("AA", 12), ts);
+
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 50000; j++) {
+                    ids.add(TimedID.mid());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(200000, ids.size());
+    }
+
+    @Test
+    public void testRandomSource() throws InterruptedException {
+        assertEquals(RandomSource.SECURE_RANDOM, TimedID.TIMED_ID.randomSource);
+        assertEquals(RandomSource.SECURE_RANDOM, TimedID.newBuilder().withRandomSource(null).build().randomSource);
+
+        for (RandomSource randomSource : RandomSource.values()) {
+            TimedID timedID = TimedID.newBuilder().withRandomSource(randomSource).withUpperCase(false).withIdLength(50).build();
+            assertEquals(randomSource, timedID.randomSource);
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < 25000; j++) {
+                        String id = timedID.randomId();
+                        ids.add(id.substring(18));
+                        assertTrue(id.matches("\\d{16}aa[0-9a-z]{25}"), id);
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(100000, ids.size(), randomSource.name());
+        }
+    }
+
+    @Test
+    public void testRandomIds() {
+        String[] ids = TimedID.TIMED_ID30.randomIds(1000);
+        assertEquals(1000, Arrays.stream(ids).distinct().count());
+        for (String id : ids) {
+            assertEquals(30, id.length());
+            assertEquals(ids[0].substring(0, 18), id.substring(0, 18));    // same date time and worker id
+        }
+
+        String[] lined = new String[5];
+        TimedID.TS_ID_UNDERLINE.randomIds(lined, 1, 3);
+        assertNull(lined[0]);
+        assertNull(lined[4]);
+        for (int i = 1; i < 4; i++) {
+            assertTrue(lined[i].matches("\\d{13}_A[0-9A-Z]{15}"), lined[i]);
+        }
+        assertEquals(0, TimedID.TIMED_ID.randomIds(0).length);
+        assertThrows(IllegalArgumentException.class, () -> TimedID.TIMED_ID.randomIds(lined, 3, 3));
+        assertThrows(IllegalArgumentException.class, () -> TimedID.TIMED_ID.randomIds(-1));
+    }
+
 
     private void throwException() {
         throw new RuntimeException();
@@ -0,0 +1,134 @@
+package com.iofairy.test;
+
+import com.iofairy.except.AliasNotFoundException;
+import com.iofairy.except.NumberOfAliasesException;
+import com.iofairy.tuple.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.iofairy.test.MyTupleAlias.*;
+import static com.iofairy.tuple.TupleBatch.ColumnType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class TupleBatchTest {
+
+    @Test
+    public void testAddAndGet() {
+        TupleBatch batch = TupleBatch.of(2, LONG, DOUBLE, OBJECT).alias("id", "score", "name");
+        for (int i = 0; i < 100; i++) {         // grows from the initial capacity
+            batch.add(Tuple.of((long) i, i * 0.5, "n" + i));
+        }
+        assertEquals(100, batch.size());
+        assertEquals(3, batch.arity());
+        assertEquals(DOUBLE, batch.columnType(1));
+        assertEquals(99L, batch.getLong(99, 0));
+        assertEquals(49.5, batch.getDouble(99, 1));
+        assertEquals("n7", batch.<String>get(7, 2));
+        assertEquals(Long.valueOf(7), batch.get(7, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(100, 0));
+        assertThrows(ClassCastException.class, () -> batch.getInt(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> batch.add(Tuple.of(1L, 1.0)));
+        assertThrows(ClassCastException.class, () -> batch.add(Tuple.of(1, 1.0, "int is not long")));
+        assertThrows(NullPointerException.class, () -> batch.add(Tuple.of(null, 1.0, "x")));
+
+        int row = batch.addRow();
+        assertEquals(100, row);
+        assertEquals(0L, batch.getLong(row, 0));
+        assertNull(batch.get(row, 2));
+        batch.setLong(row, 0, 1000L).setDouble(row, 1, 0.25).set(row, 2, "added");
+        assertEquals(Tuple.of(1000L, 0.25, "added").alias("id", "score", "name"), batch.row(row));
+
+        TupleBatch ints = TupleBatch.of(INT, INT);
+        ints.setInt(ints.addRow(), 1, 5);
+        assertEquals(Tuple.of(0, 5), ints.row(0));
+        assertThrows(IllegalArgumentException.class, () -> TupleBatch.of());
+        assertThrows(IllegalArgumentException.class, () -> TupleBatch.of(INT, INT, INT, INT, INT, INT, INT, INT, INT, INT));
+    }
+
+    @Test
+    public void testRows() {
+        TupleBatch batch = TupleBatch.of(INT, OBJECT).alias(ID, NAME);
+        batch.add(Tuple.of(1, "zs")).add(Tuple.of(2, "ls")).add(Tuple.of(3, null));
+
+        Tuple row = batch.row(1);
+        assertEquals(2, (int) row.__(ID));
+        assertEquals("ls", row.__("NAME"));
+        assertEquals("(ID: 2, NAME: \"ls\")", row.toString());
+        assertEquals(Tuple.of(2, "ls").alias(ID, NAME), row);
+        assertEquals(Tuple.of(2, "ls").hashCode(), row.hashCode());
+        assertThrows(IndexOutOfBoundsException.class, () -> row.element(2));
+
+        // the view reads the batch, a copy does not
+        Tuple copy = row.copy();
+        batch.set(1, 1, "changed");
+        assertEquals("changed", row.element(1));
+        assertEquals("ls", copy.element(1));
+        assertEquals("tuple", copy.aliasType());
+
+        List<Integer> ids = new ArrayList<>();
+        Tuple previous = null;
+        for (Tuple tuple : batch) {
+            ids.add(tuple.element(0));
+            if (previous != null) assertSame(previous, tuple);      // one reused view
+            previous = tuple;
+        }
+        assertEquals(Arrays.asList(1, 2, 3), ids);
+        Iterator<Tuple> iterator = TupleBatch.of(INT).iterator();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testColumns() {
+        TupleBatch batch = TupleBatch.of(INT, LONG, DOUBLE, OBJECT);
+        for (int i = 1; i <= 10; i++) {
+            batch.add(Tuple.of(i, i * 10L, i / 2.0, i % 2 == 0 ? "even" : "odd"));
+        }
+        assertEquals(55, batch.intColumn(0).sum());
+        assertEquals(550L, batch.longColumn(1).sum());
+        assertEquals(27.5, batch.doubleColumn(2).sum());
+        assertEquals(5, batch.<String>column(3).filter("even"::equals).count());
+        assertEquals(Arrays.asList(1, 2, 3), batch.<Integer>column(0).limit(3).collect(Collectors.toList()));
+        assertThrows(ClassCastException.class, () -> batch.intColumn(1));
+
+        batch.clear();
+        assertTrue(batch.isEmpty());
+        assertEquals(0, batch.intColumn(0).count());
+        assertEquals(0, batch.column(3).count());
+    }
+
+    @Test
+    public void testConversion() {
+        List<Tuple3<Long, Double, String>> tuples = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tuples.add(Tuple.of((long) i, i + 0.5, "n" + i).alias("id", "score", "name"));
+        }
+        TupleBatch batch = TupleBatch.from(tuples, LONG, DOUBLE, OBJECT);
+        assertEquals(Arrays.asList("id", "score", "name"), batch.getAliases());
+        assertSame(tuples.get(0).getAliases(), batch.getAliases());
+        assertEquals(1, batch.columnIndex("score"));
+        assertThrows(AliasNotFoundException.class, () -> batch.columnIndex("age"));
+        assertThrows(NumberOfAliasesException.class, () -> batch.alias("a", "b"));
+
+        List<Tuple3<Long, Double, String>> list = batch.toList();
+        assertEquals(tuples, list);
+        Tuple3<Long, Double, String> first = list.get(0);
+        assertEquals("n0", first._3);
+        assertEquals(0.5, (double) first.__("score"));
+
+        TupleBatch empty = TupleBatch.from(new ArrayList<Tuple>(), INT);
+        assertTrue(empty.toList().isEmpty());
+        batch.clearAlias();
+        assertEquals("null", batch.row(0).aliasType());
+        assertEquals("(0, 0.5, \"n0\")", batch.toTuple(0).toString());
+    }
+
+}
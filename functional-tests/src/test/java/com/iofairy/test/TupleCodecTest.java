@@ -0,0 +1,199 @@
+package com.iofairy.test;
+
+import com.iofairy.tuple.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.iofairy.test.MyTupleAlias.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class TupleCodecTest {
+
+    @Test
+    public void testJavaSerialization() throws Exception {
+        List<Tuple> tuples = Arrays.asList(
+                Tuple.empty(),
+                Tuple.of("zs").alias((String[]) null),
+                Tuple.of(1, "zs").alias(ID, NAME),
+                Tuple.of(1, "zs", 20L, 1.5, true, null, LocalDate.of(2024, 1, 2), 'c', Tuple.of("ls", -20).alias("name", "age")),
+                EasyTuple.empty(),
+                EasyTuple.of("a", "b", "c").alias("x", "y", "z"),
+                IntTuple2.of(-1, Integer.MAX_VALUE).alias("from", "to"),
+                LongTuple2.of(Long.MIN_VALUE, 0L),
+                LongDoubleTuple2.of(100L, Double.NaN),
+                IntObjTuple2.of(3, "zs"),
+                new MyTuple2("zs", 20).alias("name", "age"));
+
+        List<Tuple> copies = deserialize(serialize(new ArrayList<>(tuples)));
+        assertEquals(tuples.size(), copies.size());
+        for (int i = 0; i < tuples.size(); i++) {
+            Tuple tuple = tuples.get(i);
+            Tuple copy = copies.get(i);
+            assertEquals(tuple.getClass(), copy.getClass());
+            assertEquals(tuple, copy);
+            assertEquals(tuple.aliasType(), copy.aliasType());
+            assertTrue(tuple.aliasesEquals(copy));
+            assertEquals(tuple.toString(), copy.toString());
+        }
+        assertSame(Tuple.empty(), copies.get(0));
+        assertSame(EasyTuple.empty(), copies.get(4));
+        // aliases are read back as the shared aliases
+        assertSame(tuples.get(2).getTupleAliases(), copies.get(2).getTupleAliases());
+        assertSame(tuples.get(5).getAliases(), copies.get(5).getAliases());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCyclicJavaSerialization() throws Exception {
+        List<Object> list = new ArrayList<>();
+        Tuple1<List<Object>> tuple = Tuple.of(list);
+        list.add(tuple);
+        List<Object> listCopy = deserialize(serialize(list));
+        Tuple1<List<Object>> tupleCopy = (Tuple1<List<Object>>) listCopy.get(0);
+        assertSame(listCopy, tupleCopy._1);
+
+        Tuple1<List<Object>> tupleCopy1 = deserialize(serialize(tuple));
+        assertSame(tupleCopy1, tupleCopy1._1.get(0));
+
+        // the back reference goes through a nested tuple
+        List<Object> list1 = new ArrayList<>();
+        Tuple2<String, Tuple1<List<Object>>> outer = Tuple.of("a", Tuple.of(list1)).alias("name", "inner");
+        list1.add(outer);
+        Tuple2<String, Tuple1<List<Object>>> outerCopy = deserialize(serialize(outer));
+        assertSame(outerCopy, outerCopy._2._1.get(0));
+        assertEquals("a", outerCopy.__("name"));
+    }
+
+    @Test
+    public void testSerializedSize() throws Exception {
+        ArrayList<Tuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tuples.add(Tuple.of("user" + i, i).alias("name", "age"));
+        }
+        // the aliases are written once, each tuple writes its elements and a reference to the aliases
+        int javaBytesPerTuple = serialize(tuples).length / tuples.size();
+        assertTrue(javaBytesPerTuple <= 32, "java serialization bytes per tuple: " + javaBytesPerTuple);
+        int codecBytesPerTuple = TupleCodec.encode(tuples).length / tuples.size();
+        assertTrue(codecBytesPerTuple <= 16, "codec bytes per tuple: " + codecBytesPerTuple);
+    }
+
+    @Test
+    public void testEncodeDecode() {
+        char[] chars = new char[70000];
+        Arrays.fill(chars, '中');
+        String longString = new String(chars);
+        Tuple2<String, Integer> nested = Tuple.of("ls", -20).alias("name", "age");
+        List<Tuple> tuples = Arrays.asList(
+                null,
+                Tuple.empty(),
+                Tuple.of(1, "zs").alias(ID, NAME),
+                Tuple.of(2, "ls").alias(ID, NAME),
+                Tuple.of(Integer.MIN_VALUE, Long.MAX_VALUE, -0.0, false, null, LocalDate.of(2024, 1, 2), longString, nested, ""),
+                EasyTuple.of(1, 2).alias("x", "y"),
+                EasyTuple.of(3, 4).alias("x", "y"),
+                IntTuple2.of(Integer.MIN_VALUE, 0),
+                LongTuple2.of(-1L, Long.MAX_VALUE),
+                LongDoubleTuple2.of(1L, -2.5).alias("id", "score"),
+                IntObjTuple2.of(0, nested),
+                new MyTuple2("zs", 20).alias("name", "age"));
+
+        List<Tuple> copies = TupleCodec.decode(TupleCodec.encode(tuples));
+        assertEquals(tuples, copies);
+        for (int i = 1; i < tuples.size(); i++) {
+            assertEquals(tuples.get(i).getClass(), copies.get(i).getClass());
+            assertTrue(tuples.get(i).aliasesEquals(copies.get(i)));
+        }
+        Tuple9<Object, Object, Object, Object, Object, Object, Object, Object, Object> tuple9 = (Tuple9) copies.get(4);
+        assertEquals(longString, tuple9._7);
+        assertEquals("name", ((Tuple) tuple9._8).getAliases().get(0));
+        assertSame(copies.get(2).getTupleAliases(), copies.get(3).getTupleAliases());
+
+        assertEquals(Collections.emptyList(), TupleCodec.decode(TupleCodec.encode(Collections.emptyList())));
+    }
+
+    @Test
+    public void testWriterReader() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            TupleCodec.Writer writer = TupleCodec.writer(out);
+            for (int i = 0; i < 3; i++) {
+                writer.write(Tuple.of(i, "user" + i).alias(ID, NAME));
+            }
+            out.writeUTF("end");
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TupleCodec.Reader reader = TupleCodec.reader(in);
+            for (int i = 0; i < 3; i++) {
+                Tuple2<Integer, String> tuple = reader.read();
+                assertEquals(Tuple.of(i, "user" + i).alias(ID, NAME), tuple);
+                assertEquals("user" + i, tuple.__(NAME));
+            }
+            assertEquals("end", in.readUTF());
+        }
+    }
+
+    @Test
+    public void testCorrupted() {
+        byte[] bytes = TupleCodec.encode(Collections.singletonList(Tuple.of(1, "zs").alias("id", "name")));
+        assertThrows(UncheckedIOException.class, () -> TupleCodec.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(UncheckedIOException.class, () -> TupleCodec.decode(new byte[]{1, 2, 3}));
+        assertThrows(NullPointerException.class, () -> TupleCodec.encode(null));
+        assertThrows(NullPointerException.class, () -> TupleCodec.writer(null));
+    }
+
+    @Test
+    public void testCorruptedHeader() throws IOException {
+        // number of tuples: varint of -1
+        ByteArrayOutputStream negativeSize = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(negativeSize)) {
+            out.write(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F});
+        }
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> TupleCodec.decode(negativeSize.toByteArray()));
+        assertTrue(e.getCause() instanceof StreamCorruptedException);
+
+        // arity of the header changed from 1 to 0, the tuple keeps its alias
+        byte[] bytes = TupleCodec.encode(Collections.singletonList(Tuple.of("zs").alias("name")));
+        int header = 4 + 2 + 1;     // stream header, block data header, number of tuples
+        assertEquals(0x01, bytes[header]);
+        bytes[header] = 0x00;
+        e = assertThrows(UncheckedIOException.class, () -> TupleCodec.decode(bytes));
+        assertTrue(e.getCause() instanceof StreamCorruptedException);
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) in.readObject();
+        }
+    }
+
+    /**
+     * Subclasses outside the tuple package keep the default Java serialization.
+     */
+    static class MyTuple2 extends Tuple2<String, Integer> {
+        private static final long serialVersionUID = 1L;
+
+        MyTuple2(String _1, Integer _2) {
+            super(_1, _2);
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.iofairy.test;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.TupleKey;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class TupleKeyTest {
+
+    @Test
+    public void testEquals() {
+        assertEquals(TupleKey.of("zs", 20), TupleKey.of("zs", 20));
+        assertEquals(TupleKey.of("zs", 20).hashCode(), TupleKey.of("zs", 20).hashCode());
+        assertNotEquals(TupleKey.of("zs", 20), TupleKey.of(20, "zs"));
+        assertNotEquals(TupleKey.of("zs", 20), TupleKey.of("zs", 20, null));
+        assertNotEquals(TupleKey.of("zs", 20), Tuple.of("zs", 20));
+        assertEquals(TupleKey.of(null, null), TupleKey.of(null, null));
+        assertEquals(TupleKey.of(1, 2, 3, 4, 5), TupleKey.of(new Object[]{1, 2, 3, 4, 5}));
+
+        // aliases are ignored
+        assertEquals(TupleKey.of("zs", 20), TupleKey.from(Tuple.of("zs", 20).alias("name", "age")));
+
+        Object[] elements = {1, 2};
+        TupleKey key = TupleKey.of(elements);
+        elements[0] = 100;          // copied
+        assertEquals(TupleKey.of(1, 2), key);
+        assertEquals(2, key.arity());
+        assertEquals(Integer.valueOf(2), key.element(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> key.element(2));
+        assertEquals("(\"zs\", 20, null)", TupleKey.of("zs", 20, null).toString());
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        // the hash is recomputed after deserialization, the hash codes of enums differ between JVMs
+        assertNull(ObjectStreamClass.lookup(TupleKey.class).getField("hash"));
+
+        HashMap<TupleKey, Integer> map = new HashMap<>();
+        map.put(TupleKey.of(Thread.State.NEW, "x"), 1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Map<TupleKey, Integer> copy = (Map<TupleKey, Integer>) in.readObject();
+            TupleKey key = copy.keySet().iterator().next();
+            assertEquals(TupleKey.of(Thread.State.NEW, "x"), key);
+            assertEquals(TupleKey.of(Thread.State.NEW, "x").hashCode(), key.hashCode());
+            assertEquals(1, copy.get(TupleKey.of(Thread.State.NEW, "x")));
+        }
+    }
+
+    @Test
+    public void testHashDistribution() {
+        // (i, j) with small ints, many collide with the `31 * h + e` hash
+        Set<Integer> hashes = new HashSet<>();
+        Set<Integer> listHashes = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 100; j++) {
+                hashes.add(TupleKey.of(i, j).hashCode());
+                listHashes.add(Tuple.of(i, j).hashCode());
+            }
+        }
+        assertEquals(10000, hashes.size());
+        assertTrue(listHashes.size() < 4000, "tuple hashes: " + listHashes.size());
+
+        Map<TupleKey, Integer> map = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(TupleKey.of("user" + i, i % 7), i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, map.get(TupleKey.of("user" + i, i % 7)));
+        }
+        assertNull(map.get(TupleKey.of("user1", 2)));
+    }
+
+}
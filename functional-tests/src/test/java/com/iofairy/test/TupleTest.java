@@ -3,9 +3,11 @@ package com.iofairy.test;
 import com.iofairy.except.AliasDuplicateException;
 import com.iofairy.except.NumberOfAliasesException;
 import com.iofairy.tuple.*;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
-import java.io.Serializable;
+import java.io.*;
+import java.lang.management.ManagementFactory;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -273,6 +275,123 @@ public class TupleTest {
         System.out.println("testTupleToString1: \n" + tuple);
     }
 
+    @Test
+    public void testSharedAliases() throws Exception {
+        String[] aliases = {"id", "name"};
+        Tuple2<Integer, String> t1 = Tuple.of(1, "zs").alias(aliases);
+        Tuple2<Integer, String> t2 = Tuple.of(2, "ls").alias("id", "name");
+        aliases[0] = "changed";                     // the aliases are copied
+        assertEquals(Arrays.asList("id", "name"), t1.getAliases());
+        assertSame(t1.getAliases(), t2.getAliases());
+        assertEquals(2, (Integer) t2.__("id"));
+        assertTrue(t1.aliasesEquals(t2));
+
+        Tuple2<Integer, String> t3 = Tuple.of(3, "ww").copyAliases(t1);
+        assertSame(t1.getAliases(), t3.getAliases());
+        t3.clearAlias();
+        assertEquals("null", t3.aliasType());
+        assertEquals("(3, \"ww\")", t3.toString());
+        assertEquals("string", t1.aliasType());
+
+        Tuple2<Integer, String> t4 = Tuple.of(4, "zl").alias(ID, NAME);
+        Tuple2<Integer, String> t5 = Tuple.of(5, "sq").alias(ID, NAME);
+        assertSame(t4.getTupleAliases(), t5.getTupleAliases());
+        assertEquals("tuple", t4.aliasType());
+        assertFalse(t4.aliasesEquals(Tuple.of(1, "zs").alias("ID", "NAME")));    // same strings, but different alias types
+        assertEquals(Arrays.asList("ID", "NAME"), t4.getAliases());
+
+        // invalid aliases are checked every time, and leave the tuple without aliases
+        for (int i = 0; i < 2; i++) {
+            assertThrows(AliasDuplicateException.class, () -> t2.alias("a", "a"));
+            assertEquals("null", t2.aliasType());
+            assertThrows(NumberOfAliasesException.class, () -> t2.alias("a", "b", "c"));
+            assertThrows(AliasDuplicateException.class, () -> t2.alias(ID, ID));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> t1.getAliases().set(0, "x"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(t1);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Tuple2<Integer, String> copy = (Tuple2<Integer, String>) in.readObject();
+            assertEquals(t1, copy);
+            assertSame(t1.getAliases(), copy.getAliases());
+        }
+    }
+
+    /**
+     * {@code [Tuple.of(1, "x").alias("id", "name"), Tuple.of(1, "x").alias(ID, NAME), EasyTuple.of("a", "b")]}
+     * serialized by 0.6.0, which wrote the aliases as lists.
+     */
+    private static final String TUPLES_0_6_0 =
+            "rO0ABXNyABNqYXZhLnV0aWwuQXJyYXlMaXN0eIHSHZnHYZ0DAAFJAARzaXpleHAAAAADdwQAAAADc3IAGGNvbS5pb2ZhaXJ5LnR1"
+            + "cGxlLlR1cGxlMgAAAAJX+bgyAgACTAACXzF0ABJMamF2YS9sYW5nL09iamVjdDtMAAJfMnEAfgADeHIAG2NvbS5pb2ZhaXJ5LnR1"
+            + "cGxlLlR1cGxlQmFzZQAAAAJX+bSiAgADTAAJYWxpYXNMaXN0dAAQTGphdmEvdXRpbC9MaXN0O0wAC2FsaWFzX2luZGV4dAAPTGph"
+            + "dmEvdXRpbC9NYXA7TAAOdHVwbGVBbGlhc0xpc3RxAH4ABXhwc3EAfgAAAAAAAncEAAAAAnQAAmlkdAAEbmFtZXhzcgARamF2YS51"
+            + "dGlsLkhhc2hNYXAFB9rBwxZg0QMAAkYACmxvYWRGYWN0b3JJAAl0aHJlc2hvbGR4cD9AAAAAAAAMdwgAAAAQAAAAAnEAfgAKc3IA"
+            + "EWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAFx"
+            + "AH4ACXNxAH4ADQAAAAB4c3EAfgAAAAAAAHcEAAAAAHhxAH4AD3QAAXhzcQB+AAJzcQB+AAAAAAACdwQAAAACdAACSUR0AAROQU1F"
+            + "eHNxAH4ACz9AAAAAAAAMdwgAAAAQAAAAAnEAfgAVcQB+ABBxAH4AFnEAfgAPeHNxAH4AAAAAAAJ3BAAAAAJ+cgAdY29tLmlvZmFp"
+            + "cnkudGVzdC5NeVR1cGxlQWxpYXMAAAAAAAAAABIAAHhyAA5qYXZhLmxhbmcuRW51bQAAAAAAAAAAEgAAeHB0AAJJRH5xAH4AGXQA"
+            + "BE5BTUV4cQB+AA9xAH4AEnNyABxjb20uaW9mYWlyeS50dXBsZS5FYXN5VHVwbGUyAAAAAlf5uDwCAAB4cQB+AAJzcQB+AAAAAAAA"
+            + "dwQAAAAAeHNxAH4ACz9AAAAAAAAAdwgAAAAQAAAAAHhzcQB+AAAAAAAAdwQAAAAAeHQAAWF0AAFieA==";
+
+    @Test
+    public void testLegacySerializedForm() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(TUPLES_0_6_0)))) {
+            List<Tuple> tuples = (List<Tuple>) in.readObject();
+            assertEquals(Tuple.of(1, "x").alias("id", "name"), tuples.get(0));
+            assertEquals("string", tuples.get(0).aliasType());
+            assertEquals("x", tuples.get(0).__("name"));
+            assertEquals(Tuple.of(1, "x").alias(ID, NAME), tuples.get(1));
+            assertEquals("tuple", tuples.get(1).aliasType());
+            assertEquals("x", tuples.get(1).__(NAME));
+            assertEquals(EasyTuple.of("a", "b"), tuples.get(2));
+            assertEquals("null", tuples.get(2).aliasType());
+        }
+    }
+
+    /**
+     * Heap allocated per tuple (the JOL shallow size plus the objects it owns), measured by the thread allocation counter.
+     */
+    @Test
+    public void testTupleFootprint() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean mxBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        com.sun.management.HotSpotDiagnosticMXBean diagnosticMXBean = ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+        Assumptions.assumeTrue(diagnosticMXBean != null);
+        int refSize = Boolean.parseBoolean(diagnosticMXBean.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        long threadId = Thread.currentThread().getId();
+        Integer one = 1;
+        String zs = "zs";
+
+        int count = 10000;
+        Tuple[] tuples = new Tuple[count];
+        for (int round = 0; round < 3; round++) {       // warm up the counter and the schema cache
+            long before = mxBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < count; i++) {
+                tuples[i] = Tuple.of(one, zs);
+            }
+            long plain = (mxBean.getThreadAllocatedBytes(threadId) - before) / count;
+
+            before = mxBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < count; i++) {
+                tuples[i] = Tuple.of(one, zs).alias("id", "name");
+            }
+            long aliased = (mxBean.getThreadAllocatedBytes(threadId) - before) / count;
+
+            if (round == 2) {
+                System.out.println("Tuple2 bytes: " + plain + ", with aliases: " + aliased);
+                // header + 3 references, no collections: 32 bytes with compressed oops, 40 without
+                assertTrue(plain <= 16 + 4 * refSize, "Tuple2: " + plain);
+                // plus the varargs array and the lookup key
+                assertTrue(aliased <= 2 * (16 + 4 * refSize) + 16, "aliased Tuple2: " + aliased);
+            }
+        }
+    }
+
     private void throwException() {
         throw new RuntimeException();
     }
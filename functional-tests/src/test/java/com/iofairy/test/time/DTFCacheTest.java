@@ -0,0 +1,63 @@
+package com.iofairy.test.time;
+
+import com.iofairy.time.DTFCache;
+import com.iofairy.time.DateTime;
+import com.iofairy.time.DateTimePattern;
+import com.iofairy.time.TZ;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class DTFCacheTest {
+
+    @Test
+    public void testOfPattern() {
+        DateTimeFormatter dtf1 = DTFCache.ofPattern("yyyy/MM/dd HH:mm");
+        DateTimeFormatter dtf2 = DTFCache.ofPattern("yyyy/MM/dd HH:mm");
+        assertSame(dtf1, dtf2);
+        assertEquals("2025/08/02 10:05", LocalDateTime.of(2025, 8, 2, 10, 5, 1).format(dtf1));
+
+        DateTimeFormatter dtfUS = DTFCache.ofPattern("yyyy MMM dd", Locale.US);
+        DateTimeFormatter dtfCN = DTFCache.ofPattern("yyyy MMM dd", Locale.CHINA);
+        assertNotSame(dtfUS, dtfCN);
+        assertSame(dtfUS, DTFCache.ofPattern("yyyy MMM dd", Locale.US));
+        assertEquals("2025 Aug 02", LocalDateTime.of(2025, 8, 2, 10, 5, 1).format(dtfUS));
+
+        ZoneId utc = ZoneId.of("UTC");
+        DateTimeFormatter dtfUTC = DTFCache.ofPattern("yyyy-MM-dd HH:mm", Locale.US, utc);
+        assertEquals(utc, dtfUTC.getZone());
+        assertSame(dtfUTC, DTFCache.ofPattern("yyyy-MM-dd HH:mm", Locale.US, utc));
+        assertNotSame(dtfUTC, DTFCache.ofPattern("yyyy-MM-dd HH:mm", Locale.US, TZ.SHANGHAI));
+
+        assertNotSame(DTFCache.ofPattern("y-M"), DTFCache.ofPatternWithDefaults("y-M"));
+        assertEquals(LocalDateTime.of(2025, 8, 1, 0, 0), LocalDateTime.parse("2025-8", DTFCache.ofPatternWithDefaults("y-M")));
+        assertSame(DTFCache.ofPatternWithDefaults("M/y"), DateTimePattern.getDTF("M/y"));
+
+        assertThrows(IllegalArgumentException.class, () -> DTFCache.ofPattern("yyyy-MM-dd invalid"));
+        assertThrows(NullPointerException.class, () -> DTFCache.ofPattern(null));
+        assertThrows(NullPointerException.class, () -> DTFCache.ofPattern("yyyy", null));
+    }
+
+    @Test
+    public void testStats() {
+        DTFCache.clear();
+        assertEquals(0, DTFCache.size());
+        DateTime dt = DateTime.of(LocalDateTime.of(2025, 8, 2, 10, 5, 1));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("20250802 100501", dt.format("yyyyMMdd HHmmss"));
+        }
+        assertEquals(1, DTFCache.missCount());
+        assertEquals(9, DTFCache.hitCount());
+        assertEquals(1, DTFCache.size());
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.iofairy.test.time;
+
+import com.iofairy.time.DateTime;
+import com.iofairy.time.DateTimeColumnParser;
+import com.iofairy.time.TZ;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class DateTimeColumnParserTest {
+
+    @Test
+    public void testLockFormat() {
+        DateTimeColumnParser parser = DateTime.parser().withSampleSize(4).build();
+        String[] texts = IntStream.range(0, 100)
+                .mapToObj(i -> DateTime.of(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i * 997L)).format("yyyy-MM-dd HH:mm:ss"))
+                .toArray(String[]::new);
+
+        LocalDateTime[] localDateTimes = parser.parse(texts);
+        assertTrue(parser.isLocked());
+        assertEquals("dddd-dd-dd dd:dd:dd", parser.getLockedFormat());
+        assertEquals(4, parser.getDetectionCount());
+        for (int i = 0; i < texts.length; i++) {
+            assertEquals(DateTime.parse(texts[i]).getLocalDateTime(), localDateTimes[i]);
+        }
+
+        long[] epochMillis = parser.parseEpochMillis(Arrays.stream(texts));
+        assertEquals(4, parser.getDetectionCount());
+        for (int i = 0; i < texts.length; i++) {
+            assertEquals(DateTime.parse(texts[i]).toEpochMilli(), epochMillis[i]);
+        }
+
+        // re-detect when a value fails
+        assertEquals(LocalDateTime.of(2025, 8, 2, 10, 5, 1, 600000000), parser.parse("2025-8-2 10:5:1.6"));
+        assertFalse(parser.isLocked());
+        assertEquals(5, parser.getDetectionCount());
+        assertEquals(LocalDateTime.of(2023, 2, 28, 0, 0), parser.parse("2023-02-30"));     // SMART resolver
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2025-08-02 10:05:01 xxx"));
+        assertNull(parser.parse((CharSequence) null));
+        assertThrows(NullPointerException.class, () -> parser.parseEpochMilli(null));
+
+        parser.reset();
+        assertEquals(0, parser.getDetectionCount());
+        assertThrows(IllegalArgumentException.class, () -> DateTimeColumnParser.newBuilder().withSampleSize(0).build());
+    }
+
+    @Test
+    public void testFormats() {
+        ZoneId dubai = ZoneId.of("Asia/Dubai");
+        String[][] columns = {
+                {"20250802100501123", "20250802100502123", "20250802100503999"},
+                {"20250802T100501", "20250802T100502", "20250802T100503"},
+                {"2025/08/02T10:05:01.1Z", "2025/08/02T10:05:01.2Z", "2025/08/02T10:05:01.3Z"},
+                {"10:05:01.12", "10:05:02.12", "10:05:03.12"},
+                {"2025年08月02日10点05分01秒123毫秒", "2025年08月02日10点05分02秒124毫秒", "2025年08月02日10点05分03秒125毫秒"},
+                {"05分01秒6毫秒", "05分02秒7毫秒", "05分03秒8毫秒"},
+                {"2025", "2026", "2027"},
+                {"2025-8-2 10:5:1 [Asia/Shanghai +08:00]", "2025-8-2 10:5:2 [Asia/Shanghai +08:00]", "2025-8-2 10:5:3 [Asia/Shanghai +08:00]"},
+        };
+        for (String[] column : columns) {
+            DateTimeColumnParser parser = DateTimeColumnParser.newBuilder().withSampleSize(2).withZone(dubai).build();
+            LocalDateTime[] localDateTimes = parser.parse(Stream.of(column));
+            long[] epochMillis = parser.parseEpochMillis(column);
+            assertTrue(parser.isLocked(), parser.toString());
+            for (int i = 0; i < column.length; i++) {
+                DateTime expected = DateTime.parse(column[i], dubai);
+                assertEquals(expected.getLocalDateTime(), localDateTimes[i], column[i]);
+                assertEquals(expected.toEpochMilli(), epochMillis[i], column[i]);
+            }
+        }
+
+        DateTimeColumnParser parser = DateTimeColumnParser.newBuilder().withZone(TZ.UTC).build();
+        assertEquals(0, parser.parseEpochMilli("1970-01-01 00:00:00"));
+    }
+
+}
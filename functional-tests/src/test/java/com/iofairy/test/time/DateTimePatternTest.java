@@ -774,6 +774,17 @@ public class DateTimePatternTest {
     }
 
 
+    @Test
+    public void testPatternHolders() {
+        assertTrue(DateTimePattern.NumberPatterns.YMD.matcher("20240102").matches());
+        assertTrue(DateTimePattern.DashPatterns.YdM.matcher("2024-1").matches());
+        assertTrue(DateTimePattern.SlashPatterns.YsMsDHcMcS.matcher("2024/1/2 3:4:5").matches());
+        assertTrue(DateTimePattern.DotPatterns.YoMoD.matcher("2024.1.2").matches());
+        assertTrue(DateTimePattern.TimePatterns.HcMcSS.matcher("3:4:5.6").matches());
+        assertTrue(DateTimePattern.ZhPatterns.Yz.matcher("2024年").matches());
+        assertFalse(DateTimePattern.DashPatterns.YdM.matcher("2024/1").matches());
+    }
+
     @Test
     public void testCostTime() {
         Try.sleep(1000);
@@ -0,0 +1,149 @@
+package com.iofairy.test.time;
+
+import com.iofairy.time.DateTime;
+import com.iofairy.time.DateTimePattern;
+import com.iofairy.time.DateTimes;
+import com.iofairy.time.FastDateTimeParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class FastDateTimeParserTest {
+
+    @Test
+    public void testParse() {
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000000), FastDateTimeParser.parse("2024-01-02 03:04:05.006"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 600000000), FastDateTimeParser.parse("2024/1/2 3:4:5.6"));
+        assertEquals(LocalDateTime.of(999, 1, 2, 3, 4, 5), FastDateTimeParser.parse("999.1.2T3:4:5Z"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 0, 0), FastDateTimeParser.parse("20240102"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000000), FastDateTimeParser.parse("20240102T030405006"));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 3, 4, 5, 60000000), FastDateTimeParser.parse("3:4:5.06"));
+        assertEquals(LocalDateTime.of(2024, 12, 1, 0, 0), FastDateTimeParser.parse("2024年12月"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000000), FastDateTimeParser.parse("2024年1月2日3点4分5秒6毫秒"));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 0, 4, 5, 60000000), FastDateTimeParser.parse("4分5秒060毫秒"));
+
+        assertNull(FastDateTimeParser.parse(null));
+        assertNull(FastDateTimeParser.parse("1-2"));
+        assertNull(FastDateTimeParser.parse("2024-01/02"));
+        assertNull(FastDateTimeParser.parse("2024-1-2T3:4"));
+        assertNull(FastDateTimeParser.parse("2024-1-2 3:4:5Z"));
+        assertNull(FastDateTimeParser.parse("2024-1-2 3:4:5.6789"));
+        assertNull(FastDateTimeParser.parse("2024年1月2日3时4分5秒6789毫秒"));
+        assertNull(FastDateTimeParser.parse("2024-1-2 3:4:5 [+04:00]"));
+        assertNull(FastDateTimeParser.parse("2023-02-30"));
+        assertNull(FastDateTimeParser.parse("2023-13-01"));
+        assertNull(FastDateTimeParser.parse("24:00"));
+        assertNull(FastDateTimeParser.parse("2024.01.02 03"));             // not recognized by forDTF
+
+        assertEquals(ZoneOffset.UTC, DateTime.parse("2024-01-02T03:04:05.006Z").getZone());
+        assertEquals(LocalDateTime.of(2023, 2, 28, 0, 0), DateTime.parse("2023-02-30").getLocalDateTime());  // fall back to DateTimeFormatter
+        assertEquals(ZoneId.of("Asia/Dubai"), DateTime.parse("2024-1-2 3:4:5 [Asia/Dubai +04:00]").getZone());     // fall back to DateTimeFormatter
+        assertThrows(DateTimeParseException.class, () -> DateTime.parse("2024-01/02"));
+        assertThrows(DateTimeParseException.class, () -> DateTime.parse("2024.01.02 03"));
+        assertThrows(DateTimeParseException.class, () -> DateTime.of("2024.1.2 3"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 0), DateTime.parse("2024.01.02 03", DateTimePattern.FM_DTF_YoMoDH).getLocalDateTime());
+    }
+
+    /**
+     * Compare with the regex based {@link DateTimePattern#forDTF(String)}
+     */
+    @Test
+    public void testSameAsForDTF() {
+        List<String> texts = new ArrayList<>();
+        Random random = new Random(20250802);
+        String[] separators = {"-", "/", "."};
+        for (int i = 0; i < 300; i++) {
+            String year = random.nextBoolean() ? String.valueOf(1000 + random.nextInt(9000)) : String.valueOf(100 + random.nextInt(900));
+            String month = field(random, 1 + random.nextInt(12));
+            String day = field(random, 1 + random.nextInt(28));
+            String hour = field(random, random.nextInt(24));
+            String minute = field(random, random.nextInt(60));
+            String second = field(random, random.nextInt(60));
+            String millis = String.valueOf(random.nextInt(1000));
+            String fraction = millis.substring(0, 1 + random.nextInt(millis.length()));
+            String sep = separators[random.nextInt(3)];
+            String date = year + sep + month + sep + day;
+
+            texts.add(year);
+            texts.add(year + sep + month);
+            texts.add(date);
+            texts.add(date + " " + hour);
+            texts.add(date + " " + hour + ":" + minute);
+            texts.add(date + " " + hour + ":" + minute + ":" + second);
+            texts.add(date + " " + hour + ":" + minute + ":" + second + "." + fraction);
+            texts.add(date + "T" + hour + ":" + minute + ":" + second);
+            texts.add(date + "T" + hour + ":" + minute + ":" + second + "." + fraction);
+            texts.add(date + "T" + hour + ":" + minute + ":" + second + "Z");
+            texts.add(date + "T" + hour + ":" + minute + ":" + second + "." + fraction + "Z");
+            texts.add(hour + ":" + minute);
+            texts.add(hour + ":" + minute + ":" + second);
+            texts.add(hour + ":" + minute + ":" + second + "." + fraction);
+
+            String h = random.nextBoolean() ? "时" : "点";
+            String zhDate = year + "年" + month + "月" + day + "日";
+            texts.add(year + "年");
+            texts.add(year + "年" + month + "月");
+            texts.add(zhDate);
+            texts.add(zhDate + hour + h);
+            texts.add(zhDate + hour + h + minute + "分");
+            texts.add(zhDate + hour + h + minute + "分" + second + "秒");
+            texts.add(zhDate + hour + h + minute + "分" + second + "秒" + millis + "毫秒");
+            texts.add(hour + h + minute + "分");
+            texts.add(hour + h + minute + "分" + second + "秒");
+            texts.add(hour + h + minute + "分" + second + "秒" + millis + "毫秒");
+            texts.add(minute + "分" + second + "秒");
+            texts.add(minute + "分" + second + "秒" + millis + "毫秒");
+
+            if (year.length() == 4) {
+                String compact = year + pad(month) + pad(day) + pad(hour) + pad(minute) + pad(second) + pad3(millis);
+                for (int length : new int[]{6, 8, 10, 12, 14, 17}) {
+                    texts.add(compact.substring(0, length));
+                }
+                texts.add(compact.substring(0, 8) + "T" + compact.substring(8, 14));
+                texts.add(compact.substring(0, 8) + "T" + compact.substring(8));
+            }
+        }
+
+        for (String text : texts) {
+            LocalDateTime fast = FastDateTimeParser.parse(text);
+            String dateText = DateTimes.formatZhMillis(text);
+            String pattern = DateTimePattern.forDTF(dateText);
+            if (pattern == null) {
+                // `forDTF` cannot detect `y.M.d H`, so FastDateTimeParser does not parse it either
+                assertTrue(text.contains(".") && text.contains(" ") && !text.contains(":"), text);
+                assertNull(fast, text);
+                assertThrows(DateTimeParseException.class, () -> DateTime.parse(text), text);
+                continue;
+            }
+            assertNotNull(fast, text);
+            DateTime expected = DateTime.parse(dateText, pattern);
+            assertEquals(expected.getLocalDateTime(), fast, text);
+            assertEquals(expected, DateTime.parse(text), text);
+        }
+    }
+
+    private static String field(Random random, int value) {
+        return random.nextBoolean() ? pad(String.valueOf(value)) : String.valueOf(value);
+    }
+
+    private static String pad(String value) {
+        return value.length() == 1 ? "0" + value : value;
+    }
+
+    private static String pad3(String value) {
+        return value.length() == 3 ? value : value.length() == 2 ? "0" + value : "00" + value;
+    }
+
+}
@@ -20,6 +20,8 @@ module functional.test {
     requires iofairy.functional;
     requires org.junit.jupiter.api;
     requires java.sql;
+    requires java.management;
+    requires jdk.management;
 
     exports com.iofairy.test to org.junit.platform.commons;
     exports com.iofairy.test.nullpattern to org.junit.platform.commons;
@@ -18,7 +18,7 @@ package com.iofairy.base;
 /**
  * Nil
  *
- * @since 0.6.1
+ * @since 0.7.0
  */
 public final class Nil {
     public static final Nil NIL = new Nil();
@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * Thread-safe bounded cache with <b>CLOCK (second-chance)</b> eviction. <b>Reads never take a lock</b>,
+ * a hit only sets the referenced bit of the entry; eviction happens on the insertion path and evicts
+ * entries that have not been accessed since the clock hand last passed them. <br>
+ * 线程安全的有界缓存，使用 <b>CLOCK（二次机会）</b> 淘汰策略。<b>读操作无锁</b>，命中时仅设置条目的访问标记；
+ * 淘汰只发生在写入时，优先淘汰时钟指针上次经过后未被访问过的条目。
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 0.7.0
+ */
+public final class BoundedCache<K, V> {
+    /**
+     * Maximum number of entries. The size may briefly exceed it while concurrent insertions are being evicted. <br>
+     * 最大条目数。并发写入时，在淘汰完成之前，缓存大小可能短暂超过此值。
+     */
+    private final int maxSize;
+    private final ConcurrentHashMap<K, Node<V>> map;
+    /**
+     * Only one thread moves the clock hand at a time, other writers skip eviction. <br>
+     * 同一时刻只有一个线程移动时钟指针，其他写入线程跳过淘汰
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    /**
+     * Clock hand, guarded by {@link #evictionLock}
+     */
+    private Iterator<Map.Entry<K, Node<V>>> hand;
+    /*
+     * Statistics counters, null when statistics is disabled.
+     * 统计计数器，未开启统计时为 null
+     */
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public BoundedCache(int maxSize) {
+        this(maxSize, false);
+    }
+
+    public BoundedCache(int maxSize, boolean recordStats) {
+        checkArgument(maxSize <= 0, "Parameter `maxSize` must be greater than 0! ");
+        this.maxSize = maxSize;
+        this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+        this.hits = recordStats ? new LongAdder() : null;
+        this.misses = recordStats ? new LongAdder() : null;
+        this.evictions = recordStats ? new LongAdder() : null;
+    }
+
+    public static <K, V> BoundedCache<K, V> of(int maxSize) {
+        return new BoundedCache<>(maxSize);
+    }
+
+    /**
+     * Create a cache that records hit, miss and eviction counts. <br>
+     * 创建一个记录命中、未命中及淘汰次数的缓存
+     *
+     * @param maxSize maximum number of entries
+     * @param <K>     key type
+     * @param <V>     value type
+     * @return BoundedCache
+     */
+    public static <K, V> BoundedCache<K, V> withStats(int maxSize) {
+        return new BoundedCache<>(maxSize, true);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this cache contains no mapping for the key. <br>
+     * 获取缓存的值，不存在则返回 {@code null}
+     *
+     * @param key key
+     * @return the cached value or {@code null}
+     */
+    public V get(Object key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            record(misses);
+            return null;
+        }
+        record(hits);
+        node.markReferenced();
+        return node.value;
+    }
+
+    /**
+     * Put the value into cache, evicting cold entries when the cache is full. <br>
+     * 放入缓存，缓存已满时淘汰冷数据
+     *
+     * @param key   key
+     * @param value value
+     * @return previous value associated with {@code key}, or {@code null} if there was no mapping
+     */
+    public V put(K key, V value) {
+        checkHasNullNPE(args(key, value), args("key", "value"));
+        Node<V> old = map.put(key, new Node<>(value));
+        if (old == null) evictIfNeeded();
+        return old == null ? null : old.value;
+    }
+
+    /**
+     * If the key is not present, computes its value with the given function and caches it (unless {@code null}).
+     * Concurrent callers for the same absent key compute the value only once. <br>
+     * 如果key不存在，则使用给定的函数计算值并缓存（{@code null}值不缓存）。同一个key的并发调用只会计算一次。
+     *
+     * @param key             key
+     * @param mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or {@code null} if the computed value is {@code null}
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Node<V> node = map.get(key);       // fast path, ConcurrentHashMap#computeIfAbsent locks the bin even on hits in Java 8
+        if (node != null) {
+            record(hits);
+            node.markReferenced();
+            return node.value;
+        }
+
+        record(misses);
+        boolean[] computed = new boolean[1];
+        node = map.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            if (value == null) return null;
+            computed[0] = true;
+            return new Node<>(value);
+        });
+        if (node == null) return null;
+        if (computed[0]) evictIfNeeded();
+        return node.value;
+    }
+
+    /**
+     * Put the value into cache if the key is not present. <br>
+     * 如果key不存在，则放入缓存
+     *
+     * @param key   key
+     * @param value value
+     * @return the current value associated with {@code key}, or {@code null} if there was no mapping and the value is put
+     * @since 0.7.0
+     */
+    public V putIfAbsent(K key, V value) {
+        checkHasNullNPE(args(key, value), args("key", "value"));
+        Node<V> old = map.putIfAbsent(key, new Node<>(value));
+        if (old == null) {
+            evictIfNeeded();
+            return null;
+        }
+        old.markReferenced();
+        return old.value;
+    }
+
+    public V remove(Object key) {
+        Node<V> node = map.remove(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Remove the entry only if the key is currently mapped to the given value. <br>
+     * 仅当key当前映射到给定的值时，才删除该条目
+     *
+     * @param key   key
+     * @param value expected value
+     * @return {@code true} if the entry was removed
+     * @since 0.7.0
+     */
+    public boolean remove(Object key, Object value) {
+        Node<V> node = map.get(key);
+        return node != null && node.value.equals(value) && map.remove(key, node);
+    }
+
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public boolean isRecordingStats() {
+        return hits != null;
+    }
+
+    /**
+     * Number of lookups that found a cached value, always {@code 0} if statistics is disabled. <br>
+     * 命中次数，未开启统计时总是返回 {@code 0}
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return hits == null ? 0 : hits.sum();
+    }
+
+    /**
+     * Number of lookups that did not find a cached value, always {@code 0} if statistics is disabled. <br>
+     * 未命中次数，未开启统计时总是返回 {@code 0}
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return misses == null ? 0 : misses.sum();
+    }
+
+    /**
+     * Number of entries evicted because the cache was full, always {@code 0} if statistics is disabled. <br>
+     * 因缓存已满而被淘汰的条目数，未开启统计时总是返回 {@code 0}
+     *
+     * @return eviction count
+     */
+    public long evictionCount() {
+        return evictions == null ? 0 : evictions.sum();
+    }
+
+    /**
+     * Ratio of hits to lookups, {@code 1.0} when there has been no lookup. <br>
+     * 命中率，无任何查询时返回 {@code 1.0}
+     *
+     * @return hit rate
+     */
+    public double hitRate() {
+        long hitCount = hitCount();
+        long requestCount = hitCount + missCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public void resetStats() {
+        if (hits == null) return;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private static void record(LongAdder counter) {
+        if (counter != null) counter.increment();
+    }
+
+    private void evictIfNeeded() {
+        if (map.size() <= maxSize || !evictionLock.tryLock()) return;
+        try {
+            /*
+             * Every node is visited at most twice (first pass clears the referenced bit, second pass evicts it),
+             * so this loop always terminates.
+             * 每个节点最多被访问两次（第一次清除访问标记，第二次淘汰），所以循环一定会结束
+             */
+            while (map.size() > maxSize) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = map.entrySet().iterator();
+                    if (!hand.hasNext()) return;
+                }
+                Map.Entry<K, Node<V>> entry = hand.next();
+                Node<V> node = entry.getValue();
+                if (node.referenced) {
+                    node.referenced = false;
+                } else if (map.remove(entry.getKey(), node)) {
+                    record(evictions);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache{" +
+                "maxSize=" + maxSize +
+                ", size=" + map.size() +
+                (hits == null ? "" : ", hitCount=" + hitCount() + ", missCount=" + missCount() + ", evictionCount=" + evictionCount()) +
+                '}';
+    }
+
+    /**
+     * Cache node holds the value and the referenced bit of CLOCK algorithm. <br>
+     * 缓存节点，持有值及CLOCK算法的访问标记
+     *
+     * @param <V> value type
+     */
+    static final class Node<V> {
+        final V value;
+        volatile boolean referenced;
+
+        Node(V value) {
+            this.value = value;
+        }
+
+        void markReferenced() {
+            // read before write, avoid invalidating the cache line shared by other cores on every hit
+            if (!referenced) referenced = true;
+        }
+    }
+
+}
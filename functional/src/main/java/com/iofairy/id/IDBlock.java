@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.id;
+
+import java.io.Serializable;
+import java.util.function.LongConsumer;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * A contiguous block of IDs {@code [first, last]}, reserved by one atomic operation. <br>
+ * 一段连续的ID {@code [first, last]}，由一次原子操作预留
+ *
+ * @since 0.7.0
+ */
+public final class IDBlock implements Serializable {
+    private static final long serialVersionUID = 3308165202563109L;
+
+    /**
+     * First ID of the block (inclusive). <br>
+     * 第一个ID（包含）
+     */
+    public final long first;
+    /**
+     * Last ID of the block (inclusive). <br>
+     * 最后一个ID（包含）
+     */
+    public final long last;
+
+    private IDBlock(long first, long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Create a block of IDs. <br>
+     * 创建ID块
+     *
+     * @param first first ID (inclusive)
+     * @param size  number of IDs, must be greater than 0
+     * @return IDBlock
+     */
+    public static IDBlock of(long first, int size) {
+        checkArgument(size < 1, "Parameter `size` must be greater than 0! ");
+        return new IDBlock(first, first + size - 1);
+    }
+
+    /**
+     * Number of IDs in this block. <br>
+     * ID的个数
+     *
+     * @return size
+     */
+    public int size() {
+        return (int) (last - first + 1);
+    }
+
+    /**
+     * Get the ID at the given index. <br>
+     * 获取指定位置的ID
+     *
+     * @param index index, in {@code [0, size())}
+     * @return ID
+     */
+    public long get(int index) {
+        checkOutOfBounds(index < 0 || index >= size(), index, "Parameter `index` must be in [0, ${…})! ", size());
+        return first + index;
+    }
+
+    public boolean contains(long id) {
+        return id >= first && id <= last;
+    }
+
+    public long[] toArray() {
+        long[] ids = new long[size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = first + i;
+        }
+        return ids;
+    }
+
+    public void forEach(LongConsumer action) {
+        checkNullNPE(action, args("action"));
+        for (long id = first; id <= last; id++) {
+            action.accept(id);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof IDBlock)) return false;
+        IDBlock other = (IDBlock) obj;
+        return first == other.first && last == other.last;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(first) + Long.hashCode(last);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + first + ", " + last + "]";
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.id;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * Monotonic, sortable 128-bit ID (ULID/UUIDv7-style), generated by {@link TimedID#monotonicId()}. <br>
+ * 单调递增、可排序的128位ID（类似ULID/UUIDv7），由 {@link TimedID#monotonicId()} 生成。<br>
+ * <b>Layout (from high bits to low bits):</b>
+ * <ul>
+ *     <li> 48 bits: milliseconds since {@link TimedID#startInstant}. 相对于 {@link TimedID#startInstant} 的毫秒数（约可用8900年）
+ *     <li> 32 bits: {@link TimedID#workerNum}. 工作节点ID
+ *     <li> 48 bits: per-millisecond monotonic sequence, starts at a random value in each millisecond. 每毫秒内单调递增的序列，每毫秒从随机值开始
+ * </ul>
+ * Both the binary form ({@link #getMostSignificantBits()}, {@link #getLeastSignificantBits()}, {@link #toBytes()})
+ * and the 26 chars <a href="https://www.crockford.com/base32.html">Crockford base-32</a> string form ({@link #toString()})
+ * sort in generation order. <br>
+ * 二进制形式与26位 Crockford base-32 字符串形式均按生成顺序排序。
+ *
+ * @since 0.7.0
+ */
+public final class MonotonicID implements Comparable<MonotonicID>, Serializable {
+    private static final long serialVersionUID = 6880153920857316L;
+
+    /**
+     * Length of the Crockford base-32 string form. 128 bits, 5 bits per char. <br>
+     * Crockford base-32 字符串的长度
+     */
+    public static final int STRING_LENGTH = 26;
+    /**
+     * Length of the binary form. <br>
+     * 二进制形式的字节数
+     */
+    public static final int BYTES_LENGTH = 16;
+
+    static final int TIMESTAMP_BITS = 48;
+    static final int SEQUENCE_BITS = 48;
+    static final long TIMESTAMP_MASK = (1L << TIMESTAMP_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final char[] ENCODE_CHARS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final byte[] DECODE_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_VALUES, (byte) -1);
+        for (int i = 0; i < ENCODE_CHARS.length; i++) {
+            DECODE_VALUES[ENCODE_CHARS[i]] = (byte) i;
+            DECODE_VALUES[Character.toLowerCase(ENCODE_CHARS[i])] = (byte) i;
+        }
+        // Crockford base-32 aliases
+        DECODE_VALUES['O'] = DECODE_VALUES['o'] = 0;
+        DECODE_VALUES['I'] = DECODE_VALUES['i'] = DECODE_VALUES['L'] = DECODE_VALUES['l'] = 1;
+    }
+
+    private final long msb;
+    private final long lsb;
+
+    private MonotonicID(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
+    }
+
+    public static MonotonicID of(long mostSigBits, long leastSigBits) {
+        return new MonotonicID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Create MonotonicID from the binary form. <br>
+     * 从二进制形式创建 MonotonicID
+     *
+     * @param bytes 16 bytes (big-endian)
+     * @return MonotonicID
+     */
+    public static MonotonicID of(byte[] bytes) {
+        checkNullNPE(bytes, args("bytes"));
+        checkArgument(bytes.length != BYTES_LENGTH, "The length of `bytes` must be ${…}, but got ${…}! ", BYTES_LENGTH, bytes.length);
+        return new MonotonicID(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    /**
+     * Parse MonotonicID from the Crockford base-32 string form (case-insensitive). <br>
+     * 从 Crockford base-32 字符串形式解析 MonotonicID（不区分大小写）
+     *
+     * @param text 26 chars Crockford base-32 string
+     * @return MonotonicID
+     */
+    public static MonotonicID parse(CharSequence text) {
+        checkNullNPE(text, args("text"));
+        checkArgument(text.length() != STRING_LENGTH, "The length of `text` must be ${…}, but got ${…}! ", STRING_LENGTH, text.length());
+        long msb = 0, lsb = 0;
+        for (int i = 0; i < STRING_LENGTH; i++) {
+            char c = text.charAt(i);
+            int value = c < 128 ? DECODE_VALUES[c] : -1;
+            checkArgument(value < 0 || (i == 0 && value > 7), "Invalid Crockford base-32 char '${…}' at index ${…} of `${…}`! ", c, i, text);
+            msb = (msb << 5) | (lsb >>> 59);
+            lsb = (lsb << 5) | value;
+        }
+        return new MonotonicID(msb, lsb);
+    }
+
+    public long getMostSignificantBits() {
+        return msb;
+    }
+
+    public long getLeastSignificantBits() {
+        return lsb;
+    }
+
+    /**
+     * Milliseconds since {@link TimedID#startInstant} of the generator. <br>
+     * 相对于生成器 {@link TimedID#startInstant} 的毫秒数
+     *
+     * @return timestamp
+     */
+    public long getTimestamp() {
+        return msb >>> (64 - TIMESTAMP_BITS);
+    }
+
+    /**
+     * {@link TimedID#workerNum} of the generator. <br>
+     * 生成器的工作节点ID
+     *
+     * @return worker num
+     */
+    public int getWorkerNum() {
+        return (int) ((msb << 16) | (lsb >>> SEQUENCE_BITS));
+    }
+
+    public long getSequence() {
+        return lsb & SEQUENCE_MASK;
+    }
+
+    /**
+     * 16 bytes binary form (big-endian). <br>
+     * 16字节的二进制形式（大端序）
+     *
+     * @return bytes
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES_LENGTH];
+        writeBytes(msb, lsb, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * 26 chars Crockford base-32 string form (upper case). <br>
+     * 26位 Crockford base-32 字符串形式（大写）
+     *
+     * @return Crockford base-32 string
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[STRING_LENGTH];
+        long msb = this.msb, lsb = this.lsb;
+        for (int i = STRING_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ENCODE_CHARS[(int) (lsb & 31)];
+            lsb = (lsb >>> 5) | (msb << 59);
+            msb >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Compares as unsigned 128-bit numbers, same as the order of {@link #toString()} and {@link #toBytes()}. <br>
+     * 按无符号128位数比较，与 {@link #toString()} 及 {@link #toBytes()} 的顺序一致
+     */
+    @Override
+    public int compareTo(MonotonicID other) {
+        int compare = Long.compareUnsigned(msb, other.msb);
+        return compare != 0 ? compare : Long.compareUnsigned(lsb, other.lsb);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof MonotonicID)) return false;
+        MonotonicID other = (MonotonicID) obj;
+        return msb == other.msb && lsb == other.lsb;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = msb ^ lsb;
+        return (int) (hash >> 32) ^ (int) hash;
+    }
+
+    static void writeBytes(long msb, long lsb, byte[] bytes, int offset) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) msb;
+            bytes[offset + 8 + i] = (byte) lsb;
+            msb >>>= 8;
+            lsb >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+}
@@ -36,6 +36,24 @@ public final class OrderedID {
 
     private final static ConcurrentHashMap<String, AtomicLong> ID_GENERATORS = new ConcurrentHashMap<>();
 
+    /**
+     * Default number of IDs leased by a thread at a time. <br>
+     * 每个线程每次租用的默认ID个数
+     */
+    private final static int DEFAULT_LEASE_SIZE = 1024;
+    private static volatile int leaseSize = DEFAULT_LEASE_SIZE;
+    /**
+     * ID blocks leased by current thread, {@code classify -> lease}. <br>
+     * 当前线程租用的ID块
+     */
+    private final static ThreadLocal<Map<String, Lease>> LEASES = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Optional persistence backend. <br>
+     * 可选的持久化存储
+     */
+    private static volatile OrderedIDStore store;
+
     private final static String ERROR_MSG = OS.IS_ZH_LANG ? "OrderedID生成分类【${…}】自增ID异常。" : "OrderedID failed to generate the Self-increment ID of classify [${?}]. ";
 
     /**
@@ -91,6 +109,190 @@ public final class OrderedID {
      */
     public static long nextId(final String classify, final RT1<String, Long, Throwable> standbyIdInitializer) {
         checkNullNPE(classify, args("classify"));
+        return persisted(classify, idGenerator(classify, standbyIdInitializer).incrementAndGet());
+    }
+
+    /**
+     * Generate next {@code n} IDs <br>
+     * 批量生成 {@code n} 个ID
+     *
+     * @param n number of IDs
+     * @return next {@code n} ids (contiguous)
+     * @see #reserve(String, int, RT1)
+     * @since 0.7.0
+     */
+    public static long[] nextIds(int n) {
+        return reserve("", n, null).toArray();
+    }
+
+    /**
+     * Generate next {@code n} IDs for specified category <br>
+     * 为指定分类批量生成 {@code n} 个ID
+     *
+     * @param classify ID category
+     * @param n        number of IDs
+     * @return next {@code n} ids (contiguous)
+     * @see #reserve(String, int, RT1)
+     * @since 0.7.0
+     */
+    public static long[] nextIds(String classify, int n) {
+        return reserve(classify, n, null).toArray();
+    }
+
+    /**
+     * Reserve a contiguous block of {@code n} IDs for specified category <br>
+     * 为指定分类预留连续的 {@code n} 个ID
+     *
+     * @param classify ID category
+     * @param n        number of IDs
+     * @return reserved IDs
+     * @see #reserve(String, int, RT1)
+     * @since 0.7.0
+     */
+    public static IDBlock reserve(String classify, int n) {
+        return reserve(classify, n, null);
+    }
+
+    /**
+     * Reserve a contiguous block of {@code n} IDs for specified category, with a single atomic operation
+     * instead of {@code n} calls of {@link #nextId(String, RT1)}. <br>
+     * 为指定分类预留连续的 {@code n} 个ID，只需一次原子操作，代替 {@code n} 次调用 {@link #nextId(String, RT1)}
+     *
+     * @param classify             ID category
+     * @param n                    number of IDs, must be greater than 0
+     * @param standbyIdInitializer When classification is not found in {@link #ID_GENERATORS}, the fallback ID initializer will be used to initialize the ID. <br>
+     *                             当{@link #ID_GENERATORS}不存在此classify时，会使用备用的ID初始化器初始化ID
+     * @return reserved IDs
+     * @throws IDGenerateException when {@code standbyIdInitializer} occur error <br>
+     *                             当standbyIdGenerator生成器发生异常时，抛出此异常
+     * @since 0.7.0
+     */
+    public static IDBlock reserve(final String classify, final int n, final RT1<String, Long, Throwable> standbyIdInitializer) {
+        checkNullNPE(classify, args("classify"));
+        checkArgument(n < 1, "Parameter `n` must be greater than 0! ");
+        long last = persisted(classify, idGenerator(classify, standbyIdInitializer).addAndGet(n));
+        return IDBlock.of(last - n + 1, n);
+    }
+
+    /**
+     * Generate next ID from the ID block leased by current thread
+     *
+     * @return next id
+     * @see #nextLeasedId(String, RT1)
+     * @since 0.7.0
+     */
+    public static long nextLeasedId() {
+        return nextLeasedId("", null);
+    }
+
+    /**
+     * Generate next ID for specified category from the ID block leased by current thread
+     *
+     * @param classify ID category
+     * @return next id
+     * @see #nextLeasedId(String, RT1)
+     * @since 0.7.0
+     */
+    public static long nextLeasedId(String classify) {
+        return nextLeasedId(classify, null);
+    }
+
+    /**
+     * Generate next ID for specified category from the ID block leased by current thread. <br>
+     * Each thread leases a block of {@link #getLeaseSize()} IDs from the shared counter with one atomic operation
+     * and hands them out locally, so threads do not contend on the shared counter for every ID.
+     * This trades the strict global order of {@link #nextId(String, RT1)} for throughput:
+     * <ul>
+     *     <li> IDs are unique, and increasing within a thread, but not across threads;
+     *     <li> the unused IDs of a lease are skipped (gaps) when the thread ends or the application restarts;
+     *     <li> {@link #allMaxIds()} returns the max <b>leased</b> ID of each category.
+     * </ul>
+     * 从当前线程租用的ID块中为指定分类生成ID。<br>
+     * 每个线程通过一次原子操作从共享计数器租用 {@link #getLeaseSize()} 个ID，之后在线程内分配，避免每个ID都竞争共享计数器。
+     * 以牺牲 {@link #nextId(String, RT1)} 的全局严格有序换取吞吐量：
+     * <ul>
+     *     <li> ID唯一，线程内递增，但线程间不保证有序；
+     *     <li> 线程结束或应用重启时，租用但未使用的ID将被跳过（ID不连续）；
+     *     <li> {@link #allMaxIds()} 返回的是各分类<b>已租用</b>的最大ID。
+     * </ul>
+     *
+     * @param classify             ID category
+     * @param standbyIdInitializer When classification is not found in {@link #ID_GENERATORS}, the fallback ID initializer will be used to initialize the ID. <br>
+     *                             当{@link #ID_GENERATORS}不存在此classify时，会使用备用的ID初始化器初始化ID
+     * @return next id
+     * @throws IDGenerateException when {@code standbyIdInitializer} occur error <br>
+     *                             当standbyIdGenerator生成器发生异常时，抛出此异常
+     * @since 0.7.0
+     */
+    public static long nextLeasedId(final String classify, final RT1<String, Long, Throwable> standbyIdInitializer) {
+        checkNullNPE(classify, args("classify"));
+        Map<String, Lease> leases = LEASES.get();
+        Lease lease = leases.get(classify);
+        if (lease == null) {
+            lease = new Lease();
+            leases.put(classify, lease);
+        }
+        if (lease.next > lease.last) {
+            IDBlock block = reserve(classify, leaseSize, standbyIdInitializer);
+            lease.next = block.first;
+            lease.last = block.last;
+        }
+        return lease.next++;
+    }
+
+    /**
+     * Number of IDs leased by a thread at a time, default is {@code 1024}
+     *
+     * @return lease size
+     * @since 0.7.0
+     */
+    public static int getLeaseSize() {
+        return leaseSize;
+    }
+
+    /**
+     * Set the number of IDs leased by a thread at a time. Takes effect at the next lease of each thread. <br>
+     * 设置每个线程每次租用的ID个数，各线程下次租用时生效
+     *
+     * @param leaseSize lease size, must be greater than 0
+     * @since 0.7.0
+     */
+    public static void setLeaseSize(int leaseSize) {
+        checkArgument(leaseSize < 1, "Parameter `leaseSize` must be greater than 0! ");
+        OrderedID.leaseSize = leaseSize;
+    }
+
+    /**
+     * Enable (or disable with {@code null}) the persistence backend. The counters resume above the reserved
+     * high-water marks of {@code store} (if greater than the current counters). <br>
+     * Once enabled, every ID returned by {@link #nextId(String, RT1)}, {@link #reserve(String, int, RT1)} and
+     * {@link #nextLeasedId(String, RT1)} is covered by a block reserved in the store, so no ID is issued twice after a crash. <br>
+     * 启用（传入 {@code null} 则禁用）持久化存储，计数器从 {@code store} 已预留的高水位之后继续（若大于当前计数器）。<br>
+     * 启用后，所有返回的ID都在已持久化的预留ID块内，崩溃重启后不会生成重复的ID。
+     *
+     * @param store persistence backend
+     * @since 0.7.0
+     */
+    public static synchronized void setStore(OrderedIDStore store) {
+        if (store != null) {
+            store.reservedIds().forEach((k, v) -> ID_GENERATORS.computeIfAbsent(k, key -> new AtomicLong(v)).accumulateAndGet(v, Math::max));
+        }
+        OrderedID.store = store;
+    }
+
+    public static OrderedIDStore getStore() {
+        return store;
+    }
+
+    private static long persisted(String classify, long id) {
+        OrderedIDStore store = OrderedID.store;
+        if (store != null) {
+            store.ensureReserved(classify, id);
+        }
+        return id;
+    }
+
+    private static AtomicLong idGenerator(final String classify, final RT1<String, Long, Throwable> standbyIdInitializer) {
         return ID_GENERATORS.computeIfAbsent(
                 classify,
                 key -> {
@@ -99,7 +301,7 @@ public final class OrderedID {
                     } catch (Throwable e) {
                         throw new IDGenerateException(e, ERROR_MSG, key);
                     }
-                }).incrementAndGet();
+                });
     }
 
     /**
@@ -113,4 +315,12 @@ public final class OrderedID {
         return map;
     }
 
+    /**
+     * IDs {@code [next, last]} leased by a thread
+     */
+    private static final class Lease {
+        long next = 0;
+        long last = -1;
+    }
+
 }
@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.id;
+
+import com.iofairy.except.IDGenerateException;
+import com.iofairy.os.OS;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * Durable, crash-safe high-water marks of {@link OrderedID} counters, enabled by {@link OrderedID#setStore(OrderedIDStore)}. <br>
+ * {@link OrderedID} 计数器的持久化存储（高水位标记），通过 {@link OrderedID#setStore(OrderedIDStore)} 启用。<br>
+ * <ul>
+ *     <li> When an ID crosses the reserved high-water mark of its category, the next {@link #getBlockSize()} IDs are reserved
+ *          by appending a record to a memory-mapped file, which is forced to disk before the ID is returned.
+ *          IDs within the reserved block need no I/O. <br>
+ *          当ID超过其分类已预留的高水位时，通过向内存映射文件追加一条记录预留之后的 {@link #getBlockSize()} 个ID，
+ *          并在返回ID之前将记录刷到磁盘。已预留范围内的ID无需I/O。
+ *     <li> On restart, {@link #open(Path, int)} reads the last valid record of each category (records are checked by CRC32,
+ *          a torn record at the tail is ignored) and the counters resume above the last reserved block. The file is compacted
+ *          to one record per category. <br>
+ *          重启时，{@link #open(Path, int)} 读取每个分类最后的有效记录（记录通过CRC32校验，末尾不完整的记录将被忽略），
+ *          计数器从最后预留的ID块之后继续。文件会被压缩为每个分类一条记录。
+ * </ul>
+ * A lock file ({@code <file>.lock}) prevents two processes from using the same file. <br>
+ * 通过锁文件（{@code <file>.lock}）防止多个进程同时使用同一文件。
+ *
+ * @since 0.7.0
+ */
+public final class OrderedIDStore implements Closeable {
+
+    private final static int DEFAULT_BLOCK_SIZE = 1024;
+    /**
+     * Record: {@code marker(1) + keyLength(4) + key(keyLength) + reserved(8) + crc32(4)}
+     */
+    private final static byte RECORD_MARKER = 0x5A;
+    private final static int RECORD_OVERHEAD = 1 + 4 + 8 + 4;
+    private final static int MIN_MAPPED_SIZE = 64 * 1024;
+
+    private final static String ERROR_MSG = OS.IS_ZH_LANG ? "OrderedIDStore持久化分类【${…}】的ID失败。" : "OrderedIDStore failed to persist the ID of classify [${?}]. ";
+    private final static String CLOSED_MSG = OS.IS_ZH_LANG ? "OrderedIDStore【${…}】已关闭！" : "OrderedIDStore [${?}] is closed! ";
+
+    private final Path file;
+    private final int blockSize;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    /**
+     * classify -> reserved high-water mark
+     */
+    private final ConcurrentHashMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private OrderedIDStore(Path file, int blockSize, FileChannel lockChannel, FileLock lock) throws IOException {
+        this.file = file;
+        this.blockSize = blockSize;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+
+        Map<String, Long> reserved = load(file);
+        int size = compact(file, reserved);
+        reserved.forEach((k, v) -> reservations.put(k, new Reservation(v)));
+
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(MIN_MAPPED_SIZE, 2L * size));
+        this.buffer.position(size);
+    }
+
+    /**
+     * Open (or create) the store, reserves {@code 1024} IDs ahead
+     *
+     * @param file high-water mark file
+     * @return OrderedIDStore
+     * @throws IOException if an I/O error occurs
+     * @see #open(Path, int)
+     */
+    public static OrderedIDStore open(Path file) throws IOException {
+        return open(file, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Open (or create) the store <br>
+     * 打开（或创建）存储
+     *
+     * @param file      high-water mark file. 高水位文件
+     * @param blockSize number of IDs reserved ahead when the reserved block is used up, must be greater than 0. <br>
+     *                  预留的ID块用完时，一次预留的ID个数
+     * @return OrderedIDStore
+     * @throws IOException           if an I/O error occurs
+     * @throws IllegalStateException if the file is used by another process or store
+     */
+    public static OrderedIDStore open(Path file, int blockSize) throws IOException {
+        checkNullNPE(file, args("file"));
+        checkArgument(blockSize < 1, "Parameter `blockSize` must be greater than 0! ");
+        file = file.toAbsolutePath();
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock = null;
+        try {
+            try {
+                lock = lockChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                // locked by another store in the same JVM
+            }
+            checkState(lock == null, "The file [${…}] is used by another OrderedIDStore! ", file);
+            return new OrderedIDStore(file, blockSize, lockChannel, lock);
+        } catch (IOException | RuntimeException e) {
+            if (lock != null) lock.release();
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Reserved high-water mark of each category. IDs up to it may have been issued. <br>
+     * 各分类已预留的高水位（不超过此值的ID可能已被使用）
+     *
+     * @return reserved ids
+     */
+    public Map<String, Long> reservedIds() {
+        Map<String, Long> map = new HashMap<>();
+        reservations.forEach((k, v) -> map.put(k, v.reserved));
+        return map;
+    }
+
+    /**
+     * Make sure {@code id} is covered by the reserved block of {@code classify},
+     * otherwise reserve a new block and force it to disk before returning. <br>
+     * 确保 {@code id} 在 {@code classify} 已预留的ID块内，否则预留新的ID块，并在返回前刷到磁盘。
+     *
+     * @param classify ID category
+     * @param id       ID to be issued
+     * @throws IDGenerateException when the store is closed or an I/O error occurs
+     */
+    void ensureReserved(String classify, long id) {
+        Reservation reservation = reservations.get(classify);
+        if (reservation != null && id <= reservation.reserved) return;
+
+        synchronized (this) {
+            if (closed) throw new IDGenerateException(CLOSED_MSG, file);
+            reservation = reservations.computeIfAbsent(classify, k -> new Reservation(-1L));
+            if (id <= reservation.reserved) return;
+
+            long reserved = id + blockSize;
+            try {
+                append(classify, reserved);
+            } catch (IOException | RuntimeException e) {
+                throw new IDGenerateException(e, ERROR_MSG, classify);
+            }
+            reservation.reserved = reserved;
+        }
+    }
+
+    private void append(String classify, long reserved) throws IOException {
+        byte[] record = encode(classify, reserved);
+        if (buffer.remaining() < record.length) {
+            int position = buffer.position();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(2L * buffer.capacity(), position + record.length));
+            buffer.position(position);
+        }
+        buffer.put(record);
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OrderedIDStore{" +
+                "file=" + file +
+                ", blockSize=" + blockSize +
+                ", reservedIds=" + reservedIds() +
+                '}';
+    }
+
+    private static byte[] encode(String classify, long reserved) {
+        byte[] key = classify.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + key.length);
+        record.put(RECORD_MARKER).putInt(key.length).put(key).putLong(reserved);
+        CRC32 crc32 = new CRC32();
+        crc32.update(record.array(), 1, record.position() - 1);
+        record.putInt((int) crc32.getValue());
+        return record.array();
+    }
+
+    /**
+     * Read records until the end of the file or the first invalid record (torn write). <br>
+     * 读取记录，直到文件末尾或第一条无效（未写完整）的记录
+     */
+    private static Map<String, Long> load(Path file) throws IOException {
+        Map<String, Long> reserved = new HashMap<>();
+        if (!Files.exists(file)) return reserved;
+
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        CRC32 crc32 = new CRC32();
+        while (data.remaining() >= RECORD_OVERHEAD && data.get(data.position()) == RECORD_MARKER) {
+            int start = data.position();
+            int keyLength = data.getInt(start + 1);
+            if (keyLength < 0 || keyLength > data.remaining() - RECORD_OVERHEAD) break;
+            crc32.reset();
+            crc32.update(data.array(), start + 1, 4 + keyLength + 8);
+            int end = start + RECORD_OVERHEAD + keyLength;
+            if (data.getInt(end - 4) != (int) crc32.getValue()) break;
+
+            String classify = new String(data.array(), start + 5, keyLength, StandardCharsets.UTF_8);
+            long value = data.getLong(start + 5 + keyLength);
+            reserved.merge(classify, value, Long::max);
+            data.position(end);
+        }
+        return reserved;
+    }
+
+    /**
+     * Rewrite the file with one record per category, atomically replaces the old file. <br>
+     * 重写文件（每个分类一条记录），以原子方式替换旧文件
+     *
+     * @return size of the new file
+     */
+    private static int compact(Path file, Map<String, Long> reserved) throws IOException {
+        Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+        int size = 0;
+        try (FileChannel tmpChannel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<String, Long> entry : reserved.entrySet()) {
+                ByteBuffer record = ByteBuffer.wrap(encode(entry.getKey(), entry.getValue()));
+                size += record.remaining();
+                while (record.hasRemaining()) {
+                    tmpChannel.write(record);
+                }
+            }
+            tmpChannel.force(true);
+        }
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // the later reservations go to the new file, so the rename must be durable before they are issued
+        forceDirectory(file.getParent());
+        return size;
+    }
+
+    /**
+     * Flush the directory entries (e.g. a rename) to the disk. Skipped where a directory can not be opened (e.g. Windows). <br>
+     * 将目录项（如重命名）刷到磁盘。在无法打开目录的系统上（如 Windows）跳过。
+     *
+     * @param dir directory
+     */
+    private static void forceDirectory(Path dir) throws IOException {
+        if (dir == null || OS.IS_WINDOWS) return;
+        FileChannel dirChannel;
+        try {
+            dirChannel = FileChannel.open(dir, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            return;     // directories can not be opened on this platform
+        }
+        try (FileChannel c = dirChannel) {
+            c.force(true);
+        }
+    }
+
+    private static final class Reservation {
+        volatile long reserved;
+
+        Reservation(long reserved) {
+            this.reserved = reserved;
+        }
+    }
+
+}
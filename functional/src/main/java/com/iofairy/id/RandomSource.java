@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.id;
+
+/**
+ * Source of the 128 random bits of {@link TimedID}. Every source produces the same ID layout
+ * (122 random bits, the version and variant bits are fixed as {@code UUID version 4}). <br>
+ * {@link TimedID} 中128位随机数的来源。所有来源生成的ID格式相同（122位随机数，版本位及变体位与 {@code UUID version 4} 相同）
+ *
+ * @since 0.7.0
+ */
+public enum RandomSource {
+    /**
+     * Shared {@link java.security.SecureRandom}, same as {@link java.util.UUID#randomUUID()}. IDs are unpredictable,
+     * but all threads are serialized on it, so the throughput does not grow with the number of threads. <br>
+     * 共享的 {@link java.security.SecureRandom}，与 {@link java.util.UUID#randomUUID()} 相同。ID不可预测，
+     * 但所有线程串行获取随机数，吞吐量不随线程数增长。
+     */
+    SECURE_RANDOM,
+    /**
+     * {@link java.util.concurrent.ThreadLocalRandom}, no contention, the throughput scales with the number of threads.
+     * Not cryptographically secure, <b>do not use it when IDs must be unguessable</b>. <br>
+     * {@link java.util.concurrent.ThreadLocalRandom}，无竞争，吞吐量随线程数增长。非密码学安全，<b>ID需不可猜测时不要使用</b>。
+     */
+    THREAD_LOCAL_RANDOM,
+    /**
+     * One {@link java.util.SplittableRandom} per thread (per {@link TimedID} instance), no contention, the throughput scales
+     * with the number of threads. Not cryptographically secure, <b>do not use it when IDs must be unguessable</b>. <br>
+     * 每个线程（每个 {@link TimedID} 实例）一个 {@link java.util.SplittableRandom}，无竞争，吞吐量随线程数增长。
+     * 非密码学安全，<b>ID需不可猜测时不要使用</b>。
+     */
+    SPLITTABLE_RANDOM,
+
+}
@@ -15,18 +15,18 @@
  */
 package com.iofairy.id;
 
+import com.iofairy.except.IDGenerateException;
 import com.iofairy.os.OS;
 import com.iofairy.time.DateTime;
 import com.iofairy.top.S;
 
-import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.temporal.ChronoField;
-import java.util.UUID;
-import java.util.regex.Pattern;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.iofairy.validator.Preconditions.*;
 
@@ -58,6 +58,32 @@ public class TimedID {
     private static final boolean DEFAULT_WITH_TIMESTAMP = false;
     private static final Instant DEFAULT_START_INSTANT = Instant.EPOCH;
     private static final int MIN_EPOCH_MILLIS_LENGTH = 12;
+    private static final RandomSource DEFAULT_RANDOM_SOURCE = RandomSource.SECURE_RANDOM;
+    /**
+     * 128位随机数转36进制后的最大位数
+     */
+    private static final int BASE36_LENGTH = 25;
+    /**
+     * 时间戳（long）最大19位 + "_" + 工作节点ID(6位) + 36进制随机数(25位)
+     */
+    private static final int MAX_RAW_ID_LENGTH = 19 + 1 + MAX_WORKERID_LENGTH + BASE36_LENGTH;
+    /*#####################################################
+     *********             其他全局对象             *********
+     #####################################################*/
+    /*
+     * 以下对象需在预设置的 TimedID 实例之前初始化
+     */
+    /**
+     * 随机数来源，与 {@link java.util.UUID#randomUUID()} 相同，采用 {@link SecureRandom}
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final char[] UPPER_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] LOWER_DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    /**
+     * 36的5次方，128位数每次除以此数可得到5位36进制数
+     */
+    private static final long RADIX36_POW5 = 36L * 36 * 36 * 36 * 36;
+    private static final int[] POW10 = {1, 10, 100, 1000, 10000, 100000};
     /*###################################################################################
      ************************************************************************************
      ------------------------------------------------------------------------------------
@@ -119,14 +145,6 @@ public class TimedID {
      */
     public static final TimedID TS_ID_UNDERLINE = newBuilder().withTimestamp(true).withUnderline(true).withIdLength(30).withWorkerIdLength(1).build();
 
-    /*#####################################################
-     *********             其他全局对象             *********
-     #####################################################*/
-    /**
-     * 去除UUID中的横线的正则表达式
-     */
-    private static final Pattern PATTERN = Pattern.compile("-");
-
     /*###################################################################################
      ************************************************************************************
      ------------------------------------------------------------------------------------
@@ -172,10 +190,27 @@ public class TimedID {
      */
     public final Instant startInstant;
     /**
-     * 时间格式串
+     * 随机数来源
+     *
+     * @since 0.7.0
+     */
+    public final RandomSource randomSource;
+    private final long startEpochMilli;
+    /**
+     * "_" + 工作节点ID（已按 {@link #upperCase} 转换大小写）
+     */
+    private final char[] underlineWithWorkerId;
+    private final char[] digits;
+    /**
+     * 每个线程复用的ID缓冲区
+     */
+    private final ThreadLocal<IdBuffer> buffers = ThreadLocal.withInitial(IdBuffer::new);
+    /**
+     * {@link #monotonicId()} 的状态：最后使用的时间戳及序列
      */
-    private final DateTimeFormatter formatter;
-    private final String underlineWithWorkerId;
+    private final Object monotonicLock = new Object();
+    private long lastTimestamp = -1;
+    private long lastSequence;
 
     /**
      * TimedID Builder
@@ -189,6 +224,7 @@ public class TimedID {
         private int yearLength = DEFAULT_YEAR_LENGTH;
         private boolean withTimestamp = DEFAULT_WITH_TIMESTAMP;
         private Instant startInstant = DEFAULT_START_INSTANT;
+        private RandomSource randomSource = DEFAULT_RANDOM_SOURCE;
 
         Builder() {
         }
@@ -269,16 +305,30 @@ public class TimedID {
             return withStartInstant(startInstant);
         }
 
+        /**
+         * 设置随机数来源，默认为 {@link RandomSource#SECURE_RANDOM}。多线程大量生成ID且ID无需不可猜测时，
+         * 可使用 {@link RandomSource#THREAD_LOCAL_RANDOM} 或 {@link RandomSource#SPLITTABLE_RANDOM}，ID格式不变
+         *
+         * @param randomSource 随机数来源
+         * @return Builder
+         * @since 0.7.0
+         */
+        public Builder withRandomSource(RandomSource randomSource) {
+            if (randomSource == null) return this;
+            this.randomSource = randomSource;
+            return this;
+        }
+
         public TimedID build() {
             return new TimedID(this);
         }
     }
 
     TimedID(Builder builder) {
-        this(builder.workerNum, builder.workerIdLength, builder.idLength, builder.upperCase, builder.withUnderline, builder.yearLength, builder.withTimestamp, builder.startInstant);
+        this(builder.workerNum, builder.workerIdLength, builder.idLength, builder.upperCase, builder.withUnderline, builder.yearLength, builder.withTimestamp, builder.startInstant, builder.randomSource);
     }
 
-    TimedID(int workerNum, int workerIdLength, int idLength, boolean upperCase, boolean withUnderline, int yearLength, boolean withTimestamp, Instant startInstant) {
+    TimedID(int workerNum, int workerIdLength, int idLength, boolean upperCase, boolean withUnderline, int yearLength, boolean withTimestamp, Instant startInstant, RandomSource randomSource) {
         this.workerNum = workerNum;
         this.workerIdLength = workerIdLength < MIN_WORKERID_LENGTH ? MIN_WORKERID_LENGTH : (Math.min(workerIdLength, MAX_WORKERID_LENGTH));
         this.idLength = idLength < MIN_ID_LENGTH ? MIN_ID_LENGTH : (Math.min(idLength, MAX_ID_LENGTH));
@@ -288,12 +338,13 @@ public class TimedID {
         this.yearLength = yearLength < MIN_YEAR_LENGTH ? MIN_YEAR_LENGTH : (Math.min(yearLength, MAX_YEAR_LENGTH));
         this.withTimestamp = withTimestamp;
         this.startInstant = startInstant;
+        this.randomSource = randomSource;
+
+        this.startEpochMilli = startInstant.toEpochMilli();
 
-        this.underlineWithWorkerId = (this.withUnderline ? "_" : "") + this.workerId;
-        this.formatter = new DateTimeFormatterBuilder()
-                .appendValueReduced(ChronoField.YEAR, this.yearLength, this.yearLength, 0)
-                .appendPattern("MMddHHmmssSSS")
-                .toFormatter();
+        String underlineWithWorkerId = (this.withUnderline ? "_" : "") + this.workerId;
+        this.underlineWithWorkerId = (this.upperCase ? underlineWithWorkerId : underlineWithWorkerId.toLowerCase()).toCharArray();
+        this.digits = this.upperCase ? UPPER_DIGITS : LOWER_DIGITS;
     }
 
     public static Builder newBuilder() {
@@ -407,13 +458,176 @@ public class TimedID {
      * @return 随机ID
      */
     public String randomId() {
-        String timestamp = S.padLeftChars(Instant.now().toEpochMilli() - startInstant.toEpochMilli(), '0', MIN_EPOCH_MILLIS_LENGTH);
-        String dateTime = withTimestamp ? timestamp : formatter.format(LocalDateTime.now());
-        String base36 = uuidToBase36();
+        IdBuffer buffer = buffers.get();
+        return randomId(buffer, writePrefix(System.currentTimeMillis(), buffer));
+    }
+
+    /**
+     * 批量获取 {@code n} 个随机ID
+     *
+     * @param n ID个数
+     * @return 随机ID
+     * @see #randomIds(String[], int, int)
+     * @since 0.7.0
+     */
+    public String[] randomIds(int n) {
+        checkArgument(n < 0, "Parameter `n` must be non-negative! ");
+        String[] ids = new String[n];
+        randomIds(ids, 0, n);
+        return ids;
+    }
+
+    /**
+     * 批量获取随机ID，并填充到 {@code ids} 的 {@code [offset, offset + length)} 位置。<br>
+     * 时间串（或时间戳）及工作节点ID只在批量开始时写入一次，<b>同一批ID的时间部分相同</b>。
+     *
+     * @param ids    目标数组
+     * @param offset 填充的起始位置
+     * @param length 填充的ID个数
+     * @since 0.7.0
+     */
+    public void randomIds(String[] ids, int offset, int length) {
+        checkNullNPE(ids, args("ids"));
+        checkArgument(offset < 0 || length < 0 || offset > ids.length - length,
+                "Parameters `offset`[${…}] and `length`[${…}] are out of the bounds of `ids`[${…}]! ", offset, length, ids.length);
+        IdBuffer buffer = buffers.get();
+        int prefixLength = writePrefix(System.currentTimeMillis(), buffer);
+        for (int i = offset; i < offset + length; i++) {
+            ids[i] = randomId(buffer, prefixLength);
+        }
+    }
+
+    /**
+     * 写入 {@code 时间串（或时间戳）+ "_" + 工作节点ID}
+     *
+     * @return 写入的字符数
+     */
+    private int writePrefix(long epochMilli, IdBuffer buffer) {
+        char[] chars = buffer.chars;
+        int length = withTimestamp ? writeTimestamp(epochMilli - startEpochMilli, chars) : writeDateTime(epochMilli, buffer);
+        System.arraycopy(underlineWithWorkerId, 0, chars, length, underlineWithWorkerId.length);
+        return length + underlineWithWorkerId.length;
+    }
+
+    /**
+     * 在已写入的前缀之后写入36进制随机数，并生成ID
+     */
+    private String randomId(IdBuffer buffer, int prefixLength) {
+        char[] chars = buffer.chars;
+        long msb, lsb;
+        switch (randomSource) {
+            case THREAD_LOCAL_RANDOM:
+                ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+                msb = threadLocalRandom.nextLong();
+                lsb = threadLocalRandom.nextLong();
+                break;
+            case SPLITTABLE_RANDOM:
+                SplittableRandom splittableRandom = buffer.splittableRandom();
+                msb = splittableRandom.nextLong();
+                lsb = splittableRandom.nextLong();
+                break;
+            default:
+                byte[] randomBytes = buffer.randomBytes;
+                SECURE_RANDOM.nextBytes(randomBytes);
+                msb = toLong(randomBytes, 0);
+                lsb = toLong(randomBytes, 8);
+        }
+        int length = prefixLength + writeBase36(msb, lsb, chars, prefixLength);
+        return new String(chars, 0, Math.min(idLength, length));
+    }
 
-        String id = dateTime + underlineWithWorkerId + base36;
-        id = id.substring(0, Math.min(idLength, id.length()));
-        return upperCase ? id.toUpperCase() : id.toLowerCase();
+    /**
+     * 获取单调递增、可排序的128位ID（{@code 48位时间戳 + 32位工作节点ID + 48位序列}，详见 {@link MonotonicID}）。<br>
+     * 同一实例生成的ID严格递增：同一毫秒内序列递增；系统时钟回拨时继续使用最后的时间戳；序列用尽时借用下一毫秒。
+     *
+     * @return 单调递增ID
+     * @since 0.7.0
+     */
+    public MonotonicID monotonicId() {
+        long timestamp, sequence;
+        synchronized (monotonicLock) {
+            nextMonotonic();
+            timestamp = lastTimestamp;
+            sequence = lastSequence;
+        }
+        return MonotonicID.of(monotonicMsb(timestamp), monotonicLsb(sequence));
+    }
+
+    /**
+     * 批量获取 {@code n} 个单调递增ID，只需获取一次锁
+     *
+     * @param n ID个数
+     * @return 单调递增ID
+     * @see #monotonicId()
+     * @since 0.7.0
+     */
+    public MonotonicID[] monotonicIds(int n) {
+        checkArgument(n < 0, "Parameter `n` must be non-negative! ");
+        MonotonicID[] ids = new MonotonicID[n];
+        synchronized (monotonicLock) {
+            for (int i = 0; i < n; i++) {
+                nextMonotonic();
+                ids[i] = MonotonicID.of(monotonicMsb(lastTimestamp), monotonicLsb(lastSequence));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 获取单调递增、可排序的128位ID，以16字节（大端序）写入 {@code bytes}，不创建对象
+     *
+     * @param bytes  目标数组
+     * @param offset 写入的起始位置
+     * @see #monotonicId()
+     * @since 0.7.0
+     */
+    public void monotonicId(byte[] bytes, int offset) {
+        checkNullNPE(bytes, args("bytes"));
+        checkArgument(offset < 0 || offset > bytes.length - MonotonicID.BYTES_LENGTH,
+                "Not enough space in `bytes` to write ${…} bytes at offset ${…}! ", MonotonicID.BYTES_LENGTH, offset);
+        long timestamp, sequence;
+        synchronized (monotonicLock) {
+            nextMonotonic();
+            timestamp = lastTimestamp;
+            sequence = lastSequence;
+        }
+        MonotonicID.writeBytes(monotonicMsb(timestamp), monotonicLsb(sequence), bytes, offset);
+    }
+
+    /**
+     * 更新 {@link #lastTimestamp} 及 {@link #lastSequence}，需持有 {@link #monotonicLock}
+     */
+    private void nextMonotonic() {
+        long timestamp = Math.max(0, System.currentTimeMillis() - startEpochMilli);
+        if (timestamp > lastTimestamp) {
+            lastTimestamp = timestamp;
+            lastSequence = randomSequence();
+        } else if (lastSequence < MonotonicID.SEQUENCE_MASK) {
+            // 同一毫秒内，或系统时钟回拨（继续使用最后的时间戳）
+            lastSequence++;
+        } else {
+            // 序列用尽，借用下一毫秒
+            lastTimestamp++;
+            lastSequence = randomSequence();
+        }
+        if (lastTimestamp > MonotonicID.TIMESTAMP_MASK) {
+            throw new IDGenerateException("The timestamp of MonotonicID exceeds ${…} bits! ", MonotonicID.TIMESTAMP_BITS);
+        }
+    }
+
+    /**
+     * 每毫秒的起始序列：随机值，且最高位为0，保证该毫秒内至少可递增 {@code 2^47} 次
+     */
+    private static long randomSequence() {
+        return ThreadLocalRandom.current().nextLong() & (MonotonicID.SEQUENCE_MASK >>> 1);
+    }
+
+    private long monotonicMsb(long timestamp) {
+        return (timestamp << (64 - MonotonicID.TIMESTAMP_BITS)) | (workerNum >>> 16);
+    }
+
+    private long monotonicLsb(long sequence) {
+        return ((long) (workerNum & 0xFFFF) << MonotonicID.SEQUENCE_BITS) | sequence;
     }
 
     public static TimedID getDefaultId() {
@@ -426,22 +640,150 @@ public class TimedID {
         }
     }
 
-    private static String uuidToBase36() {
-        String hexUuid = UUID.randomUUID().toString();
-        hexUuid = PATTERN.matcher(hexUuid).replaceAll("");
+    /**
+     * 写入 {@code 时间戳}，不足 {@link #MIN_EPOCH_MILLIS_LENGTH} 位时左侧补0
+     *
+     * @param timestamp 时间戳
+     * @param chars     ID缓冲区
+     * @return 写入的字符数
+     */
+    private static int writeTimestamp(long timestamp, char[] chars) {
+        if (timestamp < 0) {    // 系统时钟早于 startInstant
+            String text = S.padLeftChars(timestamp, '0', MIN_EPOCH_MILLIS_LENGTH);
+            text.getChars(0, text.length(), chars, 0);
+            return text.length();
+        }
+        int length = Math.max(MIN_EPOCH_MILLIS_LENGTH, stringSize(timestamp));
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + timestamp % 10);
+            timestamp /= 10;
+        }
+        return length;
+    }
+
+    /**
+     * 写入 {@code 时间串}（年份位数由 {@link #yearLength} 决定，再加 {@code MMddHHmmssSSS}）。
+     * 同一秒内的 {@code 年月日时分秒} 前缀在线程内缓存，只需写入毫秒部分；时区在每秒首次生成ID时获取。
+     *
+     * @param epochMilli 当前时间毫秒数
+     * @param buffer     ID缓冲区
+     * @return 写入的字符数
+     */
+    private int writeDateTime(long epochMilli, IdBuffer buffer) {
+        char[] chars = buffer.chars;
+        long epochSecond = Math.floorDiv(epochMilli, 1000);
+        int prefixLength = yearLength + 10;
+        if (epochSecond != buffer.epochSecond) {
+            ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+            LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+            int index = writeDigits(Math.abs(ldt.getYear()) % POW10[yearLength], yearLength, chars, 0);
+            index = writeDigits(ldt.getMonthValue(), 2, chars, index);
+            index = writeDigits(ldt.getDayOfMonth(), 2, chars, index);
+            index = writeDigits(ldt.getHour(), 2, chars, index);
+            index = writeDigits(ldt.getMinute(), 2, chars, index);
+            writeDigits(ldt.getSecond(), 2, chars, index);
+            buffer.epochSecond = epochSecond;
+        }
+        return writeDigits((int) Math.floorMod(epochMilli, 1000), 3, chars, prefixLength);
+    }
+
+    private static int writeDigits(int value, int width, char[] chars, int offset) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + width;
+    }
 
-        int radix = 36;
-        BigInteger bigInteger = new BigInteger(hexUuid, 16);
-        String base36 = bigInteger.toString(radix);
+    private static int stringSize(long value) {
+        long p = 10;
+        for (int i = 1; i < 19; i++) {
+            if (value < p) return i;
+            p = 10 * p;
+        }
+        return 19;
+    }
+
+    /**
+     * 将随机的128位数（设置与 {@code UUID version 4} 相同的版本位及变体位）转成36进制写入，
+     * 与 {@code new BigInteger(hexUuid, 16).toString(36)} 结果一致，不足 {@link #BASE36_LENGTH} 位时末位补0（因为末位可能被裁剪）
+     *
+     * @param msb    高64位
+     * @param lsb    低64位
+     * @param chars  ID缓冲区
+     * @param offset 写入的起始位置
+     * @return 写入的字符数
+     */
+    private int writeBase36(long msb, long lsb, char[] chars, int offset) {
+        msb = (msb & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;     // version 4
+        lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;     // IETF variant
+        /*
+         * 拆成4个32位（无符号）分段，每次整体除以 36^5 得到5位36进制数，
+         * 被除数最大为 (36^5 - 1) * 2^32 + (2^32 - 1)，不会超出long的范围
+         */
+        long l0 = msb >>> 32, l1 = msb & 0xFFFFFFFFL, l2 = lsb >>> 32, l3 = lsb & 0xFFFFFFFFL;
+        int end = offset + BASE36_LENGTH;
+        for (int i = end; i > offset; ) {
+            long remainder = l0 % RADIX36_POW5;
+            l0 /= RADIX36_POW5;
+            long dividend = (remainder << 32) | l1;
+            l1 = dividend / RADIX36_POW5;
+            dividend = ((dividend % RADIX36_POW5) << 32) | l2;
+            l2 = dividend / RADIX36_POW5;
+            dividend = ((dividend % RADIX36_POW5) << 32) | l3;
+            l3 = dividend / RADIX36_POW5;
+            int chunk = (int) (dividend % RADIX36_POW5);
+            for (int j = 0; j < 5; j++) {
+                chars[--i] = digits[chunk % 36];
+                chunk /= 36;
+            }
+        }
         /*
-         * 16进制UUID 转 36进制，最大25位
+         * 去掉前导0后左移，末位补0
          */
-        if (base36.length() < 25) {
-            base36 = S.padRightChars(base36, '0', 25);  // 这里采用末位补0的方式，因为末位可能被裁剪。
+        int leadingZeros = 0;
+        while (leadingZeros < BASE36_LENGTH - 1 && chars[offset + leadingZeros] == '0') {
+            leadingZeros++;
+        }
+        if (leadingZeros > 0) {
+            System.arraycopy(chars, offset + leadingZeros, chars, offset, BASE36_LENGTH - leadingZeros);
+            for (int i = end - leadingZeros; i < end; i++) {
+                chars[i] = '0';
+            }
         }
-        return base36;
+        return BASE36_LENGTH;
     }
 
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * 线程内复用的ID缓冲区
+     */
+    private static final class IdBuffer {
+        final char[] chars = new char[MAX_RAW_ID_LENGTH];
+        final byte[] randomBytes = new byte[16];
+        /**
+         * {@link #chars} 中已缓存的时间串前缀对应的秒数
+         */
+        long epochSecond = Long.MIN_VALUE;
+        /**
+         * {@link RandomSource#SPLITTABLE_RANDOM} 时使用，{@code new SplittableRandom()} 保证各线程的种子不同
+         */
+        SplittableRandom splittableRandom;
+
+        SplittableRandom splittableRandom() {
+            if (splittableRandom == null) {
+                splittableRandom = new SplittableRandom();
+            }
+            return splittableRandom;
+        }
+    }
 
     /**
      * 将数字映射成指定位数的字母<b>（大写）</b> <br>
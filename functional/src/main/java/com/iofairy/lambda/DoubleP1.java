@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Represents a <b>predicate</b> (boolean-valued function) of 1 {@code double} argument. The primitive specialization of {@link P1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code double}参数 并返回boolean值的函数。{@link P1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface DoubleP1 extends LambdaRN<Boolean>, Lambda1<Double> {
+    boolean $(double t);
+
+    /**
+     * Convert to {@link DoublePredicate}. <br>
+     * 转成 {@link DoublePredicate}
+     *
+     * @return DoublePredicate
+     */
+    default DoublePredicate toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link DoublePredicate} to {@link DoubleP1}. <br>
+     * 将 {@link DoublePredicate} 转成 {@link DoubleP1}
+     *
+     * @param doublePredicate DoublePredicate
+     * @return DoubleP1
+     */
+    static DoubleP1 from(DoublePredicate doublePredicate) {
+        return doublePredicate::test;
+    }
+}
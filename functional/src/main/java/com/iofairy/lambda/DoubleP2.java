@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+/**
+ * Represents a <b>predicate</b> (boolean-valued function) of 2 {@code double} arguments. The primitive specialization of {@link P2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 2个{@code double}参数 并返回boolean值的函数。{@link P2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface DoubleP2 extends LambdaRN<Boolean>, Lambda2<Double, Double> {
+    boolean $(double t1, double t2);
+}
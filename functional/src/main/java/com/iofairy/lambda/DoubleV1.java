@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Represents a function that accepts 1 {@code double} argument and returns no result. The primitive specialization of {@link V1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code double}参数 但不返回任何结果的函数。{@link V1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface DoubleV1 extends LambdaVN, Lambda1<Double> {
+    void $(double t);
+
+    /**
+     * Convert to {@link DoubleConsumer}. <br>
+     * 转成 {@link DoubleConsumer}
+     *
+     * @return DoubleConsumer
+     */
+    default DoubleConsumer toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link DoubleConsumer} to {@link DoubleV1}. <br>
+     * 将 {@link DoubleConsumer} 转成 {@link DoubleV1}
+     *
+     * @param doubleConsumer DoubleConsumer
+     * @return DoubleV1
+     */
+    static DoubleV1 from(DoubleConsumer doubleConsumer) {
+        return doubleConsumer::accept;
+    }
+}
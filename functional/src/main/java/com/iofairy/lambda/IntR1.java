@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.IntFunction;
+
+/**
+ * Represents a function that accepts 1 {@code int} argument and produces a result. The primitive specialization of {@link R1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code int}参数 并返回结果的函数。{@link R1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <R> return type  返回值类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface IntR1<R> extends LambdaRN<R>, Lambda1<Integer> {
+    R $(int t);
+
+    /**
+     * Convert to {@link IntFunction}. <br>
+     * 转成 {@link IntFunction}
+     *
+     * @return IntFunction
+     */
+    default IntFunction<R> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link IntFunction} to {@link IntR1}. <br>
+     * 将 {@link IntFunction} 转成 {@link IntR1}
+     *
+     * @param intFunction IntFunction
+     * @param <R> return type
+     * @return IntR1
+     */
+    static <R> IntR1<R> from(IntFunction<R> intFunction) {
+        return intFunction::apply;
+    }
+}
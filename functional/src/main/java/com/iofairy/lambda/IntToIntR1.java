@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents a function that accepts 1 {@code int} argument and produces a {@code int} result. The primitive specialization of {@link R1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code int}参数 并返回{@code int}结果的函数。{@link R1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface IntToIntR1 extends LambdaRN<Integer>, Lambda1<Integer> {
+    int $(int t);
+
+    /**
+     * Convert to {@link IntUnaryOperator}. <br>
+     * 转成 {@link IntUnaryOperator}
+     *
+     * @return IntUnaryOperator
+     */
+    default IntUnaryOperator toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link IntUnaryOperator} to {@link IntToIntR1}. <br>
+     * 将 {@link IntUnaryOperator} 转成 {@link IntToIntR1}
+     *
+     * @param intUnaryOperator IntUnaryOperator
+     * @return IntToIntR1
+     */
+    static IntToIntR1 from(IntUnaryOperator intUnaryOperator) {
+        return intUnaryOperator::applyAsInt;
+    }
+}
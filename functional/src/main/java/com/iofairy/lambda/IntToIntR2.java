@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Represents a function that accepts 2 {@code int} arguments and produces a {@code int} result. The primitive specialization of {@link R2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 2个{@code int}参数 并返回{@code int}结果的函数。{@link R2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface IntToIntR2 extends LambdaRN<Integer>, Lambda2<Integer, Integer> {
+    int $(int t1, int t2);
+
+    /**
+     * Convert to {@link IntBinaryOperator}. <br>
+     * 转成 {@link IntBinaryOperator}
+     *
+     * @return IntBinaryOperator
+     */
+    default IntBinaryOperator toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link IntBinaryOperator} to {@link IntToIntR2}. <br>
+     * 将 {@link IntBinaryOperator} 转成 {@link IntToIntR2}
+     *
+     * @param intBinaryOperator IntBinaryOperator
+     * @return IntToIntR2
+     */
+    static IntToIntR2 from(IntBinaryOperator intBinaryOperator) {
+        return intBinaryOperator::applyAsInt;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a function that accepts 1 {@code int} argument and returns no result. The primitive specialization of {@link V1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code int}参数 但不返回任何结果的函数。{@link V1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface IntV1 extends LambdaVN, Lambda1<Integer> {
+    void $(int t);
+
+    /**
+     * Convert to {@link IntConsumer}. <br>
+     * 转成 {@link IntConsumer}
+     *
+     * @return IntConsumer
+     */
+    default IntConsumer toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link IntConsumer} to {@link IntV1}. <br>
+     * 将 {@link IntConsumer} 转成 {@link IntV1}
+     *
+     * @param intConsumer IntConsumer
+     * @return IntV1
+     */
+    static IntV1 from(IntConsumer intConsumer) {
+        return intConsumer::accept;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import com.iofairy.top.O;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a function that accepts 1 {@code int} argument and returns no result, and will throw exception. The primitive specialization of {@link VT1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code int}参数 但不返回任何结果且抛出异常的函数。{@link VT1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <E> Throwable or subclass of Throwable.　Throwable类及其子类
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface IntVT1<E extends Throwable> extends LambdaVT<E>, Lambda1<Integer> {
+    void $(int t) throws E;
+
+    /**
+     * Convert to {@link IntConsumer}, the exception will be thrown quietly (see {@link O#sneakyThrows(Throwable)}). <br>
+     * 转成 {@link IntConsumer}，异常将被静静地抛出
+     *
+     * @return IntConsumer
+     */
+    default IntConsumer toJava() {
+        return t -> {
+            try {
+                $(t);
+            } catch (Throwable e) {
+                O.sneakyThrows(e);
+            }
+        };
+    }
+}
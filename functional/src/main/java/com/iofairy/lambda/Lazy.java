@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * A value computed by {@link R0} on the first {@link #get()}, then cached. <b>Thread-safe, the supplier is called
+ * at most once</b> (unless it throws exception), after initialization {@link #get()} is a lock-free volatile read. <br>
+ * 在第一次调用 {@link #get()} 时通过 {@link R0} 计算并缓存的值。<b>线程安全，supplier最多只会被调用一次</b>（抛出异常的情况除外），
+ * 初始化之后 {@link #get()} 只是一次无锁的 volatile 读取。<br>
+ * If the supplier throws exception, the exception is thrown to the caller and the next {@link #get()} calls the supplier again.
+ * Use {@link LazyT} for the supplier that throws checked exception or whose failure should be cached. <br>
+ * 如果 supplier 抛出异常，异常将抛给调用者，下次调用 {@link #get()} 时重新调用 supplier。
+ * supplier 会抛出受检异常或者需要缓存失败结果时，使用 {@link LazyT}。<br>
+ * <b>Examples:</b>
+ * <pre>{@code
+ * private static final Lazy<Pattern> EMAIL = Lazy.of(() -> Pattern.compile("^[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+$"));
+ *
+ * boolean valid = EMAIL.get().matcher(email).matches();
+ * }</pre>
+ *
+ * @param <T> value type
+ * @since 0.7.0
+ */
+public final class Lazy<T> implements R0<T> {
+    /**
+     * Set to {@code null} after initialization, so that the objects captured by the supplier can be collected. <br>
+     * 初始化之后置为 {@code null}，使 supplier 引用的对象可以被回收
+     */
+    private R0<? extends T> supplier;
+    /**
+     * Written before {@link #initialized}, and read after it. <br>
+     * 在 {@link #initialized} 之前写入，之后读取
+     */
+    private T value;
+    private volatile boolean initialized;
+
+    private Lazy(R0<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    public static <T> Lazy<T> of(R0<? extends T> supplier) {
+        checkNullNPE(supplier, args("supplier"));
+        return new Lazy<>(supplier);
+    }
+
+    /**
+     * Create an initialized Lazy. <br>
+     * 创建一个已初始化的 Lazy
+     *
+     * @param value value
+     * @param <T>   value type
+     * @return Lazy
+     */
+    public static <T> Lazy<T> value(T value) {
+        Lazy<T> lazy = new Lazy<>(null);
+        lazy.value = value;
+        lazy.initialized = true;
+        return lazy;
+    }
+
+    /**
+     * Get the value, compute it on the first call. <br>
+     * 获取值，第一次调用时计算
+     *
+     * @return value
+     */
+    public T get() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    value = supplier.$();
+                    initialized = true;
+                    supplier = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #get()}
+     */
+    @Override
+    public T $() {
+        return get();
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Returns a Lazy that applies {@code mapper} to the value of this Lazy. Nothing is computed until {@link #get()}
+     * of the returned Lazy is called. <br>
+     * 返回一个对此 Lazy 的值应用 {@code mapper} 的 Lazy。在调用返回的 Lazy 的 {@link #get()} 之前，不会进行任何计算。
+     *
+     * @param mapper mapping function
+     * @param <R>    result type
+     * @return Lazy
+     */
+    public <R> Lazy<R> map(R1<? super T, ? extends R> mapper) {
+        checkNullNPE(mapper, args("mapper"));
+        return new Lazy<>(() -> mapper.$(get()));
+    }
+
+    /**
+     * Same as {@link #map(R1)}, but the {@code mapper} returns a Lazy. <br>
+     * 与 {@link #map(R1)} 相同，但 {@code mapper} 返回一个 Lazy
+     *
+     * @param mapper mapping function
+     * @param <R>    result type
+     * @return Lazy
+     */
+    public <R> Lazy<R> flatMap(R1<? super T, ? extends Lazy<? extends R>> mapper) {
+        checkNullNPE(mapper, args("mapper"));
+        return new Lazy<>(() -> mapper.$(get()).get());
+    }
+
+    @Override
+    public String toString() {
+        return initialized ? "Lazy[" + value + "]" : "Lazy[not initialized]";
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import com.iofairy.top.O;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * A value computed by {@link RT0} on the first {@link #get()}, then cached, the {@link RT0} variant of {@link Lazy}.
+ * Thread-safe, after initialization {@link #get()} is a lock-free volatile read. <br>
+ * 在第一次调用 {@link #get()} 时通过 {@link RT0} 计算并缓存的值，{@link Lazy} 的 {@link RT0} 版本。
+ * 线程安全，初始化之后 {@link #get()} 只是一次无锁的 volatile 读取。<br>
+ * When the supplier throws exception: 当 supplier 抛出异常时：
+ * <ul>
+ *     <li> {@link #of(RT0)}: <b>retry</b>, the next {@link #get()} calls the supplier again. <b>重试</b>，下次调用 {@link #get()} 时重新调用 supplier
+ *     <li> {@link #of(RT0, boolean)} with {@code cacheFailure = true}: <b>cache the failure</b>, every {@link #get()} throws
+ *     the same exception, the supplier is called at most once. <b>缓存失败结果</b>，每次调用 {@link #get()} 都抛出相同的异常，supplier最多只会被调用一次
+ * </ul>
+ *
+ * @param <T> value type
+ * @param <E> Throwable or subclass of Throwable.　Throwable类及其子类
+ * @since 0.7.0
+ */
+public final class LazyT<T, E extends Throwable> implements RT0<T, E> {
+    private RT0<? extends T, ? extends E> supplier;
+    private final boolean cacheFailure;
+    /**
+     * Written before {@link #initialized}, and read after it. <br>
+     * 在 {@link #initialized} 之前写入，之后读取
+     */
+    private T value;
+    private Throwable failure;
+    private volatile boolean initialized;
+
+    private LazyT(RT0<? extends T, ? extends E> supplier, boolean cacheFailure) {
+        this.supplier = supplier;
+        this.cacheFailure = cacheFailure;
+    }
+
+    public static <T, E extends Throwable> LazyT<T, E> of(RT0<? extends T, ? extends E> supplier) {
+        return of(supplier, false);
+    }
+
+    /**
+     * Create a LazyT. <br>
+     * 创建 LazyT
+     *
+     * @param supplier     supplier of the value
+     * @param cacheFailure cache the exception thrown by the supplier, or call the supplier again on the next {@link #get()}.
+     *                     缓存 supplier 抛出的异常，或者下次调用 {@link #get()} 时重新调用 supplier
+     * @param <T>          value type
+     * @param <E>          exception type
+     * @return LazyT
+     */
+    public static <T, E extends Throwable> LazyT<T, E> of(RT0<? extends T, ? extends E> supplier, boolean cacheFailure) {
+        checkNullNPE(supplier, args("supplier"));
+        return new LazyT<>(supplier, cacheFailure);
+    }
+
+    /**
+     * Get the value, compute it on the first call. <br>
+     * 获取值，第一次调用时计算
+     *
+     * @return value
+     * @throws E exception thrown by the supplier
+     */
+    public T get() throws E {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    try {
+                        value = supplier.$();
+                    } catch (Throwable e) {
+                        if (cacheFailure) {
+                            failure = e;
+                            initialized = true;
+                            supplier = null;
+                        }
+                        throw e;
+                    }
+                    initialized = true;
+                    supplier = null;
+                }
+            }
+        }
+        if (failure != null) O.sneakyThrows(failure);
+        return value;
+    }
+
+    /**
+     * Same as {@link #get()}
+     */
+    @Override
+    public T $() throws E {
+        return get();
+    }
+
+    /**
+     * Whether the value (or the cached failure) has been computed. <br>
+     * 值（或缓存的失败结果）是否已计算
+     *
+     * @return {@code true} if initialized
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public boolean isCacheFailure() {
+        return cacheFailure;
+    }
+
+    /**
+     * Returns a LazyT that applies {@code mapper} to the value of this LazyT, with the same failure policy.
+     * Nothing is computed until {@link #get()} of the returned LazyT is called. <br>
+     * 返回一个对此 LazyT 的值应用 {@code mapper} 的 LazyT，失败策略相同。在调用返回的 LazyT 的 {@link #get()} 之前，不会进行任何计算。
+     *
+     * @param mapper mapping function
+     * @param <R>    result type
+     * @return LazyT
+     */
+    public <R> LazyT<R, E> map(RT1<? super T, ? extends R, ? extends E> mapper) {
+        checkNullNPE(mapper, args("mapper"));
+        return new LazyT<>(() -> mapper.$(get()), cacheFailure);
+    }
+
+    /**
+     * Same as {@link #map(RT1)}, but the {@code mapper} returns a LazyT. <br>
+     * 与 {@link #map(RT1)} 相同，但 {@code mapper} 返回一个 LazyT
+     *
+     * @param mapper mapping function
+     * @param <R>    result type
+     * @return LazyT
+     */
+    public <R> LazyT<R, E> flatMap(RT1<? super T, ? extends LazyT<? extends R, ? extends E>, ? extends E> mapper) {
+        checkNullNPE(mapper, args("mapper"));
+        return new LazyT<>(() -> mapper.$(get()).get(), cacheFailure);
+    }
+
+    @Override
+    public String toString() {
+        return initialized ? (failure != null ? "LazyT[failure=" + failure + "]" : "LazyT[" + value + "]") : "LazyT[not initialized]";
+    }
+
+}
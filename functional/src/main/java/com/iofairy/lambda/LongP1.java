@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Represents a <b>predicate</b> (boolean-valued function) of 1 {@code long} argument. The primitive specialization of {@link P1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code long}参数 并返回boolean值的函数。{@link P1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface LongP1 extends LambdaRN<Boolean>, Lambda1<Long> {
+    boolean $(long t);
+
+    /**
+     * Convert to {@link LongPredicate}. <br>
+     * 转成 {@link LongPredicate}
+     *
+     * @return LongPredicate
+     */
+    default LongPredicate toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link LongPredicate} to {@link LongP1}. <br>
+     * 将 {@link LongPredicate} 转成 {@link LongP1}
+     *
+     * @param longPredicate LongPredicate
+     * @return LongP1
+     */
+    static LongP1 from(LongPredicate longPredicate) {
+        return longPredicate::test;
+    }
+}
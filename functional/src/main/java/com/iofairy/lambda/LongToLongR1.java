@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Represents a function that accepts 1 {@code long} argument and produces a {@code long} result. The primitive specialization of {@link R1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code long}参数 并返回{@code long}结果的函数。{@link R1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface LongToLongR1 extends LambdaRN<Long>, Lambda1<Long> {
+    long $(long t);
+
+    /**
+     * Convert to {@link LongUnaryOperator}. <br>
+     * 转成 {@link LongUnaryOperator}
+     *
+     * @return LongUnaryOperator
+     */
+    default LongUnaryOperator toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link LongUnaryOperator} to {@link LongToLongR1}. <br>
+     * 将 {@link LongUnaryOperator} 转成 {@link LongToLongR1}
+     *
+     * @param longUnaryOperator LongUnaryOperator
+     * @return LongToLongR1
+     */
+    static LongToLongR1 from(LongUnaryOperator longUnaryOperator) {
+        return longUnaryOperator::applyAsLong;
+    }
+}
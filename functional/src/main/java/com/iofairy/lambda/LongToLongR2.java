@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Represents a function that accepts 2 {@code long} arguments and produces a {@code long} result. The primitive specialization of {@link R2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 2个{@code long}参数 并返回{@code long}结果的函数。{@link R2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface LongToLongR2 extends LambdaRN<Long>, Lambda2<Long, Long> {
+    long $(long t1, long t2);
+
+    /**
+     * Convert to {@link LongBinaryOperator}. <br>
+     * 转成 {@link LongBinaryOperator}
+     *
+     * @return LongBinaryOperator
+     */
+    default LongBinaryOperator toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link LongBinaryOperator} to {@link LongToLongR2}. <br>
+     * 将 {@link LongBinaryOperator} 转成 {@link LongToLongR2}
+     *
+     * @param longBinaryOperator LongBinaryOperator
+     * @return LongToLongR2
+     */
+    static LongToLongR2 from(LongBinaryOperator longBinaryOperator) {
+        return longBinaryOperator::applyAsLong;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Represents a function that accepts 1 {@code long} argument and returns no result. The primitive specialization of {@link V1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个{@code long}参数 但不返回任何结果的函数。{@link V1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface LongV1 extends LambdaVN, Lambda1<Long> {
+    void $(long t);
+
+    /**
+     * Convert to {@link LongConsumer}. <br>
+     * 转成 {@link LongConsumer}
+     *
+     * @return LongConsumer
+     */
+    default LongConsumer toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link LongConsumer} to {@link LongV1}. <br>
+     * 将 {@link LongConsumer} 转成 {@link LongV1}
+     *
+     * @param longConsumer LongConsumer
+     * @return LongV1
+     */
+    static LongV1 from(LongConsumer longConsumer) {
+        return longConsumer::accept;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import com.iofairy.cache.BoundedCache;
+import com.iofairy.os.OS;
+import com.iofairy.top.O;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * Base class of the memoized functions returned by {@code memoize} of {@link R0}~{@link R9} and {@link RT0}~{@link RT9}. <br>
+ * 由 {@link R0}~{@link R9} 及 {@link RT0}~{@link RT9} 的 {@code memoize} 方法返回的记忆化函数的基类。<br>
+ * <ul>
+ *     <li> The arguments are the cache key: the argument itself for 1 argument, {@code Tuple2}~{@code Tuple9} for 2~9 arguments.
+ *     参数即缓存的key：1个参数时为参数本身，2~9个参数时为 {@code Tuple2}~{@code Tuple9}
+ *     <li> <b>Single-flight:</b> concurrent callers for the same key compute once, the others wait for the result
+ *     (or the exception) of the computing caller. Exceptions are not cached.
+ *     <b>单次计算：</b>同一个key的并发调用只计算一次，其他调用者等待计算结果（或异常）。异常不会被缓存。
+ *     <li> {@code null} results are cached. 结果为 {@code null} 也会被缓存
+ * </ul>
+ *
+ * @since 0.7.0
+ */
+public abstract class Memoized {
+    private final static String RECURSIVE_MSG = OS.IS_ZH_LANG ? "记忆化函数递归调用了相同的参数【${…}】！" : "The memoized function is called recursively with the same arguments [${?}]! ";
+    /**
+     * Key of the functions with 0 argument. <br>
+     * 无参数函数的key
+     */
+    static final Object NO_ARGS = new Object();
+    /**
+     * Key of {@code null} argument, {@link ConcurrentHashMap} does not support {@code null} key. <br>
+     * 参数为 {@code null} 时的key
+     */
+    static final Object NULL_ARG = new Object();
+
+    /**
+     * Unbounded storage, null if {@link #cache} is used. <br>
+     * 无界存储，使用 {@link #cache} 时为 null
+     */
+    private final Map<Object, Entry> map;
+    /**
+     * Bounded storage, null if {@link #map} is used. <br>
+     * 有界存储，使用 {@link #map} 时为 null
+     */
+    private final BoundedCache<Object, Entry> cache;
+    /**
+     * Entries being computed when {@link #cache} is used. They are kept out of the cache until completed,
+     * so eviction never drops an unfinished entry and breaks single-flight. <br>
+     * 使用 {@link #cache} 时正在计算的条目。计算完成前不放入缓存，避免未完成的条目被淘汰而导致重复计算。
+     */
+    private final Map<Object, Entry> inflight;
+    /**
+     * Time to live in nanoseconds, {@code 0} means never expire. <br>
+     * 存活时间（纳秒），{@code 0} 表示永不过期
+     */
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param maxSize    maximum number of cached results, {@code 0} means unbounded
+     * @param ttl        time to live of the cached results, {@code null} means never expire
+     * @param concurrent use {@link ConcurrentHashMap} for the unbounded storage, otherwise synchronized {@link HashMap}
+     */
+    Memoized(int maxSize, Duration ttl, boolean concurrent) {
+        checkArgument(maxSize < 0, "Parameter `maxSize` must be greater than or equal to 0! ");
+        checkArgument(ttl != null && (ttl.isNegative() || ttl.isZero()), "Parameter `ttl` must be positive! ");
+        this.cache = maxSize > 0 ? new BoundedCache<>(maxSize, true) : null;
+        this.inflight = maxSize > 0 ? new ConcurrentHashMap<>() : null;
+        this.map = maxSize > 0 ? null : (concurrent ? new ConcurrentHashMap<>() : Collections.synchronizedMap(new HashMap<>()));
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+    }
+
+    static Object key(Object arg) {
+        return arg == null ? NULL_ARG : arg;
+    }
+
+    /**
+     * Get the cached result of {@code key}, or compute it by {@code function} (single-flight). <br>
+     * 获取 {@code key} 的缓存结果，不存在则通过 {@code function} 计算（同一个key只计算一次）
+     *
+     * @param key      cache key
+     * @param function function to compute the result
+     * @param <R>      result type
+     * @param <E>      exception type
+     * @return result
+     * @throws E exception thrown by {@code function}
+     */
+    <R, E extends Throwable> R get(Object key, RT0<? extends R, E> function) throws E {
+        Entry entry = lookup(key);
+        if (entry != null && entry.expired(ttlNanos)) {
+            remove(key, entry);
+            expirations.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = putIfAbsent(key, created);
+            if (entry == null) {
+                misses.increment();
+                R value;
+                try {
+                    value = function.$();
+                } catch (Throwable e) {
+                    remove(key, created);
+                    created.complete(null, e);
+                    throw e;
+                }
+                created.complete(value, null);
+                publish(key, created);
+                return value;
+            }
+        }
+        hits.increment();
+        return entry.await(key);
+    }
+
+    private Entry lookup(Object key) {
+        if (map != null) return map.get(key);
+        Entry entry = cache.get(key);
+        return entry != null ? entry : inflight.get(key);
+    }
+
+    private Entry putIfAbsent(Object key, Entry entry) {
+        if (map != null) return map.putIfAbsent(key, entry);
+        Entry existing = inflight.putIfAbsent(key, entry);
+        if (existing != null) return existing;
+        // the previous owner may have published the result after the lookup missed it
+        Entry cached = cache.get(key);
+        if (cached == null) return null;
+        inflight.remove(key, entry);
+        entry.complete(cached.value, null);     // release the callers that found the entry in the meantime
+        return cached;
+    }
+
+    /**
+     * Move a completed entry from {@link #inflight} to {@link #cache}, the cache first so that the entry is always found. <br>
+     * 将已完成的条目从 {@link #inflight} 移入 {@link #cache}，先放入缓存，保证条目始终能被找到
+     */
+    private void publish(Object key, Entry entry) {
+        if (cache == null) return;
+        cache.put(key, entry);
+        inflight.remove(key, entry);
+    }
+
+    private void remove(Object key, Entry entry) {
+        if (map != null) {
+            map.remove(key, entry);
+        } else if (!cache.remove(key, entry)) {
+            inflight.remove(key, entry);
+        }
+    }
+
+    /**
+     * Number of calls that returned a cached (or being computed by another caller) result. <br>
+     * 返回缓存结果（或正在被其他调用者计算的结果）的调用次数
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of calls that computed the result. <br>
+     * 计算了结果的调用次数
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of results evicted because the cache was full or expired. <br>
+     * 因缓存已满或过期而被淘汰的结果数
+     *
+     * @return eviction count
+     */
+    public long evictionCount() {
+        return expirations.sum() + (cache == null ? 0 : cache.evictionCount());
+    }
+
+    /**
+     * Ratio of hits to calls, {@code 1.0} when there has been no call. <br>
+     * 命中率，无任何调用时返回 {@code 1.0}
+     *
+     * @return hit rate
+     */
+    public double hitRate() {
+        long hitCount = hitCount();
+        long requestCount = hitCount + missCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Number of cached results (including the expired ones that have not been accessed yet). <br>
+     * 缓存的结果数（包括尚未被访问到的过期结果）
+     *
+     * @return size
+     */
+    public int size() {
+        return map != null ? map.size() : cache.size();
+    }
+
+    /**
+     * Remove all cached results. <br>
+     * 清除所有缓存的结果
+     */
+    public void clear() {
+        if (map != null) {
+            map.clear();
+        } else {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "size=" + size() +
+                (cache == null ? "" : ", maxSize=" + cache.maxSize()) +
+                (ttlNanos == 0 ? "" : ", ttl=" + Duration.ofNanos(ttlNanos)) +
+                ", hitCount=" + hitCount() +
+                ", missCount=" + missCount() +
+                ", evictionCount=" + evictionCount() +
+                '}';
+    }
+
+    /**
+     * A cached result, or a result being computed by {@link #owner} ({@code null} once completed, so that the cache
+     * does not retain the thread). <br>
+     * 缓存的结果，或正在被 {@link #owner} 计算的结果（计算完成后置为 {@code null}，避免缓存持有线程的引用）
+     */
+    static final class Entry {
+        Thread owner = Thread.currentThread();
+        volatile boolean done;
+        Object value;
+        Throwable failure;
+        long completedNanos;
+
+        synchronized void complete(Object value, Throwable failure) {
+            this.value = value;
+            this.failure = failure;
+            this.completedNanos = System.nanoTime();
+            this.owner = null;
+            this.done = true;
+            notifyAll();
+        }
+
+        boolean expired(long ttlNanos) {
+            return ttlNanos != 0 && done && System.nanoTime() - completedNanos >= ttlNanos;
+        }
+
+        @SuppressWarnings("unchecked")
+        <R> R await(Object key) {
+            if (!done) {
+                checkState(owner == Thread.currentThread(), RECURSIVE_MSG, key);
+                boolean interrupted = false;
+                synchronized (this) {
+                    while (!done) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                }
+                if (interrupted) Thread.currentThread().interrupt();
+            }
+            if (failure != null) O.sneakyThrows(failure);
+            return (R) value;
+        }
+    }
+
+}
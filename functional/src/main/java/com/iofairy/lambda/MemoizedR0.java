@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.time.Duration;
+
+/**
+ * Memoized {@link R0}, see {@link Memoized}. <br>
+ * 记忆化的 {@link R0}，参见 {@link Memoized}
+ *
+ * @param <R> return type  返回值类型
+ * @since 0.7.0
+ */
+public final class MemoizedR0<R> extends Memoized implements R0<R> {
+    private final R0<R> function;
+
+    MemoizedR0(R0<R> function, int maxSize, Duration ttl, boolean concurrent) {
+        super(maxSize, ttl, concurrent);
+        this.function = function;
+    }
+
+    @Override
+    public R $() {
+        return get(NO_ARGS, () -> function.$());
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import com.iofairy.tuple.Tuple;
+
+import java.time.Duration;
+
+/**
+ * Memoized {@link R2}, see {@link Memoized}. <br>
+ * 记忆化的 {@link R2}，参见 {@link Memoized}
+ *
+ * @param <T1> type of the 1st param.　第1个参数类型
+ * @param <T2> type of the 2nd param.　第2个参数类型
+ * @param <R> return type  返回值类型
+ * @since 0.7.0
+ */
+public final class MemoizedR2<T1, T2, R> extends Memoized implements R2<T1, T2, R> {
+    private final R2<T1, T2, R> function;
+
+    MemoizedR2(R2<T1, T2, R> function, int maxSize, Duration ttl, boolean concurrent) {
+        super(maxSize, ttl, concurrent);
+        this.function = function;
+    }
+
+    @Override
+    public R $(T1 t1, T2 t2) {
+        return get(Tuple.of(t1, t2), () -> function.$(t1, t2));
+    }
+
+}
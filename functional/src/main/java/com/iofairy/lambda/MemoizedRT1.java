@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.time.Duration;
+
+/**
+ * Memoized {@link RT1}, see {@link Memoized}. <br>
+ * 记忆化的 {@link RT1}，参见 {@link Memoized}
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @param <R> return type  返回值类型
+ * @param <E> Throwable or subclass of Throwable.　Throwable类及其子类
+ * @since 0.7.0
+ */
+public final class MemoizedRT1<T, R, E extends Throwable> extends Memoized implements RT1<T, R, E> {
+    private final RT1<T, R, E> function;
+
+    MemoizedRT1(RT1<T, R, E> function, int maxSize, Duration ttl, boolean concurrent) {
+        super(maxSize, ttl, concurrent);
+        this.function = function;
+    }
+
+    @Override
+    public R $(T t) throws E {
+        return get(key(t), () -> function.$(t));
+    }
+
+}
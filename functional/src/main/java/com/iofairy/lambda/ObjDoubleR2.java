@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+/**
+ * Represents a function that accepts an object-valued and a {@code double} argument, and produces a result. The primitive specialization of {@link R2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个对象参数和1个{@code double}参数 并返回结果的函数。{@link R2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @param <R> return type  返回值类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ObjDoubleR2<T, R> extends LambdaRN<R>, Lambda2<T, Double> {
+    R $(T t1, double t2);
+}
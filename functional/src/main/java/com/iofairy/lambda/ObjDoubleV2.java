@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Represents a function that accepts an object-valued and a {@code double} argument, and returns no result. The primitive specialization of {@link V2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个对象参数和1个{@code double}参数 但不返回任何结果的函数。{@link V2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ObjDoubleV2<T> extends LambdaVN, Lambda2<T, Double> {
+    void $(T t1, double t2);
+
+    /**
+     * Convert to {@link ObjDoubleConsumer}. <br>
+     * 转成 {@link ObjDoubleConsumer}
+     *
+     * @return ObjDoubleConsumer
+     */
+    default ObjDoubleConsumer<T> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ObjDoubleConsumer} to {@link ObjDoubleV2}. <br>
+     * 将 {@link ObjDoubleConsumer} 转成 {@link ObjDoubleV2}
+     *
+     * @param objDoubleConsumer ObjDoubleConsumer
+     * @param <T> param type
+     * @return ObjDoubleV2
+     */
+    static <T> ObjDoubleV2<T> from(ObjDoubleConsumer<T> objDoubleConsumer) {
+        return objDoubleConsumer::accept;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import com.iofairy.top.O;
+
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Represents a function that accepts an object-valued and a {@code double} argument, and returns no result, and will throw exception. The primitive specialization of {@link VT2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个对象参数和1个{@code double}参数 但不返回任何结果且抛出异常的函数。{@link VT2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @param <E> Throwable or subclass of Throwable.　Throwable类及其子类
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ObjDoubleVT2<T, E extends Throwable> extends LambdaVT<E>, Lambda2<T, Double> {
+    void $(T t1, double t2) throws E;
+
+    /**
+     * Convert to {@link ObjDoubleConsumer}, the exception will be thrown quietly (see {@link O#sneakyThrows(Throwable)}). <br>
+     * 转成 {@link ObjDoubleConsumer}，异常将被静静地抛出
+     *
+     * @return ObjDoubleConsumer
+     */
+    default ObjDoubleConsumer<T> toJava() {
+        return (t1, t2) -> {
+            try {
+                $(t1, t2);
+            } catch (Throwable e) {
+                O.sneakyThrows(e);
+            }
+        };
+    }
+}
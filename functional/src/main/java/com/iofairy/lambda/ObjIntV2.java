@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Represents a function that accepts an object-valued and a {@code int} argument, and returns no result. The primitive specialization of {@link V2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个对象参数和1个{@code int}参数 但不返回任何结果的函数。{@link V2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ObjIntV2<T> extends LambdaVN, Lambda2<T, Integer> {
+    void $(T t1, int t2);
+
+    /**
+     * Convert to {@link ObjIntConsumer}. <br>
+     * 转成 {@link ObjIntConsumer}
+     *
+     * @return ObjIntConsumer
+     */
+    default ObjIntConsumer<T> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ObjIntConsumer} to {@link ObjIntV2}. <br>
+     * 将 {@link ObjIntConsumer} 转成 {@link ObjIntV2}
+     *
+     * @param objIntConsumer ObjIntConsumer
+     * @param <T> param type
+     * @return ObjIntV2
+     */
+    static <T> ObjIntV2<T> from(ObjIntConsumer<T> objIntConsumer) {
+        return objIntConsumer::accept;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Represents a function that accepts an object-valued and a {@code long} argument, and returns no result. The primitive specialization of {@link V2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个对象参数和1个{@code long}参数 但不返回任何结果的函数。{@link V2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ObjLongV2<T> extends LambdaVN, Lambda2<T, Long> {
+    void $(T t1, long t2);
+
+    /**
+     * Convert to {@link ObjLongConsumer}. <br>
+     * 转成 {@link ObjLongConsumer}
+     *
+     * @return ObjLongConsumer
+     */
+    default ObjLongConsumer<T> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ObjLongConsumer} to {@link ObjLongV2}. <br>
+     * 将 {@link ObjLongConsumer} 转成 {@link ObjLongV2}
+     *
+     * @param objLongConsumer ObjLongConsumer
+     * @param <T> param type
+     * @return ObjLongV2
+     */
+    static <T> ObjLongV2<T> from(ObjLongConsumer<T> objLongConsumer) {
+        return objLongConsumer::accept;
+    }
+}
@@ -15,6 +15,10 @@
  */
 package com.iofairy.lambda;
 
+import java.time.Duration;
+
+import static com.iofairy.validator.Preconditions.*;
+
 /**
  * Represents a function that accepts 3 arguments and produces a result<br>
  * 表示一个接收 3个参数 并返回结果的函数
@@ -28,4 +32,70 @@ package com.iofairy.lambda;
 @FunctionalInterface
 public interface R3<T1, T2, T3, R> extends LambdaRN<R>, Lambda3<T1, T2, T3> {
     R $(T1 t1, T2 t2, T3 t3);
+
+    /**
+     * Memoize this function with an unbounded cache, suitable for low contention. See {@link Memoized}. <br>
+     * 使用无界缓存记忆化此函数，适用于低并发的场景。参见 {@link Memoized}
+     *
+     * @return memoized function
+     * @since 0.7.0
+     */
+    default MemoizedR3<T1, T2, T3, R> memoize() {
+        return new MemoizedR3<>(this, 0, null, false);
+    }
+
+    /**
+     * Memoize this function with a bounded cache, the results not accessed recently are evicted when the cache is full
+     * (CLOCK eviction, see {@link com.iofairy.cache.BoundedCache}). See {@link Memoized}. <br>
+     * 使用有界缓存记忆化此函数，缓存已满时淘汰最近未被访问的结果。参见 {@link Memoized}
+     *
+     * @param maxSize maximum number of cached results
+     * @return memoized function
+     * @since 0.7.0
+     */
+    default MemoizedR3<T1, T2, T3, R> memoize(int maxSize) {
+        checkArgument(maxSize <= 0, "Parameter `maxSize` must be greater than 0! ");
+        return new MemoizedR3<>(this, maxSize, null, true);
+    }
+
+    /**
+     * Memoize this function with an unbounded cache, the cached results expire after {@code ttl}
+     * (expired results are removed when accessed). See {@link Memoized}. <br>
+     * 使用无界缓存记忆化此函数，缓存的结果在 {@code ttl} 后过期（过期结果在被访问时删除）。参见 {@link Memoized}
+     *
+     * @param ttl time to live of the cached results
+     * @return memoized function
+     * @since 0.7.0
+     */
+    default MemoizedR3<T1, T2, T3, R> memoize(Duration ttl) {
+        checkNullNPE(ttl, args("ttl"));
+        return new MemoizedR3<>(this, 0, ttl, true);
+    }
+
+    /**
+     * Memoize this function with a bounded cache, the cached results expire after {@code ttl}. See {@link Memoized}. <br>
+     * 使用有界缓存记忆化此函数，缓存的结果在 {@code ttl} 后过期。参见 {@link Memoized}
+     *
+     * @param maxSize maximum number of cached results
+     * @param ttl     time to live of the cached results
+     * @return memoized function
+     * @since 0.7.0
+     */
+    default MemoizedR3<T1, T2, T3, R> memoize(int maxSize, Duration ttl) {
+        checkArgument(maxSize <= 0, "Parameter `maxSize` must be greater than 0! ");
+        checkNullNPE(ttl, args("ttl"));
+        return new MemoizedR3<>(this, maxSize, ttl, true);
+    }
+
+    /**
+     * Memoize this function with an unbounded {@link java.util.concurrent.ConcurrentHashMap}, reads of the cached results
+     * take no lock, suitable for high contention. See {@link Memoized}. <br>
+     * 使用无界的 {@link java.util.concurrent.ConcurrentHashMap} 记忆化此函数，读取缓存结果无锁，适用于高并发的场景。参见 {@link Memoized}
+     *
+     * @return memoized function
+     * @since 0.7.0
+     */
+    default MemoizedR3<T1, T2, T3, R> memoizeConcurrent() {
+        return new MemoizedR3<>(this, 0, null, true);
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Represents a function that accepts 0 argument and produces a {@code double} result. The primitive specialization of {@link R0}, avoids boxing the primitive values.<br>
+ * 表示一个不接收任何参数，但返回{@code double}结果的函数。{@link R0} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ToDoubleR0 extends LambdaRN<Double>, Lambda0 {
+    double $();
+
+    /**
+     * Convert to {@link DoubleSupplier}. <br>
+     * 转成 {@link DoubleSupplier}
+     *
+     * @return DoubleSupplier
+     */
+    default DoubleSupplier toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link DoubleSupplier} to {@link ToDoubleR0}. <br>
+     * 将 {@link DoubleSupplier} 转成 {@link ToDoubleR0}
+     *
+     * @param doubleSupplier DoubleSupplier
+     * @return ToDoubleR0
+     */
+    static ToDoubleR0 from(DoubleSupplier doubleSupplier) {
+        return doubleSupplier::getAsDouble;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Represents a function that accepts 1 argument and produces a {@code double} result. The primitive specialization of {@link R1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个参数 并返回{@code double}结果的函数。{@link R1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ToDoubleR1<T> extends LambdaRN<Double>, Lambda1<T> {
+    double $(T t);
+
+    /**
+     * Convert to {@link ToDoubleFunction}. <br>
+     * 转成 {@link ToDoubleFunction}
+     *
+     * @return ToDoubleFunction
+     */
+    default ToDoubleFunction<T> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ToDoubleFunction} to {@link ToDoubleR1}. <br>
+     * 将 {@link ToDoubleFunction} 转成 {@link ToDoubleR1}
+     *
+     * @param toDoubleFunction ToDoubleFunction
+     * @param <T> param type
+     * @return ToDoubleR1
+     */
+    static <T> ToDoubleR1<T> from(ToDoubleFunction<T> toDoubleFunction) {
+        return toDoubleFunction::applyAsDouble;
+    }
+}
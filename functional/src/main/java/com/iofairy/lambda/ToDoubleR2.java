@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Represents a function that accepts 2 arguments and produces a {@code double} result. The primitive specialization of {@link R2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 2个参数 并返回{@code double}结果的函数。{@link R2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T1> type of the 1st param.　第1个参数类型
+ * @param <T2> type of the 2nd param.　第2个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ToDoubleR2<T1, T2> extends LambdaRN<Double>, Lambda2<T1, T2> {
+    double $(T1 t1, T2 t2);
+
+    /**
+     * Convert to {@link ToDoubleBiFunction}. <br>
+     * 转成 {@link ToDoubleBiFunction}
+     *
+     * @return ToDoubleBiFunction
+     */
+    default ToDoubleBiFunction<T1, T2> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ToDoubleBiFunction} to {@link ToDoubleR2}. <br>
+     * 将 {@link ToDoubleBiFunction} 转成 {@link ToDoubleR2}
+     *
+     * @param toDoubleBiFunction ToDoubleBiFunction
+     * @param <T1> param type
+     * @param <T2> param type
+     * @return ToDoubleR2
+     */
+    static <T1, T2> ToDoubleR2<T1, T2> from(ToDoubleBiFunction<T1, T2> toDoubleBiFunction) {
+        return toDoubleBiFunction::applyAsDouble;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Represents a function that accepts 0 argument and produces a {@code int} result. The primitive specialization of {@link R0}, avoids boxing the primitive values.<br>
+ * 表示一个不接收任何参数，但返回{@code int}结果的函数。{@link R0} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ToIntR0 extends LambdaRN<Integer>, Lambda0 {
+    int $();
+
+    /**
+     * Convert to {@link IntSupplier}. <br>
+     * 转成 {@link IntSupplier}
+     *
+     * @return IntSupplier
+     */
+    default IntSupplier toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link IntSupplier} to {@link ToIntR0}. <br>
+     * 将 {@link IntSupplier} 转成 {@link ToIntR0}
+     *
+     * @param intSupplier IntSupplier
+     * @return ToIntR0
+     */
+    static ToIntR0 from(IntSupplier intSupplier) {
+        return intSupplier::getAsInt;
+    }
+}
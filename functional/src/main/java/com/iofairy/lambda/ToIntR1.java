@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a function that accepts 1 argument and produces a {@code int} result. The primitive specialization of {@link R1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个参数 并返回{@code int}结果的函数。{@link R1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ToIntR1<T> extends LambdaRN<Integer>, Lambda1<T> {
+    int $(T t);
+
+    /**
+     * Convert to {@link ToIntFunction}. <br>
+     * 转成 {@link ToIntFunction}
+     *
+     * @return ToIntFunction
+     */
+    default ToIntFunction<T> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ToIntFunction} to {@link ToIntR1}. <br>
+     * 将 {@link ToIntFunction} 转成 {@link ToIntR1}
+     *
+     * @param toIntFunction ToIntFunction
+     * @param <T> param type
+     * @return ToIntR1
+     */
+    static <T> ToIntR1<T> from(ToIntFunction<T> toIntFunction) {
+        return toIntFunction::applyAsInt;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Represents a function that accepts 2 arguments and produces a {@code int} result. The primitive specialization of {@link R2}, avoids boxing the primitive values.<br>
+ * 表示一个接收 2个参数 并返回{@code int}结果的函数。{@link R2} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T1> type of the 1st param.　第1个参数类型
+ * @param <T2> type of the 2nd param.　第2个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ToIntR2<T1, T2> extends LambdaRN<Integer>, Lambda2<T1, T2> {
+    int $(T1 t1, T2 t2);
+
+    /**
+     * Convert to {@link ToIntBiFunction}. <br>
+     * 转成 {@link ToIntBiFunction}
+     *
+     * @return ToIntBiFunction
+     */
+    default ToIntBiFunction<T1, T2> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ToIntBiFunction} to {@link ToIntR2}. <br>
+     * 将 {@link ToIntBiFunction} 转成 {@link ToIntR2}
+     *
+     * @param toIntBiFunction ToIntBiFunction
+     * @param <T1> param type
+     * @param <T2> param type
+     * @return ToIntR2
+     */
+    static <T1, T2> ToIntR2<T1, T2> from(ToIntBiFunction<T1, T2> toIntBiFunction) {
+        return toIntBiFunction::applyAsInt;
+    }
+}
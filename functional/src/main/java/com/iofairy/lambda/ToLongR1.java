@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Represents a function that accepts 1 argument and produces a {@code long} result. The primitive specialization of {@link R1}, avoids boxing the primitive values.<br>
+ * 表示一个接收 1个参数 并返回{@code long}结果的函数。{@link R1} 的原始类型特化版本，避免原始类型的装箱
+ *
+ * @param <T> type of the 1st param.　第1个参数类型
+ * @since 0.7.0
+ */
+@FunctionalInterface
+public interface ToLongR1<T> extends LambdaRN<Long>, Lambda1<T> {
+    long $(T t);
+
+    /**
+     * Convert to {@link ToLongFunction}. <br>
+     * 转成 {@link ToLongFunction}
+     *
+     * @return ToLongFunction
+     */
+    default ToLongFunction<T> toJava() {
+        return this::$;
+    }
+
+    /**
+     * Convert {@link ToLongFunction} to {@link ToLongR1}. <br>
+     * 将 {@link ToLongFunction} 转成 {@link ToLongR1}
+     *
+     * @param toLongFunction ToLongFunction
+     * @param <T> param type
+     * @return ToLongR1
+     */
+    static <T> ToLongR1<T> from(ToLongFunction<T> toLongFunction) {
+        return toLongFunction::applyAsLong;
+    }
+}
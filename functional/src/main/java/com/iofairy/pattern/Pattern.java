@@ -17,7 +17,13 @@ package com.iofairy.pattern;
 
 import com.iofairy.base.None;
 import com.iofairy.lambda.R1;
+import com.iofairy.pattern.compiled.CompiledStringMatcher;
+import com.iofairy.pattern.compiled.CompiledTypeMatcher;
+import com.iofairy.pattern.compiled.CompiledValueMatcher;
 import com.iofairy.pattern.mapping.*;
+import com.iofairy.pattern.matcher.StringRMatcher;
+import com.iofairy.pattern.matcher.TypeRMatcher;
+import com.iofairy.pattern.matcher.ValueRMatcher;
 import com.iofairy.pattern.type.*;
 
 import java.util.Objects;
@@ -31,6 +37,7 @@ public class Pattern {
     public static final PatternDefault DEFAULT = PatternDefault.DEFAULT;      // DEFAULT can match by value or boolean
     public static final PatternValue VALUE = PatternValue.VALUE;              // match by value
     public static final PatternType TYPE = PatternType.TYPE;                  // match by value type(Class)
+    public static final PatternType INSTANCEOF = PatternType.INSTANCEOF;      // match by value type(Class) using instanceof
     public static final PatternString STRING = PatternString.STRING;          // match by String value
     public static final PatternString IGNORECASE = PatternString.IGNORECASE;  // match by String value ignore case
     public static final PatternString CONTAIN = PatternString.CONTAIN;        // match by String value using String.contains
@@ -143,6 +150,9 @@ public class Pattern {
      *     ifResult = 40;
      * }
      * }</pre></blockquote>
+     * {@link #TYPE} matches the exact runtime class of the value, {@link #INSTANCEOF} also matches subclasses and
+     * implementations, e.g. {@code .when(CharSequence.class, ...)} matches a {@code String}. <br>
+     * {@link #TYPE} 按值的运行时类型精确匹配，{@link #INSTANCEOF} 同时匹配子类及实现类，如：{@code .when(CharSequence.class, ...)} 可以匹配 {@code String}。
      *
      * @param value       value
      * @param patternType {@link PatternType}
@@ -152,7 +162,7 @@ public class Pattern {
      */
     public static <V> TypeMatcherMapping<V> match(V value, PatternType patternType) {
         Objects.requireNonNull(patternType);
-        return new TypeMatcherMapping<>(value);
+        return new TypeMatcherMapping<>(value, patternType);
     }
 
     /**
@@ -310,6 +320,130 @@ public class Pattern {
         return new NullMatcherMapping<>(None.NONE);
     }
 
+    /**
+     * Precompiled version of {@link #match(Object)}, the cases are built into a hash table once, then the matcher
+     * can be reused for any number of values without walking all cases or allocating. <br>
+     * {@link #match(Object)} 的预编译版本，所有分支只构建一次哈希表，之后可重复用于匹配任意多个值，
+     * 每次匹配既不需要逐个比较所有分支，也不会创建新对象。<br>
+     * <b>Examples:</b>
+     * <blockquote><pre>{@code
+     * CompiledValueMatcher<String, String> matcher = Pattern.<String, String>compileMatch()
+     *         .when("1",                      v -> v + v)
+     *         .when("2",                      v -> v + "a")
+     *         .when(in("3", "4", "5", "6"),   v -> v + " - abcd")
+     *         .orElse(                        v -> "no match");
+     *
+     * for (String s : values) {
+     *     String result = matcher.match(s);
+     * }
+     * }</pre></blockquote>
+     *
+     * @param <V> value type
+     * @param <R> return type
+     * @return CompiledValueMatcher.Builder
+     * @see CompiledValueMatcher
+     * @since 0.7.0
+     */
+    public static <V, R> CompiledValueMatcher.Builder<V, R> compileMatch() {
+        return CompiledValueMatcher.newBuilder();
+    }
+
+    /**
+     * Precompiled version of {@link #match(Object, PatternType)}. With {@link #INSTANCEOF}, the case resolved for each
+     * runtime class is cached, so the dispatch of a class that has been seen is a single lookup. <br>
+     * {@link #match(Object, PatternType)} 的预编译版本。使用 {@link #INSTANCEOF} 时，每个运行时类型匹配到的分支会被缓存，
+     * 已出现过的类型只需一次查找。
+     *
+     * @param patternType {@link PatternType}
+     * @param <V>         value type
+     * @param <R>         return type
+     * @return CompiledTypeMatcher.Builder
+     * @see CompiledTypeMatcher
+     * @since 0.7.0
+     */
+    public static <V, R> CompiledTypeMatcher.Builder<V, R> compileMatch(PatternType patternType) {
+        Objects.requireNonNull(patternType);
+        return CompiledTypeMatcher.newBuilder(patternType);
+    }
+
+    /**
+     * Precompiled version of {@link #match(String, PatternString)}. <br>
+     * {@link #match(String, PatternString)} 的预编译版本
+     *
+     * @param patternString {@link PatternString}
+     * @param <R>           return type
+     * @return CompiledStringMatcher.Builder
+     * @see CompiledStringMatcher
+     * @since 0.7.0
+     */
+    public static <R> CompiledStringMatcher.Builder<R> compileMatch(PatternString patternString) {
+        Objects.requireNonNull(patternString);
+        return CompiledStringMatcher.newBuilder(patternString);
+    }
+
+    /**
+     * Reusable version of {@link #match(Object)}: the matcher is created once and re-bound to each value by
+     * {@link ValueRMatcher#reset(Object)}, so a dispatch in a hot loop creates no matcher objects. Keep the lambdas
+     * non-capturing and the {@link PatternIn} cases in constants, then the dispatch allocates nothing.
+     * The matcher is not thread-safe. <br>
+     * {@link #match(Object)} 的可复用版本：匹配器只创建一次，通过 {@link ValueRMatcher#reset(Object)} 重新绑定到每个值，
+     * 因此在热点循环中匹配不会创建匹配器对象。若 lambda 表达式不捕获变量，且 {@link PatternIn} 分支保存为常量，则匹配过程不会创建任何对象。
+     * 该匹配器非线程安全。<br>
+     * <b>Examples:</b>
+     * <blockquote><pre>{@code
+     * static final PatternIn<String> THREE_TO_SIX = in("3", "4", "5", "6");
+     *
+     * ValueRMatcher<String, String> matcher = Pattern.reusableMatch();
+     * for (String s : values) {
+     *     String result = matcher.reset(s)
+     *             .when("1",            v -> v + v)
+     *             .when("2",            v -> v + "a")
+     *             .when(THREE_TO_SIX,   v -> v + " - abcd")
+     *             .orElse(              v -> "no match");
+     * }
+     * }</pre></blockquote>
+     *
+     * @param <V> value type
+     * @param <R> return type
+     * @return ValueRMatcher
+     * @see #compileMatch()
+     * @since 0.7.0
+     */
+    public static <V, R> ValueRMatcher<V, R> reusableMatch() {
+        return new ValueRMatcher<>(null);
+    }
+
+    /**
+     * Reusable version of {@link #match(Object, PatternType)}, re-bound to each value by {@link TypeRMatcher#reset(Object)}. <br>
+     * {@link #match(Object, PatternType)} 的可复用版本，通过 {@link TypeRMatcher#reset(Object)} 重新绑定到每个值。
+     *
+     * @param patternType {@link PatternType}
+     * @param <V>         value type
+     * @param <R>         return type
+     * @return TypeRMatcher
+     * @see #reusableMatch()
+     * @since 0.7.0
+     */
+    public static <V, R> TypeRMatcher<V, R> reusableMatch(PatternType patternType) {
+        Objects.requireNonNull(patternType);
+        return new TypeRMatcher<>(null, patternType);
+    }
+
+    /**
+     * Reusable version of {@link #match(String, PatternString)}, re-bound to each value by {@link StringRMatcher#reset(String)}. <br>
+     * {@link #match(String, PatternString)} 的可复用版本，通过 {@link StringRMatcher#reset(String)} 重新绑定到每个值。
+     *
+     * @param patternString {@link PatternString}
+     * @param <R>           return type
+     * @return StringRMatcher
+     * @see #reusableMatch()
+     * @since 0.7.0
+     */
+    public static <R> StringRMatcher<R> reusableMatch(PatternString patternString) {
+        Objects.requireNonNull(patternString);
+        return new StringRMatcher<>(null, patternString);
+    }
+
     /*###################################################################################
      ************************************************************************************
      ------------------------------------------------------------------------------------
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+/**
+ * Precompiled matcher, the cases of {@code when(...)} are built into a lookup table once, and then the matcher can be
+ * reused for any number of values. Compared with {@link com.iofairy.pattern.Pattern#match(Object)}, a dispatch neither walks
+ * all cases one by one nor allocates a new matcher. <br>
+ * 预编译的匹配器，{@code when(...)} 的所有分支只在创建时构建一次查找表，之后可用于匹配任意多个值。
+ * 与 {@link com.iofairy.pattern.Pattern#match(Object)} 相比，每次匹配既不需要逐个比较所有分支，也不会创建新的匹配器对象。<br>
+ * Compiled matchers are immutable and thread-safe, and only support the first-match {@code when} semantics. <br>
+ * 预编译的匹配器是不可变且线程安全的，只支持 {@code when}（第一个匹配的分支生效）的语义。
+ *
+ * @param <V> value type
+ * @param <R> return type
+ * @since 0.7.0
+ */
+public abstract class CompiledMatcher<V, R> implements R1<V, R> {
+
+    private final R1<? super V, ? extends R> orElseAction;
+
+    CompiledMatcher(R1<? super V, ? extends R> orElseAction) {
+        this.orElseAction = orElseAction;
+    }
+
+    /**
+     * Match the value and return the result of the first matched case, or the result of {@code orElse} action
+     * ({@code null} if there is no {@code orElse} action) if no case matches. <br>
+     * 匹配值并返回第一个匹配的分支的结果，没有匹配的分支时返回 {@code orElse} 的结果（没有 {@code orElse} 时返回 {@code null}）
+     *
+     * @param value value
+     * @return result
+     */
+    public abstract R match(V value);
+
+    @Override
+    public R $(V value) {
+        return match(value);
+    }
+
+    R orElse(V value) {
+        return orElseAction == null ? null : orElseAction.$(value);
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.type.PatternString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compiled matcher for String, same as {@code Pattern.match(value, patternString)}. The literals are built into
+ * a hash table ({@link PatternString#STRING}, {@link PatternString#IGNORECASE}), a trie ({@link PatternString#PREFIX},
+ * {@link PatternString#SUFFIX}) or an Aho–Corasick automaton ({@link PatternString#CONTAIN}), so matching a value costs
+ * O(1) or one scan of the value no matter how many cases there are. A few (up to 8) affix or contain literals are
+ * tested one by one, which is faster than walking a trie. <br>
+ * 字符串的预编译匹配器，与 {@code Pattern.match(value, patternString)} 相同。所有字符串分支被构建成哈希表
+ * （{@link PatternString#STRING}、{@link PatternString#IGNORECASE}）、前缀/后缀树（{@link PatternString#PREFIX}、{@link PatternString#SUFFIX}）
+ * 或 Aho–Corasick 自动机（{@link PatternString#CONTAIN}），因此无论有多少分支，匹配一个值的开销都是 O(1) 或只扫描一遍值。
+ * 分支较少（不超过8个）时逐个比较，比遍历前缀树更快。<br>
+ * The ignore case variants compare char by char like {@link String#equalsIgnoreCase(String)}, instead of converting
+ * the value to upper case. <br>
+ * 忽略大小写的匹配与 {@link String#equalsIgnoreCase(String)} 一样逐个字符比较，而不是将值转换为大写。<br>
+ * <b>Examples:</b>
+ * <blockquote><pre>{@code
+ * CompiledStringMatcher<String> matcher = Pattern.<String>compileMatch(PREFIX)
+ *         .when("/static/",   v -> "static")
+ *         .when("/admin/",    v -> "admin")
+ *         .when("/api/v1/",   v -> "v1")
+ *         .orElse(            v -> "no match");
+ *
+ * String result = matcher.match("/api/v1/users/1001");     // v1
+ * }</pre></blockquote>
+ *
+ * @param <R> return type
+ * @since 0.7.0
+ */
+public final class CompiledStringMatcher<R> extends CompiledMatcher<String, R> {
+
+    private final PatternString patternString;
+    private final R1<? super String, ? extends R>[] actions;
+    private final int nullIndex;
+    private final StringIndex index;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CompiledStringMatcher(PatternString patternString, List<String> literals, List<R1<? super String, ? extends R>> actions,
+                                  R1<? super String, ? extends R> orElseAction) {
+        super(orElseAction);
+        this.patternString = patternString;
+        this.actions = actions.toArray(new R1[0]);
+        this.nullIndex = literals.indexOf(null);
+        this.index = StringIndex.of(patternString, literals.toArray(new String[0]));
+    }
+
+    @Override
+    public R match(String value) {
+        int i = value == null ? nullIndex : index.indexOf(value);
+        return i < 0 ? orElse(value) : actions[i].$(value);
+    }
+
+    public PatternString getPatternString() {
+        return patternString;
+    }
+
+    public static <R> Builder<R> newBuilder(PatternString patternString) {
+        return new Builder<>(patternString);
+    }
+
+    public static final class Builder<R> {
+        private final PatternString patternString;
+        private final List<String> literals = new ArrayList<>();
+        private final List<R1<? super String, ? extends R>> actions = new ArrayList<>();
+
+        private Builder(PatternString patternString) {
+            this.patternString = Objects.requireNonNull(patternString);
+        }
+
+        /**
+         * Add a case, {@code null} literal matches {@code null} value. <br>
+         * 添加一个分支，{@code null} 匹配 {@code null} 值
+         *
+         * @param literal literal
+         * @param action  action
+         * @return this Builder
+         */
+        public Builder<R> when(String literal, R1<? super String, ? extends R> action) {
+            Objects.requireNonNull(action);
+            literals.add(literal);
+            actions.add(action);
+            return this;
+        }
+
+        public Builder<R> when(PatternIn<String> literals, R1<? super String, ? extends R> action) {
+            Objects.requireNonNull(action);
+            if (literals == null) return when((String) null, action);
+            for (String literal : literals.getVs()) {
+                when(literal, action);
+            }
+            return this;
+        }
+
+        public CompiledStringMatcher<R> orElse(R1<? super String, ? extends R> action) {
+            Objects.requireNonNull(action);
+            return new CompiledStringMatcher<>(patternString, literals, actions, action);
+        }
+
+        /**
+         * Build the matcher without {@code orElse} action, {@link CompiledStringMatcher#match(String)} returns {@code null} if no case matches. <br>
+         * 构建没有 {@code orElse} 分支的匹配器，没有匹配的分支时 {@link CompiledStringMatcher#match(String)} 返回 {@code null}
+         *
+         * @return CompiledStringMatcher
+         */
+        public CompiledStringMatcher<R> build() {
+            return new CompiledStringMatcher<>(patternString, literals, actions, null);
+        }
+    }
+
+}
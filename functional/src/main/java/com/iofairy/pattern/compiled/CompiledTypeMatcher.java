@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.type.PatternType;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiled matcher by the runtime class of the value, same as {@code Pattern.match(value, TYPE)} or
+ * {@code Pattern.match(value, INSTANCEOF)}. <br>
+ * 按值的运行时类型匹配的预编译匹配器，与 {@code Pattern.match(value, TYPE)} 或 {@code Pattern.match(value, INSTANCEOF)} 相同。
+ * <ul>
+ *     <li>{@link PatternType#TYPE}: the cases are stored in an {@link IdentityHashMap} keyed by class
+ *     (a few cases are stored in an array and compared by identity). <br>
+ *     分支存储在以类为键的 {@link IdentityHashMap} 中（分支较少时存储在数组中，逐个比较引用）。
+ *     <li>{@link PatternType#INSTANCEOF}: the first case whose type is a superclass or an interface of the runtime class
+ *     is resolved once per runtime class and cached in a {@link ClassValue}, then the dispatch of that class is a single lookup. <br>
+ *     每个运行时类型只解析一次第一个匹配的分支（类型为其父类或接口），并缓存在 {@link ClassValue} 中，之后该类型的匹配只需一次查找。
+ * </ul>
+ * <b>Examples:</b>
+ * <blockquote><pre>{@code
+ * CompiledTypeMatcher<Object, Integer> matcher = Pattern.<Object, Integer>compileMatch(INSTANCEOF)
+ *         .when(Integer.class,        v -> v + 10)
+ *         .when(Tuple.class,          v -> v.arity())
+ *         .when(CharSequence.class,   v -> v.length())
+ *         .orElse(v -> 40);
+ *
+ * Integer result = matcher.match(Tuple.of("zs", 20));     // 2
+ * }</pre></blockquote>
+ *
+ * @param <V> value type
+ * @param <R> return type
+ * @since 0.7.0
+ */
+public final class CompiledTypeMatcher<V, R> extends CompiledMatcher<V, R> {
+
+    /**
+     * Up to this number of cases, comparing the classes one by one is faster than the hash lookup
+     */
+    private static final int SCAN_THRESHOLD = 8;
+    /**
+     * Cached in {@link #resolved} for the classes that match no case
+     */
+    private static final R1<Object, ?> NO_MATCH = v -> null;
+
+    private final PatternType patternType;
+    private final Map<Class<?>, R1<Object, ? extends R>> cases;
+    private final Class<?>[] types;
+    private final R1<Object, ? extends R>[] actions;
+    private final R1<Object, ? extends R> nullAction;
+    private final ClassValue<R1<Object, ? extends R>> resolved;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CompiledTypeMatcher(PatternType patternType, Map<Class<?>, R1<Object, ? extends R>> cases, R1<? super V, ? extends R> orElseAction) {
+        super(orElseAction);
+        this.patternType = patternType;
+        this.nullAction = cases.get(null);
+        if (patternType == PatternType.INSTANCEOF || cases.size() <= SCAN_THRESHOLD) {
+            this.cases = null;
+            this.types = cases.keySet().toArray(new Class<?>[0]);
+            this.actions = new R1[types.length];
+            for (int i = 0; i < types.length; i++) {
+                actions[i] = cases.get(types[i]);
+            }
+        } else {
+            this.cases = new IdentityHashMap<>(cases);
+            this.types = null;
+            this.actions = null;
+        }
+        this.resolved = patternType == PatternType.INSTANCEOF ? new ClassValue<R1<Object, ? extends R>>() {
+            @Override
+            protected R1<Object, ? extends R> computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        } : null;
+    }
+
+    @Override
+    public R match(V value) {
+        R1<Object, ? extends R> action = action(value == null ? null : value.getClass());
+        return action == null ? orElse(value) : action.$(value);
+    }
+
+    public PatternType getPatternType() {
+        return patternType;
+    }
+
+    private R1<Object, ? extends R> action(Class<?> type) {
+        if (type == null) return nullAction;
+        if (resolved != null) {
+            R1<Object, ? extends R> action = resolved.get(type);
+            return action == NO_MATCH ? null : action;
+        }
+        if (types == null) return cases.get(type);
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) return actions[i];
+        }
+        return null;
+    }
+
+    /**
+     * The first case (in the order of {@code when}) whose type is assignable from the runtime class
+     */
+    @SuppressWarnings("unchecked")
+    private R1<Object, ? extends R> resolve(Class<?> type) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] != null && types[i].isAssignableFrom(type)) return actions[i];
+        }
+        return (R1<Object, ? extends R>) NO_MATCH;
+    }
+
+    public static <V, R> Builder<V, R> newBuilder(PatternType patternType) {
+        return new Builder<>(patternType);
+    }
+
+    public static final class Builder<V, R> {
+        private final PatternType patternType;
+        private final Map<Class<?>, R1<Object, ? extends R>> cases = new LinkedHashMap<>();
+
+        private Builder(PatternType patternType) {
+            this.patternType = Objects.requireNonNull(patternType);
+        }
+
+        /**
+         * Add a case for the values of {@code type}, {@code null} type matches {@code null} value. <br>
+         * 添加类型为 {@code type} 的分支，{@code null} 类型匹配 {@code null} 值
+         *
+         * @param type   runtime class, or superclass / interface for {@link PatternType#INSTANCEOF}
+         * @param action action
+         * @param <C>    class type
+         * @return this Builder
+         */
+        @SuppressWarnings("unchecked")
+        public <C> Builder<V, R> when(Class<C> type, R1<? super C, ? extends R> action) {
+            Objects.requireNonNull(action);
+            cases.putIfAbsent(type, (R1<Object, ? extends R>) action);
+            return this;
+        }
+
+        public CompiledTypeMatcher<V, R> orElse(R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            return new CompiledTypeMatcher<>(patternType, cases, action);
+        }
+
+        /**
+         * Build the matcher without {@code orElse} action, {@link CompiledTypeMatcher#match(Object)} returns {@code null} if no case matches. <br>
+         * 构建没有 {@code orElse} 分支的匹配器，没有匹配的分支时 {@link CompiledTypeMatcher#match(Object)} 返回 {@code null}
+         *
+         * @return CompiledTypeMatcher
+         */
+        public CompiledTypeMatcher<V, R> build() {
+            return new CompiledTypeMatcher<>(patternType, cases, null);
+        }
+    }
+
+}
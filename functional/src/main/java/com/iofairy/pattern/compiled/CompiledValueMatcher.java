@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiled matcher by value ({@link Object#equals(Object)}), the cases are stored in a hash table. <br>
+ * 按值（{@link Object#equals(Object)}）匹配的预编译匹配器，所有分支存储在哈希表中。<br>
+ * <b>Examples:</b>
+ * <blockquote><pre>{@code
+ * CompiledValueMatcher<String, String> matcher = Pattern.<String, String>compileMatch()
+ *         .when("1",                      v -> v + v)
+ *         .when("2",                      v -> v + "a")
+ *         .when(in("3", "4", "5", "6"),   v -> v + " - abcd")
+ *         .orElse(                        v -> "no match");
+ *
+ * String result = matcher.match("5");     // 5 - abcd
+ * }</pre></blockquote>
+ *
+ * @param <V> value type
+ * @param <R> return type
+ * @since 0.7.0
+ */
+public final class CompiledValueMatcher<V, R> extends CompiledMatcher<V, R> {
+
+    private final Map<Object, R1<? super V, ? extends R>> cases;
+
+    private CompiledValueMatcher(Map<Object, R1<? super V, ? extends R>> cases, R1<? super V, ? extends R> orElseAction) {
+        super(orElseAction);
+        this.cases = new HashMap<>(cases);
+    }
+
+    @Override
+    public R match(V value) {
+        R1<? super V, ? extends R> action = cases.get(value);
+        return action == null ? orElse(value) : action.$(value);
+    }
+
+    public static <V, R> Builder<V, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<V, R> {
+        private final Map<Object, R1<? super V, ? extends R>> cases = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder<V, R> when(V value, R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            cases.putIfAbsent(value, action);
+            return this;
+        }
+
+        public Builder<V, R> when(PatternIn<V> values, R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            if (values == null) {
+                cases.putIfAbsent(null, action);
+            } else {
+                for (V value : values.getVs()) {
+                    cases.putIfAbsent(value, action);
+                }
+            }
+            return this;
+        }
+
+        public CompiledValueMatcher<V, R> orElse(R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            return new CompiledValueMatcher<>(cases, action);
+        }
+
+        /**
+         * Build the matcher without {@code orElse} action, {@link CompiledValueMatcher#match(Object)} returns {@code null} if no case matches. <br>
+         * 构建没有 {@code orElse} 分支的匹配器，没有匹配的分支时 {@link CompiledValueMatcher#match(Object)} 返回 {@code null}
+         *
+         * @return CompiledValueMatcher
+         */
+        public CompiledValueMatcher<V, R> build() {
+            return new CompiledValueMatcher<>(cases, null);
+        }
+    }
+
+}
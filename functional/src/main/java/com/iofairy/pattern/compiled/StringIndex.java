@@ -0,0 +1,498 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.pattern.type.PatternString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Index over the literals of {@link CompiledStringMatcher}. {@link #indexOf(String)} returns the smallest index
+ * (the first case) of the literals that match the value, or {@code -1}. {@code null} literals are skipped. <br>
+ * {@link CompiledStringMatcher} 中所有字符串分支的索引。{@link #indexOf(String)} 返回与值匹配的字符串中最小的下标（即第一个分支），
+ * 没有匹配时返回 {@code -1}。{@code null} 会被忽略。
+ *
+ * @since 0.7.0
+ */
+abstract class StringIndex {
+    /**
+     * Up to this number of literals, testing them one by one is faster than walking a trie or an automaton
+     */
+    static final int SCAN_THRESHOLD = 8;
+    /**
+     * {@link String#contains(CharSequence)} is an intrinsic, so the threshold for {@link PatternString#CONTAIN} is higher
+     */
+    static final int CONTAIN_SCAN_THRESHOLD = 16;
+
+    abstract int indexOf(String value);
+
+    static StringIndex of(PatternString patternString, String[] literals) {
+        switch (patternString) {
+            case IGNORECASE:
+                return new IgnoreCaseIndex(literals);
+            case PREFIX:
+            case ICPREFIX:
+                return literals.length <= SCAN_THRESHOLD
+                        ? new ScanIndex(literals, patternString)
+                        : new TrieIndex(literals, patternString == PatternString.ICPREFIX, false);
+            case SUFFIX:
+            case ICSUFFIX:
+                return literals.length <= SCAN_THRESHOLD
+                        ? new ScanIndex(literals, patternString)
+                        : new TrieIndex(literals, patternString == PatternString.ICSUFFIX, true);
+            case CONTAIN:
+                return literals.length <= CONTAIN_SCAN_THRESHOLD
+                        ? new ScanIndex(literals, patternString)
+                        : new ContainIndex(literals, false);
+            case ICCONTAIN:
+                return new ContainIndex(literals, true);
+            default:
+                return new ExactIndex(literals);
+        }
+    }
+
+    /**
+     * Case folding consistent with {@link String#equalsIgnoreCase(String)}
+     */
+    static int fold(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * {@link PatternString#STRING}: hash table
+     */
+    static final class ExactIndex extends StringIndex {
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        ExactIndex(String[] literals) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i] != null) indexes.putIfAbsent(literals[i], i);
+            }
+        }
+
+        @Override
+        int indexOf(String value) {
+            Integer index = indexes.get(value);
+            return index == null ? -1 : index;
+        }
+    }
+
+    /**
+     * {@link PatternString#IGNORECASE}: open addressing hash table with case folded hash codes,
+     * so the value is not converted to upper case when matching.
+     */
+    static final class IgnoreCaseIndex extends StringIndex {
+        private final String[] keys;
+        private final int[] indexes;
+        private final int mask;
+
+        IgnoreCaseIndex(String[] literals) {
+            int capacity = Integer.highestOneBit(Math.max(literals.length, 1) * 2 + 1) << 1;
+            keys = new String[capacity];
+            indexes = new int[capacity];
+            mask = capacity - 1;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal == null) continue;
+                int slot = hash(literal) & mask;
+                while (keys[slot] != null && !keys[slot].equalsIgnoreCase(literal)) {
+                    slot = (slot + 1) & mask;
+                }
+                if (keys[slot] == null) {
+                    keys[slot] = literal;
+                    indexes[slot] = i;
+                }
+            }
+        }
+
+        @Override
+        int indexOf(String value) {
+            int slot = hash(value) & mask;
+            String key;
+            while ((key = keys[slot]) != null) {
+                if (key.equalsIgnoreCase(value)) return indexes[slot];
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static int hash(String s) {
+            int h = 0;
+            for (int i = 0; i < s.length(); ) {
+                int codePoint = s.codePointAt(i);
+                h = 31 * h + fold(codePoint);
+                i += Character.charCount(codePoint);
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /**
+     * {@link PatternString#PREFIX}, {@link PatternString#SUFFIX} and the ignore case variants: path compressed trie
+     * over the literals (over the reversed literals for suffix), a value is matched by walking the trie once.
+     */
+    static final class TrieIndex extends StringIndex {
+        private final Node root = new Node();
+        private final boolean ignoreCase;
+        private final boolean reverse;
+
+        TrieIndex(String[] literals, boolean ignoreCase, boolean reverse) {
+            this.ignoreCase = ignoreCase;
+            this.reverse = reverse;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal == null) continue;
+                Node node = root;
+                for (int j = 0; j < literal.length(); j++) {
+                    node = node.childOrCreate(charAt(literal, j));
+                }
+                if (node.index < 0) node.index = i;
+            }
+            root.compress();
+        }
+
+        @Override
+        int indexOf(String value) {
+            Node node = root;
+            int index = node.index;
+            int length = value.length();
+            for (int i = 0; i < length; ) {
+                node = node.child(charAt(value, i++));
+                if (node == null) break;
+                char[] skip = node.skip;
+                if (skip.length > length - i) break;
+                for (char c : skip) {
+                    if (charAt(value, i++) != c) return index;
+                }
+                if (node.index >= 0 && (index < 0 || node.index < index)) index = node.index;
+            }
+            return index;
+        }
+
+        /**
+         * The i-th char from the start (from the end if {@code reverse}), case folded if {@code ignoreCase}
+         */
+        private char charAt(String value, int i) {
+            char c = reverse ? value.charAt(value.length() - 1 - i) : value.charAt(i);
+            return ignoreCase ? fold(c) : c;
+        }
+    }
+
+    /**
+     * {@link PatternString#CONTAIN} and {@link PatternString#ICCONTAIN}: Aho–Corasick automaton over the literals,
+     * a value is matched by scanning it once, no matter how many literals there are. <br>
+     * The automaton is compiled into a DFA, so each char of the value costs one table lookup:
+     * the chars are mapped to the classes of the alphabet of the literals (class {@code 0} for the chars that no
+     * literal contains, case folded for ignore case), and {@code transitions[state * alphabetSize + class]} is the next state.
+     * {@code outputs[state]} is the smallest index of the literals that are suffixes of the text scanned so far. <br>
+     * The table has {@code stateCount * alphabetSize} cells, which grows quadratically with many literals over a large
+     * alphabet (e.g. CJK), so it is capped by {@link #MAX_DENSE_CELLS}: above the cap, only the rows of the ASCII classes
+     * (or no rows at all) are kept dense, the other classes are matched by the goto and failure links of the automaton.
+     */
+    static final class ContainIndex extends StringIndex {
+        /**
+         * Max number of cells (4 MiB) of the dense transition table
+         */
+        static final int MAX_DENSE_CELLS = 1 << 20;
+
+        private final boolean ignoreCase;
+        private final int[] asciiClasses = new int[128];
+        private final char[] otherChars;
+        private final int otherClassBase;
+        private final int alphabetSize;
+        /**
+         * Number of classes that have dense transitions, the classes from {@code denseWidth} are sparse
+         */
+        private final int denseWidth;
+        private final int[] transitions;
+        private final int[] fails;
+        /**
+         * Sparse goto links: the (sorted) classes from {@code denseWidth} of the children of a state, and the children
+         */
+        private final int[][] sparseClasses;
+        private final int[][] sparseStates;
+        private final int[] outputs;
+        private final int minIndex;
+
+        ContainIndex(String[] literals, boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+            Node root = new Node();
+            TreeSet<Character> alphabet = new TreeSet<>();
+            int minIndex = -1;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal == null) continue;
+                if (minIndex < 0) minIndex = i;
+                Node node = root;
+                for (int j = 0; j < literal.length(); j++) {
+                    char c = ignoreCase ? fold(literal.charAt(j)) : literal.charAt(j);
+                    alphabet.add(c);
+                    node = node.childOrCreate(c);
+                }
+                if (node.index < 0) node.index = i;
+            }
+            this.minIndex = minIndex;
+
+            int charClass = 1;
+            StringBuilder otherChars = new StringBuilder();
+            for (char c : alphabet) {
+                if (c < 128) {
+                    asciiClasses[c] = charClass++;
+                } else {
+                    otherChars.append(c);
+                }
+            }
+            if (ignoreCase) {
+                for (char c = 0; c < 128; c++) {
+                    asciiClasses[c] = asciiClasses[fold(c)];
+                }
+            }
+            this.otherChars = otherChars.toString().toCharArray();
+            this.otherClassBase = charClass;
+            this.alphabetSize = charClass + this.otherChars.length;
+
+            // number the states breadth first, so the failure state of a state is always numbered before it
+            List<Node> nodes = new ArrayList<>();
+            nodes.add(root);
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                for (Node child : node.children) {
+                    child.state = nodes.size();
+                    nodes.add(child);
+                }
+            }
+
+            int stateCount = nodes.size();
+            if ((long) stateCount * alphabetSize <= MAX_DENSE_CELLS) {
+                denseWidth = alphabetSize;
+            } else if ((long) stateCount * otherClassBase <= MAX_DENSE_CELLS) {
+                denseWidth = otherClassBase;
+            } else {
+                denseWidth = 0;
+            }
+            boolean sparse = denseWidth < alphabetSize;
+            fails = new int[stateCount];
+            transitions = new int[stateCount * denseWidth];
+            sparseClasses = sparse ? new int[stateCount][] : null;
+            sparseStates = sparse ? new int[stateCount][] : null;
+            outputs = new int[stateCount];
+            for (int state = 0; state < stateCount; state++) {
+                Node node = nodes.get(state);
+                int row = state * denseWidth;
+                int failRow = fails[state] * denseWidth;
+                outputs[state] = state == 0 ? node.index : min(node.index, outputs[fails[state]]);
+                if (state != 0) {
+                    System.arraycopy(transitions, failRow, transitions, row, denseWidth);
+                }
+                int sparseCount = 0;
+                for (int k = 0; k < node.keys.length; k++) {
+                    int c = keyClass(node.keys[k]);
+                    int child = node.children[k].state;
+                    fails[child] = state == 0 ? 0 : next(fails[state], c);
+                    if (c < denseWidth) {
+                        transitions[row + c] = child;
+                    } else {
+                        sparseCount++;
+                    }
+                }
+                if (sparse) {
+                    // the keys are sorted and the classes follow the order of the chars, so the sparse classes are sorted too
+                    int[] classes = new int[sparseCount];
+                    int[] children = new int[sparseCount];
+                    for (int k = node.keys.length - sparseCount, j = 0; k < node.keys.length; k++, j++) {
+                        classes[j] = keyClass(node.keys[k]);
+                        children[j] = node.children[k].state;
+                    }
+                    sparseClasses[state] = classes;
+                    sparseStates[state] = children;
+                }
+            }
+        }
+
+        @Override
+        int indexOf(String value) {
+            int index = outputs[0];
+            if (index == minIndex) return index;
+            int[] transitions = this.transitions;
+            int[] outputs = this.outputs;
+            int denseWidth = this.denseWidth;
+            int state = 0;
+            for (int i = 0; i < value.length(); i++) {
+                int c = charClass(value.charAt(i));
+                state = c < denseWidth ? transitions[state * denseWidth + c] : next(state, c);
+                int output = outputs[state];
+                if (output >= 0 && (index < 0 || output < index)) {
+                    index = output;
+                    if (index == minIndex) break;
+                }
+            }
+            return index;
+        }
+
+        private int charClass(char c) {
+            if (c < 128) return asciiClasses[c];
+            if (ignoreCase) {
+                c = fold(c);
+                if (c < 128) return asciiClasses[c];
+            }
+            int i = Arrays.binarySearch(otherChars, c);
+            return i < 0 ? 0 : otherClassBase + i;
+        }
+
+        /**
+         * Next state from {@code state} on the class {@code c}: a dense table lookup, or the goto and failure links
+         * for the sparse classes
+         */
+        private int next(int state, int c) {
+            if (c < denseWidth) return transitions[state * denseWidth + c];
+            if (c == 0) return 0;
+            while (true) {
+                int k = Arrays.binarySearch(sparseClasses[state], c);
+                if (k >= 0) return sparseStates[state][k];
+                if (state == 0) return 0;
+                state = fails[state];
+            }
+        }
+
+        /**
+         * Class of a char of the (case folded) literals
+         */
+        private int keyClass(char c) {
+            return c < 128 ? asciiClasses[c] : otherClassBase + Arrays.binarySearch(otherChars, c);
+        }
+
+        private static int min(int index1, int index2) {
+            return index1 < 0 ? index2 : (index2 < 0 ? index1 : Math.min(index1, index2));
+        }
+    }
+
+    /**
+     * A few literals of {@link PatternString#PREFIX}, {@link PatternString#SUFFIX}, {@link PatternString#CONTAIN},
+     * {@link PatternString#ICPREFIX} and {@link PatternString#ICSUFFIX}: test the literals one by one.
+     */
+    static final class ScanIndex extends StringIndex {
+        private final String[] literals;
+        private final PatternString patternString;
+
+        ScanIndex(String[] literals, PatternString patternString) {
+            this.literals = literals;
+            this.patternString = patternString;
+        }
+
+        @Override
+        int indexOf(String value) {
+            String[] literals = this.literals;
+            switch (patternString) {
+                case PREFIX:
+                    for (int i = 0; i < literals.length; i++) {
+                        if (literals[i] != null && value.startsWith(literals[i])) return i;
+                    }
+                    return -1;
+                case SUFFIX:
+                    for (int i = 0; i < literals.length; i++) {
+                        if (literals[i] != null && value.endsWith(literals[i])) return i;
+                    }
+                    return -1;
+                case CONTAIN:
+                    for (int i = 0; i < literals.length; i++) {
+                        if (literals[i] != null && value.contains(literals[i])) return i;
+                    }
+                    return -1;
+                default:
+                    for (int i = 0; i < literals.length; i++) {
+                        if (literals[i] != null && matchesIgnoreCase(value, literals[i])) return i;
+                    }
+                    return -1;
+            }
+        }
+
+        private boolean matchesIgnoreCase(String value, String literal) {
+            int length = literal.length();
+            switch (patternString) {
+                case ICPREFIX:
+                    return value.regionMatches(true, 0, literal, 0, length);
+                default:
+                    return value.regionMatches(true, value.length() - length, literal, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Trie node, the children are sorted by char and looked up by binary search. A chain of nodes that have only one
+     * child and no literal ends at them is compressed into {@link #skip}, the chars to match after the key char of the node.
+     * {@link #state} is only used by {@link ContainIndex}.
+     */
+    static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        char[] skip = NO_KEYS;
+        int index = -1;
+        int state;
+
+        void compress() {
+            for (int i = 0; i < children.length; i++) {
+                Node child = children[i];
+                StringBuilder skipChars = new StringBuilder();
+                while (child.index < 0 && child.children.length == 1) {
+                    skipChars.append(child.keys[0]);
+                    child = child.children[0];
+                }
+                if (skipChars.length() > 0) {
+                    skipChars.append(child.skip);
+                    child.skip = skipChars.toString().toCharArray();
+                    children[i] = child;
+                }
+                child.compress();
+            }
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i < 0 ? null : children[i];
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+            i = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+            System.arraycopy(children, i, newChildren, i + 1, keys.length - i);
+            Node child = new Node();
+            newKeys[i] = c;
+            newChildren[i] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ package com.iofairy.pattern.mapping;
 import com.iofairy.lambda.*;
 import com.iofairy.pattern.matcher.TypeRMatcher;
 import com.iofairy.pattern.matcher.TypeVMatcher;
+import com.iofairy.pattern.type.PatternType;
 
 /**
  * Type Matcher Mapping
@@ -25,27 +26,34 @@ import com.iofairy.pattern.matcher.TypeVMatcher;
  * @since 0.0.1
  */
 public class TypeMatcherMapping<V> extends PatternMatcherMapping<V> {
+    private PatternType patternType = PatternType.TYPE;
+
+    public TypeMatcherMapping(V value, PatternType patternType) {
+        this(value);
+        this.patternType = patternType;
+    }
+
     public TypeMatcherMapping(V value) {
         super(value);
     }
 
     public <C> TypeVMatcher<V> when(Class<C> matchValue, V1<? super C> action) {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value, patternType);
         return typeVMatcher.when(matchValue, action);
     }
 
     public <C> TypeVMatcher<V> whenNext(Class<C> matchValue, V1<? super C> action) {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value, patternType);
         return typeVMatcher.whenNext(matchValue, action);
     }
 
     public <C, R> TypeRMatcher<V, R> when(Class<C> matchValue, R1<? super C, ? extends R> action) {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value, patternType);
         return typeRMatcher.when(matchValue, action);
     }
 
     public <C, R> TypeRMatcher<V, R> whenNext(Class<C> matchValue, R1<? super C, ? extends R> action) {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value, patternType);
         return typeRMatcher.whenNext(matchValue, action);
     }
 
@@ -57,22 +65,22 @@ public class TypeMatcherMapping<V> extends PatternMatcherMapping<V> {
      * ######################################################
      */
     public <C, E extends Throwable> TypeVMatcher<V> with(Class<C> matchValue, VT1<? super C, E> action) throws E {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value, patternType);
         return typeVMatcher.with(matchValue, action);
     }
 
     public <C, E extends Throwable> TypeVMatcher<V> withNext(Class<C> matchValue, VT1<? super C, E> action) throws E {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value, patternType);
         return typeVMatcher.withNext(matchValue, action);
     }
 
     public <C, R, E extends Throwable> TypeRMatcher<V, R> with(Class<C> matchValue, RT1<? super C, ? extends R, E> action) throws E {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value, patternType);
         return typeRMatcher.with(matchValue, action);
     }
 
     public <C, R, E extends Throwable> TypeRMatcher<V, R> withNext(Class<C> matchValue, RT1<? super C, ? extends R, E> action) throws E {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value, patternType);
         return typeRMatcher.withNext(matchValue, action);
     }
 
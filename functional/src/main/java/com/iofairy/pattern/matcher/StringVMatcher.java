@@ -39,15 +39,10 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         this(value);
         this.patternString = patternString;
 
-        ucValue = value;
-        if (value != null){
-            if (patternString == PatternString.ICCONTAIN
-                    || patternString == PatternString.ICPREFIX
-                    || patternString == PatternString.ICSUFFIX){
-                ucValue = value.toUpperCase();
-                ignoreCase = true;
-            }
-        }
+        ignoreCase = patternString == PatternString.ICCONTAIN
+                || patternString == PatternString.ICPREFIX
+                || patternString == PatternString.ICSUFFIX;
+        ucValue = ignoreCase && value != null ? value.toUpperCase() : value;
     }
 
     public StringVMatcher(String value, boolean isMatch) {
@@ -58,6 +53,26 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         this(value, false);
     }
 
+    /**
+     * Re-bind this matcher to a new value and clear the previous match result, so that one matcher can be reused
+     * in a loop without creating a new matcher for every value. Not thread-safe. <br>
+     * <b>NOTE:</b> the ignore case patterns still create the upper case copy of the value and of each case. <br>
+     * 将当前匹配器重新绑定到新的值，并清除上一次的匹配结果，以便在循环中复用同一个匹配器，而不必为每个值创建新的匹配器。非线程安全。<br>
+     * <b>注：</b>忽略大小写的模式仍会创建值及各分支的大写副本。
+     *
+     * @param value new value
+     * @return this matcher
+     * @since 0.7.0
+     */
+    public StringVMatcher reset(String value) {
+        this.value = value;
+        this.ucValue = ignoreCase && value != null ? value.toUpperCase() : value;
+        this.isMatch = false;
+        this.isMatchForNext = false;
+        this.returnValue = null;
+        return this;
+    }
+
     @Override
     public StringVMatcher when(String value, V1<? super String> action) {
         Objects.requireNonNull(action);
@@ -17,6 +17,7 @@ package com.iofairy.pattern.matcher;
 
 import com.iofairy.lambda.V1;
 import com.iofairy.lambda.VT1;
+import com.iofairy.pattern.type.PatternType;
 
 import java.util.Objects;
 
@@ -30,16 +31,38 @@ public class TypeVMatcher<V> implements PatternMatcher {
     protected Void returnValue;
     protected V value;
     protected boolean isMatch;
+    protected boolean instanceOf;
 
     public TypeVMatcher(V value, boolean isMatch) {
         this.value = value;
         this.isMatch = isMatch;
     }
 
+    public TypeVMatcher(V value, PatternType patternType) {
+        this(value, false);
+        this.instanceOf = patternType == PatternType.INSTANCEOF;
+    }
+
     public TypeVMatcher(V value) {
         this(value, false);
     }
 
+    /**
+     * Re-bind this matcher to a new value and clear the previous match result, so that one matcher can be reused
+     * in a loop without creating a new matcher for every value. Not thread-safe. <br>
+     * 将当前匹配器重新绑定到新的值，并清除上一次的匹配结果，以便在循环中复用同一个匹配器，而不必为每个值创建新的匹配器。非线程安全。
+     *
+     * @param value new value
+     * @return this matcher
+     * @since 0.7.0
+     */
+    public TypeVMatcher<V> reset(V value) {
+        this.value = value;
+        this.isMatch = false;
+        this.returnValue = null;
+        return this;
+    }
+
     public <C> TypeVMatcher<V> when(Class<C> value, V1<? super C> action) {
         Objects.requireNonNull(action);
         if (!isMatch) {
@@ -48,7 +71,7 @@ public class TypeVMatcher<V> implements PatternMatcher {
                     isMatch = true;
                     action.$((C) this.value);
                 }
-            } else if (this.value.getClass() == value) {
+            } else if (isType(value)) {
                 isMatch = true;
                 action.$((C) this.value);
             }
@@ -62,7 +85,7 @@ public class TypeVMatcher<V> implements PatternMatcher {
             if (value == null || this.value == null) {
                 if (this.value == null && value == null)
                     action.$((C) this.value);
-            } else if (this.value.getClass() == value) action.$((C) this.value);
+            } else if (isType(value)) action.$((C) this.value);
         }
         return this;
     }
@@ -75,7 +98,7 @@ public class TypeVMatcher<V> implements PatternMatcher {
                     isMatch = true;
                     action.$((C) this.value);
                 }
-            } else if (this.value.getClass() == value) {
+            } else if (isType(value)) {
                 isMatch = true;
                 action.$((C) this.value);
             }
@@ -89,7 +112,7 @@ public class TypeVMatcher<V> implements PatternMatcher {
             if (value == null || this.value == null) {
                 if (this.value == null && value == null)
                     action.$((C) this.value);
-            } else if (this.value.getClass() == value) action.$((C) this.value);
+            } else if (isType(value)) action.$((C) this.value);
         }
         return this;
     }
@@ -109,4 +132,8 @@ public class TypeVMatcher<V> implements PatternMatcher {
         }
         return returnValue;
     }
+
+    private boolean isType(Class<?> type) {
+        return instanceOf ? type.isInstance(this.value) : this.value.getClass() == type;
+    }
 }
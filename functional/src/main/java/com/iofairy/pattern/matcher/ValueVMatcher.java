@@ -35,6 +35,22 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
         this(value, false);
     }
 
+    /**
+     * Re-bind this matcher to a new value and clear the previous match result, so that one matcher can be reused
+     * in a loop without creating a new matcher for every value. Not thread-safe. <br>
+     * 将当前匹配器重新绑定到新的值，并清除上一次的匹配结果，以便在循环中复用同一个匹配器，而不必为每个值创建新的匹配器。非线程安全。
+     *
+     * @param value new value
+     * @return this matcher
+     * @since 0.7.0
+     */
+    public ValueVMatcher<V> reset(V value) {
+        this.value = value;
+        this.isMatch = false;
+        this.returnValue = null;
+        return this;
+    }
+
     @Override
     public ValueVMatcher<V> when(V value, V1<? super V> action) {
         Objects.requireNonNull(action);
@@ -20,5 +20,17 @@ package com.iofairy.pattern.type;
  * @since 0.0.1
  */
 public enum PatternType implements PatternTypes {
-    TYPE
+    /**
+     * match by the exact runtime class of the value<br>
+     * 按值的运行时类型精确匹配
+     */
+    TYPE,
+    /**
+     * match by {@code instanceof}, a case of a superclass or an interface matches the values of its subclasses
+     * or implementations<br>
+     * 按 {@code instanceof} 匹配，父类或接口的分支也匹配其子类或实现类的值
+     *
+     * @since 0.7.0
+     */
+    INSTANCEOF
 }
@@ -16,6 +16,7 @@
 package com.iofairy.range;
 
 import com.iofairy.annos.Beta;
+import com.iofairy.time.DTFCache;
 import com.iofairy.time.DateTime;
 import com.iofairy.time.DateTimes;
 import com.iofairy.top.G;
@@ -326,11 +327,11 @@ public class Range<T extends Comparable> implements Serializable {
     }
 
     public String toString(String pattern) {
-        return toString(S.isBlank(pattern) ? DateTimes.DTF_STD : DateTimeFormatter.ofPattern(pattern));
+        return toString(S.isBlank(pattern) ? DateTimes.DTF_STD : DTFCache.ofPattern(pattern));
     }
 
     public String toString(String pattern, boolean useTimestamp) {
-        return toString(S.isBlank(pattern) ? DateTimes.DTF_STD : DateTimeFormatter.ofPattern(pattern), useTimestamp);
+        return toString(S.isBlank(pattern) ? DateTimes.DTF_STD : DTFCache.ofPattern(pattern), useTimestamp);
     }
 
     public String toString(DateTimeFormatter formatter) {
@@ -15,11 +15,11 @@
  */
 package com.iofairy.si;
 
+import com.iofairy.cache.BoundedCache;
 import com.iofairy.except.CircularReferencesException;
 import com.iofairy.except.UndefinedVariableException;
 import com.iofairy.except.UnexpectedParameterException;
 import com.iofairy.except.UnexpectedTypeException;
-import com.iofairy.time.DateTime;
 import com.iofairy.top.G;
 import com.iofairy.top.O;
 import com.iofairy.top.S;
@@ -28,6 +28,7 @@ import com.iofairy.tuple.Tuple;
 import java.util.*;
 
 import static com.iofairy.si.SIBase.*;
+import static com.iofairy.validator.Preconditions.*;
 
 /**
  * String Interpolator. <b>It's not thread-safe</b>.<br>
@@ -40,9 +41,14 @@ public class SI {
     private final static int CACHE_SIZE = 1000;
     private final static int NESTED_CACHE_SIZE = 500;
     private final static int KEY_CACHE_SIZE = 2000;
-    private final static Map<String, List<StringToken>> TEMPLATE_CACHE = Collections.synchronizedMap(new LRUCache<>(CACHE_SIZE));
-    private final static Map<String, List<Object>> NESTED_TEMPLATE_CACHE = Collections.synchronizedMap(new LRUCache<>(NESTED_CACHE_SIZE));
-    private final static Map<String, String> KEY_CACHE = Collections.synchronizedMap(new LRUCache<>(KEY_CACHE_SIZE));
+    /*
+     * Template caches are shared by all threads (including every `Preconditions` failure message),
+     * cache hits are lock-free (see BoundedCache).
+     * 模板缓存被所有线程共享（包括所有 `Preconditions` 的错误信息），缓存命中时无锁
+     */
+    private final static BoundedCache<String, SITemplate> TEMPLATE_CACHE = BoundedCache.of(CACHE_SIZE);
+    private final static BoundedCache<String, List<Object>> NESTED_TEMPLATE_CACHE = BoundedCache.of(NESTED_CACHE_SIZE);
+    private final static BoundedCache<String, String> KEY_CACHE = BoundedCache.of(KEY_CACHE_SIZE);
 
     private final Map<String, Object> valueMap = new HashMap<>();   // 读多写少，未加同步机制
 
@@ -266,44 +272,19 @@ public class SI {
         if (S.isBlank(source)) return source.toString();
 
         String sourceString = source.toString();
+        if (!enableSIInVariables) {
+            return compile(sourceString).render(valueMap, enableUndefinedVariableException);
+        }
 
         StringBuilder interpolated = new StringBuilder();
-
-        if (enableSIInVariables) {
-            List<Object> nestedTokens = getNestedTokens(sourceString);
-
-            for (Object token : nestedTokens) {
-                if (token instanceof NestedStringToken) {
-                    List<String> variablesStack = new ArrayList<>();
-                    Object afterInterpolated = interpolate(sourceString, (NestedStringToken) token, variablesStack);
-                    interpolated.append(afterInterpolated);
-                } else {
-                    interpolated.append(token);
-                }
-            }
-        } else {
-            List<StringToken> tokens = getTokens(sourceString);
-
-            for (StringToken token : tokens) {
-                String value = token.value;
-                if (enableUndefinedVariableException && token.type == StringType.VARIABLE && !valueMap.containsKey(value)) {
-                    throw new UndefinedVariableException("Cannot resolve variable `${value}` in \"${sourceString}\". ", value, sourceString);
-                }
-
-                Object valueWillBeInterpolated = token.originValue;
-                if (S.isNotBlank(token.pattern)) {
-                    if (valueMap.containsKey(value)) {
-                        Object o = valueMap.get(value);
-                        valueWillBeInterpolated = o == null ? null : DateTime.of(o).format(token.pattern);
-                    } else if (token.defaultValue != null) {
-                        valueWillBeInterpolated = DateTime.of(token.defaultValue).format(token.pattern);
-                    }
-                } else {
-                    if (valueMap.containsKey(value)) {
-                        valueWillBeInterpolated = valueMap.get(value);
-                    }
-                }
-                interpolated.append(token.type == StringType.STRING ? value : valueWillBeInterpolated);
+        List<Object> nestedTokens = getNestedTokens(sourceString);
+        for (Object token : nestedTokens) {
+            if (token instanceof NestedStringToken) {
+                List<String> variablesStack = new ArrayList<>();
+                Object afterInterpolated = interpolate(sourceString, (NestedStringToken) token, variablesStack);
+                interpolated.append(afterInterpolated);
+            } else {
+                interpolated.append(token);
             }
         }
 
@@ -390,14 +371,7 @@ public class SI {
     }
 
     private static List<Object> getNestedTokens(String source) {
-        List<Object> tokens;
-        if (NESTED_TEMPLATE_CACHE.containsKey(source)) {
-            tokens = NESTED_TEMPLATE_CACHE.get(source);
-        } else {
-            tokens = StringExtractor.nestedParse(source);
-            NESTED_TEMPLATE_CACHE.put(source, tokens);
-        }
-        return tokens;
+        return NESTED_TEMPLATE_CACHE.computeIfAbsent(source, StringExtractor::nestedParse);
     }
 
     /**
@@ -412,46 +386,20 @@ public class SI {
     public static String $(CharSequence source, Object... arguments) {
         if (source == null) return null;
         if (S.isBlank(source)) return source.toString();
-        int length = G.isEmpty(arguments) ? 0 : arguments.length;
-
-        int placeholderCount = 0;
-        List<StringToken> tokens = getTokens(source.toString());
-        StringBuilder parsed = new StringBuilder();
-        for (StringToken token : tokens) {
-            String value = token.value;
-            if (token.type == StringType.STRING) {
-                parsed.append(value);
-            } else {
-                if (placeholderCount < length) {
-                    Object argument = arguments[placeholderCount];
-                    if (S.isNotBlank(token.pattern)) {
-                        parsed.append(argument == null ? null : DateTime.of(argument).format(token.pattern));
-                    } else {
-                        parsed.append(argument);
-                    }
-                    placeholderCount++;
-                } else {
-                    if (token.defaultValue != null && S.isNotBlank(token.pattern)) {
-                        parsed.append(DateTime.of(token.defaultValue).format(token.pattern));
-                    } else {
-                        parsed.append(token.originValue);
-                    }
-                }
-            }
-        }
-
-        return parsed.toString();
+        return compile(source.toString()).render(arguments);
     }
 
-    private static List<StringToken> getTokens(String source) {
-        List<StringToken> tokens;
-        if (TEMPLATE_CACHE.containsKey(source)) {
-            tokens = TEMPLATE_CACHE.get(source);
-        } else {
-            tokens = StringExtractor.split(source);
-            TEMPLATE_CACHE.put(source, tokens);
-        }
-        return tokens;
+    /**
+     * Compile the template, the returned {@link SITemplate} can be rendered repeatedly without parsing the template again. <br>
+     * 预编译模板，返回的 {@link SITemplate} 可以反复渲染，而无需重复解析模板
+     *
+     * @param template template
+     * @return SITemplate
+     * @since 0.7.0
+     */
+    public static SITemplate compile(String template) {
+        checkNullNPE(template, args("template"));
+        return TEMPLATE_CACHE.computeIfAbsent(template, SITemplate::new);
     }
 
     public Map<String, Object> getValueMap() {
@@ -469,8 +417,9 @@ public class SI {
                 if (withSuffix) {
                     String cacheKey = (needTrim ? "init -> " : "load -> ") + k;
 
-                    if (KEY_CACHE.containsKey(cacheKey)) {
-                        kvMap.put(KEY_CACHE.get(cacheKey), kvs[i + 1]);
+                    String cachedKey = KEY_CACHE.get(cacheKey);
+                    if (cachedKey != null) {
+                        kvMap.put(cachedKey, kvs[i + 1]);
                     } else {
                         String tempKey = k;
                         if (needTrim) tempKey = k.replaceAll("[\\s　]+$", "");  // 删除尾部的空白字符，包括中文空格
@@ -500,32 +449,6 @@ public class SI {
         return getClass().getName() + "@" + Integer.toHexString(hashCode());
     }
 
-    /**
-     * Simple LRU Cache, <b>this implementation is not synchronized and not thread-safe.</b>
-     *
-     * @param <K> key type
-     * @param <V> value type
-     */
-    static class LRUCache<K, V> extends LinkedHashMap<K, V> {
-        private final int maxEntries;
-
-        public LRUCache(final int maxEntries) {
-            super(maxEntries + 1, 1.0f, true);
-            this.maxEntries = maxEntries;
-        }
-
-        public LRUCache(final int maxEntries, float loadFactor) {
-            super(maxEntries + 1, loadFactor, true);
-            this.maxEntries = maxEntries;
-        }
-
-        @Override
-        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
-            return size() > maxEntries;
-        }
-    }
-
-
     public boolean isEnableSIInVariables() {
         return enableSIInVariables;
     }
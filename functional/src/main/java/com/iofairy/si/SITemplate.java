@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+import com.iofairy.except.UndefinedVariableException;
+import com.iofairy.time.DTFCache;
+import com.iofairy.time.DateTime;
+import com.iofairy.top.S;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * Precompiled string interpolation template. The template is parsed only once, and the date time formatters of
+ * the {@code ${var:~ pattern}} placeholders are resolved in advance, so it can be rendered repeatedly with low overhead. <br>
+ * 预编译的字符串插值模板。模板只解析一次，并且预先解析 {@code ${var:~ pattern}} 占位符的日期格式化器，适合反复渲染同一个模板。<br>
+ * <b>Examples:</b>
+ * <blockquote><pre>{@code
+ * SITemplate template = SI.compile("ip: ${ip}---port: ${port: 3306}---date: ${date:~ yyyyMMdd}");
+ * String s1 = template.render("127.0.0.1", 3307, LocalDate.of(2025, 1, 1));    // ip: 127.0.0.1---port: 3307---date: 20250101
+ * String s2 = template.render(map);
+ * template.renderTo(stringBuilder, "127.0.0.1");
+ * }</pre></blockquote>
+ *
+ * @implSpec This class is <b>immutable</b> and <b>thread-safe</b>.
+ * @since 0.7.0
+ */
+public final class SITemplate {
+    /**
+     * Estimated length of a rendered variable. <br>
+     * 每个变量渲染后的预估长度
+     */
+    private static final int VARIABLE_LENGTH_ESTIMATE = 16;
+
+    private final String source;
+    private final List<StringToken> tokens;
+    /*
+     * Token fields are flattened into arrays, rendering only reads the arrays.
+     * 将token的字段展开到数组中，渲染时只读取数组
+     */
+    private final boolean[] variables;
+    private final String[] values;
+    private final String[] originValues;
+    private final String[] defaultValues;
+    private final String[] patterns;
+    /**
+     * Pre-resolved formatters, {@code null} if the token has no pattern or the pattern is invalid
+     * (the invalid pattern will throw exception when it is really used, same as {@link SI#$(CharSequence, Object...)}). <br>
+     * 预先解析的日期格式化器，token无pattern或pattern不合法时为 {@code null}（不合法的pattern在真正使用时才抛出异常，与 {@link SI#$(CharSequence, Object...)} 一致）
+     */
+    private final DateTimeFormatter[] formatters;
+    private final int variableCount;
+    private final int estimatedLength;
+
+    SITemplate(String source) {
+        checkNullNPE(source, args("source"));
+        this.source = source;
+        this.tokens = Collections.unmodifiableList(StringExtractor.split(source));
+
+        int size = tokens.size();
+        this.variables = new boolean[size];
+        this.values = new String[size];
+        this.originValues = new String[size];
+        this.defaultValues = new String[size];
+        this.patterns = new String[size];
+        this.formatters = new DateTimeFormatter[size];
+
+        int count = 0;
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            StringToken token = tokens.get(i);
+            values[i] = token.value;
+            originValues[i] = token.originValue;
+            defaultValues[i] = token.defaultValue;
+            if (token.type == StringType.VARIABLE) {
+                variables[i] = true;
+                count++;
+                length += VARIABLE_LENGTH_ESTIMATE;
+                if (S.isNotBlank(token.pattern)) {
+                    patterns[i] = token.pattern;
+                    formatters[i] = ofPattern(token.pattern);
+                }
+            } else {
+                length += token.value.length();
+            }
+        }
+        this.variableCount = count;
+        this.estimatedLength = length;
+    }
+
+    /**
+     * Render the template with positional arguments, same as {@link SI#$(CharSequence, Object...)}. <br>
+     * 使用位置参数渲染模板，与 {@link SI#$(CharSequence, Object...)} 一致
+     *
+     * @param arguments arguments
+     * @return string that has been processed
+     */
+    public String render(Object... arguments) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        try {
+            appendTo(sb, arguments);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);      // never happen for StringBuilder
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Render the template with the variables in {@code valueMap}, same as {@link SI#$(CharSequence)}
+     * (without nested interpolation). <br>
+     * 使用 {@code valueMap} 中的变量渲染模板，与 {@link SI#$(CharSequence)} 一致（不支持嵌套插值）
+     *
+     * @param valueMap variables
+     * @return string that has been processed
+     */
+    public String render(Map<String, ?> valueMap) {
+        return render(valueMap, false);
+    }
+
+    String render(Map<String, ?> valueMap, boolean enableUndefinedVariableException) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        try {
+            appendTo(sb, valueMap == null ? Collections.emptyMap() : valueMap, enableUndefinedVariableException);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Render the template with positional arguments and append the result to {@code appendable}. <br>
+     * 使用位置参数渲染模板，并将结果追加到 {@code appendable} 中
+     *
+     * @param appendable the target, e.g. {@link StringBuilder}, {@link java.io.Writer}
+     * @param arguments  arguments
+     * @param <A>        appendable type
+     * @return {@code appendable}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public <A extends Appendable> A renderTo(A appendable, Object... arguments) {
+        checkNullNPE(appendable, args("appendable"));
+        try {
+            appendTo(appendable, arguments);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return appendable;
+    }
+
+    /**
+     * Render the template with the variables in {@code valueMap} and append the result to {@code appendable}. <br>
+     * 使用 {@code valueMap} 中的变量渲染模板，并将结果追加到 {@code appendable} 中
+     *
+     * @param appendable the target, e.g. {@link StringBuilder}, {@link java.io.Writer}
+     * @param valueMap   variables
+     * @param <A>        appendable type
+     * @return {@code appendable}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public <A extends Appendable> A renderTo(A appendable, Map<String, ?> valueMap) {
+        checkNullNPE(appendable, args("appendable"));
+        try {
+            appendTo(appendable, valueMap == null ? Collections.emptyMap() : valueMap, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return appendable;
+    }
+
+    private void appendTo(Appendable appendable, Object[] arguments) throws IOException {
+        int length = arguments == null ? 0 : arguments.length;
+        int placeholderCount = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!variables[i]) {
+                appendable.append(values[i]);
+            } else if (placeholderCount < length) {
+                Object argument = arguments[placeholderCount++];
+                appendable.append(String.valueOf(patterns[i] == null || argument == null ? argument : format(argument, i)));
+            } else {
+                appendable.append(patterns[i] != null && defaultValues[i] != null ? format(defaultValues[i], i) : originValues[i]);
+            }
+        }
+    }
+
+    private void appendTo(Appendable appendable, Map<String, ?> valueMap, boolean enableUndefinedVariableException) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (!variables[i]) {
+                appendable.append(value);
+                continue;
+            }
+
+            Object o = valueMap.get(value);
+            boolean found = o != null || valueMap.containsKey(value);
+            if (enableUndefinedVariableException && !found) {
+                throw new UndefinedVariableException("Cannot resolve variable `${value}` in \"${sourceString}\". ", value, source);
+            }
+
+            Object valueWillBeInterpolated = originValues[i];
+            if (patterns[i] != null) {
+                if (found) {
+                    valueWillBeInterpolated = o == null ? null : format(o, i);
+                } else if (defaultValues[i] != null) {
+                    valueWillBeInterpolated = format(defaultValues[i], i);
+                }
+            } else if (found) {
+                valueWillBeInterpolated = o;
+            }
+            appendable.append(String.valueOf(valueWillBeInterpolated));
+        }
+    }
+
+    private String format(Object dateTime, int index) {
+        DateTimeFormatter formatter = formatters[index];
+        return formatter == null ? DateTime.of(dateTime).format(patterns[index]) : DateTime.of(dateTime).format(formatter);
+    }
+
+    private static DateTimeFormatter ofPattern(String pattern) {
+        try {
+            return DTFCache.ofPattern(pattern);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Unmodifiable token list of this template. <br>
+     * 模板的token列表（不可修改）
+     *
+     * @return token list
+     */
+    public List<StringToken> getTokens() {
+        return tokens;
+    }
+
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    public int getEstimatedLength() {
+        return estimatedLength;
+    }
+
+    @Override
+    public String toString() {
+        return "SITemplate{" +
+                "source='" + source + '\'' +
+                ", variableCount=" + variableCount +
+                '}';
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.time;
+
+import com.iofairy.cache.BoundedCache;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * Bounded, thread-safe cache of {@link DateTimeFormatter}, keyed by <b>pattern</b>, <b>locale</b> and <b>zone</b>.
+ * Compiling a pattern is far more expensive than formatting with it, {@link DateTime#format(String)},
+ * {@link DateTimePattern#getDTF(String)} and the {@code ${var:~ pattern}} placeholders of SI all go through this cache. <br>
+ * 有界、线程安全的 {@link DateTimeFormatter} 缓存，以 <b>pattern</b>、<b>locale</b> 和 <b>zone</b> 作为key。
+ * 编译pattern的开销远大于格式化本身，{@link DateTime#format(String)}、{@link DateTimePattern#getDTF(String)} 以及
+ * SI 的 {@code ${var:~ pattern}} 占位符都使用此缓存。
+ *
+ * @since 0.7.0
+ */
+public final class DTFCache {
+    private static final int CACHE_SIZE = 512;
+
+    private static final BoundedCache<Key, DateTimeFormatter> CACHE = BoundedCache.withStats(CACHE_SIZE);
+
+    private DTFCache() {
+    }
+
+    /**
+     * Same as {@link DateTimeFormatter#ofPattern(String)}, but cached. <br>
+     * 与 {@link DateTimeFormatter#ofPattern(String)} 相同，但会缓存结果
+     *
+     * @param pattern the pattern to use
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern) {
+        return get(pattern, Locale.getDefault(Locale.Category.FORMAT), null, false);
+    }
+
+    /**
+     * Same as {@link DateTimeFormatter#ofPattern(String, Locale)}, but cached. <br>
+     * 与 {@link DateTimeFormatter#ofPattern(String, Locale)} 相同，但会缓存结果
+     *
+     * @param pattern the pattern to use
+     * @param locale  the locale to use
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+        checkNullNPE(locale, args("locale"));
+        return get(pattern, locale, null, false);
+    }
+
+    /**
+     * Same as {@code DateTimeFormatter.ofPattern(pattern, locale).withZone(zone)}, but cached. <br>
+     * 与 {@code DateTimeFormatter.ofPattern(pattern, locale).withZone(zone)} 相同，但会缓存结果
+     *
+     * @param pattern the pattern to use
+     * @param locale  the locale to use
+     * @param zone    the override zone, {@code null} if no override
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern, Locale locale, ZoneId zone) {
+        checkNullNPE(locale, args("locale"));
+        return get(pattern, locale, zone, false);
+    }
+
+    /**
+     * Same as {@link DateTimePattern#buildDTF(String)} (missing fields default to {@code 1970-01-01 00:00:00}), but cached. <br>
+     * 与 {@link DateTimePattern#buildDTF(String)} 相同（缺失的字段默认为 {@code 1970-01-01 00:00:00}），但会缓存结果
+     *
+     * @param pattern the pattern to use
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter ofPatternWithDefaults(String pattern) {
+        return get(pattern, Locale.getDefault(Locale.Category.FORMAT), null, true);
+    }
+
+    private static DateTimeFormatter get(String pattern, Locale locale, ZoneId zone, boolean withDefaults) {
+        checkNullNPE(pattern, args("pattern"));
+        return CACHE.computeIfAbsent(new Key(pattern, locale, zone, withDefaults), Key::newFormatter);
+    }
+
+    public static long hitCount() {
+        return CACHE.hitCount();
+    }
+
+    public static long missCount() {
+        return CACHE.missCount();
+    }
+
+    public static long evictionCount() {
+        return CACHE.evictionCount();
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Clear the cached formatters and reset the statistics. <br>
+     * 清空缓存的格式化器并重置统计信息
+     */
+    public static void clear() {
+        CACHE.clear();
+        CACHE.resetStats();
+    }
+
+    private static final class Key {
+        final String pattern;
+        final Locale locale;
+        final ZoneId zone;
+        final boolean withDefaults;
+        final int hash;
+
+        Key(String pattern, Locale locale, ZoneId zone, boolean withDefaults) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.zone = zone;
+            this.withDefaults = withDefaults;
+            this.hash = 31 * (31 * (31 * pattern.hashCode() + locale.hashCode()) + Objects.hashCode(zone)) + (withDefaults ? 1 : 0);
+        }
+
+        DateTimeFormatter newFormatter() {
+            DateTimeFormatter formatter = withDefaults ? DateTimePattern.buildDTF(pattern) : DateTimeFormatter.ofPattern(pattern);
+            formatter = formatter.withLocale(locale);
+            return zone == null ? formatter : formatter.withZone(zone);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hash == key.hash
+                    && withDefaults == key.withDefaults
+                    && pattern.equals(key.pattern)
+                    && locale.equals(key.locale)
+                    && Objects.equals(zone, key.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -961,6 +961,9 @@ public class DateTime implements Temporal, Comparable<DateTime>, Serializable {
      */
     public static DateTime parse(CharSequence text) {
         checkNullNPE(text, args("text"));
+        DateTime dateTime = fastParse(text, null);
+        if (dateTime != null) return dateTime;
+
         String dateText = DateTimes.formatZhMillis(text.toString());
 
         String dateFormat = DateTimePattern.forDTF(dateText);
@@ -984,6 +987,9 @@ public class DateTime implements Temporal, Comparable<DateTime>, Serializable {
      */
     public static DateTime parse(CharSequence text, ZoneId zoneId) {
         checkNullNPE(text, args("text"));
+        DateTime dateTime = fastParse(text, zoneId);
+        if (dateTime != null) return dateTime;
+
         String dateText = DateTimes.formatZhMillis(text.toString());
 
         String dateFormat = DateTimePattern.forDTF(dateText);
@@ -1070,6 +1076,34 @@ public class DateTime implements Temporal, Comparable<DateTime>, Serializable {
         return from(parse);
     }
 
+    /**
+     * Create a {@link DateTimeColumnParser} builder for parsing a large number of date time strings of the same format. <br>
+     * 创建 {@link DateTimeColumnParser} 的构建器，用于批量解析相同格式的时间串
+     *
+     * @return DateTimeColumnParser Builder
+     * @since 0.7.0
+     */
+    public static DateTimeColumnParser.Builder parser() {
+        return DateTimeColumnParser.newBuilder();
+    }
+
+    /**
+     * Parse the date time string by {@link FastDateTimeParser}, avoid detecting the pattern by regex
+     * and parsing by {@link DateTimeFormatter}. <br>
+     * 使用 {@link FastDateTimeParser} 解析时间串，避免通过正则识别格式以及使用 {@link DateTimeFormatter} 解析
+     *
+     * @param text   date time string
+     * @param zoneId zone id, use default zone if {@code null}. It has no effect when the text ends with {@code Z}
+     * @return {@code DateTime}, or {@code null} if the text is not recognized by {@link FastDateTimeParser}
+     */
+    private static DateTime fastParse(CharSequence text, ZoneId zoneId) {
+        LocalDateTime localDateTime = FastDateTimeParser.parse(text);
+        if (localDateTime == null) return null;
+
+        ZoneId zone = FastDateTimeParser.isUTC(text) ? ZoneOffset.UTC : (zoneId == null ? TZ.DEFAULT_ZONE : zoneId);
+        return from(ZonedDateTime.of(localDateTime, zone));
+    }
+
     /**
      * The date time format is compatible with {@code yyyyMMddHHmmssSSS} or {@code yyyyyMMddHHmmssSSS}.<br>
      * <b>NOTE:</b> <br>
@@ -1383,7 +1417,7 @@ public class DateTime implements Temporal, Comparable<DateTime>, Serializable {
      * @return the formatted date-time string, not null
      */
     public String format(String dtPattern) {
-        return format(S.isBlank(dtPattern) ? DateTimes.DTF_MS_STD : DateTimeFormatter.ofPattern(dtPattern));
+        return format(S.isBlank(dtPattern) ? DateTimes.DTF_MS_STD : DTFCache.ofPattern(dtPattern));
     }
 
     /**
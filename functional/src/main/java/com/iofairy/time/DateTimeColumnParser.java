@@ -0,0 +1,543 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static com.iofairy.validator.Preconditions.*;
+
+/**
+ * Format-learning parser for a column of date time strings of the same format (e.g. a CSV column).
+ * The format is detected from the first {@code sampleSize} values, once they all agree,
+ * the parser locks in a specialized parser for that format and no longer detects the format for each value.
+ * The format is re-detected only when a value fails to be parsed by the locked parser. <br>
+ * 用于解析同一格式的一列时间串（如CSV的某一列）的自学习解析器。先从前 {@code sampleSize} 个值中识别时间格式，
+ * 这些值的格式一致后，锁定一个针对该格式的专用解析器，之后不再对每个值都识别一次格式。
+ * 只有当锁定的解析器解析某个值失败时，才重新识别格式。<br>
+ * <b>Locked parsers (锁定的解析器):</b>
+ * <ul>
+ *     <li>fixed-width formats recognized by {@link FastDateTimeParser} (e.g. {@code 2025-08-02 10:05:01}):
+ *     only checks the separators at fixed positions and reads the digits at fixed offsets; <br>
+ *     {@link FastDateTimeParser} 能识别的定宽格式（如 {@code 2025-08-02 10:05:01}）：只校验固定位置上的分隔符，并从固定偏移处读取数字；
+ *     <li>other formats (e.g. with zone {@code [VV xxx]}): the pattern detected by {@link DateTimePattern#forDTF(String)}. <br>
+ *     其他格式（如带时区 {@code [VV xxx]}）：使用 {@link DateTimePattern#forDTF(String)} 识别出的格式串。
+ * </ul>
+ * <b>Examples:</b>
+ * <blockquote><pre>{@code
+ * DateTimeColumnParser parser = DateTimeColumnParser.newBuilder().withSampleSize(8).withZone(TZ.UTC).build();
+ * long[] epochMillis = parser.parseEpochMillis(texts);
+ * LocalDateTime[] localDateTimes = parser.parse(Files.lines(path).map(line -> line.split(",")[0]));
+ * }</pre></blockquote>
+ *
+ * @implSpec This class is <b>not thread-safe</b>, use one instance per column and thread.
+ * @since 0.7.0
+ */
+public final class DateTimeColumnParser {
+    private static final int DEFAULT_SAMPLE_SIZE = 16;
+
+    /**
+     * Number of consecutive values with the same format required to lock the format. <br>
+     * 锁定格式所需的连续相同格式的值的个数
+     */
+    private final int sampleSize;
+    /**
+     * Zone of the values without zone, {@code null} means default zone. <br>
+     * 不带时区的值所使用的时区，{@code null} 表示默认时区
+     */
+    private final ZoneId zone;
+    private final ZoneId zoneOrDefault;
+
+    /*
+     * Learning state.
+     * 学习状态
+     */
+    private Format lockedFormat;
+    private Format candidateFormat;
+    private int candidateCount;
+    private long detectionCount;
+
+    /**
+     * DateTimeColumnParser Builder
+     */
+    public static class Builder {
+        private int sampleSize = DEFAULT_SAMPLE_SIZE;
+        private ZoneId zone;
+
+        Builder() {
+        }
+
+        public Builder withSampleSize(int sampleSize) {
+            this.sampleSize = sampleSize;
+            return this;
+        }
+
+        public Builder withZone(ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        public DateTimeColumnParser build() {
+            return new DateTimeColumnParser(this);
+        }
+    }
+
+    DateTimeColumnParser(Builder builder) {
+        checkArgument(builder.sampleSize <= 0, "Parameter `sampleSize` must be greater than 0! ");
+        this.sampleSize = builder.sampleSize;
+        this.zone = builder.zone;
+        this.zoneOrDefault = zone == null ? TZ.DEFAULT_ZONE : zone;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static DateTimeColumnParser of() {
+        return newBuilder().build();
+    }
+
+    /**
+     * Parse the date time string to {@link LocalDateTime}, same as {@code DateTime.parse(text, zone).getLocalDateTime()}. <br>
+     * 将时间串解析成 {@link LocalDateTime}，与 {@code DateTime.parse(text, zone).getLocalDateTime()} 相同
+     *
+     * @param text date time string
+     * @return {@link LocalDateTime}, or {@code null} if {@code text} is {@code null}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public LocalDateTime parse(CharSequence text) {
+        if (text == null) return null;
+        Format format = lockedFormat;
+        if (format != null) {
+            LocalDateTime localDateTime = format.parseLocal(text);
+            if (localDateTime != null) return localDateTime;
+            unlock();
+        }
+
+        Format detected = detect(text);
+        LocalDateTime localDateTime = detected == null ? null : detected.parseLocal(text);
+        return localDateTime == null ? DateTime.parse(text, zone).getLocalDateTime() : localDateTime;
+    }
+
+    /**
+     * Parse the date time string to epoch milliseconds, same as {@code DateTime.parse(text, zone).toEpochMilli()}. <br>
+     * 将时间串解析成毫秒时间戳，与 {@code DateTime.parse(text, zone).toEpochMilli()} 相同
+     *
+     * @param text date time string
+     * @return epoch milliseconds
+     * @throws NullPointerException   if {@code text} is {@code null}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public long parseEpochMilli(CharSequence text) {
+        checkNullNPE(text, args("text"));
+        Format format = lockedFormat;
+        if (format != null) {
+            long epochMilli = format.parseEpochMilli(text);
+            if (epochMilli != Format.FAILED) return epochMilli;
+            unlock();
+        }
+
+        Format detected = detect(text);
+        long epochMilli = detected == null ? Format.FAILED : detected.parseEpochMilli(text);
+        return epochMilli == Format.FAILED ? DateTime.parse(text, zone).toEpochMilli() : epochMilli;
+    }
+
+    /**
+     * Parse date time strings to {@link LocalDateTime} array. <br>
+     * 批量将时间串解析成 {@link LocalDateTime} 数组
+     *
+     * @param texts date time strings
+     * @return {@link LocalDateTime} array, the {@code null} element is parsed to {@code null}
+     * @throws DateTimeParseException if any text cannot be parsed
+     */
+    public LocalDateTime[] parse(CharSequence[] texts) {
+        checkNullNPE(texts, args("texts"));
+        LocalDateTime[] localDateTimes = new LocalDateTime[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            localDateTimes[i] = parse(texts[i]);
+        }
+        return localDateTimes;
+    }
+
+    /**
+     * Parse date time strings to {@link LocalDateTime} array. The stream is processed sequentially. <br>
+     * 批量将时间串解析成 {@link LocalDateTime} 数组，流会按顺序处理
+     *
+     * @param texts date time strings
+     * @return {@link LocalDateTime} array, the {@code null} element is parsed to {@code null}
+     * @throws DateTimeParseException if any text cannot be parsed
+     */
+    public LocalDateTime[] parse(Stream<? extends CharSequence> texts) {
+        checkNullNPE(texts, args("texts"));
+        return texts.sequential().map(this::parse).toArray(LocalDateTime[]::new);
+    }
+
+    /**
+     * Parse date time strings to epoch milliseconds array. <br>
+     * 批量将时间串解析成毫秒时间戳数组
+     *
+     * @param texts date time strings
+     * @return epoch milliseconds array
+     * @throws NullPointerException   if any text is {@code null}
+     * @throws DateTimeParseException if any text cannot be parsed
+     */
+    public long[] parseEpochMillis(CharSequence[] texts) {
+        checkNullNPE(texts, args("texts"));
+        long[] epochMillis = new long[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            epochMillis[i] = parseEpochMilli(texts[i]);
+        }
+        return epochMillis;
+    }
+
+    /**
+     * Parse date time strings to epoch milliseconds array. The stream is processed sequentially. <br>
+     * 批量将时间串解析成毫秒时间戳数组，流会按顺序处理
+     *
+     * @param texts date time strings
+     * @return epoch milliseconds array
+     * @throws NullPointerException   if any text is {@code null}
+     * @throws DateTimeParseException if any text cannot be parsed
+     */
+    public long[] parseEpochMillis(Stream<? extends CharSequence> texts) {
+        checkNullNPE(texts, args("texts"));
+        return texts.sequential().mapToLong(this::parseEpochMilli).toArray();
+    }
+
+    /**
+     * Whether a format has been locked in. <br>
+     * 是否已锁定格式
+     *
+     * @return {@code true} if a format has been locked in
+     */
+    public boolean isLocked() {
+        return lockedFormat != null;
+    }
+
+    /**
+     * The locked format, e.g. {@code dddd-dd-dd dd:dd:dd} (fixed-width, {@code d} is a digit) or
+     * {@code y-M-d H:m:s '['VV xxx']'} (pattern), {@code null} if no format has been locked in. <br>
+     * 锁定的格式，如：{@code dddd-dd-dd dd:dd:dd}（定宽格式，{@code d} 代表一个数字）或 {@code y-M-d H:m:s '['VV xxx']'}（格式串），
+     * 未锁定格式则返回 {@code null}
+     *
+     * @return locked format
+     */
+    public String getLockedFormat() {
+        Format format = lockedFormat;
+        return format == null ? null : format.toString();
+    }
+
+    /**
+     * Number of values whose format has been detected (the values parsed before the format is locked in, or that failed
+     * to be parsed by the locked format). <br>
+     * 识别过格式的值的个数（格式锁定之前解析的值，或锁定的格式解析失败的值）
+     *
+     * @return detection count
+     */
+    public long getDetectionCount() {
+        return detectionCount;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Reset the learning state, the format will be detected again. <br>
+     * 重置学习状态，重新识别格式
+     */
+    public void reset() {
+        unlock();
+        detectionCount = 0;
+    }
+
+    private void unlock() {
+        lockedFormat = null;
+        candidateFormat = null;
+        candidateCount = 0;
+    }
+
+    /**
+     * Detect the format of the text and lock it in if the last {@code sampleSize} values have the same format. <br>
+     * 识别时间串的格式，如果最近的 {@code sampleSize} 个值的格式都相同，则锁定该格式
+     *
+     * @param text date time string
+     * @return the format of the text, or {@code null} if the format cannot be detected
+     */
+    private Format detect(CharSequence text) {
+        detectionCount++;
+        Format format = FixedWidthFormat.of(text, zoneOrDefault);
+        if (format == null) {
+            String pattern = DateTimePattern.forDTF(DateTimes.formatZhMillis(text.toString()));
+            if (pattern != null) format = new PatternFormat(pattern, zone);
+        }
+
+        if (format == null) {
+            candidateFormat = null;
+            candidateCount = 0;
+            return null;
+        }
+        if (format.equals(candidateFormat)) {
+            candidateCount++;
+        } else {
+            candidateFormat = format;
+            candidateCount = 1;
+        }
+        if (candidateCount >= sampleSize) lockedFormat = candidateFormat;
+        return format;
+    }
+
+    @Override
+    public String toString() {
+        return "DateTimeColumnParser{" +
+                "sampleSize=" + sampleSize +
+                ", zone=" + zone +
+                ", lockedFormat=" + getLockedFormat() +
+                ", detectionCount=" + detectionCount +
+                '}';
+    }
+
+    /**
+     * Specialized parser of a detected format. <br>
+     * 针对识别出的格式的专用解析器
+     */
+    private abstract static class Format {
+        /**
+         * Returned by {@link #parseEpochMilli(CharSequence)} when the text cannot be parsed. Even if a text is really parsed
+         * to this value, the caller only parses it again by {@link DateTime#parse(CharSequence, ZoneId)}.
+         */
+        static final long FAILED = Long.MIN_VALUE;
+
+        abstract LocalDateTime parseLocal(CharSequence text);
+
+        abstract long parseEpochMilli(CharSequence text);
+    }
+
+    /**
+     * Fixed-width format recognized by {@link FastDateTimeParser}, e.g. {@code 2025-08-02 10:05:01}. <br>
+     * {@link FastDateTimeParser} 能识别的定宽格式，如：{@code 2025-08-02 10:05:01}
+     */
+    private static final class FixedWidthFormat extends Format {
+        private static final char DIGIT = 'd';
+        private static final int YEAR = 0, MONTH = 1, DAY = 2, HOUR = 3, MINUTE = 4, SECOND = 5, MILLIS = 6;
+        private static final int[] DEFAULTS = {1970, 1, 1, 0, 0, 0, 0};
+        private static final int[] COMPACT_LENGTHS = {4, 2, 2, 2, 2, 2, 3};
+
+        /**
+         * {@link #DIGIT} for the digit position, otherwise the literal char
+         */
+        private final char[] layout;
+        /*
+         * start and end (exclusive) offsets of each field, -1 if the field is absent
+         */
+        private final int[] starts = new int[7];
+        private final int[] ends = new int[7];
+        /**
+         * Whether the millis field is the fraction of second ({@code .S}), or the literal milliseconds ({@code S毫秒})
+         */
+        private final boolean fraction;
+        private final ZoneId zone;
+        private final ZoneOffset fixedOffset;
+
+        private FixedWidthFormat(char[] layout, boolean fraction, ZoneId zone) {
+            this.layout = layout;
+            this.fraction = fraction;
+            this.zone = zone;
+            this.fixedOffset = zone instanceof ZoneOffset ? (ZoneOffset) zone : null;
+            Arrays.fill(starts, -1);
+            Arrays.fill(ends, -1);
+        }
+
+        /**
+         * Create the fixed-width format from a sample. <br>
+         * 根据样本创建定宽格式
+         *
+         * @param text sample
+         * @param zone zone of the text without {@code Z}
+         * @return fixed-width format, or {@code null} if the text is not recognized by {@link FastDateTimeParser}
+         */
+        static FixedWidthFormat of(CharSequence text, ZoneId zone) {
+            if (FastDateTimeParser.parse(text) == null) return null;
+
+            int length = text.length();
+            char[] layout = new char[length];
+            boolean allDigits = true;
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                boolean digit = FastDateTimeParser.isDigit(c);
+                layout[i] = digit ? DIGIT : c;
+                if (!digit && c != 'T') allDigits = false;
+            }
+            boolean utc = FastDateTimeParser.isUTC(text);
+
+            if (allDigits) {
+                // yyyy, yyyyMMddHHmmssSSS, yyyyMMdd'T'HHmmss, ...
+                FixedWidthFormat format = new FixedWidthFormat(layout, false, zone);
+                int pos = 0;
+                for (int field = YEAR; field <= MILLIS && pos < length; field++) {
+                    if (layout[pos] == 'T') pos++;
+                    int fieldLength = field == YEAR && (length == 3 || length == 4) ? length : COMPACT_LENGTHS[field];
+                    format.starts[field] = pos;
+                    format.ends[field] = pos += fieldLength;
+                }
+                return format;
+            }
+
+            int firstEnd = 0;
+            while (layout[firstEnd] == DIGIT) firstEnd++;
+            char first = layout[firstEnd];
+            int field = first == ':' || first == '时' || first == '点' ? HOUR : (first == '分' ? MINUTE : YEAR);
+
+            boolean fraction = false;
+            int[] starts = new int[7];
+            int[] ends = new int[7];
+            int fieldCount = 0;
+            for (int i = 0; i < length; ) {
+                if (layout[i] != DIGIT) {
+                    i++;
+                    continue;
+                }
+                int start = i;
+                while (i < length && layout[i] == DIGIT) i++;
+                fraction = start > 0 && layout[start - 1] == '.' && field == MILLIS;
+                starts[fieldCount] = start;
+                ends[fieldCount] = i;
+                fieldCount++;
+                field++;
+            }
+
+            FixedWidthFormat format = new FixedWidthFormat(layout, fraction, utc ? ZoneOffset.UTC : zone);
+            int firstField = field - fieldCount;
+            for (int i = 0; i < fieldCount; i++) {
+                format.starts[firstField + i] = starts[i];
+                format.ends[firstField + i] = ends[i];
+            }
+            return format;
+        }
+
+        @Override
+        LocalDateTime parseLocal(CharSequence text) {
+            if (!matches(text)) return null;
+            int millis = value(text, MILLIS);
+            if (fraction) {
+                int digits = ends[MILLIS] - starts[MILLIS];
+                millis = digits == 1 ? millis * 100 : digits == 2 ? millis * 10 : millis;
+            }
+            return FastDateTimeParser.of(value(text, YEAR), value(text, MONTH), value(text, DAY),
+                    value(text, HOUR), value(text, MINUTE), value(text, SECOND), millis * 1000_000);
+        }
+
+        @Override
+        long parseEpochMilli(CharSequence text) {
+            LocalDateTime localDateTime = parseLocal(text);
+            if (localDateTime == null) return FAILED;
+            ZoneOffset offset = fixedOffset == null ? zone.getRules().getOffset(localDateTime) : fixedOffset;
+            return localDateTime.toEpochSecond(offset) * 1000 + localDateTime.getNano() / 1000_000;
+        }
+
+        private boolean matches(CharSequence text) {
+            if (text.length() != layout.length) return false;
+            for (int i = 0; i < layout.length; i++) {
+                char c = text.charAt(i);
+                if (layout[i] == DIGIT ? !FastDateTimeParser.isDigit(c) : c != layout[i]) return false;
+            }
+            return true;
+        }
+
+        private int value(CharSequence text, int field) {
+            int start = starts[field];
+            return start < 0 ? DEFAULTS[field] : FastDateTimeParser.number(text, start, ends[field]);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FixedWidthFormat)) return false;
+            return Arrays.equals(layout, ((FixedWidthFormat) o).layout);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(layout);
+        }
+
+        @Override
+        public String toString() {
+            return new String(layout);
+        }
+    }
+
+    /**
+     * Pattern detected by {@link DateTimePattern#forDTF(String)}, e.g. {@code y-M-d H:m:s '['VV xxx']'}. <br>
+     * 由 {@link DateTimePattern#forDTF(String)} 识别出的格式串，如：{@code y-M-d H:m:s '['VV xxx']'}
+     */
+    private static final class PatternFormat extends Format {
+        private final String pattern;
+        private final ZoneId zone;
+
+        PatternFormat(String pattern, ZoneId zone) {
+            this.pattern = pattern;
+            this.zone = zone;
+        }
+
+        @Override
+        LocalDateTime parseLocal(CharSequence text) {
+            DateTime dateTime = parse(text);
+            return dateTime == null ? null : dateTime.getLocalDateTime();
+        }
+
+        @Override
+        long parseEpochMilli(CharSequence text) {
+            DateTime dateTime = parse(text);
+            return dateTime == null ? FAILED : dateTime.toEpochMilli();
+        }
+
+        private DateTime parse(CharSequence text) {
+            try {
+                return DateTime.parse(DateTimes.formatZhMillis(text.toString()), pattern, zone);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PatternFormat)) return false;
+            return pattern.equals(((PatternFormat) o).pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return pattern;
+        }
+    }
+
+}
@@ -20,8 +20,6 @@ import com.iofairy.top.S;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.regex.Pattern;
 
 import static com.iofairy.time.DateTimeSeparator.*;
@@ -33,116 +31,6 @@ import static com.iofairy.pattern.Pattern.*;
  * @since 0.6.0
  */
 public class DateTimePattern {
-    /*
-     * DASH:  d   -
-     * DOT:   o   .
-     * SLASH: s   /
-     * COLON: c   :
-     * ZH:    z   年月日时分秒毫秒
-     */
-    public static final Pattern Y               = Pattern.compile("\\d{3,4}");                                                                    // yyyy
-    public static final Pattern YM              = Pattern.compile("\\d{6}");                                                                      // yyyyMM
-    public static final Pattern YMD             = Pattern.compile("\\d{8}");                                                                      // yyyyMMdd
-    public static final Pattern YMDH            = Pattern.compile("\\d{10}");                                                                     // yyyyMMddHH
-    public static final Pattern YMDHM           = Pattern.compile("\\d{12}");                                                                     // yyyyMMddHHmm
-    public static final Pattern YMDHMS          = Pattern.compile("\\d{14}");                                                                     // yyyyMMddHHmmss
-    public static final Pattern YMDHMSS         = Pattern.compile("\\d{17}");                                                                     // yyyyMMddHHmmssSSS
-    public static final Pattern MdD             = Pattern.compile("\\d{1,2}-\\d{1,2}");                                                           // M-d
-    public static final Pattern MsD             = Pattern.compile("\\d{1,2}/\\d{1,2}");                                                           // M/d
-    public static final Pattern MoD             = Pattern.compile("\\d{1,2}\\.\\d{1,2}");                                                         // M.d
-    public static final Pattern HcM             = Pattern.compile("\\d{1,2}:\\d{1,2}");                                                           // H:m
-    public static final Pattern Yz              = Pattern.compile("\\d{3,4}年");                                                                  // yyyy年
-    public static final Pattern MzDz            = Pattern.compile("\\d{1,2}月\\d{1,2}日");                                                        // M月d日
-    public static final Pattern MzSz            = Pattern.compile("\\d{1,2}分\\d{1,2}秒");                                                        // m分s秒
-    public static final Pattern HzMz            = Pattern.compile("\\d{1,2}时\\d{1,2}分");                                                        // H时m分
-    public static final Pattern HoMz            = Pattern.compile("\\d{1,2}点\\d{1,2}分");                                                        // H点m分
-    public static final Pattern McSS            = Pattern.compile("\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                                               // m:s.S
-    public static final Pattern HcMcS           = Pattern.compile("\\d{1,2}:\\d{1,2}:\\d{1,2}");                                                 // H:m:s
-    public static final Pattern MdDH            = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}");                                                 // M-d H
-    public static final Pattern MsDH            = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}");                                                 // M/d H
-    public static final Pattern MoDH            = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}");                                               // M.d H
-    public static final Pattern YdM             = Pattern.compile("\\d{3,4}-\\d{1,2}");                                                          // yyyy-M
-    public static final Pattern YsM             = Pattern.compile("\\d{3,4}/\\d{1,2}");                                                          // yyyy/M
-    public static final Pattern YoM             = Pattern.compile("\\d{3,4}\\.\\d{1,2}");                                                        // yyyy.M
-    public static final Pattern HzMzSz          = Pattern.compile("\\d{1,2}时\\d{1,2}分\\d{1,2}秒");                                              // H时m分s秒
-    public static final Pattern HoMzSz          = Pattern.compile("\\d{1,2}点\\d{1,2}分\\d{1,2}秒");                                              // H点m分s秒
-    public static final Pattern MzDzHz          = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时");                                              // M月d日H时
-    public static final Pattern MzDzHo          = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点");                                              // M月d日H点
-    public static final Pattern HcMcSS          = Pattern.compile("\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                                      // H:m:s.S
-    public static final Pattern MdDHcM          = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}");                                        // M-d H:m
-    public static final Pattern MsDHcM          = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}");                                        // M/d H:m
-    public static final Pattern MoDHcM          = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}");                                      // M.d H:m
-    public static final Pattern YzMz            = Pattern.compile("\\d{3,4}年\\d{1,2}月");                                                        // yyyy年M月
-    public static final Pattern MzSzSz          = Pattern.compile("\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");                                            // m分s秒S毫秒
-    public static final Pattern YdMdD           = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}");                                                // yyyy-M-d
-    public static final Pattern YsMsD           = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}");                                                // yyyy/M/d
-    public static final Pattern YoMoD           = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}");                                            // yyyy.M.d
-    public static final Pattern MzDzHzMz        = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分");                                   // M月d日H时m分
-    public static final Pattern MzDzHoMz        = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分");                                   // M月d日H点m分
-    public static final Pattern MdDHcMcS        = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                              // M-d H:m:s
-    public static final Pattern MsDHcMcS        = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                              // M/d H:m:s
-    public static final Pattern MoDHcMcS        = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                            // M.d H:m:s
-    public static final Pattern YzMzDz          = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日");                                             // yyyy年M月d日
-    public static final Pattern HzMzSzSz        = Pattern.compile("\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");                                 // H时m分s秒S毫秒
-    public static final Pattern HoMzSzSz        = Pattern.compile("\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");                                 // H点m分s秒S毫秒
-    public static final Pattern YdMdDH          = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}");                                      // yyyy-M-d H
-    public static final Pattern YsMsDH          = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}");                                      // yyyy/M/d H
-    public static final Pattern YoMoDH          = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}");                                  // yyyy.M.d H
-    public static final Pattern MzDzHzMzSz      = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒");                        // M月d日H时m分s秒
-    public static final Pattern MzDzHoMzSz      = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒");                        // M月d日H点m分s秒
-    public static final Pattern MdDHcMcSS       = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                 // M-d H:m:s.S
-    public static final Pattern MsDHcMcSS       = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                 // M/d H:m:s.S
-    public static final Pattern MoDHcMcSS       = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");               // M.d H:m:s.S
-    public static final Pattern YzMzDzHz        = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时");                                 // yyyy年M月d日H时
-    public static final Pattern YzMzDzHo        = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点");                                 // yyyy年M月d日H点
-    public static final Pattern YdMdDHcM        = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}");                            // yyyy-M-d H:m
-    public static final Pattern YsMsDHcM        = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}");                            // yyyy/M/d H:m
-    public static final Pattern YoMoDHcM        = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}");                        // yyyy.M.d H:m
-    public static final Pattern MzDzHzMzSzSz    = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");            // M月d日H时m分s秒S毫秒
-    public static final Pattern MzDzHoMzSzSz    = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");            // M月d日H点m分s秒S毫秒
-    public static final Pattern YzMzDzHzMz      = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分");                       // yyyy年M月d日H时m分
-    public static final Pattern YzMzDzHoMz      = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分");                       // yyyy年M月d日H点m分
-    public static final Pattern YdMdDHcMcS      = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy-M-d H:m:s
-    public static final Pattern YsMsDHcMcS      = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy/M/d H:m:s
-    public static final Pattern YoMoDHcMcS      = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");              // yyyy.M.d H:m:s
-    public static final Pattern YzMzDzHzMzSz    = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒");             // yyyy年M月d日H时m分s秒
-    public static final Pattern YzMzDzHoMzSz    = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒");             // yyyy年M月d日H点m分s秒
-    public static final Pattern YdMdDHcMcSS     = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy-M-d H:m:s.S
-    public static final Pattern YsMsDHcMcSS     = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy/M/d H:m:s.S
-    public static final Pattern YoMoDHcMcSS     = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");   // yyyy.M.d H:m:s.S
-    public static final Pattern YzMzDzHzMzSzSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");  // yyyy年M月d日H时m分s秒S毫秒
-    public static final Pattern YzMzDzHoMzSzSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");  // yyyy年M月d日H点m分s秒S毫秒
-    public static final Pattern YMDTHMS         = Pattern.compile("\\d{8}T\\d{6}");                                                          // yyyyMMddTHHmmss
-    public static final Pattern YMDTHMSS        = Pattern.compile("\\d{8}T\\d{9}");                                                          // yyyyMMddTHHmmssSSS
-    public static final Pattern YdMdDTHcMcS     = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy-M-dTH:m:s
-    public static final Pattern YsMsDTHcMcS     = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy/M/dTH:m:s
-    public static final Pattern YoMoDTHcMcS     = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}");              // yyyy.M.dTH:m:s
-    public static final Pattern YdMdDTHcMcSS    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy-M-dTH:m:s.S
-    public static final Pattern YsMsDTHcMcSS    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy/M/dTH:m:s.S
-    public static final Pattern YoMoDTHcMcSS    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");   // yyyy.M.dTH:m:s.S
-    public static final Pattern YdMdDTHcMcSZ    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}Z");                  // yyyy-M-dTH:m:s
-    public static final Pattern YsMsDTHcMcSZ    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}Z");                  // yyyy/M/dTH:m:s
-    public static final Pattern YoMoDTHcMcSZ    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}Z");              // yyyy.M.dTH:m:s
-    public static final Pattern YdMdDTHcMcSSZ   = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}Z");       // yyyy-M-dTH:m:s.S
-    public static final Pattern YsMsDTHcMcSSZ   = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}Z");       // yyyy/M/dTH:m:s.S
-    public static final Pattern YoMoDTHcMcSSZ   = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}Z");   // yyyy.M.dTH:m:s.S
-    public static final Pattern YdMdDHcMcSZo    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.+ .\\d{2}:\\d{2}]");                  // yyyy-M-d H:m:s [VV xxx]
-    public static final Pattern YsMsDHcMcSZo    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.+ .\\d{2}:\\d{2}]");                  // yyyy/M/d H:m:s
-    public static final Pattern YoMoDHcMcSZo    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.+ .\\d{2}:\\d{2}]");              // yyyy.M.d H:m:s
-    public static final Pattern YdMdDHcMcSSZo   = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.+ .\\d{2}:\\d{2}]");       // yyyy-M-d H:m:s.S
-    public static final Pattern YsMsDHcMcSSZo   = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.+ .\\d{2}:\\d{2}]");       // yyyy/M/d H:m:s.S
-    public static final Pattern YoMoDHcMcSSZo   = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.+ .\\d{2}:\\d{2}]");   // yyyy.M.d H:m:s.S
-    public static final Pattern YdMdDHcMcSOs    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.\\d{2}:\\d{2}]");                  // yyyy-M-d H:m:s
-    public static final Pattern YsMsDHcMcSOs    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.\\d{2}:\\d{2}]");                  // yyyy/M/d H:m:s
-    public static final Pattern YoMoDHcMcSOs    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.\\d{2}:\\d{2}]");              // yyyy.M.d H:m:s
-    public static final Pattern YdMdDHcMcSSOs   = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.\\d{2}:\\d{2}]");       // yyyy-M-d H:m:s.S
-    public static final Pattern YsMsDHcMcSSOs   = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.\\d{2}:\\d{2}]");       // yyyy/M/d H:m:s.S
-    public static final Pattern YoMoDHcMcSSOs   = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.\\d{2}:\\d{2}]");   // yyyy.M.d H:m:s.S
-
-    public static final Pattern HzMzSzSSSz        = Pattern.compile("\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");                                 // H时m分s秒S毫秒
-    public static final Pattern HoMzSzSSSz        = Pattern.compile("\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");                                 // H点m分s秒S毫秒
-    public static final Pattern YzMzDzHzMzSzSSSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");  // yyyy年M月d日H时m分s秒S毫秒
-    public static final Pattern YzMzDzHoMzSzSSSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");  // yyyy年M月d日H点m分s秒S毫秒
     /*
      * 通用时间格式化（FORMAT）字符串
      */
@@ -300,255 +188,221 @@ public class DateTimePattern {
     public static final String FM_DTF_MzSz              = "m分s秒";
     public static final String FM_DTF_MzSzSz            = "m分s秒[SSS毫秒]";  // 只能接收3位数的毫秒值，1位数的毫秒识别有问题：如 6毫秒，会被解析成 600毫秒；6毫秒应该写成 006 毫秒
 
+
     /*###################################################################################
      ************************************************************************************
      ------------------------------------------------------------------------------------
-     ***********************        DateTimeFormatter 初始化        **********************
+     *********************************        方法        ********************************
      ------------------------------------------------------------------------------------
      ************************************************************************************
      ###################################################################################*/
-    /*
-     * DateTimeFormatter for Year
-     */
-    public static final DateTimeFormatter DTF_Y = buildDTF(FM_DTF_Y);
-    public static final DateTimeFormatter DTF_Y_ZH = buildDTF(FM_DTF_Yz);
-    /*
-     * DateTimeFormatter for Year, Month
-     */
-    public static final DateTimeFormatter DTF_YM = buildDTF(FM_YM);
-    public static final DateTimeFormatter DTF_YM_DASH = buildDTF(FM_DTF_YdM);
-    public static final DateTimeFormatter DTF_YM_SLASH = buildDTF(FM_DTF_YsM);
-    public static final DateTimeFormatter DTF_YM_DOT = buildDTF(FM_DTF_YoM);
-    public static final DateTimeFormatter DTF_YM_ZH = buildDTF(FM_DTF_YzMz);
-    /*
-     * DateTimeFormatter for Year, Month, Day
-     */
-    public static final DateTimeFormatter DTF_YMD = buildDTF(FM_YMD);
-    public static final DateTimeFormatter DTF_YMD_DASH = buildDTF(FM_DTF_YdMdD);
-    public static final DateTimeFormatter DTF_YMD_SLASH = buildDTF(FM_DTF_YsMsD);
-    public static final DateTimeFormatter DTF_YMD_DOT = buildDTF(FM_DTF_YoMoD);
-    public static final DateTimeFormatter DTF_YMD_ZH = buildDTF(FM_DTF_YzMzDz);
-    /*
-     * DateTimeFormatter for Year, Month, Day, Hour
-     */
-    public static final DateTimeFormatter DTF_YMDH = buildDTF(FM_YMDH);
-    public static final DateTimeFormatter DTF_YMDH_DASH = buildDTF(FM_DTF_YdMdDH);
-    public static final DateTimeFormatter DTF_YMDH_SLASH = buildDTF(FM_DTF_YsMsDH);
-    public static final DateTimeFormatter DTF_YMDH_DOT = buildDTF(FM_DTF_YoMoDH);
-    public static final DateTimeFormatter DTF_YMDH_ZHS = buildDTF(FM_DTF_YzMzDzHz);
-    public static final DateTimeFormatter DTF_YMDH_ZHD = buildDTF(FM_DTF_YzMzDzHo);
-    /*
-     * DateTimeFormatter for Year, Month, Day, Hour, Minute
-     */
-    public static final DateTimeFormatter DTF_YMDHM = buildDTF(FM_YMDHM);
-    public static final DateTimeFormatter DTF_YMDHM_DASH = buildDTF(FM_DTF_YdMdDHcM);
-    public static final DateTimeFormatter DTF_YMDHM_SLASH = buildDTF(FM_DTF_YsMsDHcM);
-    public static final DateTimeFormatter DTF_YMDHM_DOT = buildDTF(FM_DTF_YoMoDHcM);
-    public static final DateTimeFormatter DTF_YMDHM_ZHS = buildDTF(FM_DTF_YzMzDzHzMz);
-    public static final DateTimeFormatter DTF_YMDHM_ZHD = buildDTF(FM_DTF_YzMzDzHoMz);
-    /*
-     * DateTimeFormatter for Year, Month, Day, Hour, Minute, Second
-     */
-    public static final DateTimeFormatter DTF_YMDHMS = buildDTF(FM_YMDHMS);
-    public static final DateTimeFormatter DTF_YMDHMS_DASH = buildDTF(FM_DTF_YdMdDHcMcS);
-    public static final DateTimeFormatter DTF_YMDHMS_SLASH = buildDTF(FM_DTF_YsMsDHcMcS);
-    public static final DateTimeFormatter DTF_YMDHMS_DOT = buildDTF(FM_DTF_YoMoDHcMcS);
-    public static final DateTimeFormatter DTF_YMDHMS_ZHS = buildDTF(FM_DTF_YzMzDzHzMzSz);
-    public static final DateTimeFormatter DTF_YMDHMS_ZHD = buildDTF(FM_DTF_YzMzDzHoMzSz);
-    public static final DateTimeFormatter DTF_YMDHMS_T = buildDTF(FM_YMDTHMS);
-    public static final DateTimeFormatter DTF_YMDHMS_DASH_T = buildDTF(FM_DTF_YdMdDTHcMcS);
-    public static final DateTimeFormatter DTF_YMDHMS_SLASH_T = buildDTF(FM_DTF_YsMsDTHcMcS);
-    public static final DateTimeFormatter DTF_YMDHMS_DOT_T = buildDTF(FM_DTF_YoMoDTHcMcS);
-    public static final DateTimeFormatter DTF_YMDHMS_DASH_TZ = buildDTF(FM_DTF_YdMdDTHcMcSZ);
-    public static final DateTimeFormatter DTF_YMDHMS_SLASH_TZ = buildDTF(FM_DTF_YsMsDTHcMcSZ);
-    public static final DateTimeFormatter DTF_YMDHMS_DOT_TZ = buildDTF(FM_DTF_YoMoDTHcMcSZ);
 
-    /*
-     * DateTimeFormatter for Year, Month, Day, Hour, Minute, Second, Milli
-     */
-    public static final DateTimeFormatter DTF_YMDHMSS = buildDTF(FM_YMDHMSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_DASH = buildDTF(FM_DTF_YdMdDHcMcSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_SLASH = buildDTF(FM_DTF_YsMsDHcMcSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_DOT = buildDTF(FM_DTF_YoMoDHcMcSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_ZHS = buildDTF(FM_DTF_YzMzDzHzMzSzSz);
-    public static final DateTimeFormatter DTF_YMDHMSS_ZHD = buildDTF(FM_DTF_YzMzDzHoMzSzSz);
-    public static final DateTimeFormatter DTF_YMDHMSS_T = buildDTF(FM_YMDTHMSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_DASH_T = buildDTF(FM_DTF_YdMdDTHcMcSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_SLASH_T = buildDTF(FM_DTF_YsMsDTHcMcSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_DOT_T = buildDTF(FM_DTF_YoMoDTHcMcSS);
-    public static final DateTimeFormatter DTF_YMDHMSS_DASH_TZ = buildDTF(FM_DTF_YdMdDTHcMcSSZ);
-    public static final DateTimeFormatter DTF_YMDHMSS_SLASH_TZ = buildDTF(FM_DTF_YsMsDTHcMcSSZ);
-    public static final DateTimeFormatter DTF_YMDHMSS_DOT_TZ = buildDTF(FM_DTF_YoMoDTHcMcSSZ);
-
-    public static final DateTimeFormatter DTF_HM = buildDTF(FM_DTF_HcM);
-    public static final DateTimeFormatter DTF_HM_ZHS = buildDTF(FM_DTF_HzMz);
-    public static final DateTimeFormatter DTF_HM_ZHD = buildDTF(FM_DTF_HoMz);
-    public static final DateTimeFormatter DTF_HMS = buildDTF(FM_DTF_HcMcS);
-    public static final DateTimeFormatter DTF_HMS_ZHS = buildDTF(FM_DTF_HzMzSz);
-    public static final DateTimeFormatter DTF_HMS_ZHD = buildDTF(FM_DTF_HoMzSz);
-    public static final DateTimeFormatter DTF_HMSS = buildDTF(FM_DTF_HcMcSS);
-    public static final DateTimeFormatter DTF_HMSS_ZHS = buildDTF(FM_DTF_HzMzSzSz);
-    public static final DateTimeFormatter DTF_HMSS_ZHD = buildDTF(FM_DTF_HoMzSzSz);
-    public static final DateTimeFormatter DTF_MS_ZHD = buildDTF(FM_DTF_MzSz);
-    public static final DateTimeFormatter DTF_MSS_ZHD = buildDTF(FM_DTF_MzSzSz);
-
-    /*
-     * DateTimeFormatter with zone or zone offset
+    /**
+     * 内置的 DateTimeFormatter。每个格式族（{@link DateDTFs}、{@link DateTimeDTFs}、{@link TimeDTFs}、{@link ZonedDTFs}）
+     * 在第一次被用到时才初始化
+     *
+     * @param pattern 时间格式化字符串
+     * @return DateTimeFormatter 对象，不是内置的格式则返回 {@code null}
      */
-    public static final DateTimeFormatter DTF_YMDHMS_DASH_ZO = buildDTF(FM_DTF_YdMdDHcMcSZo);
-    public static final DateTimeFormatter DTF_YMDHMS_SLASH_ZO = buildDTF(FM_DTF_YsMsDHcMcSZo);
-    public static final DateTimeFormatter DTF_YMDHMS_DOT_ZO = buildDTF(FM_DTF_YoMoDHcMcSZo);
-    public static final DateTimeFormatter DTF_YMDHMSS_DASH_ZO = buildDTF(FM_DTF_YdMdDHcMcSSZo);
-    public static final DateTimeFormatter DTF_YMDHMSS_SLASH_ZO = buildDTF(FM_DTF_YsMsDHcMcSSZo);
-    public static final DateTimeFormatter DTF_YMDHMSS_DOT_ZO = buildDTF(FM_DTF_YoMoDHcMcSSZo);
-    public static final DateTimeFormatter DTF_YMDHMS_DASH_OS = buildDTF(FM_DTF_YdMdDHcMcSOs);
-    public static final DateTimeFormatter DTF_YMDHMS_SLASH_OS = buildDTF(FM_DTF_YsMsDHcMcSOs);
-    public static final DateTimeFormatter DTF_YMDHMS_DOT_OS = buildDTF(FM_DTF_YoMoDHcMcSOs);
-    public static final DateTimeFormatter DTF_YMDHMSS_DASH_OS = buildDTF(FM_DTF_YdMdDHcMcSSOs);
-    public static final DateTimeFormatter DTF_YMDHMSS_SLASH_OS = buildDTF(FM_DTF_YsMsDHcMcSSOs);
-    public static final DateTimeFormatter DTF_YMDHMSS_DOT_OS = buildDTF(FM_DTF_YoMoDHcMcSSOs);
-
-
-    private static final Map<String, DateTimeFormatter> DTF_MAP = new HashMap<>();
-
-    static {
-        DTF_MAP.put(FM_DTF_Y, DTF_Y);
-        DTF_MAP.put(FM_DTF_Yz, DTF_Y_ZH);
-        DTF_MAP.put(FM_Y, DTF_Y);
-        DTF_MAP.put(FM_Yz, DTF_Y_ZH);
-
-        DTF_MAP.put(FM_YM, DTF_YM);
-        DTF_MAP.put(FM_DTF_YdM, DTF_YM_DASH);
-        DTF_MAP.put(FM_DTF_YsM, DTF_YM_SLASH);
-        DTF_MAP.put(FM_DTF_YoM, DTF_YM_DOT);
-        DTF_MAP.put(FM_DTF_YzMz, DTF_YM_ZH);
-        DTF_MAP.put(FM_YdM, DTF_YM_DASH);
-        DTF_MAP.put(FM_YsM, DTF_YM_SLASH);
-        DTF_MAP.put(FM_YoM, DTF_YM_DOT);
-        DTF_MAP.put(FM_YzMz, DTF_YM_ZH);
-
-        DTF_MAP.put(FM_YMD, DTF_YMD);
-        DTF_MAP.put(FM_DTF_YdMdD, DTF_YMD_DASH);
-        DTF_MAP.put(FM_DTF_YsMsD, DTF_YMD_SLASH);
-        DTF_MAP.put(FM_DTF_YoMoD, DTF_YMD_DOT);
-        DTF_MAP.put(FM_DTF_YzMzDz, DTF_YMD_ZH);
-        DTF_MAP.put(FM_YdMdD, DTF_YMD_DASH);
-        DTF_MAP.put(FM_YsMsD, DTF_YMD_SLASH);
-        DTF_MAP.put(FM_YoMoD, DTF_YMD_DOT);
-        DTF_MAP.put(FM_YzMzDz, DTF_YMD_ZH);
-
-        DTF_MAP.put(FM_YMDH, DTF_YMDH);
-        DTF_MAP.put(FM_DTF_YdMdDH, DTF_YMDH_DASH);
-        DTF_MAP.put(FM_DTF_YsMsDH, DTF_YMDH_SLASH);
-        DTF_MAP.put(FM_DTF_YoMoDH, DTF_YMDH_DOT);
-        DTF_MAP.put(FM_DTF_YzMzDzHz, DTF_YMDH_ZHS);
-        DTF_MAP.put(FM_DTF_YzMzDzHo, DTF_YMDH_ZHD);
-        DTF_MAP.put(FM_YdMdDH, DTF_YMDH_DASH);
-        DTF_MAP.put(FM_YsMsDH, DTF_YMDH_SLASH);
-        DTF_MAP.put(FM_YoMoDH, DTF_YMDH_DOT);
-        DTF_MAP.put(FM_YzMzDzHz, DTF_YMDH_ZHS);
-        DTF_MAP.put(FM_YzMzDzHo, DTF_YMDH_ZHD);
-
-        DTF_MAP.put(FM_YMDHM, DTF_YMDHM);
-        DTF_MAP.put(FM_DTF_YdMdDHcM, DTF_YMDHM_DASH);
-        DTF_MAP.put(FM_DTF_YsMsDHcM, DTF_YMDHM_SLASH);
-        DTF_MAP.put(FM_DTF_YoMoDHcM, DTF_YMDHM_DOT);
-        DTF_MAP.put(FM_DTF_YzMzDzHzMz, DTF_YMDHM_ZHS);
-        DTF_MAP.put(FM_DTF_YzMzDzHoMz, DTF_YMDHM_ZHD);
-        DTF_MAP.put(FM_YdMdDHcM, DTF_YMDHM_DASH);
-        DTF_MAP.put(FM_YsMsDHcM, DTF_YMDHM_SLASH);
-        DTF_MAP.put(FM_YoMoDHcM, DTF_YMDHM_DOT);
-        DTF_MAP.put(FM_YzMzDzHzMz, DTF_YMDHM_ZHS);
-        DTF_MAP.put(FM_YzMzDzHoMz, DTF_YMDHM_ZHD);
-
-        DTF_MAP.put(FM_YMDHMS, DTF_YMDHMS);
-        DTF_MAP.put(FM_DTF_YdMdDHcMcS, DTF_YMDHMS_DASH);
-        DTF_MAP.put(FM_DTF_YsMsDHcMcS, DTF_YMDHMS_SLASH);
-        DTF_MAP.put(FM_DTF_YoMoDHcMcS, DTF_YMDHMS_DOT);
-        DTF_MAP.put(FM_DTF_YzMzDzHzMzSz, DTF_YMDHMS_ZHS);
-        DTF_MAP.put(FM_DTF_YzMzDzHoMzSz, DTF_YMDHMS_ZHD);
-        DTF_MAP.put(FM_YdMdDHcMcS, DTF_YMDHMS_DASH);
-        DTF_MAP.put(FM_YsMsDHcMcS, DTF_YMDHMS_SLASH);
-        DTF_MAP.put(FM_YoMoDHcMcS, DTF_YMDHMS_DOT);
-        DTF_MAP.put(FM_YzMzDzHzMzSz, DTF_YMDHMS_ZHS);
-        DTF_MAP.put(FM_YzMzDzHoMzSz, DTF_YMDHMS_ZHD);
-        DTF_MAP.put(FM_YMDTHMS, DTF_YMDHMS_T);
-        DTF_MAP.put(FM_DTF_YdMdDTHcMcS, DTF_YMDHMS_DASH_T);
-        DTF_MAP.put(FM_DTF_YsMsDTHcMcS, DTF_YMDHMS_SLASH_T);
-        DTF_MAP.put(FM_DTF_YoMoDTHcMcS, DTF_YMDHMS_DOT_T);
-        DTF_MAP.put(FM_YdMdDTHcMcS, DTF_YMDHMS_DASH_T);
-        DTF_MAP.put(FM_YsMsDTHcMcS, DTF_YMDHMS_SLASH_T);
-        DTF_MAP.put(FM_YoMoDTHcMcS, DTF_YMDHMS_DOT_T);
-        DTF_MAP.put(FM_DTF_YdMdDTHcMcSZ, DTF_YMDHMS_DASH_TZ);
-        DTF_MAP.put(FM_DTF_YsMsDTHcMcSZ, DTF_YMDHMS_SLASH_TZ);
-        DTF_MAP.put(FM_DTF_YoMoDTHcMcSZ, DTF_YMDHMS_DOT_TZ);
-
-        DTF_MAP.put(FM_YMDHMSS, DTF_YMDHMSS);
-        DTF_MAP.put(FM_DTF_YdMdDHcMcSS, DTF_YMDHMSS_DASH);
-        DTF_MAP.put(FM_DTF_YsMsDHcMcSS, DTF_YMDHMSS_SLASH);
-        DTF_MAP.put(FM_DTF_YoMoDHcMcSS, DTF_YMDHMSS_DOT);
-        DTF_MAP.put(FM_DTF_YzMzDzHzMzSzSz, DTF_YMDHMSS_ZHS);
-        DTF_MAP.put(FM_DTF_YzMzDzHoMzSzSz, DTF_YMDHMSS_ZHD);
-        DTF_MAP.put(FM_YdMdDHcMcSS, DTF_YMDHMSS_DASH);
-        DTF_MAP.put(FM_YsMsDHcMcSS, DTF_YMDHMSS_SLASH);
-        DTF_MAP.put(FM_YoMoDHcMcSS, DTF_YMDHMSS_DOT);
-        DTF_MAP.put(FM_YzMzDzHzMzSzSz, DTF_YMDHMSS_ZHS);
-        DTF_MAP.put(FM_YzMzDzHoMzSzSz, DTF_YMDHMSS_ZHD);
-        DTF_MAP.put(FM_YMDTHMSS, DTF_YMDHMSS_T);
-        DTF_MAP.put(FM_DTF_YdMdDTHcMcSS, DTF_YMDHMSS_DASH_T);
-        DTF_MAP.put(FM_DTF_YsMsDTHcMcSS, DTF_YMDHMSS_SLASH_T);
-        DTF_MAP.put(FM_DTF_YoMoDTHcMcSS, DTF_YMDHMSS_DOT_T);
-        DTF_MAP.put(FM_YdMdDTHcMcSS, DTF_YMDHMSS_DASH_T);
-        DTF_MAP.put(FM_YsMsDTHcMcSS, DTF_YMDHMSS_SLASH_T);
-        DTF_MAP.put(FM_YoMoDTHcMcSS, DTF_YMDHMSS_DOT_T);
-        DTF_MAP.put(FM_DTF_YdMdDTHcMcSSZ, DTF_YMDHMSS_DASH_TZ);
-        DTF_MAP.put(FM_DTF_YsMsDTHcMcSSZ, DTF_YMDHMSS_SLASH_TZ);
-        DTF_MAP.put(FM_DTF_YoMoDTHcMcSSZ, DTF_YMDHMSS_DOT_TZ);
-
-        DTF_MAP.put(FM_DTF_HcM, DTF_HM);
-        DTF_MAP.put(FM_DTF_HzMz, DTF_HM_ZHS);
-        DTF_MAP.put(FM_DTF_HoMz, DTF_HM_ZHD);
-        DTF_MAP.put(FM_DTF_HcMcS, DTF_HMS);
-        DTF_MAP.put(FM_DTF_HzMzSz, DTF_HMS_ZHS);
-        DTF_MAP.put(FM_DTF_HoMzSz, DTF_HMS_ZHD);
-        DTF_MAP.put(FM_DTF_HcMcSS, DTF_HMSS);
-        DTF_MAP.put(FM_DTF_HzMzSzSz, DTF_HMSS_ZHS);
-        DTF_MAP.put(FM_DTF_HoMzSzSz, DTF_HMSS_ZHD);
-        DTF_MAP.put(FM_HcM, DTF_HM);
-        DTF_MAP.put(FM_HzMz, DTF_HM_ZHS);
-        DTF_MAP.put(FM_HoMz, DTF_HM_ZHD);
-        DTF_MAP.put(FM_HcMcS, DTF_HMS);
-        DTF_MAP.put(FM_HzMzSz, DTF_HMS_ZHS);
-        DTF_MAP.put(FM_HoMzSz, DTF_HMS_ZHD);
-        DTF_MAP.put(FM_HcMcSS, DTF_HMSS);
-        DTF_MAP.put(FM_HzMzSzSz, DTF_HMSS_ZHS);
-        DTF_MAP.put(FM_HoMzSzSz, DTF_HMSS_ZHD);
-        DTF_MAP.put(FM_DTF_MzSz, DTF_MS_ZHD);
-        DTF_MAP.put(FM_DTF_MzSzSz, DTF_MSS_ZHD);
-
-        DTF_MAP.put(FM_DTF_YdMdDHcMcSZo, DTF_YMDHMS_DASH_ZO);
-        DTF_MAP.put(FM_DTF_YsMsDHcMcSZo, DTF_YMDHMS_SLASH_ZO);
-        DTF_MAP.put(FM_DTF_YoMoDHcMcSZo, DTF_YMDHMS_DOT_ZO);
-        DTF_MAP.put(FM_DTF_YdMdDHcMcSSZo, DTF_YMDHMSS_DASH_ZO);
-        DTF_MAP.put(FM_DTF_YsMsDHcMcSSZo, DTF_YMDHMSS_SLASH_ZO);
-        DTF_MAP.put(FM_DTF_YoMoDHcMcSSZo, DTF_YMDHMSS_DOT_ZO);
-        DTF_MAP.put(FM_DTF_YdMdDHcMcSOs, DTF_YMDHMS_DASH_OS);
-        DTF_MAP.put(FM_DTF_YsMsDHcMcSOs, DTF_YMDHMS_SLASH_OS);
-        DTF_MAP.put(FM_DTF_YoMoDHcMcSOs, DTF_YMDHMS_DOT_OS);
-        DTF_MAP.put(FM_DTF_YdMdDHcMcSSOs, DTF_YMDHMSS_DASH_OS);
-        DTF_MAP.put(FM_DTF_YsMsDHcMcSSOs, DTF_YMDHMSS_SLASH_OS);
-        DTF_MAP.put(FM_DTF_YoMoDHcMcSSOs, DTF_YMDHMSS_DOT_OS);
-
+    private static DateTimeFormatter builtInDTF(String pattern) {
+        if (pattern == null) return null;
+        switch (pattern) {
+            case FM_DTF_Y:
+            case FM_Y:
+                return DateDTFs.DTF_Y;
+            case FM_DTF_Yz:
+            case FM_Yz:
+                return DateDTFs.DTF_Y_ZH;
+            case FM_YM:
+                return DateDTFs.DTF_YM;
+            case FM_DTF_YdM:
+            case FM_YdM:
+                return DateDTFs.DTF_YM_DASH;
+            case FM_DTF_YsM:
+            case FM_YsM:
+                return DateDTFs.DTF_YM_SLASH;
+            case FM_DTF_YoM:
+            case FM_YoM:
+                return DateDTFs.DTF_YM_DOT;
+            case FM_DTF_YzMz:
+            case FM_YzMz:
+                return DateDTFs.DTF_YM_ZH;
+            case FM_YMD:
+                return DateDTFs.DTF_YMD;
+            case FM_DTF_YdMdD:
+            case FM_YdMdD:
+                return DateDTFs.DTF_YMD_DASH;
+            case FM_DTF_YsMsD:
+            case FM_YsMsD:
+                return DateDTFs.DTF_YMD_SLASH;
+            case FM_DTF_YoMoD:
+            case FM_YoMoD:
+                return DateDTFs.DTF_YMD_DOT;
+            case FM_DTF_YzMzDz:
+            case FM_YzMzDz:
+                return DateDTFs.DTF_YMD_ZH;
+            case FM_YMDH:
+                return DateTimeDTFs.DTF_YMDH;
+            case FM_DTF_YdMdDH:
+            case FM_YdMdDH:
+                return DateTimeDTFs.DTF_YMDH_DASH;
+            case FM_DTF_YsMsDH:
+            case FM_YsMsDH:
+                return DateTimeDTFs.DTF_YMDH_SLASH;
+            case FM_DTF_YoMoDH:
+            case FM_YoMoDH:
+                return DateTimeDTFs.DTF_YMDH_DOT;
+            case FM_DTF_YzMzDzHz:
+            case FM_YzMzDzHz:
+                return DateTimeDTFs.DTF_YMDH_ZHS;
+            case FM_DTF_YzMzDzHo:
+            case FM_YzMzDzHo:
+                return DateTimeDTFs.DTF_YMDH_ZHD;
+            case FM_YMDHM:
+                return DateTimeDTFs.DTF_YMDHM;
+            case FM_DTF_YdMdDHcM:
+            case FM_YdMdDHcM:
+                return DateTimeDTFs.DTF_YMDHM_DASH;
+            case FM_DTF_YsMsDHcM:
+            case FM_YsMsDHcM:
+                return DateTimeDTFs.DTF_YMDHM_SLASH;
+            case FM_DTF_YoMoDHcM:
+            case FM_YoMoDHcM:
+                return DateTimeDTFs.DTF_YMDHM_DOT;
+            case FM_DTF_YzMzDzHzMz:
+            case FM_YzMzDzHzMz:
+                return DateTimeDTFs.DTF_YMDHM_ZHS;
+            case FM_DTF_YzMzDzHoMz:
+            case FM_YzMzDzHoMz:
+                return DateTimeDTFs.DTF_YMDHM_ZHD;
+            case FM_YMDHMS:
+                return DateTimeDTFs.DTF_YMDHMS;
+            case FM_DTF_YdMdDHcMcS:
+            case FM_YdMdDHcMcS:
+                return DateTimeDTFs.DTF_YMDHMS_DASH;
+            case FM_DTF_YsMsDHcMcS:
+            case FM_YsMsDHcMcS:
+                return DateTimeDTFs.DTF_YMDHMS_SLASH;
+            case FM_DTF_YoMoDHcMcS:
+            case FM_YoMoDHcMcS:
+                return DateTimeDTFs.DTF_YMDHMS_DOT;
+            case FM_DTF_YzMzDzHzMzSz:
+            case FM_YzMzDzHzMzSz:
+                return DateTimeDTFs.DTF_YMDHMS_ZHS;
+            case FM_DTF_YzMzDzHoMzSz:
+            case FM_YzMzDzHoMzSz:
+                return DateTimeDTFs.DTF_YMDHMS_ZHD;
+            case FM_YMDTHMS:
+                return DateTimeDTFs.DTF_YMDHMS_T;
+            case FM_DTF_YdMdDTHcMcS:
+            case FM_YdMdDTHcMcS:
+                return DateTimeDTFs.DTF_YMDHMS_DASH_T;
+            case FM_DTF_YsMsDTHcMcS:
+            case FM_YsMsDTHcMcS:
+                return DateTimeDTFs.DTF_YMDHMS_SLASH_T;
+            case FM_DTF_YoMoDTHcMcS:
+            case FM_YoMoDTHcMcS:
+                return DateTimeDTFs.DTF_YMDHMS_DOT_T;
+            case FM_DTF_YdMdDTHcMcSZ:
+                return ZonedDTFs.DTF_YMDHMS_DASH_TZ;
+            case FM_DTF_YsMsDTHcMcSZ:
+                return ZonedDTFs.DTF_YMDHMS_SLASH_TZ;
+            case FM_DTF_YoMoDTHcMcSZ:
+                return ZonedDTFs.DTF_YMDHMS_DOT_TZ;
+            case FM_YMDHMSS:
+                return DateTimeDTFs.DTF_YMDHMSS;
+            case FM_DTF_YdMdDHcMcSS:
+            case FM_YdMdDHcMcSS:
+                return DateTimeDTFs.DTF_YMDHMSS_DASH;
+            case FM_DTF_YsMsDHcMcSS:
+            case FM_YsMsDHcMcSS:
+                return DateTimeDTFs.DTF_YMDHMSS_SLASH;
+            case FM_DTF_YoMoDHcMcSS:
+            case FM_YoMoDHcMcSS:
+                return DateTimeDTFs.DTF_YMDHMSS_DOT;
+            case FM_DTF_YzMzDzHzMzSzSz:
+            case FM_YzMzDzHzMzSzSz:
+                return DateTimeDTFs.DTF_YMDHMSS_ZHS;
+            case FM_DTF_YzMzDzHoMzSzSz:
+            case FM_YzMzDzHoMzSzSz:
+                return DateTimeDTFs.DTF_YMDHMSS_ZHD;
+            case FM_YMDTHMSS:
+                return DateTimeDTFs.DTF_YMDHMSS_T;
+            case FM_DTF_YdMdDTHcMcSS:
+            case FM_YdMdDTHcMcSS:
+                return DateTimeDTFs.DTF_YMDHMSS_DASH_T;
+            case FM_DTF_YsMsDTHcMcSS:
+            case FM_YsMsDTHcMcSS:
+                return DateTimeDTFs.DTF_YMDHMSS_SLASH_T;
+            case FM_DTF_YoMoDTHcMcSS:
+            case FM_YoMoDTHcMcSS:
+                return DateTimeDTFs.DTF_YMDHMSS_DOT_T;
+            case FM_DTF_YdMdDTHcMcSSZ:
+                return ZonedDTFs.DTF_YMDHMSS_DASH_TZ;
+            case FM_DTF_YsMsDTHcMcSSZ:
+                return ZonedDTFs.DTF_YMDHMSS_SLASH_TZ;
+            case FM_DTF_YoMoDTHcMcSSZ:
+                return ZonedDTFs.DTF_YMDHMSS_DOT_TZ;
+            case FM_DTF_HcM:
+            case FM_HcM:
+                return TimeDTFs.DTF_HM;
+            case FM_DTF_HzMz:
+            case FM_HzMz:
+                return TimeDTFs.DTF_HM_ZHS;
+            case FM_DTF_HoMz:
+            case FM_HoMz:
+                return TimeDTFs.DTF_HM_ZHD;
+            case FM_DTF_HcMcS:
+            case FM_HcMcS:
+                return TimeDTFs.DTF_HMS;
+            case FM_DTF_HzMzSz:
+            case FM_HzMzSz:
+                return TimeDTFs.DTF_HMS_ZHS;
+            case FM_DTF_HoMzSz:
+            case FM_HoMzSz:
+                return TimeDTFs.DTF_HMS_ZHD;
+            case FM_DTF_HcMcSS:
+            case FM_HcMcSS:
+                return TimeDTFs.DTF_HMSS;
+            case FM_DTF_HzMzSzSz:
+            case FM_HzMzSzSz:
+                return TimeDTFs.DTF_HMSS_ZHS;
+            case FM_DTF_HoMzSzSz:
+            case FM_HoMzSzSz:
+                return TimeDTFs.DTF_HMSS_ZHD;
+            case FM_DTF_MzSz:
+                return TimeDTFs.DTF_MS_ZHD;
+            case FM_DTF_MzSzSz:
+                return TimeDTFs.DTF_MSS_ZHD;
+            case FM_DTF_YdMdDHcMcSZo:
+                return ZonedDTFs.DTF_YMDHMS_DASH_ZO;
+            case FM_DTF_YsMsDHcMcSZo:
+                return ZonedDTFs.DTF_YMDHMS_SLASH_ZO;
+            case FM_DTF_YoMoDHcMcSZo:
+                return ZonedDTFs.DTF_YMDHMS_DOT_ZO;
+            case FM_DTF_YdMdDHcMcSSZo:
+                return ZonedDTFs.DTF_YMDHMSS_DASH_ZO;
+            case FM_DTF_YsMsDHcMcSSZo:
+                return ZonedDTFs.DTF_YMDHMSS_SLASH_ZO;
+            case FM_DTF_YoMoDHcMcSSZo:
+                return ZonedDTFs.DTF_YMDHMSS_DOT_ZO;
+            case FM_DTF_YdMdDHcMcSOs:
+                return ZonedDTFs.DTF_YMDHMS_DASH_OS;
+            case FM_DTF_YsMsDHcMcSOs:
+                return ZonedDTFs.DTF_YMDHMS_SLASH_OS;
+            case FM_DTF_YoMoDHcMcSOs:
+                return ZonedDTFs.DTF_YMDHMS_DOT_OS;
+            case FM_DTF_YdMdDHcMcSSOs:
+                return ZonedDTFs.DTF_YMDHMSS_DASH_OS;
+            case FM_DTF_YsMsDHcMcSSOs:
+                return ZonedDTFs.DTF_YMDHMSS_SLASH_OS;
+            case FM_DTF_YoMoDHcMcSSOs:
+                return ZonedDTFs.DTF_YMDHMSS_DOT_OS;
+            default:
+                return null;
+        }
     }
 
-    /*###################################################################################
-     ************************************************************************************
-     ------------------------------------------------------------------------------------
-     *********************************        方法        ********************************
-     ------------------------------------------------------------------------------------
-     ************************************************************************************
-     ###################################################################################*/
-
     /**
      * 通过时间格式化字符串获取 DateTimeFormatter 对象
      *
@@ -556,10 +410,10 @@ public class DateTimePattern {
      * @return DateTimeFormatter 对象
      */
     public static DateTimeFormatter getDTF(String pattern) {
-        DateTimeFormatter dtf = DTF_MAP.get(pattern);
+        DateTimeFormatter dtf = builtInDTF(pattern);
         if (dtf == null) {
             /* "y/M/d H:m:s".length() == 11, 小于11，说明时间结构不是完整的"年月日时分秒" */
-            return pattern.length() < 11 ? buildDTF(pattern) : DateTimeFormatter.ofPattern(pattern);
+            return pattern.length() < 11 ? DTFCache.ofPatternWithDefaults(pattern) : DTFCache.ofPattern(pattern);
         } else {
             return dtf;
         }
@@ -618,29 +472,29 @@ public class DateTimePattern {
             if (dts == null) return null;
             switch (dts) {
                 case DASH_COLON:
-                    format = matchPattern(YdMdDHcMcSZo, dateTime, FM_DTF_YdMdDHcMcSZo);
+                    format = matchPattern(DashPatterns.YdMdDHcMcSZo, dateTime, FM_DTF_YdMdDHcMcSZo);
                     if (format != null) return format;
-                    return matchPattern(YdMdDHcMcSOs, dateTime, FM_DTF_YdMdDHcMcSOs);
+                    return matchPattern(DashPatterns.YdMdDHcMcSOs, dateTime, FM_DTF_YdMdDHcMcSOs);
                 case DASH_COLON_DOT:
-                    format = matchPattern(YdMdDHcMcSSZo, dateTime, FM_DTF_YdMdDHcMcSSZo);
+                    format = matchPattern(DashPatterns.YdMdDHcMcSSZo, dateTime, FM_DTF_YdMdDHcMcSSZo);
                     if (format != null) return format;
-                    return matchPattern(YdMdDHcMcSSOs, dateTime, FM_DTF_YdMdDHcMcSSOs);
+                    return matchPattern(DashPatterns.YdMdDHcMcSSOs, dateTime, FM_DTF_YdMdDHcMcSSOs);
                 case SLASH_COLON:
-                    format = matchPattern(YsMsDHcMcSZo, dateTime, FM_DTF_YsMsDHcMcSZo);
+                    format = matchPattern(SlashPatterns.YsMsDHcMcSZo, dateTime, FM_DTF_YsMsDHcMcSZo);
                     if (format != null) return format;
-                    return matchPattern(YsMsDHcMcSOs, dateTime, FM_DTF_YsMsDHcMcSOs);
+                    return matchPattern(SlashPatterns.YsMsDHcMcSOs, dateTime, FM_DTF_YsMsDHcMcSOs);
                 case SLASH_COLON_DOT:
-                    format = matchPattern(YsMsDHcMcSSZo, dateTime, FM_DTF_YsMsDHcMcSSZo);
+                    format = matchPattern(SlashPatterns.YsMsDHcMcSSZo, dateTime, FM_DTF_YsMsDHcMcSSZo);
                     if (format != null) return format;
-                    return matchPattern(YsMsDHcMcSSOs, dateTime, FM_DTF_YsMsDHcMcSSOs);
+                    return matchPattern(SlashPatterns.YsMsDHcMcSSOs, dateTime, FM_DTF_YsMsDHcMcSSOs);
                 case DOT_COLON:
-                    format = matchPattern(YoMoDHcMcSZo, dateTime, FM_DTF_YoMoDHcMcSZo);
+                    format = matchPattern(DotPatterns.YoMoDHcMcSZo, dateTime, FM_DTF_YoMoDHcMcSZo);
                     if (format != null) return format;
-                    return matchPattern(YoMoDHcMcSOs, dateTime, FM_DTF_YoMoDHcMcSOs);
+                    return matchPattern(DotPatterns.YoMoDHcMcSOs, dateTime, FM_DTF_YoMoDHcMcSOs);
                 case DOT_COLON_DOT:
-                    format = matchPattern(YoMoDHcMcSSZo, dateTime, FM_DTF_YoMoDHcMcSSZo);
+                    format = matchPattern(DotPatterns.YoMoDHcMcSSZo, dateTime, FM_DTF_YoMoDHcMcSSZo);
                     if (format != null) return format;
-                    return matchPattern(YoMoDHcMcSSOs, dateTime, FM_DTF_YoMoDHcMcSSOs);
+                    return matchPattern(DotPatterns.YoMoDHcMcSSOs, dateTime, FM_DTF_YoMoDHcMcSSOs);
                 default:
                     return null;
             }
@@ -667,36 +521,36 @@ public class DateTimePattern {
                 if (dateTime.endsWith("Z")) {
                     switch (dts) {
                         case DASH_COLON:
-                            return matchPattern(YdMdDTHcMcSZ, dateTime, FM_DTF_YdMdDTHcMcSZ);
+                            return matchPattern(DashPatterns.YdMdDTHcMcSZ, dateTime, FM_DTF_YdMdDTHcMcSZ);
                         case DASH_COLON_DOT:
-                            return matchPattern(YdMdDTHcMcSSZ, dateTime, FM_DTF_YdMdDTHcMcSSZ);
+                            return matchPattern(DashPatterns.YdMdDTHcMcSSZ, dateTime, FM_DTF_YdMdDTHcMcSSZ);
                         case SLASH_COLON:
-                            return matchPattern(YsMsDTHcMcSZ, dateTime, FM_DTF_YsMsDTHcMcSZ);
+                            return matchPattern(SlashPatterns.YsMsDTHcMcSZ, dateTime, FM_DTF_YsMsDTHcMcSZ);
                         case SLASH_COLON_DOT:
-                            return matchPattern(YsMsDTHcMcSSZ, dateTime, FM_DTF_YsMsDTHcMcSSZ);
+                            return matchPattern(SlashPatterns.YsMsDTHcMcSSZ, dateTime, FM_DTF_YsMsDTHcMcSSZ);
                         case DOT_COLON:
-                            return matchPattern(YoMoDTHcMcSZ, dateTime, FM_DTF_YoMoDTHcMcSZ);
+                            return matchPattern(DotPatterns.YoMoDTHcMcSZ, dateTime, FM_DTF_YoMoDTHcMcSZ);
                         case DOT_COLON_DOT:
-                            return matchPattern(YoMoDTHcMcSSZ, dateTime, FM_DTF_YoMoDTHcMcSSZ);
+                            return matchPattern(DotPatterns.YoMoDTHcMcSSZ, dateTime, FM_DTF_YoMoDTHcMcSSZ);
                         default:
                             return null;
                     }
                 } else {
                     switch (dts) {
                         case DASH_COLON:
-                            return matchPattern(YdMdDTHcMcS, dateTime, FM_DTF_YdMdDTHcMcS);
+                            return matchPattern(DashPatterns.YdMdDTHcMcS, dateTime, FM_DTF_YdMdDTHcMcS);
                         case DASH_COLON_DOT:
-                            return matchPattern(YdMdDTHcMcSS, dateTime, FM_DTF_YdMdDTHcMcSS);
+                            return matchPattern(DashPatterns.YdMdDTHcMcSS, dateTime, FM_DTF_YdMdDTHcMcSS);
                         case SLASH_COLON:
-                            return matchPattern(YsMsDTHcMcS, dateTime, FM_DTF_YsMsDTHcMcS);
+                            return matchPattern(SlashPatterns.YsMsDTHcMcS, dateTime, FM_DTF_YsMsDTHcMcS);
                         case SLASH_COLON_DOT:
-                            return matchPattern(YsMsDTHcMcSS, dateTime, FM_DTF_YsMsDTHcMcSS);
+                            return matchPattern(SlashPatterns.YsMsDTHcMcSS, dateTime, FM_DTF_YsMsDTHcMcSS);
                         case DOT_COLON:
-                            return matchPattern(YoMoDTHcMcS, dateTime, FM_DTF_YoMoDTHcMcS);
+                            return matchPattern(DotPatterns.YoMoDTHcMcS, dateTime, FM_DTF_YoMoDTHcMcS);
                         case DOT_COLON_DOT:
-                            return matchPattern(YoMoDTHcMcSS, dateTime, FM_DTF_YoMoDTHcMcSS);
+                            return matchPattern(DotPatterns.YoMoDTHcMcSS, dateTime, FM_DTF_YoMoDTHcMcSS);
                         default:    // NO_SEPARATOR
-                            return matchPattern(cs(YMDTHMS, YMDTHMSS), dateTime, FM_YMDTHMS, FM_YMDTHMSS);
+                            return matchPattern(cs(NumberPatterns.YMDTHMS, NumberPatterns.YMDTHMSS), dateTime, FM_YMDTHMS, FM_YMDTHMSS);
                     }
                 }
             }
@@ -708,9 +562,9 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(Y, dateTime, FM_DTF_Y);
+                        return matchPattern(NumberPatterns.Y, dateTime, FM_DTF_Y);
                     case COLON:
-                        return matchPattern(HcM, dateTime, FM_DTF_HcM);
+                        return matchPattern(TimePatterns.HcM, dateTime, FM_DTF_HcM);
                 }
                 return null;
 
@@ -719,13 +573,13 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(Y, dateTime, FM_DTF_Y);
+                        return matchPattern(NumberPatterns.Y, dateTime, FM_DTF_Y);
                     case COLON:
-                        return matchPattern(HcM, dateTime, FM_DTF_HcM);
+                        return matchPattern(TimePatterns.HcM, dateTime, FM_DTF_HcM);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMz, HoMz, MzSz), dateTime, FM_DTF_HzMz, FM_DTF_HoMz, FM_DTF_MzSz);
+                        return matchPattern(cs(ZhPatterns.HzMz, ZhPatterns.HoMz, ZhPatterns.MzSz), dateTime, FM_DTF_HzMz, FM_DTF_HoMz, FM_DTF_MzSz);
                     case ZH_DATE:
-                        return matchPattern(Yz, dateTime, FM_DTF_Yz);
+                        return matchPattern(ZhPatterns.Yz, dateTime, FM_DTF_Yz);
                 }
                 return null;
             case 5:
@@ -733,17 +587,17 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case SLASH:
-                        return matchPattern(YsM, dateTime, FM_DTF_YsM);
+                        return matchPattern(SlashPatterns.YsM, dateTime, FM_DTF_YsM);
                     case DASH:
-                        return matchPattern(YdM, dateTime, FM_DTF_YdM);
+                        return matchPattern(DashPatterns.YdM, dateTime, FM_DTF_YdM);
                     case DOT:
-                        return matchPattern(YoM, dateTime, FM_DTF_YoM);
+                        return matchPattern(DotPatterns.YoM, dateTime, FM_DTF_YoM);
                     case COLON:
-                        return matchPattern(cs(HcMcS, HcM), dateTime, FM_DTF_HcMcS, FM_DTF_HcM);
+                        return matchPattern(cs(TimePatterns.HcMcS, TimePatterns.HcM), dateTime, FM_DTF_HcMcS, FM_DTF_HcM);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMz, HoMz, MzSz), dateTime, FM_DTF_HzMz, FM_DTF_HoMz, FM_DTF_MzSz);
+                        return matchPattern(cs(ZhPatterns.HzMz, ZhPatterns.HoMz, ZhPatterns.MzSz), dateTime, FM_DTF_HzMz, FM_DTF_HoMz, FM_DTF_MzSz);
                     case ZH_DATE:
-                        return matchPattern(Yz, dateTime, FM_DTF_Yz);
+                        return matchPattern(ZhPatterns.Yz, dateTime, FM_DTF_Yz);
                 }
                 return null;
             case 6:
@@ -751,19 +605,19 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YM, dateTime, FM_YM);
+                        return matchPattern(NumberPatterns.YM, dateTime, FM_YM);
                     case SLASH:
-                        return matchPattern(YsM, dateTime, FM_DTF_YsM);
+                        return matchPattern(SlashPatterns.YsM, dateTime, FM_DTF_YsM);
                     case DASH:
-                        return matchPattern(YdM, dateTime, FM_DTF_YdM);
+                        return matchPattern(DashPatterns.YdM, dateTime, FM_DTF_YdM);
                     case DOT:
-                        return matchPattern(YoM, dateTime, FM_DTF_YoM);
+                        return matchPattern(DotPatterns.YoM, dateTime, FM_DTF_YoM);
                     case COLON:
-                        return matchPattern(HcMcS, dateTime, FM_DTF_HcMcS);
+                        return matchPattern(TimePatterns.HcMcS, dateTime, FM_DTF_HcMcS);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMzSz, HoMzSz, HzMz, HoMz, MzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz, FM_DTF_HzMz, FM_DTF_HoMz, FM_DTF_MzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz, ZhPatterns.HzMz, ZhPatterns.HoMz, ZhPatterns.MzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz, FM_DTF_HzMz, FM_DTF_HoMz, FM_DTF_MzSz);
                     case ZH_DATE:
-                        return matchPattern(YzMz, dateTime, FM_DTF_YzMz);
+                        return matchPattern(ZhPatterns.YzMz, dateTime, FM_DTF_YzMz);
                 }
                 return null;
             case 7:
@@ -771,46 +625,46 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case COLON_DOT:
-                        return matchPattern(HcMcSS, dateTime, FM_DTF_HcMcSS);
+                        return matchPattern(TimePatterns.HcMcSS, dateTime, FM_DTF_HcMcSS);
                     case SLASH:
-                        return matchPattern(cs(YsMsD, YsM), dateTime, FM_DTF_YsMsD, FM_DTF_YsM);
+                        return matchPattern(cs(SlashPatterns.YsMsD, SlashPatterns.YsM), dateTime, FM_DTF_YsMsD, FM_DTF_YsM);
                     case DASH:
-                        return matchPattern(cs(YdMdD, YdM), dateTime, FM_DTF_YdMdD, FM_DTF_YdM);
+                        return matchPattern(cs(DashPatterns.YdMdD, DashPatterns.YdM), dateTime, FM_DTF_YdMdD, FM_DTF_YdM);
                     case DOT:
-                        return matchPattern(cs(YoMoD, YoM), dateTime, FM_DTF_YoMoD, FM_DTF_YoM);
+                        return matchPattern(cs(DotPatterns.YoMoD, DotPatterns.YoM), dateTime, FM_DTF_YoMoD, FM_DTF_YoM);
                     case COLON:
-                        return matchPattern(HcMcS, dateTime, FM_DTF_HcMcS);
+                        return matchPattern(TimePatterns.HcMcS, dateTime, FM_DTF_HcMcS);
                     case ZH_TIME_MS:
-                        return matchPattern(MzSzSz, dateTime, FM_DTF_MzSzSz);
+                        return matchPattern(ZhPatterns.MzSzSz, dateTime, FM_DTF_MzSzSz);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMzSz, HoMzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz);
                     case ZH_DATE:
-                        return matchPattern(YzMz, dateTime, FM_DTF_YzMz);
+                        return matchPattern(ZhPatterns.YzMz, dateTime, FM_DTF_YzMz);
                 }
                 return null;
             case 8:
                 // 最常用，先检测
-                format = matchPattern(HcMcS, dateTime, FM_HcMcS);
+                format = matchPattern(TimePatterns.HcMcS, dateTime, FM_HcMcS);
                 if (null == format) {
                     dts = separatorForDate(dateTime);
                     if (null == dts) return null;
                     switch (dts) {
                         case NO_SEPARATOR:
-                            return matchPattern(YMD, dateTime, FM_YMD);
+                            return matchPattern(NumberPatterns.YMD, dateTime, FM_YMD);
                         case COLON_DOT:
-                            return matchPattern(HcMcSS, dateTime, FM_DTF_HcMcSS);
+                            return matchPattern(TimePatterns.HcMcSS, dateTime, FM_DTF_HcMcSS);
                         case SLASH:
-                            return matchPattern(YsMsD, dateTime, FM_DTF_YsMsD);
+                            return matchPattern(SlashPatterns.YsMsD, dateTime, FM_DTF_YsMsD);
                         case DASH:
-                            return matchPattern(YdMdD, dateTime, FM_DTF_YdMdD);
+                            return matchPattern(DashPatterns.YdMdD, dateTime, FM_DTF_YdMdD);
                         case DOT:
-                            return matchPattern(YoMoD, dateTime, FM_DTF_YoMoD);
+                            return matchPattern(DotPatterns.YoMoD, dateTime, FM_DTF_YoMoD);
                         case ZH_TIME_MS:
-                            return matchPattern(MzSzSz, dateTime, FM_DTF_MzSzSz);
+                            return matchPattern(ZhPatterns.MzSzSz, dateTime, FM_DTF_MzSzSz);
                         case ZH_TIME:
-                            return matchPattern(cs(HzMzSz, HoMzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz);
+                            return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz);
                         case ZH_DATE:
-                            return matchPattern(cs(YzMzDz, YzMz), dateTime, FM_DTF_YzMzDz, FM_DTF_YzMz);
+                            return matchPattern(cs(ZhPatterns.YzMzDz, ZhPatterns.YzMz), dateTime, FM_DTF_YzMzDz, FM_DTF_YzMz);
                     }
                     return null;
                 } else {
@@ -821,54 +675,54 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case COLON_DOT:
-                        return matchPattern(HcMcSS, dateTime, FM_DTF_HcMcSS);
+                        return matchPattern(TimePatterns.HcMcSS, dateTime, FM_DTF_HcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(YsMsDH, dateTime, FM_DTF_YsMsDH);
+                        return matchPattern(SlashPatterns.YsMsDH, dateTime, FM_DTF_YsMsDH);
                     case DASH_COLON:
-                        return matchPattern(YdMdDH, dateTime, FM_DTF_YdMdDH);
+                        return matchPattern(DashPatterns.YdMdDH, dateTime, FM_DTF_YdMdDH);
                     case DOT_COLON:
-                        return matchPattern(YoMoDH, dateTime, FM_DTF_YoMoDH);
+                        return matchPattern(DotPatterns.YoMoDH, dateTime, FM_DTF_YoMoDH);
                     case SLASH:
-                        return matchPattern(YsMsD, dateTime, FM_DTF_YsMsD);
+                        return matchPattern(SlashPatterns.YsMsD, dateTime, FM_DTF_YsMsD);
                     case DASH:
-                        return matchPattern(YdMdD, dateTime, FM_DTF_YdMdD);
+                        return matchPattern(DashPatterns.YdMdD, dateTime, FM_DTF_YdMdD);
                     case DOT:
-                        return matchPattern(YoMoD, dateTime, FM_DTF_YoMoD);
+                        return matchPattern(DotPatterns.YoMoD, dateTime, FM_DTF_YoMoD);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSSSz, HoMzSzSSSz, MzSzSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz, FM_DTF_MzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSSSz, ZhPatterns.HoMzSzSSSz, ZhPatterns.MzSzSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz, FM_DTF_MzSzSz);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMzSz, HoMzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz), dateTime, FM_DTF_HzMzSz, FM_DTF_HoMzSz);
                     case ZH_DATE:
-                        return matchPattern(YzMzDz, dateTime, FM_DTF_YzMzDz);
+                        return matchPattern(ZhPatterns.YzMzDz, dateTime, FM_DTF_YzMzDz);
                 }
                 return null;
             case 10:
                 // 最常用，先检测
-                format = matchPattern(YdMdD, dateTime, FM_YdMdD);
+                format = matchPattern(DashPatterns.YdMdD, dateTime, FM_YdMdD);
                 if (null == format) {
                     dts = separatorForDate(dateTime);
                     if (null == dts) return null;
                     switch (dts) {
                         case NO_SEPARATOR:
-                            return matchPattern(YMDH, dateTime, FM_YMDH);
+                            return matchPattern(NumberPatterns.YMDH, dateTime, FM_YMDH);
                         case COLON_DOT:
-                            return matchPattern(HcMcSS, dateTime, FM_DTF_HcMcSS);
+                            return matchPattern(TimePatterns.HcMcSS, dateTime, FM_DTF_HcMcSS);
                         case SLASH_COLON:
-                            return matchPattern(YsMsDH, dateTime, FM_DTF_YsMsDH);
+                            return matchPattern(SlashPatterns.YsMsDH, dateTime, FM_DTF_YsMsDH);
                         case DASH_COLON:
-                            return matchPattern(YdMdDH, dateTime, FM_DTF_YdMdDH);
+                            return matchPattern(DashPatterns.YdMdDH, dateTime, FM_DTF_YdMdDH);
                         case DOT_COLON:
-                            return matchPattern(YoMoDH, dateTime, FM_DTF_YoMoDH);
+                            return matchPattern(DotPatterns.YoMoDH, dateTime, FM_DTF_YoMoDH);
                         case SLASH:
-                            return matchPattern(YsMsD, dateTime, FM_DTF_YsMsD);
+                            return matchPattern(SlashPatterns.YsMsD, dateTime, FM_DTF_YsMsD);
                         case DOT:
-                            return matchPattern(YoMoD, dateTime, FM_DTF_YoMoD);
+                            return matchPattern(DotPatterns.YoMoD, dateTime, FM_DTF_YoMoD);
                         case ZH_TIME_MS:
-                            return matchPattern(cs(HzMzSzSSSz, HoMzSzSSSz, MzSzSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz, FM_DTF_MzSzSz);
+                            return matchPattern(cs(ZhPatterns.HzMzSzSSSz, ZhPatterns.HoMzSzSSSz, ZhPatterns.MzSzSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz, FM_DTF_MzSzSz);
                         case ZH_ZH:
-                            return matchPattern(cs(YzMzDzHz, YzMzDzHo), dateTime, FM_DTF_YzMzDzHz, FM_DTF_YzMzDzHo);
+                            return matchPattern(cs(ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo), dateTime, FM_DTF_YzMzDzHz, FM_DTF_YzMzDzHo);
                         case ZH_DATE:
-                            return matchPattern(YzMzDz, dateTime, FM_DTF_YzMzDz);
+                            return matchPattern(ZhPatterns.YzMzDz, dateTime, FM_DTF_YzMzDz);
                     }
                     return null;
                 } else {
@@ -880,19 +734,19 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case COLON_DOT:
-                        return matchPattern(HcMcSS, dateTime, FM_DTF_HcMcSS);
+                        return matchPattern(TimePatterns.HcMcSS, dateTime, FM_DTF_HcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcM, YsMsDH), dateTime, FM_DTF_YsMsDHcM, FM_DTF_YsMsDH);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcM, SlashPatterns.YsMsDH), dateTime, FM_DTF_YsMsDHcM, FM_DTF_YsMsDH);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcM, YdMdDH), dateTime, FM_DTF_YdMdDHcM, FM_DTF_YdMdDH);
+                        return matchPattern(cs(DashPatterns.YdMdDHcM, DashPatterns.YdMdDH), dateTime, FM_DTF_YdMdDHcM, FM_DTF_YdMdDH);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcM, YoMoDH), dateTime, FM_DTF_YoMoDHcM, FM_DTF_YoMoDH);
+                        return matchPattern(cs(DotPatterns.YoMoDHcM, DotPatterns.YoMoDH), dateTime, FM_DTF_YoMoDHcM, FM_DTF_YoMoDH);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSSSz, HoMzSzSSSz, MzSzSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz, FM_DTF_MzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSSSz, ZhPatterns.HoMzSzSSSz, ZhPatterns.MzSzSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz, FM_DTF_MzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHz, YzMzDzHo), dateTime, FM_DTF_YzMzDzHz, FM_DTF_YzMzDzHo);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo), dateTime, FM_DTF_YzMzDzHz, FM_DTF_YzMzDzHo);
                     case ZH_DATE:
-                        return matchPattern(YzMzDz, dateTime, FM_DTF_YzMzDz);
+                        return matchPattern(ZhPatterns.YzMzDz, dateTime, FM_DTF_YzMzDz);
                 }
                 return null;
             case 12:
@@ -900,19 +754,19 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YMDHM, dateTime, FM_YMDHM);
+                        return matchPattern(NumberPatterns.YMDHM, dateTime, FM_YMDHM);
                     case COLON_DOT:
-                        return matchPattern(HcMcSS, dateTime, FM_DTF_HcMcSS);
+                        return matchPattern(TimePatterns.HcMcSS, dateTime, FM_DTF_HcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcM, YsMsDH), dateTime, FM_DTF_YsMsDHcM, FM_DTF_YsMsDH);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcM, SlashPatterns.YsMsDH), dateTime, FM_DTF_YsMsDHcM, FM_DTF_YsMsDH);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcM, YdMdDH), dateTime, FM_DTF_YdMdDHcM, FM_DTF_YdMdDH);
+                        return matchPattern(cs(DashPatterns.YdMdDHcM, DashPatterns.YdMdDH), dateTime, FM_DTF_YdMdDHcM, FM_DTF_YdMdDH);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcM, YoMoDH), dateTime, FM_DTF_YoMoDHcM, FM_DTF_YoMoDH);
+                        return matchPattern(cs(DotPatterns.YoMoDHcM, DotPatterns.YoMoDH), dateTime, FM_DTF_YoMoDHcM, FM_DTF_YoMoDH);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSSSz, HoMzSzSSSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSSSz, ZhPatterns.HoMzSzSSSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMz, YzMzDzHoMz, YzMzDzHz, YzMzDzHo), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz, ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo), dateTime,
                                 FM_DTF_YzMzDzHzMz, FM_DTF_YzMzDzHoMz, FM_DTF_YzMzDzHz, FM_DTF_YzMzDzHo);
                 }
                 return null;
@@ -921,15 +775,15 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM, YsMsDH), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM, FM_DTF_YsMsDH);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM, SlashPatterns.YsMsDH), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM, FM_DTF_YsMsDH);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM, YdMdDH), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM, FM_DTF_YdMdDH);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM, DashPatterns.YdMdDH), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM, FM_DTF_YdMdDH);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM, YoMoDH), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM, FM_DTF_YoMoDH);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM, DotPatterns.YoMoDH), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM, FM_DTF_YoMoDH);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSSSz, HoMzSzSSSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSSSz, ZhPatterns.HoMzSzSSSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMz, YzMzDzHoMz, YzMzDzHz, YzMzDzHo), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz, ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo), dateTime,
                                 FM_DTF_YzMzDzHzMz, FM_DTF_YzMzDzHoMz, FM_DTF_YzMzDzHz, FM_DTF_YzMzDzHo);
                 }
                 return null;
@@ -938,17 +792,17 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YMDHMS, dateTime, FM_YMDHMS);
+                        return matchPattern(NumberPatterns.YMDHMS, dateTime, FM_YMDHMS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSSSz, HoMzSzSSSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSSSz, ZhPatterns.HoMzSzSSSz), dateTime, FM_DTF_HzMzSzSz, FM_DTF_HoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz, YzMzDzHz, YzMzDzHo), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz, ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo), dateTime,
                                 FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz, FM_DTF_YzMzDzHzMz, FM_DTF_YzMzDzHoMz, FM_DTF_YzMzDzHz, FM_DTF_YzMzDzHo);
                 }
                 return null;
@@ -957,19 +811,19 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz), dateTime,
                                 FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz, FM_DTF_YzMzDzHzMz, FM_DTF_YzMzDzHoMz);
                 }
                 return null;
@@ -978,19 +832,19 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM), dateTime, FM_DTF_YsMsDHcMcS, FM_DTF_YsMsDHcM);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM), dateTime, FM_DTF_YdMdDHcMcS, FM_DTF_YdMdDHcM);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM), dateTime, FM_DTF_YoMoDHcMcS, FM_DTF_YoMoDHcM);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz), dateTime,
                                 FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz, FM_DTF_YzMzDzHzMz, FM_DTF_YzMzDzHoMz);
                 }
                 return null;
@@ -999,23 +853,23 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YMDHMSS, dateTime, FM_YMDHMSS);
+                        return matchPattern(NumberPatterns.YMDHMSS, dateTime, FM_YMDHMSS);
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(YsMsDHcMcS, dateTime, FM_DTF_YsMsDHcMcS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcS, dateTime, FM_DTF_YsMsDHcMcS);
                     case DASH_COLON:
-                        return matchPattern(YdMdDHcMcS, dateTime, FM_DTF_YdMdDHcMcS);
+                        return matchPattern(DashPatterns.YdMdDHcMcS, dateTime, FM_DTF_YdMdDHcMcS);
                     case DOT_COLON:
-                        return matchPattern(YoMoDHcMcS, dateTime, FM_DTF_YoMoDHcMcS);
+                        return matchPattern(DotPatterns.YoMoDHcMcS, dateTime, FM_DTF_YoMoDHcMcS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSSSz, YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSSSz, ZhPatterns.YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz), dateTime,
                                 FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz, FM_DTF_YzMzDzHzMz, FM_DTF_YzMzDzHoMz);
                 }
                 return null;
@@ -1024,44 +878,44 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(YsMsDHcMcS, dateTime, FM_DTF_YsMsDHcMcS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcS, dateTime, FM_DTF_YsMsDHcMcS);
                     case DASH_COLON:
-                        return matchPattern(YdMdDHcMcS, dateTime, FM_DTF_YdMdDHcMcS);
+                        return matchPattern(DashPatterns.YdMdDHcMcS, dateTime, FM_DTF_YdMdDHcMcS);
                     case DOT_COLON:
-                        return matchPattern(YoMoDHcMcS, dateTime, FM_DTF_YoMoDHcMcS);
+                        return matchPattern(DotPatterns.YoMoDHcMcS, dateTime, FM_DTF_YoMoDHcMcS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSSSz, YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSSSz, ZhPatterns.YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz), dateTime, FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz), dateTime, FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz);
                 }
                 return null;
             case 19:
                 // 最常用，先检测
-                format = matchPattern(YdMdDHcMcS, dateTime, FM_DTF_YdMdDHcMcS);
+                format = matchPattern(DashPatterns.YdMdDHcMcS, dateTime, FM_DTF_YdMdDHcMcS);
                 if (null == format) {
                     dts = separatorForDate(dateTime);
                     if (null == dts) return null;
                     switch (dts) {
                         case DASH_COLON_DOT:
-                            return matchPattern(YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
+                            return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
                         case SLASH_COLON_DOT:
-                            return matchPattern(YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
+                            return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
                         case DOT_COLON_DOT:
-                            return matchPattern(YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
+                            return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
                         case SLASH_COLON:
-                            return matchPattern(YsMsDHcMcS, dateTime, FM_DTF_YsMsDHcMcS);
+                            return matchPattern(SlashPatterns.YsMsDHcMcS, dateTime, FM_DTF_YsMsDHcMcS);
                         case DOT_COLON:
-                            return matchPattern(YoMoDHcMcS, dateTime, FM_DTF_YoMoDHcMcS);
+                            return matchPattern(DotPatterns.YoMoDHcMcS, dateTime, FM_DTF_YoMoDHcMcS);
                         case ZH_ZH_MS:
-                            return matchPattern(cs(YzMzDzHzMzSzSSSz, YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
+                            return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSSSz, ZhPatterns.YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
                         case ZH_ZH:
-                            return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz), dateTime, FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz);
+                            return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz), dateTime, FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz);
                     }
                     return null;
                 } else {
@@ -1072,15 +926,15 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSSSz, YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSSSz, ZhPatterns.YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz), dateTime, FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz), dateTime, FM_DTF_YzMzDzHzMzSz, FM_DTF_YzMzDzHoMzSz);
                 }
                 return null;
             case 21:
@@ -1090,18 +944,18 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_DTF_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_DTF_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_DTF_YoMoDHcMcSS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSSSz, YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSSSz, ZhPatterns.YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
                 }
                 return null;
             case 24:
             case 25:
-                return matchPattern(cs(YzMzDzHzMzSzSSSz, YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
+                return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSSSz, ZhPatterns.YzMzDzHoMzSzSSSz), dateTime, FM_DTF_YzMzDzHzMzSzSz, FM_DTF_YzMzDzHoMzSzSz);
         }
         return null;
     }
@@ -1128,19 +982,19 @@ public class DateTimePattern {
             if (dts == null) return null;
             switch (dts) {
                 case DASH_COLON:
-                    return matchPattern(YdMdDTHcMcS, dateTime, FM_YdMdDTHcMcS);
+                    return matchPattern(DashPatterns.YdMdDTHcMcS, dateTime, FM_YdMdDTHcMcS);
                 case DASH_COLON_DOT:
-                    return matchPattern(YdMdDTHcMcSS, dateTime, FM_YdMdDTHcMcSS);
+                    return matchPattern(DashPatterns.YdMdDTHcMcSS, dateTime, FM_YdMdDTHcMcSS);
                 case SLASH_COLON:
-                    return matchPattern(YsMsDTHcMcS, dateTime, FM_YsMsDTHcMcS);
+                    return matchPattern(SlashPatterns.YsMsDTHcMcS, dateTime, FM_YsMsDTHcMcS);
                 case SLASH_COLON_DOT:
-                    return matchPattern(YsMsDTHcMcSS, dateTime, FM_YsMsDTHcMcSS);
+                    return matchPattern(SlashPatterns.YsMsDTHcMcSS, dateTime, FM_YsMsDTHcMcSS);
                 case DOT_COLON:
-                    return matchPattern(YoMoDTHcMcS, dateTime, FM_YoMoDTHcMcS);
+                    return matchPattern(DotPatterns.YoMoDTHcMcS, dateTime, FM_YoMoDTHcMcS);
                 case DOT_COLON_DOT:
-                    return matchPattern(YoMoDTHcMcSS, dateTime, FM_YoMoDTHcMcSS);
+                    return matchPattern(DotPatterns.YoMoDTHcMcSS, dateTime, FM_YoMoDTHcMcSS);
                 default:    // NO_SEPARATOR
-                    return matchPattern(cs(YMDTHMS, YMDTHMSS), dateTime, FM_YMDTHMS, FM_YMDTHMSS);
+                    return matchPattern(cs(NumberPatterns.YMDTHMS, NumberPatterns.YMDTHMSS), dateTime, FM_YMDTHMS, FM_YMDTHMSS);
             }
         }
 
@@ -1150,15 +1004,15 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(Y, dateTime, FM_Y);
+                        return matchPattern(NumberPatterns.Y, dateTime, FM_Y);
                     case COLON:
-                        return matchPattern(HcM, dateTime, FM_HcM);
+                        return matchPattern(TimePatterns.HcM, dateTime, FM_HcM);
                     case DASH:
-                        return matchPattern(MdD, dateTime, FM_MdD);
+                        return matchPattern(DashPatterns.MdD, dateTime, FM_MdD);
                     case SLASH:
-                        return matchPattern(MsD, dateTime, FM_MsD);
+                        return matchPattern(SlashPatterns.MsD, dateTime, FM_MsD);
                     case DOT:
-                        return matchPattern(MoD, dateTime, FM_MoD);
+                        return matchPattern(DotPatterns.MoD, dateTime, FM_MoD);
                 }
                 return null;
 
@@ -1167,19 +1021,19 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(Y, dateTime, FM_Y);
+                        return matchPattern(NumberPatterns.Y, dateTime, FM_Y);
                     case SLASH:
-                        return matchPattern(MsD, dateTime, FM_MsD);
+                        return matchPattern(SlashPatterns.MsD, dateTime, FM_MsD);
                     case DASH:
-                        return matchPattern(MdD, dateTime, FM_MdD);
+                        return matchPattern(DashPatterns.MdD, dateTime, FM_MdD);
                     case DOT:
-                        return matchPattern(MoD, dateTime, FM_MoD);
+                        return matchPattern(DotPatterns.MoD, dateTime, FM_MoD);
                     case COLON:
-                        return matchPattern(HcM, dateTime, FM_HcM);
+                        return matchPattern(TimePatterns.HcM, dateTime, FM_HcM);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMz, HoMz, MzSz), dateTime, FM_HzMz, FM_HoMz, FM_MzSz);
+                        return matchPattern(cs(ZhPatterns.HzMz, ZhPatterns.HoMz, ZhPatterns.MzSz), dateTime, FM_HzMz, FM_HoMz, FM_MzSz);
                     case ZH_DATE:
-                        return matchPattern(cs(Yz, MzDz), dateTime, FM_Yz, FM_MzDz);
+                        return matchPattern(cs(ZhPatterns.Yz, ZhPatterns.MzDz), dateTime, FM_Yz, FM_MzDz);
                 }
                 return null;
             case 5:
@@ -1187,25 +1041,25 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case COLON_DOT:
-                        return matchPattern(McSS, dateTime, FM_McSS);
+                        return matchPattern(TimePatterns.McSS, dateTime, FM_McSS);
                     case SLASH_COLON:
-                        return matchPattern(MsDH, dateTime, FM_MsDH);
+                        return matchPattern(SlashPatterns.MsDH, dateTime, FM_MsDH);
                     case DASH_COLON:
-                        return matchPattern(MdDH, dateTime, FM_MdDH);
+                        return matchPattern(DashPatterns.MdDH, dateTime, FM_MdDH);
                     case DOT_COLON:
-                        return matchPattern(MoDH, dateTime, FM_MoDH);
+                        return matchPattern(DotPatterns.MoDH, dateTime, FM_MoDH);
                     case SLASH:
-                        return matchPattern(cs(YsM, MsD), dateTime, FM_YsM, FM_MsD);
+                        return matchPattern(cs(SlashPatterns.YsM, SlashPatterns.MsD), dateTime, FM_YsM, FM_MsD);
                     case DASH:
-                        return matchPattern(cs(YdM, MdD), dateTime, FM_YdM, FM_MdD);
+                        return matchPattern(cs(DashPatterns.YdM, DashPatterns.MdD), dateTime, FM_YdM, FM_MdD);
                     case DOT:
-                        return matchPattern(cs(YoM, MoD), dateTime, FM_YoM, FM_MoD);
+                        return matchPattern(cs(DotPatterns.YoM, DotPatterns.MoD), dateTime, FM_YoM, FM_MoD);
                     case COLON:
-                        return matchPattern(cs(HcMcS, HcM), dateTime, FM_HcMcS, FM_HcM);
+                        return matchPattern(cs(TimePatterns.HcMcS, TimePatterns.HcM), dateTime, FM_HcMcS, FM_HcM);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMz, HoMz, MzSz), dateTime, FM_HzMz, FM_HoMz, FM_MzSz);
+                        return matchPattern(cs(ZhPatterns.HzMz, ZhPatterns.HoMz, ZhPatterns.MzSz), dateTime, FM_HzMz, FM_HoMz, FM_MzSz);
                     case ZH_DATE:
-                        return matchPattern(cs(Yz, MzDz), dateTime, FM_Yz, FM_MzDz);
+                        return matchPattern(cs(ZhPatterns.Yz, ZhPatterns.MzDz), dateTime, FM_Yz, FM_MzDz);
                 }
                 return null;
             case 6:
@@ -1213,30 +1067,30 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YM, dateTime, FM_YM);
+                        return matchPattern(NumberPatterns.YM, dateTime, FM_YM);
                     case COLON_DOT:
-                        return matchPattern(McSS, dateTime, FM_McSS);
+                        return matchPattern(TimePatterns.McSS, dateTime, FM_McSS);
                     case SLASH_COLON:
-                        return matchPattern(MsDH, dateTime, FM_MsDH);
+                        return matchPattern(SlashPatterns.MsDH, dateTime, FM_MsDH);
                     case DASH_COLON:
-                        return matchPattern(MdDH, dateTime, FM_MdDH);
+                        return matchPattern(DashPatterns.MdDH, dateTime, FM_MdDH);
                     case DOT_COLON:
-                        return matchPattern(MoDH, dateTime, FM_MoDH);
+                        return matchPattern(DotPatterns.MoDH, dateTime, FM_MoDH);
                     case SLASH:
-                        return matchPattern(YsM, dateTime, FM_YsM);
+                        return matchPattern(SlashPatterns.YsM, dateTime, FM_YsM);
                     case DASH:
-                        return matchPattern(YdM, dateTime, FM_YdM);
+                        return matchPattern(DashPatterns.YdM, dateTime, FM_YdM);
                     case DOT:
-                        return matchPattern(YoM, dateTime, FM_YoM);
+                        return matchPattern(DotPatterns.YoM, dateTime, FM_YoM);
                     case COLON:
-                        return matchPattern(HcMcS, dateTime, FM_HcMcS);
+                        return matchPattern(TimePatterns.HcMcS, dateTime, FM_HcMcS);
                     case ZH_ZH:
-                        return matchPattern(cs(MzDzHz, MzDzHo), dateTime, FM_MzDzHz, FM_MzDzHo);
+                        return matchPattern(cs(ZhPatterns.MzDzHz, ZhPatterns.MzDzHo), dateTime, FM_MzDzHz, FM_MzDzHo);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMzSz, HoMzSz, HzMz, HoMz, MzSz), dateTime,
+                        return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz, ZhPatterns.HzMz, ZhPatterns.HoMz, ZhPatterns.MzSz), dateTime,
                                 FM_HzMzSz, FM_HoMzSz, FM_HzMz, FM_HoMz, FM_MzSz);
                     case ZH_DATE:
-                        return matchPattern(cs(YzMz, MzDz), dateTime, FM_YzMz, FM_MzDz);
+                        return matchPattern(cs(ZhPatterns.YzMz, ZhPatterns.MzDz), dateTime, FM_YzMz, FM_MzDz);
                 }
                 return null;
             case 7:
@@ -1244,63 +1098,63 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case COLON_DOT:
-                        return matchPattern(cs(HcMcSS, McSS), dateTime, FM_HcMcSS, FM_McSS);
+                        return matchPattern(cs(TimePatterns.HcMcSS, TimePatterns.McSS), dateTime, FM_HcMcSS, FM_McSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(MsDHcM, MsDH), dateTime, FM_MsDHcM, FM_MsDH);
+                        return matchPattern(cs(SlashPatterns.MsDHcM, SlashPatterns.MsDH), dateTime, FM_MsDHcM, FM_MsDH);
                     case DASH_COLON:
-                        return matchPattern(cs(MdDHcM, MdDH), dateTime, FM_MdDHcM, FM_MdDH);
+                        return matchPattern(cs(DashPatterns.MdDHcM, DashPatterns.MdDH), dateTime, FM_MdDHcM, FM_MdDH);
                     case DOT_COLON:
-                        return matchPattern(cs(MoDHcM, MoDH), dateTime, FM_MoDHcM, FM_MoDH);
+                        return matchPattern(cs(DotPatterns.MoDHcM, DotPatterns.MoDH), dateTime, FM_MoDHcM, FM_MoDH);
                     case SLASH:
-                        return matchPattern(cs(YsMsD, YsM), dateTime, FM_YsMsD, FM_YsM);
+                        return matchPattern(cs(SlashPatterns.YsMsD, SlashPatterns.YsM), dateTime, FM_YsMsD, FM_YsM);
                     case DASH:
-                        return matchPattern(cs(YdMdD, YdM), dateTime, FM_YdMdD, FM_YdM);
+                        return matchPattern(cs(DashPatterns.YdMdD, DashPatterns.YdM), dateTime, FM_YdMdD, FM_YdM);
                     case DOT:
-                        return matchPattern(cs(YoMoD, YoM), dateTime, FM_YoMoD, FM_YoM);
+                        return matchPattern(cs(DotPatterns.YoMoD, DotPatterns.YoM), dateTime, FM_YoMoD, FM_YoM);
                     case COLON:
-                        return matchPattern(HcMcS, dateTime, FM_HcMcS);
+                        return matchPattern(TimePatterns.HcMcS, dateTime, FM_HcMcS);
                     case ZH_TIME_MS:
-                        return matchPattern(MzSzSz, dateTime, FM_MzSzSz);
+                        return matchPattern(ZhPatterns.MzSzSz, dateTime, FM_MzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(MzDzHz, MzDzHo), dateTime, FM_MzDzHz, FM_MzDzHo);
+                        return matchPattern(cs(ZhPatterns.MzDzHz, ZhPatterns.MzDzHo), dateTime, FM_MzDzHz, FM_MzDzHo);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMzSz, HoMzSz), dateTime, FM_HzMzSz, FM_HoMzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz), dateTime, FM_HzMzSz, FM_HoMzSz);
                     case ZH_DATE:
-                        return matchPattern(YzMz, dateTime, FM_YzMz);
+                        return matchPattern(ZhPatterns.YzMz, dateTime, FM_YzMz);
                 }
                 return null;
             case 8:
                 // 最常用，先检测
-                format = matchPattern(HcMcS, dateTime, FM_HcMcS);
+                format = matchPattern(TimePatterns.HcMcS, dateTime, FM_HcMcS);
                 if (null == format) {
                     dts = separatorForDate(dateTime);
                     if (null == dts) return null;
                     switch (dts) {
                         case NO_SEPARATOR:
-                            return matchPattern(YMD, dateTime, FM_YMD);
+                            return matchPattern(NumberPatterns.YMD, dateTime, FM_YMD);
                         case COLON_DOT:
-                            return matchPattern(cs(HcMcSS, McSS), dateTime, FM_HcMcSS, FM_McSS);
+                            return matchPattern(cs(TimePatterns.HcMcSS, TimePatterns.McSS), dateTime, FM_HcMcSS, FM_McSS);
                         case SLASH_COLON:
-                            return matchPattern(cs(MsDHcM, MsDH), dateTime, FM_MsDHcM, FM_MsDH);
+                            return matchPattern(cs(SlashPatterns.MsDHcM, SlashPatterns.MsDH), dateTime, FM_MsDHcM, FM_MsDH);
                         case DASH_COLON:
-                            return matchPattern(cs(MdDHcM, MdDH), dateTime, FM_MdDHcM, FM_MdDH);
+                            return matchPattern(cs(DashPatterns.MdDHcM, DashPatterns.MdDH), dateTime, FM_MdDHcM, FM_MdDH);
                         case DOT_COLON:
-                            return matchPattern(cs(MoDHcM, MoDH), dateTime, FM_MoDHcM, FM_MoDH);
+                            return matchPattern(cs(DotPatterns.MoDHcM, DotPatterns.MoDH), dateTime, FM_MoDHcM, FM_MoDH);
                         case SLASH:
-                            return matchPattern(YsMsD, dateTime, FM_YsMsD);
+                            return matchPattern(SlashPatterns.YsMsD, dateTime, FM_YsMsD);
                         case DASH:
-                            return matchPattern(YdMdD, dateTime, FM_YdMdD);
+                            return matchPattern(DashPatterns.YdMdD, dateTime, FM_YdMdD);
                         case DOT:
-                            return matchPattern(YoMoD, dateTime, FM_YoMoD);
+                            return matchPattern(DotPatterns.YoMoD, dateTime, FM_YoMoD);
                         case ZH_TIME_MS:
-                            return matchPattern(MzSzSz, dateTime, FM_MzSzSz);
+                            return matchPattern(ZhPatterns.MzSzSz, dateTime, FM_MzSzSz);
                         case ZH_ZH:
-                            return matchPattern(cs(MzDzHzMz, MzDzHoMz, MzDzHz, MzDzHo), dateTime,
+                            return matchPattern(cs(ZhPatterns.MzDzHzMz, ZhPatterns.MzDzHoMz, ZhPatterns.MzDzHz, ZhPatterns.MzDzHo), dateTime,
                                     FM_MzDzHzMz, FM_MzDzHoMz, FM_MzDzHz, FM_MzDzHo);
                         case ZH_TIME:
-                            return matchPattern(cs(HzMzSz, HoMzSz), dateTime, FM_HzMzSz, FM_HoMzSz);
+                            return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz), dateTime, FM_HzMzSz, FM_HoMzSz);
                         case ZH_DATE:
-                            return matchPattern(cs(YzMzDz, YzMz), dateTime, FM_YzMzDz, FM_YzMz);
+                            return matchPattern(cs(ZhPatterns.YzMzDz, ZhPatterns.YzMz), dateTime, FM_YzMzDz, FM_YzMz);
                     }
                     return null;
                 } else {
@@ -1311,58 +1165,58 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case COLON_DOT:
-                        return matchPattern(cs(HcMcSS, McSS), dateTime, FM_HcMcSS, FM_McSS);
+                        return matchPattern(cs(TimePatterns.HcMcSS, TimePatterns.McSS), dateTime, FM_HcMcSS, FM_McSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDH, MsDHcMcS, MsDHcM), dateTime, FM_YsMsDH, FM_MsDHcMcS, FM_MsDHcM);
+                        return matchPattern(cs(SlashPatterns.YsMsDH, SlashPatterns.MsDHcMcS, SlashPatterns.MsDHcM), dateTime, FM_YsMsDH, FM_MsDHcMcS, FM_MsDHcM);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDH, MdDHcMcS, MdDHcM), dateTime, FM_YdMdDH, FM_MdDHcMcS, FM_MdDHcM);
+                        return matchPattern(cs(DashPatterns.YdMdDH, DashPatterns.MdDHcMcS, DashPatterns.MdDHcM), dateTime, FM_YdMdDH, FM_MdDHcMcS, FM_MdDHcM);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDH, MoDHcMcS, MoDHcM), dateTime, FM_YoMoDH, FM_MoDHcMcS, FM_MoDHcM);
+                        return matchPattern(cs(DotPatterns.YoMoDH, DotPatterns.MoDHcMcS, DotPatterns.MoDHcM), dateTime, FM_YoMoDH, FM_MoDHcMcS, FM_MoDHcM);
                     case SLASH:
-                        return matchPattern(YsMsD, dateTime, FM_YsMsD);
+                        return matchPattern(SlashPatterns.YsMsD, dateTime, FM_YsMsD);
                     case DASH:
-                        return matchPattern(YdMdD, dateTime, FM_YdMdD);
+                        return matchPattern(DashPatterns.YdMdD, dateTime, FM_YdMdD);
                     case DOT:
-                        return matchPattern(YoMoD, dateTime, FM_YoMoD);
+                        return matchPattern(DotPatterns.YoMoD, dateTime, FM_YoMoD);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSz, HoMzSzSz, MzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz, FM_MzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSz, ZhPatterns.HoMzSzSz, ZhPatterns.MzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz, FM_MzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(MzDzHzMz, MzDzHoMz, MzDzHz, MzDzHo), dateTime,
+                        return matchPattern(cs(ZhPatterns.MzDzHzMz, ZhPatterns.MzDzHoMz, ZhPatterns.MzDzHz, ZhPatterns.MzDzHo), dateTime,
                                 FM_MzDzHzMz, FM_MzDzHoMz, FM_MzDzHz, FM_MzDzHo);
                     case ZH_TIME:
-                        return matchPattern(cs(HzMzSz, HoMzSz), dateTime, FM_HzMzSz, FM_HoMzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSz, ZhPatterns.HoMzSz), dateTime, FM_HzMzSz, FM_HoMzSz);
                     case ZH_DATE:
-                        return matchPattern(YzMzDz, dateTime, FM_YzMzDz);
+                        return matchPattern(ZhPatterns.YzMzDz, dateTime, FM_YzMzDz);
                 }
                 return null;
             case 10:
                 // 最常用，先检测
-                format = matchPattern(YdMdD, dateTime, FM_YdMdD);
+                format = matchPattern(DashPatterns.YdMdD, dateTime, FM_YdMdD);
                 if (null == format) {
                     dts = separatorForDate(dateTime);
                     if (null == dts) return null;
                     switch (dts) {
                         case NO_SEPARATOR:
-                            return matchPattern(YMDH, dateTime, FM_YMDH);
+                            return matchPattern(NumberPatterns.YMDH, dateTime, FM_YMDH);
                         case COLON_DOT:
-                            return matchPattern(HcMcSS, dateTime, FM_HcMcSS);
+                            return matchPattern(TimePatterns.HcMcSS, dateTime, FM_HcMcSS);
                         case SLASH_COLON:
-                            return matchPattern(cs(YsMsDH, MsDHcMcS, MsDHcM), dateTime, FM_YsMsDH, FM_MsDHcMcS, FM_MsDHcM);
+                            return matchPattern(cs(SlashPatterns.YsMsDH, SlashPatterns.MsDHcMcS, SlashPatterns.MsDHcM), dateTime, FM_YsMsDH, FM_MsDHcMcS, FM_MsDHcM);
                         case DASH_COLON:
-                            return matchPattern(cs(YdMdDH, MdDHcMcS, MdDHcM), dateTime, FM_YdMdDH, FM_MdDHcMcS, FM_MdDHcM);
+                            return matchPattern(cs(DashPatterns.YdMdDH, DashPatterns.MdDHcMcS, DashPatterns.MdDHcM), dateTime, FM_YdMdDH, FM_MdDHcMcS, FM_MdDHcM);
                         case DOT_COLON:
-                            return matchPattern(cs(YoMoDH, MoDHcMcS, MoDHcM), dateTime, FM_YoMoDH, FM_MoDHcMcS, FM_MoDHcM);
+                            return matchPattern(cs(DotPatterns.YoMoDH, DotPatterns.MoDHcMcS, DotPatterns.MoDHcM), dateTime, FM_YoMoDH, FM_MoDHcMcS, FM_MoDHcM);
                         case SLASH:
-                            return matchPattern(YsMsD, dateTime, FM_YsMsD);
+                            return matchPattern(SlashPatterns.YsMsD, dateTime, FM_YsMsD);
                         case DOT:
-                            return matchPattern(YoMoD, dateTime, FM_YoMoD);
+                            return matchPattern(DotPatterns.YoMoD, dateTime, FM_YoMoD);
                         case ZH_TIME_MS:
-                            return matchPattern(cs(HzMzSzSz, HoMzSzSz, MzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz, FM_MzSzSz);
+                            return matchPattern(cs(ZhPatterns.HzMzSzSz, ZhPatterns.HoMzSzSz, ZhPatterns.MzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz, FM_MzSzSz);
                         case ZH_ZH:
-                            return matchPattern(cs(YzMzDzHz, YzMzDzHo, MzDzHzMzSz, MzDzHoMzSz, MzDzHzMz, MzDzHoMz), dateTime,
+                            return matchPattern(cs(ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo, ZhPatterns.MzDzHzMzSz, ZhPatterns.MzDzHoMzSz, ZhPatterns.MzDzHzMz, ZhPatterns.MzDzHoMz), dateTime,
                                     FM_YzMzDzHz, FM_YzMzDzHo, FM_MzDzHzMzSz, FM_MzDzHoMzSz, FM_MzDzHzMz, FM_MzDzHoMz);
                         case ZH_DATE:
-                            return matchPattern(YzMzDz, dateTime, FM_YzMzDz);
+                            return matchPattern(ZhPatterns.YzMzDz, dateTime, FM_YzMzDz);
                     }
                     return null;
                 } else {
@@ -1374,29 +1228,29 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(MdDHcMcSS, dateTime, FM_MdDHcMcSS);
+                        return matchPattern(DashPatterns.MdDHcMcSS, dateTime, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(MsDHcMcSS, dateTime, FM_MsDHcMcSS);
+                        return matchPattern(SlashPatterns.MsDHcMcSS, dateTime, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(MoDHcMcSS, dateTime, FM_MoDHcMcSS);
+                        return matchPattern(DotPatterns.MoDHcMcSS, dateTime, FM_MoDHcMcSS);
                     case COLON_DOT:
-                        return matchPattern(HcMcSS, dateTime, FM_HcMcSS);
+                        return matchPattern(TimePatterns.HcMcSS, dateTime, FM_HcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcM, YsMsDH, MsDHcMcS, MsDHcM), dateTime,
+                        return matchPattern(cs(SlashPatterns.YsMsDHcM, SlashPatterns.YsMsDH, SlashPatterns.MsDHcMcS, SlashPatterns.MsDHcM), dateTime,
                                 FM_YsMsDHcM, FM_YsMsDH, FM_MsDHcMcS, FM_MsDHcM);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcM, YdMdDH, MdDHcMcS, MdDHcM), dateTime,
+                        return matchPattern(cs(DashPatterns.YdMdDHcM, DashPatterns.YdMdDH, DashPatterns.MdDHcMcS, DashPatterns.MdDHcM), dateTime,
                                 FM_YdMdDHcM, FM_YdMdDH, FM_MdDHcMcS, FM_MdDHcM);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcM, YoMoDH, MoDHcMcS, MoDHcM), dateTime,
+                        return matchPattern(cs(DotPatterns.YoMoDHcM, DotPatterns.YoMoDH, DotPatterns.MoDHcMcS, DotPatterns.MoDHcM), dateTime,
                                 FM_YoMoDHcM, FM_YoMoDH, FM_MoDHcMcS, FM_MoDHcM);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSz, HoMzSzSz, MzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz, FM_MzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSz, ZhPatterns.HoMzSzSz, ZhPatterns.MzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz, FM_MzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHz, YzMzDzHo, MzDzHzMzSz, MzDzHoMzSz, MzDzHzMz, MzDzHoMz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo, ZhPatterns.MzDzHzMzSz, ZhPatterns.MzDzHoMzSz, ZhPatterns.MzDzHzMz, ZhPatterns.MzDzHoMz), dateTime,
                                 FM_YzMzDzHz, FM_YzMzDzHo, FM_MzDzHzMzSz, FM_MzDzHoMzSz, FM_MzDzHzMz, FM_MzDzHoMz);
                     case ZH_DATE:
-                        return matchPattern(YzMzDz, dateTime, FM_YzMzDz);
+                        return matchPattern(ZhPatterns.YzMzDz, dateTime, FM_YzMzDz);
                 }
                 return null;
             case 12:
@@ -1404,25 +1258,25 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YMDHM, dateTime, FM_YMDHM);
+                        return matchPattern(NumberPatterns.YMDHM, dateTime, FM_YMDHM);
                     case DASH_COLON_DOT:
-                        return matchPattern(MdDHcMcSS, dateTime, FM_MdDHcMcSS);
+                        return matchPattern(DashPatterns.MdDHcMcSS, dateTime, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(MsDHcMcSS, dateTime, FM_MsDHcMcSS);
+                        return matchPattern(SlashPatterns.MsDHcMcSS, dateTime, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(MoDHcMcSS, dateTime, FM_MoDHcMcSS);
+                        return matchPattern(DotPatterns.MoDHcMcSS, dateTime, FM_MoDHcMcSS);
                     case COLON_DOT:
-                        return matchPattern(HcMcSS, dateTime, FM_HcMcSS);
+                        return matchPattern(TimePatterns.HcMcSS, dateTime, FM_HcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcM, YsMsDH, MsDHcMcS), dateTime, FM_YsMsDHcM, FM_YsMsDH, FM_MsDHcMcS);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcM, SlashPatterns.YsMsDH, SlashPatterns.MsDHcMcS), dateTime, FM_YsMsDHcM, FM_YsMsDH, FM_MsDHcMcS);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcM, YdMdDH, MdDHcMcS), dateTime, FM_YdMdDHcM, FM_YdMdDH, FM_MdDHcMcS);
+                        return matchPattern(cs(DashPatterns.YdMdDHcM, DashPatterns.YdMdDH, DashPatterns.MdDHcMcS), dateTime, FM_YdMdDHcM, FM_YdMdDH, FM_MdDHcMcS);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcM, YoMoDH, MoDHcMcS), dateTime, FM_YoMoDHcM, FM_YoMoDH, FM_MoDHcMcS);
+                        return matchPattern(cs(DotPatterns.YoMoDHcM, DotPatterns.YoMoDH, DotPatterns.MoDHcMcS), dateTime, FM_YoMoDHcM, FM_YoMoDH, FM_MoDHcMcS);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSz, HoMzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSz, ZhPatterns.HoMzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMz, YzMzDzHoMz, YzMzDzHz, YzMzDzHo, MzDzHzMzSz, MzDzHoMzSz, MzDzHzMz, MzDzHoMz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz, ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo, ZhPatterns.MzDzHzMzSz, ZhPatterns.MzDzHoMzSz, ZhPatterns.MzDzHzMz, ZhPatterns.MzDzHoMz), dateTime,
                                 FM_YzMzDzHzMz, FM_YzMzDzHoMz, FM_YzMzDzHz, FM_YzMzDzHo, FM_MzDzHzMzSz, FM_MzDzHoMzSz, FM_MzDzHzMz, FM_MzDzHoMz);
                 }
                 return null;
@@ -1431,26 +1285,26 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(MdDHcMcSS, dateTime, FM_MdDHcMcSS);
+                        return matchPattern(DashPatterns.MdDHcMcSS, dateTime, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(MsDHcMcSS, dateTime, FM_MsDHcMcSS);
+                        return matchPattern(SlashPatterns.MsDHcMcSS, dateTime, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(MoDHcMcSS, dateTime, FM_MoDHcMcSS);
+                        return matchPattern(DotPatterns.MoDHcMcSS, dateTime, FM_MoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM, YsMsDH, MsDHcMcS), dateTime,
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM, SlashPatterns.YsMsDH, SlashPatterns.MsDHcMcS), dateTime,
                                 FM_YsMsDHcMcS, FM_YsMsDHcM, FM_YsMsDH, FM_MsDHcMcS);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM, YdMdDH, MdDHcMcS), dateTime,
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM, DashPatterns.YdMdDH, DashPatterns.MdDHcMcS), dateTime,
                                 FM_YdMdDHcMcS, FM_YdMdDHcM, FM_YdMdDH, FM_MdDHcMcS);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM, YoMoDH, MoDHcMcS), dateTime,
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM, DotPatterns.YoMoDH, DotPatterns.MoDHcMcS), dateTime,
                                 FM_YoMoDHcMcS, FM_YoMoDHcM, FM_YoMoDH, FM_MoDHcMcS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSz, HoMzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSz, ZhPatterns.HoMzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMz, YzMzDzHoMz, YzMzDzHz, YzMzDzHo, MzDzHzMzSz, MzDzHoMzSz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz, ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo, ZhPatterns.MzDzHzMzSz, ZhPatterns.MzDzHoMzSz), dateTime,
                                 FM_YzMzDzHzMz, FM_YzMzDzHoMz, FM_YzMzDzHz, FM_YzMzDzHo, FM_MzDzHzMzSz, FM_MzDzHoMzSz);
                 }
                 return null;
@@ -1459,25 +1313,25 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YMDHMS, dateTime, FM_YMDHMS);
+                        return matchPattern(NumberPatterns.YMDHMS, dateTime, FM_YMDHMS);
                     case DASH_COLON_DOT:
-                        return matchPattern(MdDHcMcSS, dateTime, FM_MdDHcMcSS);
+                        return matchPattern(DashPatterns.MdDHcMcSS, dateTime, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(MsDHcMcSS, dateTime, FM_MsDHcMcSS);
+                        return matchPattern(SlashPatterns.MsDHcMcSS, dateTime, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(MoDHcMcSS, dateTime, FM_MoDHcMcSS);
+                        return matchPattern(DotPatterns.MoDHcMcSS, dateTime, FM_MoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM, MsDHcMcS), dateTime, FM_YsMsDHcMcS, FM_YsMsDHcM, FM_MsDHcMcS);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM, SlashPatterns.MsDHcMcS), dateTime, FM_YsMsDHcMcS, FM_YsMsDHcM, FM_MsDHcMcS);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM, MdDHcMcS), dateTime, FM_YdMdDHcMcS, FM_YdMdDHcM, FM_MdDHcMcS);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM, DashPatterns.MdDHcMcS), dateTime, FM_YdMdDHcMcS, FM_YdMdDHcM, FM_MdDHcMcS);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM, MoDHcMcS), dateTime, FM_YoMoDHcMcS, FM_YoMoDHcM, FM_MoDHcMcS);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM, DotPatterns.MoDHcMcS), dateTime, FM_YoMoDHcMcS, FM_YoMoDHcM, FM_MoDHcMcS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                     case ZH_TIME_MS:
-                        return matchPattern(cs(HzMzSzSz, HoMzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.HzMzSzSz, ZhPatterns.HoMzSzSz), dateTime, FM_HzMzSzSz, FM_HoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz, YzMzDzHz, YzMzDzHo, MzDzHzMzSz, MzDzHoMzSz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz, ZhPatterns.YzMzDzHz, ZhPatterns.YzMzDzHo, ZhPatterns.MzDzHzMzSz, ZhPatterns.MzDzHoMzSz), dateTime,
                                 FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz, FM_YzMzDzHzMz, FM_YzMzDzHoMz, FM_YzMzDzHz, FM_YzMzDzHo, FM_MzDzHzMzSz, FM_MzDzHoMzSz);
                 }
                 return null;
@@ -1486,21 +1340,21 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(cs(YdMdDHcMcSS, MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcSS, DashPatterns.MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(cs(YsMsDHcMcSS, MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcSS, SlashPatterns.MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(cs(YoMoDHcMcSS, MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcSS, DotPatterns.MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM), dateTime, FM_YsMsDHcMcS, FM_YsMsDHcM);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM), dateTime, FM_YsMsDHcMcS, FM_YsMsDHcM);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM), dateTime, FM_YdMdDHcMcS, FM_YdMdDHcM);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM), dateTime, FM_YdMdDHcMcS, FM_YdMdDHcM);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM), dateTime, FM_YoMoDHcMcS, FM_YoMoDHcM);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM), dateTime, FM_YoMoDHcMcS, FM_YoMoDHcM);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz, MzDzHzMzSz, MzDzHoMzSz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz, ZhPatterns.MzDzHzMzSz, ZhPatterns.MzDzHoMzSz), dateTime,
                                 FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz, FM_YzMzDzHzMz, FM_YzMzDzHoMz, FM_MzDzHzMzSz, FM_MzDzHoMzSz);
                 }
                 return null;
@@ -1509,21 +1363,21 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(cs(YdMdDHcMcSS, MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcSS, DashPatterns.MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(cs(YsMsDHcMcSS, MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcSS, SlashPatterns.MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(cs(YoMoDHcMcSS, MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcSS, DotPatterns.MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(cs(YsMsDHcMcS, YsMsDHcM), dateTime, FM_YsMsDHcMcS, FM_YsMsDHcM);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcS, SlashPatterns.YsMsDHcM), dateTime, FM_YsMsDHcMcS, FM_YsMsDHcM);
                     case DASH_COLON:
-                        return matchPattern(cs(YdMdDHcMcS, YdMdDHcM), dateTime, FM_YdMdDHcMcS, FM_YdMdDHcM);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcS, DashPatterns.YdMdDHcM), dateTime, FM_YdMdDHcMcS, FM_YdMdDHcM);
                     case DOT_COLON:
-                        return matchPattern(cs(YoMoDHcMcS, YoMoDHcM), dateTime, FM_YoMoDHcMcS, FM_YoMoDHcM);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcS, DotPatterns.YoMoDHcM), dateTime, FM_YoMoDHcMcS, FM_YoMoDHcM);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz), dateTime,
                                 FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz, FM_YzMzDzHzMz, FM_YzMzDzHoMz);
                 }
                 return null;
@@ -1532,24 +1386,24 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case NO_SEPARATOR:
-                        return matchPattern(YMDHMSS, dateTime, FM_YMDHMSS);
+                        return matchPattern(NumberPatterns.YMDHMSS, dateTime, FM_YMDHMSS);
                     case DASH_COLON_DOT:
-                        return matchPattern(cs(YdMdDHcMcSS, MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcSS, DashPatterns.MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(cs(YsMsDHcMcSS, MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcSS, SlashPatterns.MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(cs(YoMoDHcMcSS, MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcSS, DotPatterns.MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(YsMsDHcMcS, dateTime, FM_YsMsDHcMcS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcS, dateTime, FM_YsMsDHcMcS);
                     case DASH_COLON:
-                        return matchPattern(YdMdDHcMcS, dateTime, FM_YdMdDHcMcS);
+                        return matchPattern(DashPatterns.YdMdDHcMcS, dateTime, FM_YdMdDHcMcS);
                     case DOT_COLON:
-                        return matchPattern(YoMoDHcMcS, dateTime, FM_YoMoDHcMcS);
+                        return matchPattern(DotPatterns.YoMoDHcMcS, dateTime, FM_YoMoDHcMcS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSz, YzMzDzHoMzSzSz, MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSz, ZhPatterns.YzMzDzHoMzSzSz, ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime,
                                 FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz, YzMzDzHzMz, YzMzDzHoMz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz, ZhPatterns.YzMzDzHzMz, ZhPatterns.YzMzDzHoMz), dateTime,
                                 FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz, FM_YzMzDzHzMz, FM_YzMzDzHoMz);
                 }
                 return null;
@@ -1558,46 +1412,46 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(cs(YdMdDHcMcSS, MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
+                        return matchPattern(cs(DashPatterns.YdMdDHcMcSS, DashPatterns.MdDHcMcSS), dateTime, FM_YdMdDHcMcSS, FM_MdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(cs(YsMsDHcMcSS, MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
+                        return matchPattern(cs(SlashPatterns.YsMsDHcMcSS, SlashPatterns.MsDHcMcSS), dateTime, FM_YsMsDHcMcSS, FM_MsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(cs(YoMoDHcMcSS, MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
+                        return matchPattern(cs(DotPatterns.YoMoDHcMcSS, DotPatterns.MoDHcMcSS), dateTime, FM_YoMoDHcMcSS, FM_MoDHcMcSS);
                     case SLASH_COLON:
-                        return matchPattern(YsMsDHcMcS, dateTime, FM_YsMsDHcMcS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcS, dateTime, FM_YsMsDHcMcS);
                     case DASH_COLON:
-                        return matchPattern(YdMdDHcMcS, dateTime, FM_YdMdDHcMcS);
+                        return matchPattern(DashPatterns.YdMdDHcMcS, dateTime, FM_YdMdDHcMcS);
                     case DOT_COLON:
-                        return matchPattern(YoMoDHcMcS, dateTime, FM_YoMoDHcMcS);
+                        return matchPattern(DotPatterns.YoMoDHcMcS, dateTime, FM_YoMoDHcMcS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSz, YzMzDzHoMzSzSz, MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSz, ZhPatterns.YzMzDzHoMzSzSz, ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime,
                                 FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz), dateTime, FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz), dateTime, FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz);
                 }
                 return null;
             case 19:
                 // 最常用，先检测
-                format = matchPattern(YdMdDHcMcS, dateTime, FM_YdMdDHcMcS);
+                format = matchPattern(DashPatterns.YdMdDHcMcS, dateTime, FM_YdMdDHcMcS);
                 if (null == format) {
                     dts = separatorForDate(dateTime);
                     if (null == dts) return null;
                     switch (dts) {
                         case DASH_COLON_DOT:
-                            return matchPattern(YdMdDHcMcSS, dateTime, FM_YdMdDHcMcSS);
+                            return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_YdMdDHcMcSS);
                         case SLASH_COLON_DOT:
-                            return matchPattern(YsMsDHcMcSS, dateTime, FM_YsMsDHcMcSS);
+                            return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_YsMsDHcMcSS);
                         case DOT_COLON_DOT:
-                            return matchPattern(YoMoDHcMcSS, dateTime, FM_YoMoDHcMcSS);
+                            return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_YoMoDHcMcSS);
                         case SLASH_COLON:
-                            return matchPattern(YsMsDHcMcS, dateTime, FM_YsMsDHcMcS);
+                            return matchPattern(SlashPatterns.YsMsDHcMcS, dateTime, FM_YsMsDHcMcS);
                         case DOT_COLON:
-                            return matchPattern(YoMoDHcMcS, dateTime, FM_YoMoDHcMcS);
+                            return matchPattern(DotPatterns.YoMoDHcMcS, dateTime, FM_YoMoDHcMcS);
                         case ZH_ZH_MS:
-                            return matchPattern(cs(YzMzDzHzMzSzSz, YzMzDzHoMzSzSz, MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime,
+                            return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSz, ZhPatterns.YzMzDzHoMzSzSz, ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime,
                                     FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                         case ZH_ZH:
-                            return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz), dateTime, FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz);
+                            return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz), dateTime, FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz);
                     }
                     return null;
                 } else {
@@ -1608,16 +1462,16 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_YoMoDHcMcSS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSz, YzMzDzHoMzSzSz, MzDzHzMzSzSz, MzDzHoMzSzSz), dateTime,
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSz, ZhPatterns.YzMzDzHoMzSzSz, ZhPatterns.MzDzHzMzSzSz, ZhPatterns.MzDzHoMzSzSz), dateTime,
                                 FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz, FM_MzDzHzMzSzSz, FM_MzDzHoMzSzSz);
                     case ZH_ZH:
-                        return matchPattern(cs(YzMzDzHzMzSz, YzMzDzHoMzSz), dateTime, FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSz, ZhPatterns.YzMzDzHoMzSz), dateTime, FM_YzMzDzHzMzSz, FM_YzMzDzHoMzSz);
                 }
                 return null;
             case 21:
@@ -1627,18 +1481,18 @@ public class DateTimePattern {
                 if (null == dts) return null;
                 switch (dts) {
                     case DASH_COLON_DOT:
-                        return matchPattern(YdMdDHcMcSS, dateTime, FM_YdMdDHcMcSS);
+                        return matchPattern(DashPatterns.YdMdDHcMcSS, dateTime, FM_YdMdDHcMcSS);
                     case SLASH_COLON_DOT:
-                        return matchPattern(YsMsDHcMcSS, dateTime, FM_YsMsDHcMcSS);
+                        return matchPattern(SlashPatterns.YsMsDHcMcSS, dateTime, FM_YsMsDHcMcSS);
                     case DOT_COLON_DOT:
-                        return matchPattern(YoMoDHcMcSS, dateTime, FM_YoMoDHcMcSS);
+                        return matchPattern(DotPatterns.YoMoDHcMcSS, dateTime, FM_YoMoDHcMcSS);
                     case ZH_ZH_MS:
-                        return matchPattern(cs(YzMzDzHzMzSzSz, YzMzDzHoMzSzSz), dateTime, FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz);
+                        return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSz, ZhPatterns.YzMzDzHoMzSzSz), dateTime, FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz);
                 }
                 return null;
             case 24:
             case 25:
-                return matchPattern(cs(YzMzDzHzMzSzSz, YzMzDzHoMzSzSz), dateTime, FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz);
+                return matchPattern(cs(ZhPatterns.YzMzDzHzMzSzSz, ZhPatterns.YzMzDzHoMzSzSz), dateTime, FM_YzMzDzHzMzSzSz, FM_YzMzDzHoMzSzSz);
         }
         return null;
     }
@@ -2107,4 +1961,315 @@ public class DateTimePattern {
         if (dIndex > 0 && dIndex < cIndex) return 1;
         return 0;
     }
+
+    /*###################################################################################
+     ************************************************************************************
+     ------------------------------------------------------------------------------------
+     ************   正则及 DateTimeFormatter（按格式族分组，首次使用时才初始化）   ************
+     ------------------------------------------------------------------------------------
+     ************************************************************************************
+     ###################################################################################*/
+    /*
+     * 每个格式族是一个单独的类，JVM 在第一次访问其字段时才初始化该类（Initialization-on-demand holder），
+     * 所以只有用到的格式族才会编译正则及创建 DateTimeFormatter。
+     * 0.7.0 之前的正则常量（如 DateTimePattern.YdM）移到了对应的格式族中（如 DateTimePattern.DashPatterns.YdM）。
+     *
+     * DASH:  d   -
+     * DOT:   o   .
+     * SLASH: s   /
+     * COLON: c   :
+     * ZH:    z   年月日时分秒毫秒
+     */
+
+    /**
+     * Regexes of the digit-only date time strings, e.g. yyyyMMdd, yyyyMMddTHHmmss <br>
+     * 纯数字的时间串，如：yyyyMMdd、yyyyMMddTHHmmss
+     *
+     * @since 0.7.0
+     */
+    public static final class NumberPatterns {
+        public static final Pattern Y               = Pattern.compile("\\d{3,4}");                                                                    // yyyy
+        public static final Pattern YM              = Pattern.compile("\\d{6}");                                                                      // yyyyMM
+        public static final Pattern YMD             = Pattern.compile("\\d{8}");                                                                      // yyyyMMdd
+        public static final Pattern YMDH            = Pattern.compile("\\d{10}");                                                                     // yyyyMMddHH
+        public static final Pattern YMDHM           = Pattern.compile("\\d{12}");                                                                     // yyyyMMddHHmm
+        public static final Pattern YMDHMS          = Pattern.compile("\\d{14}");                                                                     // yyyyMMddHHmmss
+        public static final Pattern YMDHMSS         = Pattern.compile("\\d{17}");                                                                     // yyyyMMddHHmmssSSS
+        public static final Pattern YMDTHMS         = Pattern.compile("\\d{8}T\\d{6}");                                                          // yyyyMMddTHHmmss
+        public static final Pattern YMDTHMSS        = Pattern.compile("\\d{8}T\\d{9}");                                                          // yyyyMMddTHHmmssSSS
+
+        private NumberPatterns() {
+        }
+    }
+
+    /**
+     * Regexes of the date time strings with - separated dates, e.g. yyyy-M-d H:m:s <br>
+     * 以 - 分隔日期的时间串，如：yyyy-M-d H:m:s
+     *
+     * @since 0.7.0
+     */
+    public static final class DashPatterns {
+        public static final Pattern MdD             = Pattern.compile("\\d{1,2}-\\d{1,2}");                                                           // M-d
+        public static final Pattern MdDH            = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}");                                                 // M-d H
+        public static final Pattern YdM             = Pattern.compile("\\d{3,4}-\\d{1,2}");                                                          // yyyy-M
+        public static final Pattern MdDHcM          = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}");                                        // M-d H:m
+        public static final Pattern YdMdD           = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}");                                                // yyyy-M-d
+        public static final Pattern MdDHcMcS        = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                              // M-d H:m:s
+        public static final Pattern YdMdDH          = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}");                                      // yyyy-M-d H
+        public static final Pattern MdDHcMcSS       = Pattern.compile("\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                 // M-d H:m:s.S
+        public static final Pattern YdMdDHcM        = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}");                            // yyyy-M-d H:m
+        public static final Pattern YdMdDHcMcS      = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy-M-d H:m:s
+        public static final Pattern YdMdDHcMcSS     = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy-M-d H:m:s.S
+        public static final Pattern YdMdDTHcMcS     = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy-M-dTH:m:s
+        public static final Pattern YdMdDTHcMcSS    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy-M-dTH:m:s.S
+        public static final Pattern YdMdDTHcMcSZ    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}Z");                  // yyyy-M-dTH:m:s
+        public static final Pattern YdMdDTHcMcSSZ   = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}Z");       // yyyy-M-dTH:m:s.S
+        public static final Pattern YdMdDHcMcSZo    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.+ .\\d{2}:\\d{2}]");                  // yyyy-M-d H:m:s [VV xxx]
+        public static final Pattern YdMdDHcMcSSZo   = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.+ .\\d{2}:\\d{2}]");       // yyyy-M-d H:m:s.S
+        public static final Pattern YdMdDHcMcSOs    = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.\\d{2}:\\d{2}]");                  // yyyy-M-d H:m:s
+        public static final Pattern YdMdDHcMcSSOs   = Pattern.compile("\\d{3,4}-\\d{1,2}-\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.\\d{2}:\\d{2}]");       // yyyy-M-d H:m:s.S
+
+        private DashPatterns() {
+        }
+    }
+
+    /**
+     * Regexes of the date time strings with / separated dates, e.g. yyyy/M/d H:m:s <br>
+     * 以 / 分隔日期的时间串，如：yyyy/M/d H:m:s
+     *
+     * @since 0.7.0
+     */
+    public static final class SlashPatterns {
+        public static final Pattern MsD             = Pattern.compile("\\d{1,2}/\\d{1,2}");                                                           // M/d
+        public static final Pattern MsDH            = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}");                                                 // M/d H
+        public static final Pattern YsM             = Pattern.compile("\\d{3,4}/\\d{1,2}");                                                          // yyyy/M
+        public static final Pattern MsDHcM          = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}");                                        // M/d H:m
+        public static final Pattern YsMsD           = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}");                                                // yyyy/M/d
+        public static final Pattern MsDHcMcS        = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                              // M/d H:m:s
+        public static final Pattern YsMsDH          = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}");                                      // yyyy/M/d H
+        public static final Pattern MsDHcMcSS       = Pattern.compile("\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                 // M/d H:m:s.S
+        public static final Pattern YsMsDHcM        = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}");                            // yyyy/M/d H:m
+        public static final Pattern YsMsDHcMcS      = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy/M/d H:m:s
+        public static final Pattern YsMsDHcMcSS     = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy/M/d H:m:s.S
+        public static final Pattern YsMsDTHcMcS     = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}");                  // yyyy/M/dTH:m:s
+        public static final Pattern YsMsDTHcMcSS    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");       // yyyy/M/dTH:m:s.S
+        public static final Pattern YsMsDTHcMcSZ    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}Z");                  // yyyy/M/dTH:m:s
+        public static final Pattern YsMsDTHcMcSSZ   = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}Z");       // yyyy/M/dTH:m:s.S
+        public static final Pattern YsMsDHcMcSZo    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.+ .\\d{2}:\\d{2}]");                  // yyyy/M/d H:m:s
+        public static final Pattern YsMsDHcMcSSZo   = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.+ .\\d{2}:\\d{2}]");       // yyyy/M/d H:m:s.S
+        public static final Pattern YsMsDHcMcSOs    = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.\\d{2}:\\d{2}]");                  // yyyy/M/d H:m:s
+        public static final Pattern YsMsDHcMcSSOs   = Pattern.compile("\\d{3,4}/\\d{1,2}/\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.\\d{2}:\\d{2}]");       // yyyy/M/d H:m:s.S
+
+        private SlashPatterns() {
+        }
+    }
+
+    /**
+     * Regexes of the date time strings with . separated dates, e.g. yyyy.M.d H:m:s <br>
+     * 以 . 分隔日期的时间串，如：yyyy.M.d H:m:s
+     *
+     * @since 0.7.0
+     */
+    public static final class DotPatterns {
+        public static final Pattern MoD             = Pattern.compile("\\d{1,2}\\.\\d{1,2}");                                                         // M.d
+        public static final Pattern MoDH            = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}");                                               // M.d H
+        public static final Pattern YoM             = Pattern.compile("\\d{3,4}\\.\\d{1,2}");                                                        // yyyy.M
+        public static final Pattern MoDHcM          = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}");                                      // M.d H:m
+        public static final Pattern YoMoD           = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}");                                            // yyyy.M.d
+        public static final Pattern MoDHcMcS        = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");                            // M.d H:m:s
+        public static final Pattern YoMoDH          = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}");                                  // yyyy.M.d H
+        public static final Pattern MoDHcMcSS       = Pattern.compile("\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");               // M.d H:m:s.S
+        public static final Pattern YoMoDHcM        = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}");                        // yyyy.M.d H:m
+        public static final Pattern YoMoDHcMcS      = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}");              // yyyy.M.d H:m:s
+        public static final Pattern YoMoDHcMcSS     = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");   // yyyy.M.d H:m:s.S
+        public static final Pattern YoMoDTHcMcS     = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}");              // yyyy.M.dTH:m:s
+        public static final Pattern YoMoDTHcMcSS    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");   // yyyy.M.dTH:m:s.S
+        public static final Pattern YoMoDTHcMcSZ    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}Z");              // yyyy.M.dTH:m:s
+        public static final Pattern YoMoDTHcMcSSZ   = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2}T\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}Z");   // yyyy.M.dTH:m:s.S
+        public static final Pattern YoMoDHcMcSZo    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.+ .\\d{2}:\\d{2}]");              // yyyy.M.d H:m:s
+        public static final Pattern YoMoDHcMcSSZo   = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.+ .\\d{2}:\\d{2}]");   // yyyy.M.d H:m:s.S
+        public static final Pattern YoMoDHcMcSOs    = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2} \\[.\\d{2}:\\d{2}]");              // yyyy.M.d H:m:s
+        public static final Pattern YoMoDHcMcSSOs   = Pattern.compile("\\d{3,4}\\.\\d{1,2}\\.\\d{1,2} \\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3} \\[.\\d{2}:\\d{2}]");   // yyyy.M.d H:m:s.S
+
+        private DotPatterns() {
+        }
+    }
+
+    /**
+     * Regexes of the time-only strings, e.g. H:m:s.S <br>
+     * 只有时间的时间串，如：H:m:s.S
+     *
+     * @since 0.7.0
+     */
+    public static final class TimePatterns {
+        public static final Pattern HcM             = Pattern.compile("\\d{1,2}:\\d{1,2}");                                                           // H:m
+        public static final Pattern McSS            = Pattern.compile("\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                                               // m:s.S
+        public static final Pattern HcMcS           = Pattern.compile("\\d{1,2}:\\d{1,2}:\\d{1,2}");                                                 // H:m:s
+        public static final Pattern HcMcSS          = Pattern.compile("\\d{1,2}:\\d{1,2}:\\d{1,2}\\.\\d{1,3}");                                      // H:m:s.S
+
+        private TimePatterns() {
+        }
+    }
+
+    /**
+     * Regexes of the Chinese date time strings, e.g. yyyy年M月d日H时m分s秒 <br>
+     * 中文的时间串，如：yyyy年M月d日H时m分s秒
+     *
+     * @since 0.7.0
+     */
+    public static final class ZhPatterns {
+        public static final Pattern Yz              = Pattern.compile("\\d{3,4}年");                                                                  // yyyy年
+        public static final Pattern MzDz            = Pattern.compile("\\d{1,2}月\\d{1,2}日");                                                        // M月d日
+        public static final Pattern MzSz            = Pattern.compile("\\d{1,2}分\\d{1,2}秒");                                                        // m分s秒
+        public static final Pattern HzMz            = Pattern.compile("\\d{1,2}时\\d{1,2}分");                                                        // H时m分
+        public static final Pattern HoMz            = Pattern.compile("\\d{1,2}点\\d{1,2}分");                                                        // H点m分
+        public static final Pattern HzMzSz          = Pattern.compile("\\d{1,2}时\\d{1,2}分\\d{1,2}秒");                                              // H时m分s秒
+        public static final Pattern HoMzSz          = Pattern.compile("\\d{1,2}点\\d{1,2}分\\d{1,2}秒");                                              // H点m分s秒
+        public static final Pattern MzDzHz          = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时");                                              // M月d日H时
+        public static final Pattern MzDzHo          = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点");                                              // M月d日H点
+        public static final Pattern YzMz            = Pattern.compile("\\d{3,4}年\\d{1,2}月");                                                        // yyyy年M月
+        public static final Pattern MzSzSz          = Pattern.compile("\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");                                            // m分s秒S毫秒
+        public static final Pattern MzDzHzMz        = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分");                                   // M月d日H时m分
+        public static final Pattern MzDzHoMz        = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分");                                   // M月d日H点m分
+        public static final Pattern YzMzDz          = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日");                                             // yyyy年M月d日
+        public static final Pattern HzMzSzSz        = Pattern.compile("\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");                                 // H时m分s秒S毫秒
+        public static final Pattern HoMzSzSz        = Pattern.compile("\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");                                 // H点m分s秒S毫秒
+        public static final Pattern MzDzHzMzSz      = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒");                        // M月d日H时m分s秒
+        public static final Pattern MzDzHoMzSz      = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒");                        // M月d日H点m分s秒
+        public static final Pattern YzMzDzHz        = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时");                                 // yyyy年M月d日H时
+        public static final Pattern YzMzDzHo        = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点");                                 // yyyy年M月d日H点
+        public static final Pattern MzDzHzMzSzSz    = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");            // M月d日H时m分s秒S毫秒
+        public static final Pattern MzDzHoMzSzSz    = Pattern.compile("\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");            // M月d日H点m分s秒S毫秒
+        public static final Pattern YzMzDzHzMz      = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分");                       // yyyy年M月d日H时m分
+        public static final Pattern YzMzDzHoMz      = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分");                       // yyyy年M月d日H点m分
+        public static final Pattern YzMzDzHzMzSz    = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒");             // yyyy年M月d日H时m分s秒
+        public static final Pattern YzMzDzHoMzSz    = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒");             // yyyy年M月d日H点m分s秒
+        public static final Pattern YzMzDzHzMzSzSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");  // yyyy年M月d日H时m分s秒S毫秒
+        public static final Pattern YzMzDzHoMzSzSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{1,3}毫秒");  // yyyy年M月d日H点m分s秒S毫秒
+        public static final Pattern HzMzSzSSSz        = Pattern.compile("\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");                                 // H时m分s秒S毫秒
+        public static final Pattern HoMzSzSSSz        = Pattern.compile("\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");                                 // H点m分s秒S毫秒
+        public static final Pattern YzMzDzHzMzSzSSSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}时\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");  // yyyy年M月d日H时m分s秒S毫秒
+        public static final Pattern YzMzDzHoMzSzSSSz  = Pattern.compile("\\d{3,4}年\\d{1,2}月\\d{1,2}日\\d{1,2}点\\d{1,2}分\\d{1,2}秒\\d{3}毫秒");  // yyyy年M月d日H点m分s秒S毫秒
+
+        private ZhPatterns() {
+        }
+    }
+
+    /**
+     * DateTimeFormatter for Year / Year, Month / Year, Month, Day
+     *
+     * @since 0.7.0
+     */
+    public static final class DateDTFs {
+        public static final DateTimeFormatter DTF_Y = buildDTF(FM_DTF_Y);
+        public static final DateTimeFormatter DTF_Y_ZH = buildDTF(FM_DTF_Yz);
+        public static final DateTimeFormatter DTF_YM = buildDTF(FM_YM);
+        public static final DateTimeFormatter DTF_YM_DASH = buildDTF(FM_DTF_YdM);
+        public static final DateTimeFormatter DTF_YM_SLASH = buildDTF(FM_DTF_YsM);
+        public static final DateTimeFormatter DTF_YM_DOT = buildDTF(FM_DTF_YoM);
+        public static final DateTimeFormatter DTF_YM_ZH = buildDTF(FM_DTF_YzMz);
+        public static final DateTimeFormatter DTF_YMD = buildDTF(FM_YMD);
+        public static final DateTimeFormatter DTF_YMD_DASH = buildDTF(FM_DTF_YdMdD);
+        public static final DateTimeFormatter DTF_YMD_SLASH = buildDTF(FM_DTF_YsMsD);
+        public static final DateTimeFormatter DTF_YMD_DOT = buildDTF(FM_DTF_YoMoD);
+        public static final DateTimeFormatter DTF_YMD_ZH = buildDTF(FM_DTF_YzMzDz);
+
+        private DateDTFs() {
+        }
+    }
+
+    /**
+     * DateTimeFormatter for Year, Month, Day, Hour (, Minute, Second, Milli)
+     *
+     * @since 0.7.0
+     */
+    public static final class DateTimeDTFs {
+        public static final DateTimeFormatter DTF_YMDH = buildDTF(FM_YMDH);
+        public static final DateTimeFormatter DTF_YMDH_DASH = buildDTF(FM_DTF_YdMdDH);
+        public static final DateTimeFormatter DTF_YMDH_SLASH = buildDTF(FM_DTF_YsMsDH);
+        public static final DateTimeFormatter DTF_YMDH_DOT = buildDTF(FM_DTF_YoMoDH);
+        public static final DateTimeFormatter DTF_YMDH_ZHS = buildDTF(FM_DTF_YzMzDzHz);
+        public static final DateTimeFormatter DTF_YMDH_ZHD = buildDTF(FM_DTF_YzMzDzHo);
+        public static final DateTimeFormatter DTF_YMDHM = buildDTF(FM_YMDHM);
+        public static final DateTimeFormatter DTF_YMDHM_DASH = buildDTF(FM_DTF_YdMdDHcM);
+        public static final DateTimeFormatter DTF_YMDHM_SLASH = buildDTF(FM_DTF_YsMsDHcM);
+        public static final DateTimeFormatter DTF_YMDHM_DOT = buildDTF(FM_DTF_YoMoDHcM);
+        public static final DateTimeFormatter DTF_YMDHM_ZHS = buildDTF(FM_DTF_YzMzDzHzMz);
+        public static final DateTimeFormatter DTF_YMDHM_ZHD = buildDTF(FM_DTF_YzMzDzHoMz);
+        public static final DateTimeFormatter DTF_YMDHMS = buildDTF(FM_YMDHMS);
+        public static final DateTimeFormatter DTF_YMDHMS_DASH = buildDTF(FM_DTF_YdMdDHcMcS);
+        public static final DateTimeFormatter DTF_YMDHMS_SLASH = buildDTF(FM_DTF_YsMsDHcMcS);
+        public static final DateTimeFormatter DTF_YMDHMS_DOT = buildDTF(FM_DTF_YoMoDHcMcS);
+        public static final DateTimeFormatter DTF_YMDHMS_ZHS = buildDTF(FM_DTF_YzMzDzHzMzSz);
+        public static final DateTimeFormatter DTF_YMDHMS_ZHD = buildDTF(FM_DTF_YzMzDzHoMzSz);
+        public static final DateTimeFormatter DTF_YMDHMS_T = buildDTF(FM_YMDTHMS);
+        public static final DateTimeFormatter DTF_YMDHMS_DASH_T = buildDTF(FM_DTF_YdMdDTHcMcS);
+        public static final DateTimeFormatter DTF_YMDHMS_SLASH_T = buildDTF(FM_DTF_YsMsDTHcMcS);
+        public static final DateTimeFormatter DTF_YMDHMS_DOT_T = buildDTF(FM_DTF_YoMoDTHcMcS);
+        public static final DateTimeFormatter DTF_YMDHMSS = buildDTF(FM_YMDHMSS);
+        public static final DateTimeFormatter DTF_YMDHMSS_DASH = buildDTF(FM_DTF_YdMdDHcMcSS);
+        public static final DateTimeFormatter DTF_YMDHMSS_SLASH = buildDTF(FM_DTF_YsMsDHcMcSS);
+        public static final DateTimeFormatter DTF_YMDHMSS_DOT = buildDTF(FM_DTF_YoMoDHcMcSS);
+        public static final DateTimeFormatter DTF_YMDHMSS_ZHS = buildDTF(FM_DTF_YzMzDzHzMzSzSz);
+        public static final DateTimeFormatter DTF_YMDHMSS_ZHD = buildDTF(FM_DTF_YzMzDzHoMzSzSz);
+        public static final DateTimeFormatter DTF_YMDHMSS_T = buildDTF(FM_YMDTHMSS);
+        public static final DateTimeFormatter DTF_YMDHMSS_DASH_T = buildDTF(FM_DTF_YdMdDTHcMcSS);
+        public static final DateTimeFormatter DTF_YMDHMSS_SLASH_T = buildDTF(FM_DTF_YsMsDTHcMcSS);
+        public static final DateTimeFormatter DTF_YMDHMSS_DOT_T = buildDTF(FM_DTF_YoMoDTHcMcSS);
+
+        private DateTimeDTFs() {
+        }
+    }
+
+    /**
+     * DateTimeFormatter for Hour, Minute (, Second, Milli) / Minute, Second (, Milli)
+     *
+     * @since 0.7.0
+     */
+    public static final class TimeDTFs {
+        public static final DateTimeFormatter DTF_HM = buildDTF(FM_DTF_HcM);
+        public static final DateTimeFormatter DTF_HM_ZHS = buildDTF(FM_DTF_HzMz);
+        public static final DateTimeFormatter DTF_HM_ZHD = buildDTF(FM_DTF_HoMz);
+        public static final DateTimeFormatter DTF_HMS = buildDTF(FM_DTF_HcMcS);
+        public static final DateTimeFormatter DTF_HMS_ZHS = buildDTF(FM_DTF_HzMzSz);
+        public static final DateTimeFormatter DTF_HMS_ZHD = buildDTF(FM_DTF_HoMzSz);
+        public static final DateTimeFormatter DTF_HMSS = buildDTF(FM_DTF_HcMcSS);
+        public static final DateTimeFormatter DTF_HMSS_ZHS = buildDTF(FM_DTF_HzMzSzSz);
+        public static final DateTimeFormatter DTF_HMSS_ZHD = buildDTF(FM_DTF_HoMzSzSz);
+        public static final DateTimeFormatter DTF_MS_ZHD = buildDTF(FM_DTF_MzSz);
+        public static final DateTimeFormatter DTF_MSS_ZHD = buildDTF(FM_DTF_MzSzSz);
+
+        private TimeDTFs() {
+        }
+    }
+
+    /**
+     * DateTimeFormatter with zone or zone offset
+     *
+     * @since 0.7.0
+     */
+    public static final class ZonedDTFs {
+        public static final DateTimeFormatter DTF_YMDHMS_DASH_TZ = buildDTF(FM_DTF_YdMdDTHcMcSZ);
+        public static final DateTimeFormatter DTF_YMDHMS_SLASH_TZ = buildDTF(FM_DTF_YsMsDTHcMcSZ);
+        public static final DateTimeFormatter DTF_YMDHMS_DOT_TZ = buildDTF(FM_DTF_YoMoDTHcMcSZ);
+        public static final DateTimeFormatter DTF_YMDHMSS_DASH_TZ = buildDTF(FM_DTF_YdMdDTHcMcSSZ);
+        public static final DateTimeFormatter DTF_YMDHMSS_SLASH_TZ = buildDTF(FM_DTF_YsMsDTHcMcSSZ);
+        public static final DateTimeFormatter DTF_YMDHMSS_DOT_TZ = buildDTF(FM_DTF_YoMoDTHcMcSSZ);
+        public static final DateTimeFormatter DTF_YMDHMS_DASH_ZO = buildDTF(FM_DTF_YdMdDHcMcSZo);
+        public static final DateTimeFormatter DTF_YMDHMS_SLASH_ZO = buildDTF(FM_DTF_YsMsDHcMcSZo);
+        public static final DateTimeFormatter DTF_YMDHMS_DOT_ZO = buildDTF(FM_DTF_YoMoDHcMcSZo);
+        public static final DateTimeFormatter DTF_YMDHMSS_DASH_ZO = buildDTF(FM_DTF_YdMdDHcMcSSZo);
+        public static final DateTimeFormatter DTF_YMDHMSS_SLASH_ZO = buildDTF(FM_DTF_YsMsDHcMcSSZo);
+        public static final DateTimeFormatter DTF_YMDHMSS_DOT_ZO = buildDTF(FM_DTF_YoMoDHcMcSSZo);
+        public static final DateTimeFormatter DTF_YMDHMS_DASH_OS = buildDTF(FM_DTF_YdMdDHcMcSOs);
+        public static final DateTimeFormatter DTF_YMDHMS_SLASH_OS = buildDTF(FM_DTF_YsMsDHcMcSOs);
+        public static final DateTimeFormatter DTF_YMDHMS_DOT_OS = buildDTF(FM_DTF_YoMoDHcMcSOs);
+        public static final DateTimeFormatter DTF_YMDHMSS_DASH_OS = buildDTF(FM_DTF_YdMdDHcMcSSOs);
+        public static final DateTimeFormatter DTF_YMDHMSS_SLASH_OS = buildDTF(FM_DTF_YsMsDHcMcSSOs);
+        public static final DateTimeFormatter DTF_YMDHMSS_DOT_OS = buildDTF(FM_DTF_YoMoDHcMcSSOs);
+
+        private ZonedDTFs() {
+        }
+    }
+
 }
@@ -794,7 +794,7 @@ public final class DateTimes {
      */
     public static String dtDetail(Temporal temporal) {
         if (temporal == null) return "null";
-        if (temporal instanceof LocalDate) return ((LocalDate) temporal).format(DateTimeFormatter.ofPattern("yyyy-MM-dd '['E']'"));
+        if (temporal instanceof LocalDate) return ((LocalDate) temporal).format(DTFCache.ofPattern("yyyy-MM-dd '['E']'"));
         if (temporal instanceof LocalDateTime) return ((LocalDateTime) temporal).format(DTF_NS_WEEK);
 
         ZonedDateTime zonedDT = temporalToZonedDT(temporal);
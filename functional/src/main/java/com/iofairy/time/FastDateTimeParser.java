@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.time;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+
+/**
+ * Hand-written, regex-free parser of the date time strings recognized by {@link DateTimePattern#forDTF(String)}.
+ * The text is scanned only once and the fields are passed to {@link LocalDateTime} directly,
+ * no regex matching, no {@link java.time.format.DateTimeFormatter} and no {@link java.time.temporal.TemporalAccessor} is involved. <br>
+ * 手写的、无正则的时间串解析器，支持 {@link DateTimePattern#forDTF(String)} 能识别的时间串。
+ * 只扫描一遍字符串，直接将解析出的字段传给 {@link LocalDateTime}，不使用正则、{@link java.time.format.DateTimeFormatter}
+ * 及 {@link java.time.temporal.TemporalAccessor}。<br>
+ * <b>Supported formats (支持的格式):</b>
+ * <ul>
+ *     <li>{@code yyy, yyyy, yyyyMM, yyyyMMdd, yyyyMMddHH, yyyyMMddHHmm, yyyyMMddHHmmss, yyyyMMddHHmmssSSS}
+ *     <li>{@code yyyyMMdd'T'HHmmss, yyyyMMdd'T'HHmmssSSS}
+ *     <li>{@code y-M, y-M-d, y-M-d H:m, y-M-d H:m:s, y-M-d H:m:s.S} (separator: {@code - / .})
+ *     <li>{@code y-M-d H} (separator: {@code - /})
+ *     <li>{@code y-M-d'T'H:m:s, y-M-d'T'H:m:s.S}, with or without the trailing {@code Z} (separator: {@code - / .})
+ *     <li>{@code H:m, H:m:s, H:m:s.S}
+ *     <li>{@code y年, y年M月, y年M月d日, y年M月d日H时, y年M月d日H时m分, y年M月d日H时m分s秒, y年M月d日H时m分s秒S毫秒} ({@code 时} or {@code 点})
+ *     <li>{@code H时m分, H时m分s秒, H时m分s秒S毫秒, m分s秒, m分s秒S毫秒} ({@code 时} or {@code 点})
+ * </ul>
+ * The missing fields default to {@code 1970-01-01 00:00:00}, same as {@link DateTimePattern#buildDTF(String)}. <br>
+ * 缺失的字段默认为 {@code 1970-01-01 00:00:00}，与 {@link DateTimePattern#buildDTF(String)} 一致。<br>
+ * <b>NOTE:</b> <br>
+ * Returns {@code null} if the text is not one of the formats above (e.g. the formats with zone {@code [VV xxx]}) or if any field
+ * is out of range (e.g. {@code 2023-02-30}, which is resolved by the {@code SMART} resolver of {@code DateTimeFormatter}),
+ * the caller should fall back to {@link DateTimePattern#forDTF(String)}. <br>
+ * 如果时间串不是以上格式（如带时区 {@code [VV xxx]} 的格式）或字段值超出范围（如 {@code 2023-02-30}，需要 {@code DateTimeFormatter}
+ * 的 {@code SMART} 解析规则处理），则返回 {@code null}，调用方应回退到 {@link DateTimePattern#forDTF(String)}。
+ *
+ * @since 0.7.0
+ */
+public final class FastDateTimeParser {
+    private static final int EPOCH_YEAR = 1970;
+    private static final int NANOS_PER_MILLI = 1000_000;
+
+    private FastDateTimeParser() {
+    }
+
+    /**
+     * Parse the date time string to {@link LocalDateTime}. The text ending with {@code Z} is the local date time in UTC. <br>
+     * 将时间串解析成 {@link LocalDateTime}。以 {@code Z} 结尾的时间串，返回的是 UTC 时区下的本地时间。
+     *
+     * @param text date time string
+     * @return {@link LocalDateTime}, or {@code null} if the text is not recognized
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        if (text == null) return null;
+        int length = text.length();
+        if (length < 3 || length > 25) return null;
+
+        boolean utc = text.charAt(length - 1) == 'Z';
+        int end = utc ? length - 1 : length;
+
+        int n = digits(text, 0, end);
+        if (n == 0) return null;
+        if (n == end) return utc ? null : parseCompact(text, n);
+
+        char c = text.charAt(n);
+        switch (c) {
+            case '-':
+            case '/':
+            case '.':
+                return n < 3 || n > 4 ? null : parseSeparated(text, n, c, end, utc);
+            case 'T':
+                return utc || n != 8 ? null : parseCompactWithT(text, end);
+            case ':':
+                return utc || n > 2 ? null : parseTime(text, n, end);
+            case '年':
+                return utc || n < 3 || n > 4 ? null : parseZhDate(text, n, end);
+            case '时':
+            case '点':
+            case '分':
+                return utc || n > 2 ? null : parseZhTime(text, n, c, end);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Whether the text ends with {@code Z} (UTC). <br>
+     * 时间串是否以 {@code Z}（UTC）结尾
+     *
+     * @param text date time string
+     * @return {@code true} if the text ends with {@code Z}
+     */
+    public static boolean isUTC(CharSequence text) {
+        return text != null && text.length() > 0 && text.charAt(text.length() - 1) == 'Z';
+    }
+
+    /*
+     * yyy, yyyy, yyyyMM, yyyyMMdd, yyyyMMddHH, yyyyMMddHHmm, yyyyMMddHHmmss, yyyyMMddHHmmssSSS
+     */
+    private static LocalDateTime parseCompact(CharSequence text, int length) {
+        if (length == 3 || length == 4) return of(number(text, 0, length), 1, 1, 0, 0, 0, 0);
+        if (length != 6 && length != 8 && length != 10 && length != 12 && length != 14 && length != 17) return null;
+
+        return of(number(text, 0, 4),
+                number(text, 4, 6),
+                length >= 8 ? number(text, 6, 8) : 1,
+                length >= 10 ? number(text, 8, 10) : 0,
+                length >= 12 ? number(text, 10, 12) : 0,
+                length >= 14 ? number(text, 12, 14) : 0,
+                length == 17 ? number(text, 14, 17) * NANOS_PER_MILLI : 0);
+    }
+
+    /*
+     * yyyyMMdd'T'HHmmss, yyyyMMdd'T'HHmmssSSS
+     */
+    private static LocalDateTime parseCompactWithT(CharSequence text, int end) {
+        int timeLength = end - 9;
+        if ((timeLength != 6 && timeLength != 9) || digits(text, 9, end) != timeLength) return null;
+
+        return of(number(text, 0, 4), number(text, 4, 6), number(text, 6, 8),
+                number(text, 9, 11), number(text, 11, 13), number(text, 13, 15),
+                timeLength == 9 ? number(text, 15, 18) * NANOS_PER_MILLI : 0);
+    }
+
+    /*
+     * y-M, y-M-d, y-M-d H (not y.M.d H), y-M-d H:m, y-M-d H:m:s, y-M-d H:m:s.S, y-M-d'T'H:m:s, y-M-d'T'H:m:s.S, y-M-d'T'H:m:s[.S]Z
+     */
+    private static LocalDateTime parseSeparated(CharSequence text, int yearLength, char separator, int end, boolean utc) {
+        int year = number(text, 0, yearLength);
+        int pos = yearLength + 1;
+
+        int n = field(text, pos, end);
+        if (n == 0) return null;
+        int month = number(text, pos, pos += n);
+        if (pos == end) return utc ? null : of(year, month, 1, 0, 0, 0, 0);
+        if (text.charAt(pos++) != separator) return null;
+
+        n = field(text, pos, end);
+        if (n == 0) return null;
+        int day = number(text, pos, pos += n);
+        if (pos == end) return utc ? null : of(year, month, day, 0, 0, 0, 0);
+
+        char c = text.charAt(pos++);
+        boolean withT = c == 'T';
+        if (!withT && (c != ' ' || utc)) return null;
+
+        n = field(text, pos, end);
+        if (n == 0) return null;
+        int hour = number(text, pos, pos += n);
+        // forDTF has no `y.M.d H` pattern
+        if (pos == end) return withT || separator == '.' ? null : of(year, month, day, hour, 0, 0, 0);
+        if (text.charAt(pos++) != ':') return null;
+
+        n = field(text, pos, end);
+        if (n == 0) return null;
+        int minute = number(text, pos, pos += n);
+        if (pos == end) return withT ? null : of(year, month, day, hour, minute, 0, 0);
+        if (text.charAt(pos++) != ':') return null;
+
+        n = field(text, pos, end);
+        if (n == 0) return null;
+        int second = number(text, pos, pos += n);
+        if (pos == end) return of(year, month, day, hour, minute, second, 0);
+
+        int nano = fraction(text, pos, end);
+        return nano < 0 ? null : of(year, month, day, hour, minute, second, nano);
+    }
+
+    /*
+     * H:m, H:m:s, H:m:s.S
+     */
+    private static LocalDateTime parseTime(CharSequence text, int hourLength, int end) {
+        int hour = number(text, 0, hourLength);
+        int pos = hourLength + 1;
+
+        int n = field(text, pos, end);
+        if (n == 0) return null;
+        int minute = number(text, pos, pos += n);
+        if (pos == end) return of(EPOCH_YEAR, 1, 1, hour, minute, 0, 0);
+        if (text.charAt(pos++) != ':') return null;
+
+        n = field(text, pos, end);
+        if (n == 0) return null;
+        int second = number(text, pos, pos += n);
+        if (pos == end) return of(EPOCH_YEAR, 1, 1, hour, minute, second, 0);
+
+        int nano = fraction(text, pos, end);
+        return nano < 0 ? null : of(EPOCH_YEAR, 1, 1, hour, minute, second, nano);
+    }
+
+    /*
+     * y年, y年M月, y年M月d日, y年M月d日H时, y年M月d日H时m分, y年M月d日H时m分s秒, y年M月d日H时m分s秒S毫秒
+     */
+    private static LocalDateTime parseZhDate(CharSequence text, int yearLength, int end) {
+        int year = number(text, 0, yearLength);
+        int pos = yearLength + 1;
+        if (pos == end) return of(year, 1, 1, 0, 0, 0, 0);
+
+        int n = zhField(text, pos, end, '月', '月');
+        if (n == 0) return null;
+        int month = number(text, pos, pos + n);
+        pos += n + 1;
+        if (pos == end) return of(year, month, 1, 0, 0, 0, 0);
+
+        n = zhField(text, pos, end, '日', '日');
+        if (n == 0) return null;
+        int day = number(text, pos, pos + n);
+        pos += n + 1;
+        if (pos == end) return of(year, month, day, 0, 0, 0, 0);
+
+        n = zhField(text, pos, end, '时', '点');
+        if (n == 0) return null;
+        int hour = number(text, pos, pos + n);
+        pos += n + 1;
+        if (pos == end) return of(year, month, day, hour, 0, 0, 0);
+
+        n = zhField(text, pos, end, '分', '分');
+        if (n == 0) return null;
+        int minute = number(text, pos, pos + n);
+        pos += n + 1;
+        if (pos == end) return of(year, month, day, hour, minute, 0, 0);
+
+        n = zhField(text, pos, end, '秒', '秒');
+        if (n == 0) return null;
+        int second = number(text, pos, pos + n);
+        pos += n + 1;
+        if (pos == end) return of(year, month, day, hour, minute, second, 0);
+
+        int nano = zhMillis(text, pos, end);
+        return nano < 0 ? null : of(year, month, day, hour, minute, second, nano);
+    }
+
+    /*
+     * H时m分, H时m分s秒, H时m分s秒S毫秒, m分s秒, m分s秒S毫秒
+     */
+    private static LocalDateTime parseZhTime(CharSequence text, int firstLength, char unit, int end) {
+        int first = number(text, 0, firstLength);
+        int pos = firstLength + 1;
+
+        int hour = 0;
+        int minute = first;
+        if (unit != '分') {
+            int n = zhField(text, pos, end, '分', '分');
+            if (n == 0) return null;
+            hour = first;
+            minute = number(text, pos, pos + n);
+            pos += n + 1;
+            if (pos == end) return of(EPOCH_YEAR, 1, 1, hour, minute, 0, 0);
+        }
+
+        int n = zhField(text, pos, end, '秒', '秒');
+        if (n == 0) return null;
+        int second = number(text, pos, pos + n);
+        pos += n + 1;
+        if (pos == end) return of(EPOCH_YEAR, 1, 1, hour, minute, second, 0);
+
+        int nano = zhMillis(text, pos, end);
+        return nano < 0 ? null : of(EPOCH_YEAR, 1, 1, hour, minute, second, nano);
+    }
+
+    /**
+     * Validate the fields, so the out of range fields can be handled by {@code DateTimeFormatter}. <br>
+     * 校验字段值，超出范围的交给 {@code DateTimeFormatter} 处理
+     */
+    static LocalDateTime of(int year, int month, int day, int hour, int minute, int second, int nano) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || hour > 23 || minute > 59 || second > 59) return null;
+        if (day > 28 && day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) return null;
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * Number of consecutive ASCII digits from {@code from}. <br>
+     * 从 {@code from} 开始连续的ASCII数字的个数
+     */
+    private static int digits(CharSequence text, int from, int end) {
+        int i = from;
+        while (i < end && isDigit(text.charAt(i))) i++;
+        return i - from;
+    }
+
+    /**
+     * Length of the 1 or 2 digits field, {@code 0} if it is not. <br>
+     * 1位或2位数字字段的长度，不是则返回 {@code 0}
+     */
+    private static int field(CharSequence text, int pos, int end) {
+        int n = digits(text, pos, end);
+        return n > 2 ? 0 : n;
+    }
+
+    /**
+     * Length of the 1 or 2 digits field that followed by {@code unit1} or {@code unit2}, {@code 0} if it is not. <br>
+     * 后面紧跟 {@code unit1} 或 {@code unit2} 的1位或2位数字字段的长度，不是则返回 {@code 0}
+     */
+    private static int zhField(CharSequence text, int pos, int end, char unit1, char unit2) {
+        int n = field(text, pos, end);
+        if (n == 0 || pos + n >= end) return 0;
+        char unit = text.charAt(pos + n);
+        return unit == unit1 || unit == unit2 ? n : 0;
+    }
+
+    /**
+     * Parse {@code .S}, {@code .SS} or {@code .SSS} that ends at {@code end} to nanos, {@code -1} if it is not. <br>
+     * 将以 {@code end} 结尾的 {@code .S}、{@code .SS} 或 {@code .SSS} 解析成纳秒，不是则返回 {@code -1}
+     */
+    private static int fraction(CharSequence text, int pos, int end) {
+        if (text.charAt(pos++) != '.') return -1;
+        int n = end - pos;
+        if (n < 1 || n > 3 || digits(text, pos, end) != n) return -1;
+        int millis = number(text, pos, end);
+        return (n == 1 ? millis * 100 : n == 2 ? millis * 10 : millis) * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Parse {@code S毫秒} (1 to 3 digits) that ends at {@code end} to nanos, {@code -1} if it is not. <br>
+     * 将以 {@code end} 结尾的 {@code S毫秒}（1到3位数字）解析成纳秒，不是则返回 {@code -1}
+     */
+    private static int zhMillis(CharSequence text, int pos, int end) {
+        int n = end - pos - 2;
+        if (n < 1 || n > 3 || digits(text, pos, end) != n) return -1;
+        if (text.charAt(end - 2) != '毫' || text.charAt(end - 1) != '秒') return -1;
+        return number(text, pos, pos + n) * NANOS_PER_MILLI;
+    }
+
+    static int number(CharSequence text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+}
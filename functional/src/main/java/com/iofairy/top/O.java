@@ -210,7 +210,7 @@ public final class O {
      * @param rs  list of elements to check
      * @param <R> return type
      * @return first not <b>empty</b> CharSequence
-     * @since 0.6.1
+     * @since 0.7.0
      */
     @SafeVarargs
     public static <R extends CharSequence> R firstNonEmpty(R... rs) {
@@ -228,7 +228,7 @@ public final class O {
      * @param rs  list of elements to check
      * @param <R> return type
      * @return first not <b>empty</b> CharSequence and index {@code (CharSequence, index)}
-     * @since 0.6.1
+     * @since 0.7.0
      */
     @SafeVarargs
     public static <R extends CharSequence> Tuple2<R, Integer> firstNonEmptyWithIndex(R... rs) {
@@ -247,7 +247,7 @@ public final class O {
      * @param rs  list of elements to check
      * @param <R> return type
      * @return first not <b>blank</b> CharSequence
-     * @since 0.6.1
+     * @since 0.7.0
      */
     @SafeVarargs
     public static <R extends CharSequence> R firstNonBlank(R... rs) {
@@ -265,7 +265,7 @@ public final class O {
      * @param rs  list of elements to check
      * @param <R> return type
      * @return first not <b>blank</b> CharSequence and index {@code (CharSequence, index)}
-     * @since 0.6.1
+     * @since 0.7.0
      */
     @SafeVarargs
     public static <R extends CharSequence> Tuple2<R, Integer> firstNonBlankWithIndex(R... rs) {
@@ -285,7 +285,7 @@ public final class O {
      * @param rs        The array to search through
      * @param <R>       The type of elements in the array
      * @return The first matching element
-     * @since 0.6.1
+     * @since 0.7.0
      */
     @SafeVarargs
     public static <R> R firstMatch(P1<? super R> condition, R... rs) {
@@ -304,7 +304,7 @@ public final class O {
      * @param rs        The array to search through
      * @param <R>       The type of elements in the array
      * @return The first matching element and index {@code (element, index)}
-     * @since 0.6.1
+     * @since 0.7.0
      */
     @SafeVarargs
     public static <R> Tuple2<R, Integer> firstMatchWithIndex(P1<? super R> condition, R... rs) {
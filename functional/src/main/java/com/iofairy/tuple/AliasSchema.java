@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import com.iofairy.except.AliasDuplicateException;
+import com.iofairy.top.G;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable aliases of a tuple. Tuples with the same aliases share one interned instance,
+ * and a tuple without aliases has no instance at all. <br>
+ * 元组的不可变别名信息。别名相同的元组共享同一个缓存的实例，未设置别名的元组不持有该实例。
+ *
+ * @since 0.7.0
+ */
+final class AliasSchema implements Serializable {
+
+    private static final long serialVersionUID = 10065917091L;
+
+    /**
+     * Maximum number of interned schemas of each kind. Beyond it new schemas are not interned,
+     * so aliases built from unbounded input (e.g. CSV headers) can not grow the cache forever. <br>
+     * 每种别名缓存的最大数量，超出后新的别名不再缓存，避免由无限输入（如CSV表头）生成的别名使缓存无限增长。
+     */
+    private static final int MAX_INTERNED = 1024;
+    private static final Map<Key, AliasSchema> STRING_SCHEMAS = new ConcurrentHashMap<>();
+    private static final Map<Key, AliasSchema> TUPLE_SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * {@code alias((String[]) null)} of {@code Tuple1}
+     */
+    static final AliasSchema NULL_ALIAS = of(new String[]{null});
+    /**
+     * {@code alias((TupleAlias[]) null)} of {@code Tuple1}
+     */
+    static final AliasSchema NULL_TUPLE_ALIAS = of(new TupleAlias[]{null});
+
+    /**
+     * String aliases, for tuple aliases they are the {@code toString()} of each {@link TupleAlias}.　字符串别名列表。
+     */
+    final List<String> aliases;
+    /**
+     * Tuple aliases, empty for string aliases.　TupleAlias别名列表，字符串别名时为空。
+     */
+    final List<TupleAlias> tupleAliases;
+    /**
+     * Map of aliases.　别名与序号键值对
+     */
+    private final Map<String, Integer> aliasIndex;
+
+    private AliasSchema(String[] aliases, TupleAlias[] tupleAliases) {
+        Map<String, Integer> aliasIndex = new HashMap<>();
+        for (int i = 0; i < aliases.length; i++) {
+            if (aliasIndex.put(aliases[i], i) != null) {
+                throw new AliasDuplicateException(G.IS_ZH_LANG ? "别名不能重复！" : "The `aliases` can't repeat. ");
+            }
+        }
+        this.aliases = Collections.unmodifiableList(Arrays.asList(aliases));
+        this.tupleAliases = tupleAliases == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(tupleAliases));
+        this.aliasIndex = aliasIndex;
+    }
+
+    /**
+     * Get the shared schema of string aliases, only the first call with these aliases checks them and creates the schema. <br>
+     * 获取字符串别名共享的别名信息，只有第一次使用这些别名时才会校验别名并创建实例。
+     *
+     * @param aliases aliases, not null
+     * @return AliasSchema
+     * @throws AliasDuplicateException if the aliases repeat
+     */
+    static AliasSchema of(String[] aliases) {
+        AliasSchema schema = STRING_SCHEMAS.get(new Key(aliases));
+        if (schema == null) {
+            String[] localAliases = aliases.clone();
+            schema = intern(STRING_SCHEMAS, new Key(localAliases), new AliasSchema(localAliases, null));
+        }
+        return schema;
+    }
+
+    /**
+     * Get the shared schema of tuple aliases. <br>
+     * 获取 {@link TupleAlias} 别名共享的别名信息。
+     *
+     * @param tupleAliases tuple aliases, not null
+     * @return AliasSchema
+     * @throws AliasDuplicateException if the aliases or their {@code toString()} repeat
+     */
+    static AliasSchema of(TupleAlias[] tupleAliases) {
+        AliasSchema schema = TUPLE_SCHEMAS.get(new Key(tupleAliases));
+        if (schema == null) {
+            TupleAlias[] localTupleAliases = tupleAliases.clone();
+            if (new HashSet<>(Arrays.asList(localTupleAliases)).size() != localTupleAliases.length) {
+                throw new AliasDuplicateException(G.IS_ZH_LANG ? "别名不能重复！" : "The `aliases` can't repeat. ");
+            }
+            String[] aliases = new String[localTupleAliases.length];
+            for (int i = 0; i < aliases.length; i++) {
+                aliases[i] = localTupleAliases[i] == null ? null : localTupleAliases[i].toString();
+            }
+            schema = intern(TUPLE_SCHEMAS, new Key(localTupleAliases), new AliasSchema(aliases, localTupleAliases));
+        }
+        return schema;
+    }
+
+    private static AliasSchema intern(Map<Key, AliasSchema> schemas, Key key, AliasSchema schema) {
+        if (schemas.size() >= MAX_INTERNED) return schema;
+        AliasSchema interned = schemas.putIfAbsent(key, schema);
+        return interned == null ? schema : interned;
+    }
+
+    int size() {
+        return aliases.size();
+    }
+
+    boolean isTupleAlias() {
+        return !tupleAliases.isEmpty();
+    }
+
+    boolean contains(String alias) {
+        return aliasIndex.containsKey(alias);
+    }
+
+    /**
+     * Index of the alias.　别名的序号
+     *
+     * @param alias alias
+     * @return index of the alias, or {@code null} if not found
+     */
+    Integer indexOf(String alias) {
+        return aliasIndex.get(alias);
+    }
+
+    /**
+     * Serialized as {@link Proxy}, which is read back as the interned schema. Java serialization writes a schema
+     * shared by many tuples only once per stream.
+     */
+    private Object writeReplace() {
+        return new Proxy(this);
+    }
+
+    /**
+     * Serialized form of {@link AliasSchema}, only the aliases are written.
+     */
+    private static final class Proxy implements Externalizable {
+        private static final long serialVersionUID = 10065917093L;
+
+        private AliasSchema schema;
+
+        public Proxy() {
+        }
+
+        Proxy(AliasSchema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            new TupleCodec.Writer(out, false).writeSchemaBody(schema);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            schema = new TupleCodec.Reader(in, false).readSchemaBody();
+        }
+
+        private Object readResolve() {
+            return schema;
+        }
+    }
+
+    /**
+     * Key of the interned schemas, compares the aliases without creating iterators like {@link List#equals(Object)}. <br>
+     * 别名缓存的key，比较别名时不像 {@link List#equals(Object)} 那样创建迭代器。
+     */
+    private static final class Key {
+        private final Object[] aliases;
+        private final int hash;
+
+        Key(Object[] aliases) {
+            this.aliases = aliases;
+            this.hash = Arrays.hashCode(aliases);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && hash == ((Key) o).hash && Arrays.equals(aliases, ((Key) o).aliases);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
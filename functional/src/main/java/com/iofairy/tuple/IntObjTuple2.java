@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.util.Objects;
+
+/**
+ * A tuple of an {@code int} stored without boxing and an object, e.g. {@code (index, value)}.
+ * The elements are read from the public fields without boxing, {@link #element(int)} returns boxed values. <br>
+ * 由1个 {@code int} 和1个对象组成的元组，{@code int} 元素不装箱存储，如：{@code (index, value)}。通过公共字段读取元素不会装箱，{@link #element(int)} 返回装箱后的值。
+ *
+ * @param <T> type of the 2nd element.　第2个元素的类型
+ * @since 0.7.0
+ */
+public class IntObjTuple2<T> extends TupleBase {
+    private static final long serialVersionUID = 10065918132L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final int _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final T _2;
+
+    /**
+     * Constructs an {@code IntObjTuple2}.　IntObjTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public IntObjTuple2(int _1, T _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    /**
+     * Create an {@code IntObjTuple2}<br>
+     * 创建IntObjTuple2
+     *
+     * @param _1 the 1st element.　第1个元素
+     * @param _2 the 2nd element.　第2个元素
+     * @param <T> type of the 2nd element.　第2个元素的类型
+     * @return the instance of IntObjTuple2.　返回IntObjTuple2的实例
+     */
+    public static <T> IntObjTuple2<T> of(int _1, T _2) {
+        return new IntObjTuple2<>(_1, _2);
+    }
+
+    /**
+     * Convert a {@link Tuple2} to {@code IntObjTuple2}, the aliases are copied.<br>
+     * 将 {@link Tuple2} 转换为 {@code IntObjTuple2}，别名会一并复制
+     *
+     * @param tuple tuple2
+     * @param <T> type of the 2nd element.　第2个元素的类型
+     * @return the instance of IntObjTuple2.　返回IntObjTuple2的实例
+     * @throws NullPointerException if {@code tuple} or its primitive element is {@code null}
+     */
+    public static <T> IntObjTuple2<T> from(Tuple2<Integer, T> tuple) {
+        return new IntObjTuple2<>(tuple._1, tuple._2).copyAliases(tuple);
+    }
+
+    /**
+     * Convert to a boxed {@link Tuple2}, the aliases are copied.<br>
+     * 转换为装箱的 {@link Tuple2}，别名会一并复制
+     *
+     * @return Tuple2
+     */
+    public Tuple2<Integer, T> toTuple2() {
+        return new Tuple2<Integer, T>(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IntObjTuple2<T> alias(TupleAlias... aliases) {
+        return (IntObjTuple2<T>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IntObjTuple2<T> alias(String... aliases) {
+        return (IntObjTuple2<T>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IntObjTuple2<T> copyAliases(Tuple tuple) {
+        return (IntObjTuple2<T>) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) (Integer) _1;
+            case 1:
+                return (R) _2;
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public IntObjTuple2<T> copy() {
+        return new IntObjTuple2<>(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IntObjTuple2) {
+            IntObjTuple2<?> tuple = (IntObjTuple2<?>) obj;
+            return _1 == tuple._1 && Objects.equals(_2, tuple._2) && aliasesEquals(tuple);
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Same hash code as a {@link Tuple2} of the boxed elements, computed without boxing.<br>
+     * 与元素装箱后的 {@link Tuple2} 哈希值相同，但计算时不装箱
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Integer.hashCode(_1)) + Objects.hashCode(_2);
+    }
+
+}
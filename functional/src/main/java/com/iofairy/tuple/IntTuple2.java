@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A tuple of 2 {@code int} elements stored without boxing, e.g. {@code (x, y)} coordinates.
+ * The elements are read from the public fields without boxing, {@link #element(int)} returns boxed values. <br>
+ * 2个 {@code int} 元素的元组，元素不装箱存储，如：{@code (x, y)} 坐标。通过公共字段读取元素不会装箱，{@link #element(int)} 返回装箱后的值。
+ *
+ * @since 0.7.0
+ */
+public class IntTuple2 extends TupleBase {
+    private static final long serialVersionUID = 10065918102L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final int _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final int _2;
+
+    /**
+     * Constructs an {@code IntTuple2}.　IntTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public IntTuple2(int _1, int _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    /**
+     * Create an {@code IntTuple2}<br>
+     * 创建IntTuple2
+     *
+     * @param _1 the 1st element.　第1个元素
+     * @param _2 the 2nd element.　第2个元素
+     * @return the instance of IntTuple2.　返回IntTuple2的实例
+     */
+    public static IntTuple2 of(int _1, int _2) {
+        return new IntTuple2(_1, _2);
+    }
+
+    /**
+     * Convert a {@link Tuple2} to {@code IntTuple2}, the aliases are copied.<br>
+     * 将 {@link Tuple2} 转换为 {@code IntTuple2}，别名会一并复制
+     *
+     * @param tuple tuple2
+     * @return the instance of IntTuple2.　返回IntTuple2的实例
+     * @throws NullPointerException if {@code tuple} or its primitive element is {@code null}
+     */
+    public static IntTuple2 from(Tuple2<Integer, Integer> tuple) {
+        return new IntTuple2(tuple._1, tuple._2).copyAliases(tuple);
+    }
+
+    /**
+     * Convert to a boxed {@link Tuple2}, the aliases are copied.<br>
+     * 转换为装箱的 {@link Tuple2}，别名会一并复制
+     *
+     * @return Tuple2
+     */
+    public Tuple2<Integer, Integer> toTuple2() {
+        return new Tuple2<Integer, Integer>(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    public IntTuple2 alias(TupleAlias... aliases) {
+        return (IntTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public IntTuple2 alias(String... aliases) {
+        return (IntTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public IntTuple2 copyAliases(Tuple tuple) {
+        return (IntTuple2) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) (Integer) _1;
+            case 1:
+                return (R) (Integer) _2;
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public IntTuple2 copy() {
+        return new IntTuple2(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IntTuple2) {
+            IntTuple2 tuple = (IntTuple2) obj;
+            return _1 == tuple._1 && _2 == tuple._2 && aliasesEquals(tuple);
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Same hash code as a {@link Tuple2} of the boxed elements, computed without boxing.<br>
+     * 与元素装箱后的 {@link Tuple2} 哈希值相同，但计算时不装箱
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Integer.hashCode(_1)) + Integer.hashCode(_2);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A tuple of 2 {@code long} elements stored without boxing, e.g. {@code (id, parentId)}.
+ * The elements are read from the public fields without boxing, {@link #element(int)} returns boxed values. <br>
+ * 2个 {@code long} 元素的元组，元素不装箱存储，如：{@code (id, parentId)}。通过公共字段读取元素不会装箱，{@link #element(int)} 返回装箱后的值。
+ *
+ * @since 0.7.0
+ */
+public class LongTuple2 extends TupleBase {
+    private static final long serialVersionUID = 10065918112L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final long _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final long _2;
+
+    /**
+     * Constructs a {@code LongTuple2}.　LongTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public LongTuple2(long _1, long _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    /**
+     * Create a {@code LongTuple2}<br>
+     * 创建LongTuple2
+     *
+     * @param _1 the 1st element.　第1个元素
+     * @param _2 the 2nd element.　第2个元素
+     * @return the instance of LongTuple2.　返回LongTuple2的实例
+     */
+    public static LongTuple2 of(long _1, long _2) {
+        return new LongTuple2(_1, _2);
+    }
+
+    /**
+     * Convert a {@link Tuple2} to {@code LongTuple2}, the aliases are copied.<br>
+     * 将 {@link Tuple2} 转换为 {@code LongTuple2}，别名会一并复制
+     *
+     * @param tuple tuple2
+     * @return the instance of LongTuple2.　返回LongTuple2的实例
+     * @throws NullPointerException if {@code tuple} or its primitive element is {@code null}
+     */
+    public static LongTuple2 from(Tuple2<Long, Long> tuple) {
+        return new LongTuple2(tuple._1, tuple._2).copyAliases(tuple);
+    }
+
+    /**
+     * Convert to a boxed {@link Tuple2}, the aliases are copied.<br>
+     * 转换为装箱的 {@link Tuple2}，别名会一并复制
+     *
+     * @return Tuple2
+     */
+    public Tuple2<Long, Long> toTuple2() {
+        return new Tuple2<Long, Long>(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    public LongTuple2 alias(TupleAlias... aliases) {
+        return (LongTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public LongTuple2 alias(String... aliases) {
+        return (LongTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public LongTuple2 copyAliases(Tuple tuple) {
+        return (LongTuple2) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) (Long) _1;
+            case 1:
+                return (R) (Long) _2;
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public LongTuple2 copy() {
+        return new LongTuple2(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LongTuple2) {
+            LongTuple2 tuple = (LongTuple2) obj;
+            return _1 == tuple._1 && _2 == tuple._2 && aliasesEquals(tuple);
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Same hash code as a {@link Tuple2} of the boxed elements, computed without boxing.<br>
+     * 与元素装箱后的 {@link Tuple2} 哈希值相同，但计算时不装箱
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Long.hashCode(_1)) + Long.hashCode(_2);
+    }
+
+}
@@ -19,6 +19,7 @@ import com.iofairy.except.*;
 import com.iofairy.si.SI;
 import com.iofairy.top.G;
 
+import java.io.*;
 import java.util.*;
 
 /**
@@ -31,17 +32,20 @@ public abstract class TupleBase implements Tuple {
     private static final long serialVersionUID = 10065917090L;
 
     /**
-     * List of aliases.　普通别名列表。
+     * Aliases of this tuple, {@code null} if no alias is set. Tuples with the same aliases share one {@link AliasSchema}. <br>
+     * 元组的别名，未设置别名时为 {@code null}。别名相同的元组共享同一个 {@link AliasSchema}。
      */
-    private final List<String> aliasList = new ArrayList<>();
-    /**
-     * List of tuple aliases.　TupleAlias别名列表。
-     */
-    private final List<TupleAlias> tupleAliasList = new ArrayList<>();
+    private AliasSchema aliasSchema;
+
     /**
-     * Map of aliases.　别名与序号键值对
+     * {@code aliasSchema}, and the alias lists of the streams written before 0.7.0, which are read back as {@code aliasSchema}. <br>
+     * {@code aliasSchema}，以及0.7.0之前写出的流中的别名列表，读取时转换为 {@code aliasSchema}。
      */
-    private final Map<String, Integer> alias_index = new HashMap<>();
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("aliasSchema", AliasSchema.class),
+            new ObjectStreamField("aliasList", List.class),
+            new ObjectStreamField("tupleAliasList", List.class)
+    };
 
     private final static String MSG_FOR_TUPLE0_UNSUPPORTED =
             G.IS_ZH_LANG ? "Tuple0不支持调用alias方法，因为Tuple0是一个空元组。"
@@ -62,21 +66,13 @@ public abstract class TupleBase implements Tuple {
         clearAlias();
         if (aliases == null) {
             if (arity() == 1) {
-                alias((String[]) null);
-                tupleAliasList.add(null);
+                aliasSchema = AliasSchema.NULL_TUPLE_ALIAS;
                 return this;
             }
             throw new NumberOfAliasesException(G.IS_ZH_LANG ? "参数`aliases`的长度不等于" + arity() + "。" : "The aliases' length is not equals " + arity() + ". ");
         }
 
-        List<TupleAlias> localAliases = Arrays.asList(aliases);
-        Set<TupleAlias> aliasSet = new HashSet<>(localAliases);
-        if (localAliases.size() != aliasSet.size()) throw new AliasDuplicateException(G.IS_ZH_LANG ? "别名不能重复！" : "The `aliases` can't repeat. ");
-
-        String[] localStrAliases = localAliases.stream().map(e -> e == null ? null : e.toString()).toArray(String[]::new);
-        alias(localStrAliases);
-        tupleAliasList.addAll(localAliases);
-
+        setAliasSchema(AliasSchema.of(aliases));
         return this;
     }
 
@@ -87,36 +83,71 @@ public abstract class TupleBase implements Tuple {
         clearAlias();
         if (aliases == null) {
             if (arity() == 1) {
-                putToMapAndList(null, 0);
+                aliasSchema = AliasSchema.NULL_ALIAS;
                 return this;
             }
             throw new NumberOfAliasesException(G.IS_ZH_LANG ? "参数`aliases`的长度不等于" + arity() + "。" : "The aliases' length is not equals " + arity() + ". ");
         }
 
-        List<String> localAliases = Arrays.asList(aliases);
-        Set<String> aliasSet = new HashSet<>(localAliases);
-        if (localAliases.size() != aliasSet.size()) throw new AliasDuplicateException(G.IS_ZH_LANG ? "别名不能重复！" : "The `aliases` can't repeat. ");
+        setAliasSchema(AliasSchema.of(aliases));
+        return this;
+    }
 
-        if (arity() != aliases.length)
+    void setAliasSchema(AliasSchema schema) {
+        if (schema != null && arity() != schema.size())
             throw new NumberOfAliasesException(G.IS_ZH_LANG ? "参数`aliases`的长度不等于" + arity() + "。" : "The aliases' length is not equals " + arity() + ". ");
-        for (int i = 0; i < aliases.length; i++) putToMapAndList(aliases[i], i);
+        aliasSchema = schema;
+    }
 
-        return this;
+    AliasSchema getAliasSchema() {
+        return aliasSchema;
+    }
+
+    /**
+     * The tuples of this package whose elements are values are serialized as {@link TupleProxy} in the compact format of
+     * {@link TupleCodec}, see {@link TupleCodec#isCompactSerializable(Tuple)}. Other tuples and subclasses outside this package
+     * keep the default Java serialization.
+     *
+     * @return object to serialize
+     */
+    Object writeReplace() {
+        return TupleCodec.isCompactSerializable(this) ? new TupleProxy(this) : this;
     }
 
-    private void putToMapAndList(String alias, int index) {
-        alias_index.put(alias, index);
-        aliasList.add(alias);
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("aliasSchema", aliasSchema);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        AliasSchema schema = (AliasSchema) fields.get("aliasSchema", null);
+        if (schema == null) {
+            List<TupleAlias> tupleAliases = (List<TupleAlias>) fields.get("tupleAliasList", null);
+            List<String> aliases = (List<String>) fields.get("aliasList", null);
+            if (tupleAliases != null && !tupleAliases.isEmpty()) {
+                schema = AliasSchema.of(tupleAliases.toArray(new TupleAlias[0]));
+            } else if (aliases != null && !aliases.isEmpty()) {
+                schema = AliasSchema.of(aliases.toArray(new String[0]));
+            }
+        }
+        aliasSchema = schema;
     }
 
     @Override
     public String aliasType() {
-        return !tupleAliasList.isEmpty() ? "tuple" : !aliasList.isEmpty() ? "string" : "null";
+        return aliasSchema == null ? "null" : aliasSchema.isTupleAlias() ? "tuple" : "string";
     }
 
     @Override
     public Tuple copyAliases(Tuple tuple) {
         if (tuple.arity() == arity()) {
+            if (tuple instanceof TupleBase) {
+                aliasSchema = ((TupleBase) tuple).aliasSchema;
+                return this;
+            }
             List<TupleAlias> tempTupleAliases = tuple.getTupleAliases();
             List<String> tempAliases = tuple.getAliases();
             clearAlias();
@@ -137,29 +168,28 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public void clearAlias() {
-        aliasList.clear();
-        tupleAliasList.clear();
-        alias_index.clear();
+        aliasSchema = null;
     }
 
     @Override
     public List<TupleAlias> getTupleAliases() {
-        return Collections.unmodifiableList(tupleAliasList);
+        return aliasSchema == null ? Collections.emptyList() : aliasSchema.tupleAliases;
     }
 
     @Override
     public List<String> getAliases() {
-        return Collections.unmodifiableList(aliasList);
+        return aliasSchema == null ? Collections.emptyList() : aliasSchema.aliases;
     }
 
     @Override
     public boolean aliasesEquals(Tuple tuple) {
         if (tuple == null || tuple.arity() != arity() || !tuple.aliasType().equals(aliasType())) return false;
         if (arity() == 0) return true;
+        if (tuple instanceof TupleBase && ((TupleBase) tuple).aliasSchema == aliasSchema) return true;
 
         List<String> aliases1 = getAliases();
         List<String> aliases2 = tuple.getAliases();
-        // tupleAliasList 不用判断，因为 tupleAliasList 会转成 string 存储在 aliasList 中。
+        // tupleAliases 不用判断，因为 tupleAliases 会转成 string 存储在 aliases 中。
         if (aliases1.size() != aliases2.size()) return false;
         if (aliases1.isEmpty()) return true;
         for (int i = 0; i < aliases1.size(); i++) if (!Objects.equals(aliases1.get(i), aliases2.get(i))) return false;
@@ -170,17 +200,18 @@ public abstract class TupleBase implements Tuple {
     @Override
     public <R> R __(TupleAlias alias) {
         // 这里TupleAlias没有设置不用抛异常，需要再检查字符串别名是否有设置
-        // if (tupleAliasList.isEmpty()) throw new AliasNotSetException(MSG_FOR_TUPLE_ALIASES);
+        // if (aliasSchema == null || !aliasSchema.isTupleAlias()) throw new AliasNotSetException(MSG_FOR_TUPLE_ALIASES);
         return __(alias == null ? null : alias.toString());
     }
 
     @Override
     public <R> R __(String alias) {
-        if (aliasList.isEmpty()) {
+        if (aliasSchema == null) {
             throw new AliasNotSetException(MSG_FOR_STRING_ALIASES);
         }
-        if (alias_index.containsKey(alias)) {
-            return element(alias_index.get(alias));
+        Integer index = aliasSchema.indexOf(alias);
+        if (index != null) {
+            return element(index);
         } else {
             throw new AliasNotFoundException(G.IS_ZH_LANG ? "别名`" + alias + "`没有找到。" : "The alias `" + alias + "` not found. ");
         }
@@ -188,12 +219,12 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public boolean containsAlias(TupleAlias alias) {
-        return !tupleAliasList.isEmpty() && containsAlias(alias.toString());
+        return aliasSchema != null && aliasSchema.isTupleAlias() && containsAlias(alias.toString());
     }
 
     @Override
     public boolean containsAlias(String alias) {
-        return arity() != 0 && aliasList.contains(alias);
+        return arity() != 0 && aliasSchema != null && aliasSchema.contains(alias);
     }
 
     @Override
@@ -205,10 +236,10 @@ public abstract class TupleBase implements Tuple {
         Map<String, R> tupleMap = new HashMap<>();
         if (arity() == 0) return tupleMap;
         for (int i = 0; i < arity(); i++) {
-            if (aliasList.isEmpty()) {
+            if (aliasSchema == null) {
                 tupleMap.put("_" + (i + 1), element(i));
             } else {
-                tupleMap.put(aliasList.get(i), element(i));
+                tupleMap.put(aliasSchema.aliases.get(i), element(i));
             }
         }
         return tupleMap;
@@ -223,10 +254,10 @@ public abstract class TupleBase implements Tuple {
     public <R> Tuple2<TupleAlias, R> elementWithTupleAlias(int n) {
         if (n >= arity()) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
 
-        if (tupleAliasList.isEmpty()) {
+        if (aliasSchema == null || !aliasSchema.isTupleAlias()) {
             throw new AliasNotSetException(MSG_FOR_TUPLE_ALIASES);
         }
-        TupleAlias alias = tupleAliasList.get(n);
+        TupleAlias alias = aliasSchema.tupleAliases.get(n);
         R element = this.<R>element(n);
 
         return new Tuple2<>(alias, element);
@@ -236,10 +267,10 @@ public abstract class TupleBase implements Tuple {
     public <R> Tuple2<String, R> elementWithAlias(int n) {
         if (n >= arity()) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
 
-        if (aliasList.isEmpty()) {
+        if (aliasSchema == null) {
             throw new AliasNotSetException(MSG_FOR_STRING_ALIASES);
         }
-        String alias = aliasList.get(n);
+        String alias = aliasSchema.aliases.get(n);
         R element = this.<R>element(n);
 
         return new Tuple2<>(alias, element);
@@ -254,14 +285,14 @@ public abstract class TupleBase implements Tuple {
             for (int i = 0; i < arity(); i++) {
                 strList.add(G.toString((Object) element(i)));
             }
-            return alias_index.isEmpty() ? "(" + String.join(", ", strList) + ")" : "(" + concatElement(strList) + ")";
+            return aliasSchema == null ? "(" + String.join(", ", strList) + ")" : "(" + concatElement(strList) + ")";
         }
     }
 
     private String concatElement(List<String> strList) {
         ArrayList<String> tempStrList = new ArrayList<>();
         for (int i = 0; i < strList.size(); i++) {
-            String alias = aliasList.get(i);
+            String alias = aliasSchema.aliases.get(i);
             alias = (alias == null ? "`null`" : alias);
             tempStrList.add(alias + ": " + strList.get(i));
         }
@@ -270,6 +301,7 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) return true;
         if (obj instanceof Tuple) {
             Tuple tuple = (Tuple) obj;
             if (aliasesEquals(tuple)) {
@@ -282,4 +314,19 @@ public abstract class TupleBase implements Tuple {
         return false;
     }
 
+    /**
+     * Hash code of the elements, consistent with {@link #equals(Object)}, so that tuples can be used as keys of hash maps. <br>
+     * 元素的哈希值，与 {@link #equals(Object)} 保持一致，使元组可以作为哈希表的key
+     *
+     * @since 0.7.0
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < arity(); i++) {
+            hash = 31 * hash + Objects.hashCode(element(i));
+        }
+        return hash;
+    }
+
 }
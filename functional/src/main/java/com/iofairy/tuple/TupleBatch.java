@@ -0,0 +1,660 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import com.iofairy.except.AliasNotFoundException;
+import com.iofairy.except.AliasNotSetException;
+import com.iofairy.except.NumberOfAliasesException;
+import com.iofairy.top.G;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Columnar storage of many tuples of the same arity: one array per column instead of one object per row,
+ * with {@code int[]}, {@code long[]} and {@code double[]} arrays for primitive columns. All rows share one set of aliases. <br>
+ * 按列存储大量相同元素数量的元组：每一列使用一个数组存储，而不是每一行一个对象，基本类型的列使用 {@code int[]}、{@code long[]}、{@code double[]} 存储。
+ * 所有行共享同一组别名。<br>
+ * <b>Examples:</b>
+ * <blockquote><pre>{@code
+ * TupleBatch batch = TupleBatch.of(LONG, DOUBLE, OBJECT).alias("id", "score", "name");
+ * for (Tuple3<Long, Double, String> tuple : tuples) {
+ *     batch.add(tuple);
+ * }
+ *
+ * double total = batch.doubleColumn(batch.columnIndex("score")).sum();   // column-wise
+ * for (Tuple row : batch) {                                              // row-wise, a reused view
+ *     String name = row.__("name");
+ * }
+ * List<Tuple3<Long, Double, String>> list = batch.toList();
+ * }</pre></blockquote>
+ * Not thread-safe.　非线程安全。
+ *
+ * @since 0.7.0
+ */
+public final class TupleBatch implements Iterable<Tuple>, Serializable {
+
+    private static final long serialVersionUID = 10065918200L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Storage type of a column.　列的存储类型
+     */
+    public enum ColumnType {
+        /**
+         * {@code Object[]}
+         */
+        OBJECT,
+        /**
+         * {@code int[]}, elements are {@link Integer}
+         */
+        INT,
+        /**
+         * {@code long[]}, elements are {@link Long}
+         */
+        LONG,
+        /**
+         * {@code double[]}, elements are {@link Double}
+         */
+        DOUBLE
+    }
+
+    private final ColumnType[] types;
+    /**
+     * One array per column, {@code Object[]}, {@code int[]}, {@code long[]} or {@code double[]} according to {@link #types}
+     */
+    private final Object[] columns;
+    private int capacity;
+    private int size;
+    private AliasSchema aliasSchema;
+
+    private TupleBatch(int capacity, ColumnType[] types) {
+        if (types == null || types.length == 0 || types.length > 9)
+            throw new IllegalArgumentException(G.IS_ZH_LANG ? "列的数量必须在1到9之间！" : "The number of columns must be in [1, 9]! ");
+        if (capacity < 0)
+            throw new IllegalArgumentException(G.IS_ZH_LANG ? "参数`capacity`不能小于0！" : "Parameter `capacity` must be non-negative! ");
+
+        this.types = types.clone();
+        this.columns = new Object[types.length];
+        this.capacity = capacity;
+        for (int i = 0; i < types.length; i++) {
+            if (this.types[i] == null) throw new NullPointerException(G.IS_ZH_LANG ? "列的类型不能为null！" : "The column type can't be null! ");
+            columns[i] = newColumn(this.types[i], capacity);
+        }
+    }
+
+    /**
+     * Create an empty batch with the column types.<br>
+     * 根据列的类型创建一个空的TupleBatch
+     *
+     * @param types column types, the number of columns is the arity of rows, 1 to 9.　每一列的类型，列的数量即为元组的元素数量，1到9
+     * @return TupleBatch
+     */
+    public static TupleBatch of(ColumnType... types) {
+        return new TupleBatch(DEFAULT_CAPACITY, types);
+    }
+
+    /**
+     * Create an empty batch with the column types and the initial capacity.<br>
+     * 根据列的类型及初始容量创建一个空的TupleBatch
+     *
+     * @param capacity initial number of rows.　初始行数
+     * @param types    column types.　每一列的类型
+     * @return TupleBatch
+     */
+    public static TupleBatch of(int capacity, ColumnType... types) {
+        return new TupleBatch(capacity, types);
+    }
+
+    /**
+     * Store the tuples by column, the aliases of the first tuple become the aliases of the batch.<br>
+     * 将元组按列存储，第一个元组的别名作为TupleBatch的别名
+     *
+     * @param tuples tuples
+     * @param types  column types
+     * @return TupleBatch
+     */
+    public static TupleBatch from(List<? extends Tuple> tuples, ColumnType... types) {
+        TupleBatch batch = new TupleBatch(tuples.size(), types);
+        for (Tuple tuple : tuples) {
+            batch.add(tuple);
+        }
+        if (!tuples.isEmpty()) batch.copyAliases(tuples.get(0));
+        return batch;
+    }
+
+    private static Object newColumn(ColumnType type, int capacity) {
+        switch (type) {
+            case INT:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            default:
+                return new Object[capacity];
+        }
+    }
+
+    /**
+     * The number of columns, same as the arity of each row.　列的数量，即每一行的元素数量
+     *
+     * @return arity
+     */
+    public int arity() {
+        return types.length;
+    }
+
+    /**
+     * The number of rows.　行数
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public ColumnType columnType(int col) {
+        return types[col];
+    }
+
+    /*###################################################################################
+     ************************************************************************************
+     ------------------------------------------------------------------------------------
+     *******************************        Aliases         *****************************
+     ------------------------------------------------------------------------------------
+     ************************************************************************************
+     ###################################################################################*/
+
+    /**
+     * Set the aliases of the columns, the rows got by {@link #row(int)} or the iterator afterwards use these aliases.<br>
+     * 设置列的别名，之后通过 {@link #row(int)} 或迭代器获取的行使用这些别名
+     *
+     * @param aliases aliases
+     * @return this batch
+     */
+    public TupleBatch alias(String... aliases) {
+        if (aliases == null) throw new NumberOfAliasesException(G.IS_ZH_LANG ? "参数`aliases`的长度不等于" + arity() + "。" : "The aliases' length is not equals " + arity() + ". ");
+        return setAliasSchema(AliasSchema.of(aliases));
+    }
+
+    public TupleBatch alias(TupleAlias... aliases) {
+        if (aliases == null) throw new NumberOfAliasesException(G.IS_ZH_LANG ? "参数`aliases`的长度不等于" + arity() + "。" : "The aliases' length is not equals " + arity() + ". ");
+        return setAliasSchema(AliasSchema.of(aliases));
+    }
+
+    /**
+     * Use the aliases of the tuple.　使用元组的别名
+     *
+     * @param tuple tuple
+     * @return this batch
+     */
+    public TupleBatch copyAliases(Tuple tuple) {
+        if (tuple.arity() != arity())
+            throw new NumberOfAliasesException(G.IS_ZH_LANG ? "参数`tuple`的元素数量不等于" + arity() + "。" : "The `tuple.arity()` is not equals " + arity() + ". ");
+        if (tuple instanceof TupleBase) return setAliasSchema(((TupleBase) tuple).getAliasSchema());
+
+        List<TupleAlias> tupleAliases = tuple.getTupleAliases();
+        List<String> aliases = tuple.getAliases();
+        if (!tupleAliases.isEmpty()) return alias(tupleAliases.toArray(new TupleAlias[0]));
+        if (!aliases.isEmpty()) return alias(aliases.toArray(new String[0]));
+        return setAliasSchema(null);
+    }
+
+    public void clearAlias() {
+        aliasSchema = null;
+    }
+
+    public List<String> getAliases() {
+        return aliasSchema == null ? Collections.emptyList() : aliasSchema.aliases;
+    }
+
+    public List<TupleAlias> getTupleAliases() {
+        return aliasSchema == null ? Collections.emptyList() : aliasSchema.tupleAliases;
+    }
+
+    private TupleBatch setAliasSchema(AliasSchema schema) {
+        if (schema != null && schema.size() != arity())
+            throw new NumberOfAliasesException(G.IS_ZH_LANG ? "参数`aliases`的长度不等于" + arity() + "。" : "The aliases' length is not equals " + arity() + ". ");
+        aliasSchema = schema;
+        return this;
+    }
+
+    /**
+     * Index of the column with the alias.　别名对应的列序号
+     *
+     * @param alias alias
+     * @return column index
+     * @throws AliasNotSetException   if no alias is set
+     * @throws AliasNotFoundException if the alias not found
+     */
+    public int columnIndex(String alias) {
+        if (aliasSchema == null)
+            throw new AliasNotSetException(G.IS_ZH_LANG ? "别名未设置，请先调用 alias(String...) 或 alias(TupleAlias...) 方法设置别名。"
+                    : "The aliases not set. Please call `alias(String...)` or `alias(TupleAlias...)` method first. ");
+        Integer index = aliasSchema.indexOf(alias);
+        if (index == null)
+            throw new AliasNotFoundException(G.IS_ZH_LANG ? "别名`" + alias + "`没有找到。" : "The alias `" + alias + "` not found. ");
+        return index;
+    }
+
+    public int columnIndex(TupleAlias alias) {
+        return columnIndex(alias == null ? null : alias.toString());
+    }
+
+    /*###################################################################################
+     ************************************************************************************
+     ------------------------------------------------------------------------------------
+     *******************************      Adding rows       *****************************
+     ------------------------------------------------------------------------------------
+     ************************************************************************************
+     ###################################################################################*/
+
+    /**
+     * Append the elements of the tuple as a new row, the aliases of the tuple are ignored.<br>
+     * 将元组的元素追加为新的一行，忽略元组的别名
+     *
+     * @param tuple tuple
+     * @return this batch
+     * @throws ClassCastException   if an element does not match the {@link ColumnType} of its column
+     * @throws NullPointerException if an element of a primitive column is {@code null}
+     */
+    public TupleBatch add(Tuple tuple) {
+        if (tuple.arity() != arity())
+            throw new IllegalArgumentException(G.IS_ZH_LANG ? "参数`tuple`的元素数量不等于" + arity() + "。" : "The `tuple.arity()` is not equals " + arity() + ". ");
+        int row = size;
+        ensureCapacity(row + 1);
+        for (int col = 0; col < types.length; col++) {
+            setElement(row, col, tuple.element(col));
+        }
+        size = row + 1;
+        return this;
+    }
+
+    /**
+     * Append a row of default values ({@code null} or 0), then set its elements by {@code set*} methods.<br>
+     * 追加一行默认值（{@code null} 或 0），再通过 {@code set*} 方法设置该行的元素
+     *
+     * @return index of the new row.　新行的序号
+     */
+    public int addRow() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) return;
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1) + 1);
+        for (int col = 0; col < types.length; col++) {
+            Object column = columns[col];
+            switch (types[col]) {
+                case INT:
+                    columns[col] = Arrays.copyOf((int[]) column, newCapacity);
+                    break;
+                case LONG:
+                    columns[col] = Arrays.copyOf((long[]) column, newCapacity);
+                    break;
+                case DOUBLE:
+                    columns[col] = Arrays.copyOf((double[]) column, newCapacity);
+                    break;
+                default:
+                    columns[col] = Arrays.copyOf((Object[]) column, newCapacity);
+            }
+        }
+        capacity = newCapacity;
+    }
+
+    /**
+     * Remove all rows, the aliases are kept.　移除所有行，保留别名
+     */
+    public void clear() {
+        for (int col = 0; col < types.length; col++) {
+            if (types[col] == ColumnType.OBJECT) Arrays.fill((Object[]) columns[col], 0, size, null);
+        }
+        size = 0;
+    }
+
+    /*###################################################################################
+     ************************************************************************************
+     ------------------------------------------------------------------------------------
+     *****************************   Getting and setting    ****************************
+     ------------------------------------------------------------------------------------
+     ************************************************************************************
+     ###################################################################################*/
+
+    /**
+     * Get an element, the element of a primitive column is boxed.<br>
+     * 获取元素，基本类型列的元素会被装箱
+     *
+     * @param row row index
+     * @param col column index
+     * @param <R> element type
+     * @return element
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(int row, int col) {
+        checkRow(row);
+        Object column = columns[col];
+        switch (types[col]) {
+            case INT:
+                return (R) (Integer) ((int[]) column)[row];
+            case LONG:
+                return (R) (Long) ((long[]) column)[row];
+            case DOUBLE:
+                return (R) (Double) ((double[]) column)[row];
+            default:
+                return (R) ((Object[]) column)[row];
+        }
+    }
+
+    /**
+     * Get an element of an {@link ColumnType#INT} column without boxing.　获取 {@link ColumnType#INT} 列的元素，不装箱
+     *
+     * @param row row index
+     * @param col column index
+     * @return element
+     * @throws ClassCastException if the column is not an {@link ColumnType#INT} column
+     */
+    public int getInt(int row, int col) {
+        checkRow(row);
+        return ((int[]) columns[col])[row];
+    }
+
+    /**
+     * Get an element of a {@link ColumnType#LONG} column without boxing.　获取 {@link ColumnType#LONG} 列的元素，不装箱
+     *
+     * @param row row index
+     * @param col column index
+     * @return element
+     * @throws ClassCastException if the column is not a {@link ColumnType#LONG} column
+     */
+    public long getLong(int row, int col) {
+        checkRow(row);
+        return ((long[]) columns[col])[row];
+    }
+
+    /**
+     * Get an element of a {@link ColumnType#DOUBLE} column without boxing.　获取 {@link ColumnType#DOUBLE} 列的元素，不装箱
+     *
+     * @param row row index
+     * @param col column index
+     * @return element
+     * @throws ClassCastException if the column is not a {@link ColumnType#DOUBLE} column
+     */
+    public double getDouble(int row, int col) {
+        checkRow(row);
+        return ((double[]) columns[col])[row];
+    }
+
+    /**
+     * Set an element, the element of a primitive column is unboxed.<br>
+     * 设置元素，基本类型列的元素会被拆箱
+     *
+     * @param row   row index
+     * @param col   column index
+     * @param value element
+     * @return this batch
+     * @throws ClassCastException   if the value does not match the {@link ColumnType} of the column
+     * @throws NullPointerException if the value of a primitive column is {@code null}
+     */
+    public TupleBatch set(int row, int col, Object value) {
+        checkRow(row);
+        setElement(row, col, value);
+        return this;
+    }
+
+    private void setElement(int row, int col, Object value) {
+        Object column = columns[col];
+        switch (types[col]) {
+            case INT:
+                ((int[]) column)[row] = (Integer) value;
+                break;
+            case LONG:
+                ((long[]) column)[row] = (Long) value;
+                break;
+            case DOUBLE:
+                ((double[]) column)[row] = (Double) value;
+                break;
+            default:
+                ((Object[]) column)[row] = value;
+        }
+    }
+
+    public TupleBatch setInt(int row, int col, int value) {
+        checkRow(row);
+        ((int[]) columns[col])[row] = value;
+        return this;
+    }
+
+    public TupleBatch setLong(int row, int col, long value) {
+        checkRow(row);
+        ((long[]) columns[col])[row] = value;
+        return this;
+    }
+
+    public TupleBatch setDouble(int row, int col, double value) {
+        checkRow(row);
+        ((double[]) columns[col])[row] = value;
+        return this;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Index out of range: " + row + ", Size: " + size);
+    }
+
+    /*###################################################################################
+     ************************************************************************************
+     ------------------------------------------------------------------------------------
+     *****************************        Columns           ****************************
+     ------------------------------------------------------------------------------------
+     ************************************************************************************
+     ###################################################################################*/
+
+    /**
+     * Stream over an {@link ColumnType#INT} column without copying or boxing, e.g. {@code batch.intColumn(0).sum()}.<br>
+     * {@link ColumnType#INT} 列的流，不复制也不装箱，如：{@code batch.intColumn(0).sum()}
+     *
+     * @param col column index
+     * @return IntStream
+     * @throws ClassCastException if the column is not an {@link ColumnType#INT} column
+     */
+    public IntStream intColumn(int col) {
+        return Arrays.stream((int[]) columns[col], 0, size);
+    }
+
+    public LongStream longColumn(int col) {
+        return Arrays.stream((long[]) columns[col], 0, size);
+    }
+
+    public DoubleStream doubleColumn(int col) {
+        return Arrays.stream((double[]) columns[col], 0, size);
+    }
+
+    /**
+     * Stream over a column, the elements of a primitive column are boxed.<br>
+     * 列的流，基本类型列的元素会被装箱
+     *
+     * @param col column index
+     * @param <T> element type
+     * @return Stream
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Stream<T> column(int col) {
+        Object column = columns[col];
+        switch (types[col]) {
+            case INT:
+                return (Stream<T>) intColumn(col).boxed();
+            case LONG:
+                return (Stream<T>) longColumn(col).boxed();
+            case DOUBLE:
+                return (Stream<T>) doubleColumn(col).boxed();
+            default:
+                return (Stream<T>) Arrays.stream((Object[]) column, 0, size);
+        }
+    }
+
+    /*###################################################################################
+     ************************************************************************************
+     ------------------------------------------------------------------------------------
+     *****************************          Rows            ****************************
+     ------------------------------------------------------------------------------------
+     ************************************************************************************
+     ###################################################################################*/
+
+    /**
+     * A view of the row, reading the columns of this batch without copying.
+     * Use {@link Tuple#copy()} of the view to get an independent tuple.<br>
+     * 行的视图，直接读取TupleBatch的列，不复制元素。可通过视图的 {@link Tuple#copy()} 获取独立的元组。
+     *
+     * @param row row index
+     * @return view of the row
+     */
+    public Tuple row(int row) {
+        checkRow(row);
+        return new Row(this, row);
+    }
+
+    /**
+     * Iterate the rows with one reused view (flyweight), so iterating allocates no tuple per row.
+     * Do not keep the returned view, use {@link Tuple#copy()} instead.<br>
+     * 使用同一个复用的视图（享元）遍历所有行，遍历时不会为每一行创建元组。不要保存返回的视图，如需保存请使用 {@link Tuple#copy()}。
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<Tuple> iterator() {
+        Row cursor = new Row(this, -1);
+        return new Iterator<Tuple>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.index + 1 < size;
+            }
+
+            @Override
+            public Tuple next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                cursor.index++;
+                return cursor;
+            }
+        };
+    }
+
+    /**
+     * Copy the row to a new {@code Tuple1} ~ {@code Tuple9} with the aliases of this batch.<br>
+     * 将行复制为一个新的 {@code Tuple1} ~ {@code Tuple9}，并带有TupleBatch的别名
+     *
+     * @param row row index
+     * @param <T> tuple type
+     * @return tuple
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T toTuple(int row) {
+        checkRow(row);
+        TupleBase tuple;
+        switch (types.length) {
+            case 1:
+                tuple = Tuple.of(get(row, 0));
+                break;
+            case 2:
+                tuple = Tuple.of(get(row, 0), get(row, 1));
+                break;
+            case 3:
+                tuple = Tuple.of(get(row, 0), get(row, 1), get(row, 2));
+                break;
+            case 4:
+                tuple = Tuple.of(get(row, 0), get(row, 1), get(row, 2), get(row, 3));
+                break;
+            case 5:
+                tuple = Tuple.of(get(row, 0), get(row, 1), get(row, 2), get(row, 3), get(row, 4));
+                break;
+            case 6:
+                tuple = Tuple.of(get(row, 0), get(row, 1), get(row, 2), get(row, 3), get(row, 4), get(row, 5));
+                break;
+            case 7:
+                tuple = Tuple.of(get(row, 0), get(row, 1), get(row, 2), get(row, 3), get(row, 4), get(row, 5), get(row, 6));
+                break;
+            case 8:
+                tuple = Tuple.of(get(row, 0), get(row, 1), get(row, 2), get(row, 3), get(row, 4), get(row, 5), get(row, 6), get(row, 7));
+                break;
+            default:
+                tuple = Tuple.of(get(row, 0), get(row, 1), get(row, 2), get(row, 3), get(row, 4), get(row, 5), get(row, 6), get(row, 7), get(row, 8));
+        }
+        tuple.setAliasSchema(aliasSchema);
+        return (T) tuple;
+    }
+
+    /**
+     * Copy all rows to a list of {@code Tuple1} ~ {@code Tuple9}.<br>
+     * 将所有行复制为 {@code Tuple1} ~ {@code Tuple9} 的列表
+     *
+     * @param <T> tuple type
+     * @return list of tuples
+     */
+    public <T extends Tuple> List<T> toList() {
+        List<T> tuples = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            tuples.add(toTuple(row));
+        }
+        return tuples;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleBatch{arity=" + arity() + ", size=" + size + ", types=" + Arrays.toString(types) + ", aliases=" + getAliases() + "}";
+    }
+
+    /**
+     * View of a row of the batch.　TupleBatch中一行的视图
+     */
+    private static final class Row extends TupleBase {
+        private static final long serialVersionUID = 10065918201L;
+
+        private final TupleBatch batch;
+        private int index;
+
+        Row(TupleBatch batch, int index) {
+            this.batch = batch;
+            this.index = index;
+            setAliasSchema(batch.aliasSchema);
+        }
+
+        @Override
+        public int arity() {
+            return batch.types.length;
+        }
+
+        @Override
+        public <R> R element(int n) {
+            if (n < 0 || n >= arity()) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+            return batch.get(index, n);
+        }
+
+        @Override
+        public Tuple copy() {
+            return batch.toTuple(index);
+        }
+    }
+
+}
@@ -0,0 +1,570 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import com.iofairy.top.G;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Compact binary codec of tuples. A tuple is written as one header byte (kind and arity), its aliases and its elements.
+ * {@code null}, {@code String}, {@code Integer}, {@code Long}, {@code Double}, {@code Boolean} and nested tuples are written
+ * without class descriptors, other elements by {@link ObjectOutput#writeObject(Object)}. Aliases are written once per stream,
+ * later tuples with the same aliases only write a reference to them. <br>
+ * 元组的紧凑二进制编解码器。元组被写为1个头字节（类型和元素个数）、别名和元素。
+ * {@code null}、{@code String}、{@code Integer}、{@code Long}、{@code Double}、{@code Boolean} 和嵌套的元组不写类描述，
+ * 其他元素通过 {@link ObjectOutput#writeObject(Object)} 写出。别名在每个流中只写一次，之后别名相同的元组只写别名的引用。
+ * <br>
+ * Java serialization of {@code Tuple0}~{@code Tuple9}, {@code EasyTuple0}~{@code EasyTuple9} and the primitive tuples
+ * uses the same encoding when their elements are values (e.g. strings, numbers, enums, {@code java.time} objects and such tuples),
+ * other tuples keep the default Java serialization, which restores references back to the tuple. <br>
+ * {@code Tuple0}~{@code Tuple9}、{@code EasyTuple0}~{@code EasyTuple9} 和基本类型元组的元素都是值（如字符串、数字、枚举、{@code java.time} 对象及这样的元组）时，
+ * Java序列化也使用相同的编码，其他元组仍使用默认的Java序列化，以还原引用回元组的对象。
+ * <br>
+ * e.g.:
+ * <pre>{@code
+ * try (ObjectOutputStream out = new ObjectOutputStream(outputStream)) {
+ *     TupleCodec.Writer writer = TupleCodec.writer(out);
+ *     for (Tuple tuple : tuples) {
+ *         writer.write(tuple);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 0.7.0
+ */
+public final class TupleCodec {
+
+    private TupleCodec() {
+    }
+
+    /*
+     * Kinds of tuples, the high 4 bits of the header byte, the low 4 bits are the arity
+     */
+    private static final int KIND_TUPLE = 0;
+    private static final int KIND_EASY_TUPLE = 1;
+    private static final int KIND_INT_TUPLE2 = 2;
+    private static final int KIND_LONG_TUPLE2 = 3;
+    private static final int KIND_LONG_DOUBLE_TUPLE2 = 4;
+    private static final int KIND_INT_OBJ_TUPLE2 = 5;
+    /**
+     * Other implementations of {@link Tuple}, written by {@link ObjectOutput#writeObject(Object)}
+     */
+    private static final int KIND_OTHER = 14;
+    private static final int NULL_TUPLE = 0xFF;
+
+    /*
+     * Tags of elements
+     */
+    private static final int TAG_NULL = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TAG_INT = 2;
+    private static final int TAG_LONG = 3;
+    private static final int TAG_DOUBLE = 4;
+    private static final int TAG_TRUE = 5;
+    private static final int TAG_FALSE = 6;
+    private static final int TAG_TUPLE = 7;
+    private static final int TAG_OBJECT = 8;
+
+    /*
+     * References of aliases: no aliases, new aliases follow, or SCHEMA_REF_BASE + index of the aliases written before
+     */
+    private static final int NO_SCHEMA = 0;
+    private static final int NEW_SCHEMA = 1;
+    private static final int SCHEMA_REF_BASE = 2;
+
+    /**
+     * {@link DataOutput#writeUTF(String)} writes at most 65535 bytes, and a char takes at most 3 bytes
+     */
+    private static final int MAX_UTF_CHARS = 65535 / 3;
+
+    private static final Map<Class<?>, Integer> KINDS = new HashMap<>();
+
+    static {
+        List<Class<?>> tupleClasses = Arrays.asList(Tuple0.class, Tuple1.class, Tuple2.class, Tuple3.class, Tuple4.class,
+                Tuple5.class, Tuple6.class, Tuple7.class, Tuple8.class, Tuple9.class);
+        List<Class<?>> easyTupleClasses = Arrays.asList(EasyTuple0.class, EasyTuple1.class, EasyTuple2.class, EasyTuple3.class,
+                EasyTuple4.class, EasyTuple5.class, EasyTuple6.class, EasyTuple7.class, EasyTuple8.class, EasyTuple9.class);
+        tupleClasses.forEach(c -> KINDS.put(c, KIND_TUPLE));
+        easyTupleClasses.forEach(c -> KINDS.put(c, KIND_EASY_TUPLE));
+        KINDS.put(IntTuple2.class, KIND_INT_TUPLE2);
+        KINDS.put(LongTuple2.class, KIND_LONG_TUPLE2);
+        KINDS.put(LongDoubleTuple2.class, KIND_LONG_DOUBLE_TUPLE2);
+        KINDS.put(IntObjTuple2.class, KIND_INT_OBJ_TUPLE2);
+    }
+
+    /**
+     * Classes of the elements that can not refer back to a tuple. 不会引用回元组的元素类型。
+     */
+    private static final Set<Class<?>> VALUE_CLASSES = new HashSet<>(Arrays.asList(String.class, Integer.class, Long.class,
+            Double.class, Float.class, Short.class, Byte.class, Character.class, Boolean.class, BigInteger.class, BigDecimal.class));
+
+    /**
+     * Whether Java serialization of the tuple can use {@link TupleProxy}: the tuple is one of the tuples of this package,
+     * and its elements are values, enums, {@code java.time} objects or such tuples. The proxy creates the tuple only
+     * after its elements are read, so an element that refers back to the tuple (e.g. a list containing it) would get
+     * the proxy instead of the tuple. Those tuples keep the default Java serialization.
+     *
+     * @param tuple tuple
+     * @return {@code true} if the tuple can be serialized as {@link TupleProxy}
+     */
+    static boolean isCompactSerializable(Tuple tuple) {
+        if (!KINDS.containsKey(tuple.getClass())) return false;
+        for (int i = 0; i < tuple.arity(); i++) {
+            if (!isValue(tuple.element(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isValue(Object element) {
+        return element == null
+                || VALUE_CLASSES.contains(element.getClass())
+                || element instanceof Enum
+                || element.getClass().getName().startsWith("java.time.")
+                || element instanceof Tuple && isCompactSerializable((Tuple) element);
+    }
+
+    /**
+     * Create a writer that writes tuples to {@code out}. Aliases are shared by all tuples written by this writer. <br>
+     * 创建将元组写入 {@code out} 的Writer，同一个Writer写出的所有元组共享别名。
+     *
+     * @param out output, e.g. {@link ObjectOutputStream}
+     * @return Writer
+     */
+    public static Writer writer(ObjectOutput out) {
+        if (out == null) throw new NullPointerException(G.IS_ZH_LANG ? "参数`out`不能为null！" : "Parameter `out` must be non-null!");
+        return new Writer(out, true);
+    }
+
+    /**
+     * Create a reader that reads the tuples written by a {@link Writer}. <br>
+     * 创建读取 {@link Writer} 写出的元组的Reader。
+     *
+     * @param in input, e.g. {@link ObjectInputStream}
+     * @return Reader
+     */
+    public static Reader reader(ObjectInput in) {
+        if (in == null) throw new NullPointerException(G.IS_ZH_LANG ? "参数`in`不能为null！" : "Parameter `in` must be non-null!");
+        return new Reader(in, true);
+    }
+
+    /**
+     * Encode the tuples to bytes. <br>
+     * 将元组编码为字节数组
+     *
+     * @param tuples tuples, elements may be {@code null}
+     * @return bytes
+     * @throws UncheckedIOException if an element can not be serialized
+     */
+    public static byte[] encode(Collection<? extends Tuple> tuples) {
+        if (tuples == null) throw new NullPointerException(G.IS_ZH_LANG ? "参数`tuples`不能为null！" : "Parameter `tuples` must be non-null!");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            Writer writer = new Writer(out, true);
+            writer.writeVarInt(tuples.size());
+            for (Tuple tuple : tuples) {
+                writer.write(tuple);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode the tuples encoded by {@link #encode(Collection)}. <br>
+     * 解码 {@link #encode(Collection)} 编码的元组
+     *
+     * @param bytes bytes
+     * @return tuples
+     * @throws UncheckedIOException if the bytes are corrupted or the class of an element is not found
+     */
+    public static List<Tuple> decode(byte[] bytes) {
+        if (bytes == null) throw new NullPointerException(G.IS_ZH_LANG ? "参数`bytes`不能为null！" : "Parameter `bytes` must be non-null!");
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            Reader reader = new Reader(in, true);
+            int size = reader.readVarInt();
+            if (size < 0) throw new StreamCorruptedException("Invalid number of tuples: " + size);
+            List<Tuple> tuples = new ArrayList<>(Math.min(size, bytes.length));
+            for (int i = 0; i < size; i++) {
+                tuples.add(reader.read());
+            }
+            return tuples;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new UncheckedIOException(new InvalidClassException(e.getMessage()));
+        }
+    }
+
+    /**
+     * Writes tuples to an {@link ObjectOutput}. Not thread-safe. <br>
+     * 将元组写入 {@link ObjectOutput}，非线程安全。
+     */
+    public static final class Writer {
+        private final ObjectOutput out;
+        /**
+         * Index of the aliases written by this writer, {@code null} if the aliases are written by
+         * {@link ObjectOutput#writeObject(Object)}, which shares them by the handles of Java serialization.
+         */
+        private final Map<AliasSchema, Integer> schemas;
+
+        Writer(ObjectOutput out, boolean shareSchemas) {
+            this.out = out;
+            this.schemas = shareSchemas ? new IdentityHashMap<>() : null;
+        }
+
+        /**
+         * Write a tuple. <br>
+         * 写出一个元组
+         *
+         * @param tuple tuple, may be {@code null}
+         * @throws IOException if an I/O error occurs or an element can not be serialized
+         */
+        public void write(Tuple tuple) throws IOException {
+            if (tuple == null) {
+                out.writeByte(NULL_TUPLE);
+                return;
+            }
+            Integer kind = KINDS.get(tuple.getClass());
+            if (kind == null) {
+                out.writeByte(KIND_OTHER << 4);
+                out.writeObject(tuple);
+                return;
+            }
+
+            out.writeByte(kind << 4 | tuple.arity());
+            writeSchema(((TupleBase) tuple).getAliasSchema());
+            switch (kind) {
+                case KIND_INT_TUPLE2:
+                    IntTuple2 intTuple2 = (IntTuple2) tuple;
+                    writeVarInt(zigZag(intTuple2._1));
+                    writeVarInt(zigZag(intTuple2._2));
+                    break;
+                case KIND_LONG_TUPLE2:
+                    LongTuple2 longTuple2 = (LongTuple2) tuple;
+                    writeVarLong(zigZag(longTuple2._1));
+                    writeVarLong(zigZag(longTuple2._2));
+                    break;
+                case KIND_LONG_DOUBLE_TUPLE2:
+                    LongDoubleTuple2 longDoubleTuple2 = (LongDoubleTuple2) tuple;
+                    writeVarLong(zigZag(longDoubleTuple2._1));
+                    out.writeDouble(longDoubleTuple2._2);
+                    break;
+                case KIND_INT_OBJ_TUPLE2:
+                    IntObjTuple2<?> intObjTuple2 = (IntObjTuple2<?>) tuple;
+                    writeVarInt(zigZag(intObjTuple2._1));
+                    writeElement(intObjTuple2._2);
+                    break;
+                default:
+                    for (int i = 0; i < tuple.arity(); i++) {
+                        writeElement(tuple.element(i));
+                    }
+            }
+        }
+
+        /**
+         * Flush the output. <br>
+         * 刷新输出
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        private void writeSchema(AliasSchema schema) throws IOException {
+            if (schemas == null) {
+                out.writeObject(schema);
+                return;
+            }
+            if (schema == null) {
+                writeVarInt(NO_SCHEMA);
+                return;
+            }
+            Integer index = schemas.get(schema);
+            if (index != null) {
+                writeVarInt(SCHEMA_REF_BASE + index);
+                return;
+            }
+            schemas.put(schema, schemas.size());
+            writeVarInt(NEW_SCHEMA);
+            writeSchemaBody(schema);
+        }
+
+        void writeSchemaBody(AliasSchema schema) throws IOException {
+            out.writeBoolean(schema.isTupleAlias());
+            writeVarInt(schema.size());
+            if (schema.isTupleAlias()) {
+                for (TupleAlias tupleAlias : schema.tupleAliases) {
+                    out.writeObject(tupleAlias);
+                }
+            } else {
+                for (String alias : schema.aliases) {
+                    writeElement(alias);
+                }
+            }
+        }
+
+        private void writeElement(Object element) throws IOException {
+            if (element == null) {
+                out.writeByte(TAG_NULL);
+            } else if (element instanceof String && ((String) element).length() <= MAX_UTF_CHARS) {
+                out.writeByte(TAG_STRING);
+                out.writeUTF((String) element);
+            } else if (element instanceof Integer) {
+                out.writeByte(TAG_INT);
+                writeVarInt(zigZag((Integer) element));
+            } else if (element instanceof Long) {
+                out.writeByte(TAG_LONG);
+                writeVarLong(zigZag((Long) element));
+            } else if (element instanceof Double) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble((Double) element);
+            } else if (element instanceof Boolean) {
+                out.writeByte((Boolean) element ? TAG_TRUE : TAG_FALSE);
+            } else if (element instanceof Tuple && schemas != null) {
+                out.writeByte(TAG_TUPLE);
+                write((Tuple) element);
+            } else {
+                out.writeByte(TAG_OBJECT);
+                out.writeObject(element);
+            }
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+
+        private static int zigZag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /**
+     * Reads the tuples written by a {@link Writer}. Not thread-safe. <br>
+     * 读取 {@link Writer} 写出的元组，非线程安全。
+     */
+    public static final class Reader {
+        private final ObjectInput in;
+        /**
+         * Aliases read by this reader, {@code null} if the aliases are read by {@link ObjectInput#readObject()}.
+         */
+        private final List<AliasSchema> schemas;
+
+        Reader(ObjectInput in, boolean shareSchemas) {
+            this.in = in;
+            this.schemas = shareSchemas ? new ArrayList<>() : null;
+        }
+
+        /**
+         * Read a tuple. <br>
+         * 读取一个元组
+         *
+         * @param <T> type of the tuple
+         * @return tuple, may be {@code null}
+         * @throws IOException            if an I/O error occurs or the input is corrupted
+         * @throws ClassNotFoundException if the class of an element is not found
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends Tuple> T read() throws IOException, ClassNotFoundException {
+            int header = in.readUnsignedByte();
+            if (header == NULL_TUPLE) return null;
+            int kind = header >>> 4;
+            int arity = header & 0x0F;
+            if (kind == KIND_OTHER) return (T) in.readObject();
+
+            AliasSchema schema = readSchema();
+            TupleBase tuple;
+            switch (kind) {
+                case KIND_TUPLE:
+                    tuple = newTuple(readElements(arity));
+                    break;
+                case KIND_EASY_TUPLE:
+                    tuple = newEasyTuple(readElements(arity));
+                    break;
+                case KIND_INT_TUPLE2:
+                    tuple = IntTuple2.of(unZigZag(readVarInt()), unZigZag(readVarInt()));
+                    break;
+                case KIND_LONG_TUPLE2:
+                    tuple = LongTuple2.of(unZigZag(readVarLong()), unZigZag(readVarLong()));
+                    break;
+                case KIND_LONG_DOUBLE_TUPLE2:
+                    tuple = LongDoubleTuple2.of(unZigZag(readVarLong()), in.readDouble());
+                    break;
+                case KIND_INT_OBJ_TUPLE2:
+                    tuple = IntObjTuple2.of(unZigZag(readVarInt()), readElement());
+                    break;
+                default:
+                    throw new StreamCorruptedException("Unknown tuple header: " + header);
+            }
+            if (tuple.arity() != arity) throw new StreamCorruptedException("Unknown tuple header: " + header);
+            if (schema != null) {
+                // checked here, setAliasSchema throws NumberOfAliasesException, which is not an IOException
+                if (schema.size() != arity) throw new StreamCorruptedException("Invalid number of aliases: " + schema.size());
+                tuple.setAliasSchema(schema);
+            }
+            return (T) tuple;
+        }
+
+        private AliasSchema readSchema() throws IOException, ClassNotFoundException {
+            if (schemas == null) return (AliasSchema) in.readObject();
+
+            int ref = readVarInt();
+            if (ref == NO_SCHEMA) return null;
+            if (ref == NEW_SCHEMA) {
+                AliasSchema schema = readSchemaBody();
+                schemas.add(schema);
+                return schema;
+            }
+            int index = ref - SCHEMA_REF_BASE;
+            if (index < 0 || index >= schemas.size()) throw new StreamCorruptedException("Invalid aliases reference: " + ref);
+            return schemas.get(index);
+        }
+
+        AliasSchema readSchemaBody() throws IOException, ClassNotFoundException {
+            boolean isTupleAlias = in.readBoolean();
+            int size = readVarInt();
+            if (size < 0 || size > 9) throw new StreamCorruptedException("Invalid number of aliases: " + size);
+            if (isTupleAlias) {
+                TupleAlias[] tupleAliases = new TupleAlias[size];
+                for (int i = 0; i < size; i++) {
+                    tupleAliases[i] = (TupleAlias) in.readObject();
+                }
+                return AliasSchema.of(tupleAliases);
+            }
+            String[] aliases = new String[size];
+            for (int i = 0; i < size; i++) {
+                aliases[i] = (String) readElement();
+            }
+            return AliasSchema.of(aliases);
+        }
+
+        private Object[] readElements(int arity) throws IOException, ClassNotFoundException {
+            Object[] elements = new Object[arity];
+            for (int i = 0; i < arity; i++) {
+                elements[i] = readElement();
+            }
+            return elements;
+        }
+
+        private Object readElement() throws IOException, ClassNotFoundException {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case TAG_NULL:
+                    return null;
+                case TAG_STRING:
+                    return in.readUTF();
+                case TAG_INT:
+                    return unZigZag(readVarInt());
+                case TAG_LONG:
+                    return unZigZag(readVarLong());
+                case TAG_DOUBLE:
+                    return in.readDouble();
+                case TAG_TRUE:
+                    return Boolean.TRUE;
+                case TAG_FALSE:
+                    return Boolean.FALSE;
+                case TAG_TUPLE:
+                    return read();
+                case TAG_OBJECT:
+                    return in.readObject();
+                default:
+                    throw new StreamCorruptedException("Unknown element tag: " + tag);
+            }
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new StreamCorruptedException("Malformed varint");
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new StreamCorruptedException("Malformed varint");
+        }
+
+        private static int unZigZag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private static TupleBase newTuple(Object[] es) throws StreamCorruptedException {
+            switch (es.length) {
+                case 0: return Tuple.empty();
+                case 1: return Tuple.of(es[0]);
+                case 2: return Tuple.of(es[0], es[1]);
+                case 3: return Tuple.of(es[0], es[1], es[2]);
+                case 4: return Tuple.of(es[0], es[1], es[2], es[3]);
+                case 5: return Tuple.of(es[0], es[1], es[2], es[3], es[4]);
+                case 6: return Tuple.of(es[0], es[1], es[2], es[3], es[4], es[5]);
+                case 7: return Tuple.of(es[0], es[1], es[2], es[3], es[4], es[5], es[6]);
+                case 8: return Tuple.of(es[0], es[1], es[2], es[3], es[4], es[5], es[6], es[7]);
+                case 9: return Tuple.of(es[0], es[1], es[2], es[3], es[4], es[5], es[6], es[7], es[8]);
+                default: throw new StreamCorruptedException("Invalid arity: " + es.length);
+            }
+        }
+
+        private static TupleBase newEasyTuple(Object[] es) throws StreamCorruptedException {
+            switch (es.length) {
+                case 0: return EasyTuple.empty();
+                case 1: return EasyTuple.of(es[0]);
+                case 2: return EasyTuple.of(es[0], es[1]);
+                case 3: return EasyTuple.of(es[0], es[1], es[2]);
+                case 4: return EasyTuple.of(es[0], es[1], es[2], es[3]);
+                case 5: return EasyTuple.of(es[0], es[1], es[2], es[3], es[4]);
+                case 6: return EasyTuple.of(es[0], es[1], es[2], es[3], es[4], es[5]);
+                case 7: return EasyTuple.of(es[0], es[1], es[2], es[3], es[4], es[5], es[6]);
+                case 8: return EasyTuple.of(es[0], es[1], es[2], es[3], es[4], es[5], es[6], es[7]);
+                case 9: return EasyTuple.of(es[0], es[1], es[2], es[3], es[4], es[5], es[6], es[7], es[8]);
+                default: throw new StreamCorruptedException("Invalid arity: " + es.length);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import com.iofairy.top.G;
+
+import java.io.*;
+import java.util.Objects;
+
+/**
+ * Immutable composite key for hash maps and caches. Unlike {@link Tuple}, it has no aliases, and its hash code is
+ * well distributed and computed only once. {@link #equals(Object)} compares the arity, then the hash code,
+ * and the elements last. The elements must not be modified while the key is in use. <br>
+ * 用作哈希表及缓存key的不可变组合键。与 {@link Tuple} 不同，它没有别名，哈希值分布均匀且只计算一次。
+ * {@link #equals(Object)} 依次比较元素数量、哈希值，最后才比较元素。作为key使用期间，其元素不能被修改。<br>
+ * <b>Examples:</b>
+ * <blockquote><pre>{@code
+ * Map<TupleKey, Order> orders = new HashMap<>();
+ * orders.put(TupleKey.of(userId, orderNo), order);
+ * Order order = orders.get(TupleKey.of(userId, orderNo));
+ * }</pre></blockquote>
+ *
+ * @since 0.7.0
+ */
+public final class TupleKey implements Serializable {
+
+    private static final long serialVersionUID = 10065918300L;
+
+    private final Object[] elements;
+    /**
+     * Not serialized, element hash codes (e.g. of enums) differ between JVMs, so it is recomputed by {@link #readObject(ObjectInputStream)}. <br>
+     * 不序列化，元素的哈希值（如枚举）在不同JVM中可能不同，反序列化时重新计算。
+     */
+    private transient int hash;
+
+    private TupleKey(Object[] elements) {
+        this.elements = elements;
+        this.hash = hash(elements);
+    }
+
+    public static TupleKey of(Object _1) {
+        return new TupleKey(new Object[]{_1});
+    }
+
+    public static TupleKey of(Object _1, Object _2) {
+        return new TupleKey(new Object[]{_1, _2});
+    }
+
+    public static TupleKey of(Object _1, Object _2, Object _3) {
+        return new TupleKey(new Object[]{_1, _2, _3});
+    }
+
+    public static TupleKey of(Object _1, Object _2, Object _3, Object _4) {
+        return new TupleKey(new Object[]{_1, _2, _3, _4});
+    }
+
+    /**
+     * Create a key of any number of elements, the array is copied.<br>
+     * 创建任意元素数量的key，数组会被复制
+     *
+     * @param elements elements
+     * @return TupleKey
+     */
+    public static TupleKey of(Object... elements) {
+        Objects.requireNonNull(elements);
+        return new TupleKey(elements.clone());
+    }
+
+    /**
+     * Create a key of the elements of the tuple, the aliases are ignored.<br>
+     * 根据元组的元素创建key，忽略别名
+     *
+     * @param tuple tuple
+     * @return TupleKey
+     */
+    public static TupleKey from(Tuple tuple) {
+        Object[] elements = new Object[tuple.arity()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = tuple.element(i);
+        }
+        return new TupleKey(elements);
+    }
+
+    /**
+     * Murmur3 over the hash codes of the elements, so that keys such as {@code (1, 0)} and {@code (0, 31)},
+     * which collide with the {@code 31 * h + e} hash of {@link java.util.List#hashCode()}, spread well.
+     */
+    private static int hash(Object[] elements) {
+        int h = 0x9E3779B9;
+        for (Object element : elements) {
+            int k = Objects.hashCode(element) * 0xCC9E2D51;
+            k = Integer.rotateLeft(k, 15) * 0x1B873593;
+            h ^= k;
+            h = Integer.rotateLeft(h, 13) * 5 + 0xE6546B64;
+        }
+        h ^= elements.length;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    public int arity() {
+        return elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        if (n < 0 || n >= elements.length) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + elements.length);
+        return (R) elements[n];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof TupleKey)) return false;
+        TupleKey key = (TupleKey) obj;
+        if (elements.length != key.elements.length || hash != key.hash) return false;
+        for (int i = 0; i < elements.length; i++) {
+            if (!Objects.equals(elements[i], key.elements[i])) return false;
+        }
+        return true;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (elements == null) throw new InvalidObjectException("elements == null");
+        hash = hash(elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        String[] strs = new String[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            strs[i] = G.toString(elements[i]);
+        }
+        return "(" + String.join(", ", strs) + ")";
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.*;
+
+/**
+ * Serialized form of the tuples of this package, written by {@link TupleCodec} instead of the default Java serialization,
+ * so the stream has no class descriptors of the tuple classes. <br>
+ * 本包中元组的序列化形式，由 {@link TupleCodec} 写出，代替默认的Java序列化，流中不包含元组类的类描述。
+ *
+ * @since 0.7.0
+ */
+final class TupleProxy implements Externalizable {
+
+    private static final long serialVersionUID = 10065917092L;
+
+    private Tuple tuple;
+
+    /**
+     * Constructor for {@link Externalizable}
+     */
+    public TupleProxy() {
+    }
+
+    TupleProxy(Tuple tuple) {
+        this.tuple = tuple;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        new TupleCodec.Writer(out, false).write(tuple);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        tuple = new TupleCodec.Reader(in, false).read();
+    }
+
+    private Object readResolve() {
+        return tuple;
+    }
+
+}
@@ -20,12 +20,14 @@ module iofairy.functional {
 
     exports com.iofairy.annos;
     exports com.iofairy.base;
+    exports com.iofairy.cache;
     exports com.iofairy.except;
     exports com.iofairy.except.ai;
     exports com.iofairy.id;
     exports com.iofairy.lambda;
     exports com.iofairy.os;
     exports com.iofairy.pattern;
+    exports com.iofairy.pattern.compiled;
     exports com.iofairy.pattern.mapping;
     exports com.iofairy.pattern.matcher;
     exports com.iofairy.pattern.type;